@@ -15,6 +15,10 @@ login: (username: string, password: string) =>
 
   logout: () => axios.post<void>("/api/auth/logout", null),
 
+  // νέο access token + επόμενο refresh token, χωρίς κωδικό (το axios interceptor το καλεί μόνο του στο TOKEN_EXPIRED)
+  refresh: (refreshToken: string) =>
+    axios.post<AuthResponse>("/api/auth/refresh", { refreshToken }),
+
   me: () => axios.get<UserResponse>("/api/me"),
 
   // ✅ matches backend: /api/auth/validate?userId=...
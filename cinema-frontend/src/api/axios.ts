@@ -1,7 +1,10 @@
-import axios from "axios";
+import axios, { AxiosError, AxiosRequestConfig } from "axios";
 import { tokenStorage } from "../auth/tokenStorage";
+import type { AuthResponse } from "../domain/auth/auth.types";
 
-const instance = axios.create({ baseURL: "http://localhost:8080" });
+const BASE_URL = "http://localhost:8080";
+
+const instance = axios.create({ baseURL: BASE_URL });
 
 instance.interceptors.request.use((config) => {
   const token = tokenStorage.get();
@@ -11,4 +14,44 @@ instance.interceptors.request.use((config) => {
   return config;
 });
 
+// Ένα refresh τη φορά: ο refresh token είναι μίας χρήσης, δύο παράλληλα refresh θα ακύρωναν το session.
+let refreshing: Promise<string | null> | null = null;
+
+const refreshAccessToken = (): Promise<string | null> => {
+  if (!refreshing) {
+    const refreshToken = tokenStorage.getRefresh();
+    refreshing = (refreshToken
+      ? axios
+          .post<AuthResponse>(`${BASE_URL}/api/auth/refresh`, { refreshToken })
+          .then(({ data }) => {
+            tokenStorage.setPair(data.token, data.refreshToken);
+            return data.token;
+          })
+          .catch(() => {
+            tokenStorage.clear();
+            return null;
+          })
+      : Promise.resolve(null)
+    ).finally(() => {
+      refreshing = null;
+    });
+  }
+  return refreshing;
+};
+
+// Access token έληξε => refresh και επανάληψη του αιτήματος (μία φορά)
+instance.interceptors.response.use(undefined, async (error: AxiosError<any>) => {
+  const original = error.config as (AxiosRequestConfig & { _retried?: boolean }) | undefined;
+  const expired = error.response?.status === 401 && error.response?.data?.code === "TOKEN_EXPIRED";
+
+  if (!original || !expired || original._retried) throw error;
+
+  const token = await refreshAccessToken();
+  if (!token) throw error;
+
+  original._retried = true;
+  original.headers = { ...(original.headers || {}), Authorization: `Bearer ${token}` };
+  return instance(original);
+});
+
 export default instance;
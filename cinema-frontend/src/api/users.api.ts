@@ -1,10 +1,19 @@
 // src/api/users.api.ts
 import axios from "./axios";
-import { User } from "../domain/users/user.types";
+import { UserDirectoryFilter, UserLookupItem, UserPage } from "../domain/users/user.types";
 
 export const usersApi = {
-// ✅ Admin list (ταιριάζει με AdminUsersController: /api/admin/users)
-list: () => axios.get<User[]>("/api/admin/users"),
+// ✅ Admin list (AdminUsersController: /api/admin/users) — σελίδες με cursor (nextCursor)
+list: (filter: UserDirectoryFilter = {}, cursor?: number | null, limit = 50) =>
+  axios.get<UserPage>("/api/admin/users", { params: { ...filter, cursor: cursor ?? undefined, limit } }),
+
+// ✅ Admin count (ίδια φίλτρα με το list)
+count: (filter: UserDirectoryFilter = {}) =>
+  axios.get<{ count: number }>("/api/admin/users/count", { params: filter }),
+
+  // ✅ Lookup ενεργών χρηστών (username / ονοματεπώνυμο, ανά πλήκτρο)
+  lookup: (q: string, limit = 10, signal?: AbortSignal) =>
+    axios.get<UserLookupItem[]>("/api/users/lookup", { params: { q, limit }, signal }),
 
   // ✅ My account: change password (MeController: PUT /api/me/password)
   changePassword: (data: { oldPassword: string; newPassword: string; newPasswordRepeat: string }) =>
@@ -24,7 +24,7 @@ export const authStore = create<AuthState>((set, get) => ({
   login: async (username, password) => {
     const { data } = await authApi.login(username, password);
 
-    tokenStorage.set(data.token);
+    tokenStorage.setPair(data.token, data.refreshToken);
 
     const role = normalizeRole((data.user as any)?.role);
 
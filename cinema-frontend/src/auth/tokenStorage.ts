@@ -1,5 +1,6 @@
 // src/auth/tokenStorage.ts
 const KEY = "token";
+const REFRESH_KEY = "refreshToken";
 
 const safeLocalStorage = () => {
 try {
@@ -19,8 +20,20 @@ get(): string | null {
     const ls = safeLocalStorage();
     ls?.setItem(KEY, token);
   },
+  // refresh token (μίας χρήσης: κάθε /api/auth/refresh επιστρέφει τον επόμενο)
+  getRefresh(): string | null {
+    const ls = safeLocalStorage();
+    const t = ls?.getItem(REFRESH_KEY);
+    return t?.trim() ? t.trim() : null;
+  },
+  setPair(token: string, refreshToken: string) {
+    const ls = safeLocalStorage();
+    ls?.setItem(KEY, token);
+    ls?.setItem(REFRESH_KEY, refreshToken);
+  },
   clear() {
     const ls = safeLocalStorage();
     ls?.removeItem(KEY);
+    ls?.removeItem(REFRESH_KEY);
   },
 };
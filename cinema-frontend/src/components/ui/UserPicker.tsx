@@ -0,0 +1,92 @@
+import { useEffect, useRef, useState } from "react";
+import { usersApi } from "../../api/users.api";
+import type { UserLookupItem } from "../../domain/users/user.types";
+
+interface UserPickerProps {
+  value: UserLookupItem | null;
+  onChange: (user: UserLookupItem | null) => void;
+  placeholder?: string;
+  disabled?: boolean;
+}
+
+// Αναζήτηση χρήστη ανά πλήκτρο (GET /api/users/lookup). Κάθε νέο πλήκτρο ακυρώνει το προηγούμενο αίτημα.
+export function UserPicker({ value, onChange, placeholder, disabled }: UserPickerProps) {
+  const [text, setText] = useState("");
+  const [items, setItems] = useState<UserLookupItem[]>([]);
+  const [open, setOpen] = useState(false);
+  const abortRef = useRef<AbortController | null>(null);
+
+  const label = (u: UserLookupItem) => `${u.userName} — ${u.fullName}`;
+  const prevRef = useRef<UserLookupItem | null>(value);
+
+  // επιλογή => δείχνουμε την ετικέτα· καθάρισμα από τον γονέα => αδειάζει, εκτός αν ο χρήστης ήδη πληκτρολογεί
+  useEffect(() => {
+    const prev = prevRef.current;
+    prevRef.current = value;
+    if (value) setText(label(value));
+    else if (prev) setText((t) => (t === label(prev) ? "" : t));
+  }, [value]);
+
+  useEffect(() => {
+    const q = text.trim();
+    if (value || q.length === 0) {
+      setItems([]);
+      return;
+    }
+
+    const t = window.setTimeout(async () => {
+      abortRef.current?.abort();
+      const ctrl = new AbortController();
+      abortRef.current = ctrl;
+      try {
+        const res = await usersApi.lookup(q, 10, ctrl.signal);
+        setItems(res.data);
+        setOpen(true);
+      } catch {
+        // ακυρωμένο ή αποτυχημένο αίτημα: κρατάμε τη λίστα ως έχει
+      }
+    }, 120);
+    return () => window.clearTimeout(t);
+  }, [text, value]);
+
+  useEffect(() => () => abortRef.current?.abort(), []);
+
+  return (
+    <div className="relative">
+      <input
+        value={text}
+        onChange={(e) => {
+          if (value) onChange(null);
+          setText(e.target.value);
+        }}
+        onFocus={() => items.length > 0 && setOpen(true)}
+        onBlur={() => window.setTimeout(() => setOpen(false), 150)}
+        className="w-full rounded-md border border-slate-700 bg-slate-950 px-2 py-2 text-sm text-slate-100"
+        placeholder={placeholder ?? "username ή όνομα..."}
+        disabled={disabled}
+      />
+      {open && items.length > 0 && (
+        <ul className="absolute z-20 mt-1 max-h-64 w-full overflow-auto rounded-md border border-slate-700 bg-slate-900 shadow-xl">
+          {items.map((u) => (
+            <li key={u.id}>
+              <button
+                type="button"
+                onMouseDown={(e) => e.preventDefault()}
+                onClick={() => {
+                  onChange(u);
+                  setOpen(false);
+                }}
+                className="flex w-full items-center justify-between px-3 py-2 text-left text-sm text-slate-100 hover:bg-slate-800"
+              >
+                <span className="font-medium">{u.userName}</span>
+                <span className="text-xs text-slate-400">
+                  {u.fullName} · #{u.id}
+                </span>
+              </button>
+            </li>
+          ))}
+        </ul>
+      )}
+    </div>
+  );
+}
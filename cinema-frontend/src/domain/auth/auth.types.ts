@@ -17,7 +17,9 @@ active: boolean;
 export type User = UserResponse;
 
 export interface AuthResponse {
-token: string;
+token: string;          // access token (λήγει σε expiresIn δευτερόλεπτα)
+refreshToken: string;   // για POST /api/auth/refresh
+expiresIn: number;
 user: UserResponse;
 }
 
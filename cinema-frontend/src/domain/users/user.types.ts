@@ -7,4 +7,26 @@ userName: string;
 fullName: string;
 role: BaseRole | string;
 active: boolean;
+lastLoginAt?: string | null;
+}
+
+// Admin directory filters (AdminUsersController: GET /api/admin/users, /count)
+export interface UserDirectoryFilter {
+role?: BaseRole | string;
+active?: boolean;
+usernamePrefix?: string;
+lastLoginFrom?: string; // ISO instant, inclusive
+lastLoginTo?: string;   // ISO instant, exclusive
+}
+
+export interface UserPage {
+items: User[];
+nextCursor: number | null;
+}
+
+// Type-ahead (UserLookupController: GET /api/users/lookup) — μόνο ενεργοί χρήστες
+export interface UserLookupItem {
+id: number;
+userName: string;
+fullName: string;
 }
@@ -7,6 +7,8 @@ import { ProgramState } from "../../domain/programs/program.enums";
 import { Button } from "../../components/ui/Button";
 import { Card, CardHeader, CardSection } from "../../components/ui/Card";
 import { Badge } from "../../components/ui/Badge";
+import { UserPicker } from "../../components/ui/UserPicker";
+import type { UserLookupItem } from "../../domain/users/user.types";
 import { authStore } from "../../auth/auth.store";
 import {
   canManageProgramInProgram,
@@ -58,8 +60,8 @@ export default function ProgramDetailsPage() {
   const [error, setError] = useState<string | null>(null);
 
   // Add programmer/staff
-  const [addProgrammerId, setAddProgrammerId] = useState("");
-  const [addStaffId, setAddStaffId] = useState("");
+  const [addProgrammer, setAddProgrammer] = useState<UserLookupItem | null>(null);
+  const [addStaff, setAddStaff] = useState<UserLookupItem | null>(null);
   const [busyAdd, setBusyAdd] = useState<"programmer" | "staff" | null>(null);
   const [roleErr, setRoleErr] = useState<string | null>(null);
 
@@ -141,17 +143,17 @@ export default function ProgramDetailsPage() {
     }
   };
 
-  const addProgrammer = async () => {
+  const submitProgrammer = async () => {
     if (!program) return;
 
-    const n = Number(addProgrammerId);
-    if (!Number.isFinite(n) || n <= 0) return setRoleErr("Δώσε έγκυρο userId για PROGRAMMER.");
+    if (!addProgrammer) return setRoleErr("Διάλεξε χρήστη για PROGRAMMER.");
+    const n = addProgrammer.id;
 
     try {
       setRoleErr(null);
       setBusyAdd("programmer");
       await programsApi.addProgrammer(program.id, n);
-      setAddProgrammerId("");
+      setAddProgrammer(null);
       await refresh();
     } catch (e: any) {
       setRoleErr(
@@ -165,17 +167,17 @@ export default function ProgramDetailsPage() {
     }
   };
 
-  const addStaff = async () => {
+  const submitStaff = async () => {
     if (!program) return;
 
-    const n = Number(addStaffId);
-    if (!Number.isFinite(n) || n <= 0) return setRoleErr("Δώσε έγκυρο userId για STAFF.");
+    if (!addStaff) return setRoleErr("Διάλεξε χρήστη για STAFF.");
+    const n = addStaff.id;
 
     try {
       setRoleErr(null);
       setBusyAdd("staff");
       await programsApi.addStaff(program.id, n);
-      setAddStaffId("");
+      setAddStaff(null);
       await refresh();
     } catch (e: any) {
       setRoleErr(
@@ -321,17 +323,16 @@ export default function ProgramDetailsPage() {
                 <div className="flex items-end gap-2">
                   <div className="flex-1">
                     <label className="block text-[11px] text-slate-500 mb-1">
-                      Add PROGRAMMER (userId)
+                      Add PROGRAMMER
                     </label>
-                    <input
-                      value={addProgrammerId}
-                      onChange={(e) => setAddProgrammerId(e.target.value)}
-                      className="w-full rounded-md border border-slate-700 bg-slate-950 px-2 py-2 text-sm text-slate-100"
-                      placeholder="e.g. 7"
+                    <UserPicker
+                      value={addProgrammer}
+                      onChange={setAddProgrammer}
+                      placeholder="username ή όνομα..."
                       disabled={busyAdd !== null}
                     />
                   </div>
-                  <Button variant="secondary" onClick={addProgrammer} disabled={busyAdd !== null}>
+                  <Button variant="secondary" onClick={submitProgrammer} disabled={busyAdd !== null}>
                     {busyAdd === "programmer" ? "Adding…" : "Add"}
                   </Button>
                 </div>
@@ -339,17 +340,16 @@ export default function ProgramDetailsPage() {
                 <div className="flex items-end gap-2">
                   <div className="flex-1">
                     <label className="block text-[11px] text-slate-500 mb-1">
-                      Add STAFF (userId)
+                      Add STAFF
                     </label>
-                    <input
-                      value={addStaffId}
-                      onChange={(e) => setAddStaffId(e.target.value)}
-                      className="w-full rounded-md border border-slate-700 bg-slate-950 px-2 py-2 text-sm text-slate-100"
-                      placeholder="e.g. 12"
+                    <UserPicker
+                      value={addStaff}
+                      onChange={setAddStaff}
+                      placeholder="username ή όνομα..."
                       disabled={busyAdd !== null}
                     />
                   </div>
-                  <Button variant="secondary" onClick={addStaff} disabled={busyAdd !== null}>
+                  <Button variant="secondary" onClick={submitStaff} disabled={busyAdd !== null}>
                     {busyAdd === "staff" ? "Adding…" : "Add"}
                   </Button>
                 </div>
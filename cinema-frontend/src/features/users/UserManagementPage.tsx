@@ -1,32 +1,90 @@
 import { useEffect, useMemo, useState } from "react";
 import { usersApi } from "../../api/users.api";
-import type { User } from "../../domain/users/user.types";
+import type { User, UserDirectoryFilter } from "../../domain/users/user.types";
 import { authStore } from "../../auth/auth.store";
 import { BaseRole } from "../../domain/auth/auth.types";
 
 type StatusFilter = "all" | "active" | "inactive";
 
+const PAGE_SIZE = 50;
+
+// yyyy-mm-dd (input type="date", τοπική ώρα) -> ISO instant για το API
+const dayStart = (day: string, plusDays = 0) => {
+  if (!day) return undefined;
+  const d = new Date(`${day}T00:00:00`);
+  d.setDate(d.getDate() + plusDays);
+  return d.toISOString();
+};
+
 export default function UserManagementPage() {
   const [users, setUsers] = useState<User[]>([]);
+  const [nextCursor, setNextCursor] = useState<number | null>(null);
   const [loading, setLoading] = useState(false);
+  const [loadingMore, setLoadingMore] = useState(false);
   const [search, setSearch] = useState("");
+  const [prefix, setPrefix] = useState("");
   const [statusFilter, setStatusFilter] = useState<StatusFilter>("all");
+  const [roleFilter, setRoleFilter] = useState<string>("");
+  const [lastLoginFrom, setLastLoginFrom] = useState("");
+  const [lastLoginTo, setLastLoginTo] = useState("");
+  const [totals, setTotals] = useState({ total: 0, active: 0, matching: 0 });
 
   const currentUser = authStore((s) => s.user);
 
+  // Αναζήτηση στον server (πρόθεμα username), με μικρή καθυστέρηση όσο πληκτρολογεί
+  useEffect(() => {
+    const t = window.setTimeout(() => setPrefix(search.trim()), 300);
+    return () => window.clearTimeout(t);
+  }, [search]);
+
+  const filter = useMemo<UserDirectoryFilter>(
+    () => ({
+      role: roleFilter || undefined,
+      active: statusFilter === "all" ? undefined : statusFilter === "active",
+      usernamePrefix: prefix || undefined,
+      lastLoginFrom: dayStart(lastLoginFrom),
+      lastLoginTo: dayStart(lastLoginTo, 1), // "έως" περιλαμβάνει όλη την ημέρα
+    }),
+    [roleFilter, statusFilter, prefix, lastLoginFrom, lastLoginTo]
+  );
+
   const refresh = async () => {
     try {
       setLoading(true);
-      const res = await usersApi.list();
-      setUsers(res.data);
+      const [page, total, active, matching] = await Promise.all([
+        usersApi.list(filter, null, PAGE_SIZE),
+        usersApi.count(),
+        usersApi.count({ active: true }),
+        usersApi.count(filter),
+      ]);
+      setUsers(page.data.items);
+      setNextCursor(page.data.nextCursor);
+      setTotals({
+        total: total.data.count,
+        active: active.data.count,
+        matching: matching.data.count,
+      });
     } finally {
       setLoading(false);
     }
   };
 
+  const loadMore = async () => {
+    if (nextCursor == null) return;
+    try {
+      setLoadingMore(true);
+      const res = await usersApi.list(filter, nextCursor, PAGE_SIZE);
+      setUsers((prev) => [...prev, ...res.data.items]);
+      setNextCursor(res.data.nextCursor);
+    } finally {
+      setLoadingMore(false);
+    }
+  };
+
   useEffect(() => {
     refresh();
-  }, []);
+    // eslint-disable-next-line react-hooks/exhaustive-deps
+  }, [filter]);
 
   const handleActivate = async (user: User) => {
     if (!currentUser) {
@@ -97,22 +155,6 @@ export default function UserManagementPage() {
     await refresh();
   };
 
-  const filteredUsers = useMemo(() => {
-    return users.filter((u) => {
-      const matchesSearch =
-        search.trim().length === 0 ||
-        u.userName.toLowerCase().includes(search.toLowerCase()) ||
-        u.fullName.toLowerCase().includes(search.toLowerCase());
-
-      const matchesStatus =
-        statusFilter === "all" ||
-        (statusFilter === "active" && u.active) ||
-        (statusFilter === "inactive" && !u.active);
-
-      return matchesSearch && matchesStatus;
-    });
-  }, [users, search, statusFilter]);
-
   return (
     <div className="min-h-full bg-slate-950/90 py-8">
       <div className="max-w-6xl mx-auto px-4">
@@ -131,13 +173,19 @@ export default function UserManagementPage() {
             <span className="px-3 py-1 rounded-full bg-slate-800 text-slate-200">
               Σύνολο:{" "}
               <span className="font-semibold text-sky-400">
-                {users.length}
+                {totals.total}
               </span>
             </span>
             <span className="px-3 py-1 rounded-full bg-slate-800 text-slate-200">
               Ενεργοί:{" "}
               <span className="font-semibold text-emerald-400">
-                {users.filter((u) => u.active).length}
+                {totals.active}
+              </span>
+            </span>
+            <span className="px-3 py-1 rounded-full bg-slate-800 text-slate-200">
+              Με τα φίλτρα:{" "}
+              <span className="font-semibold text-amber-300">
+                {totals.matching}
               </span>
             </span>
           </div>
@@ -152,7 +200,7 @@ export default function UserManagementPage() {
                 type="text"
                 value={search}
                 onChange={(e) => setSearch(e.target.value)}
-                placeholder="Αναζήτηση με username ή όνομα..."
+                placeholder="Αναζήτηση με username (αρχή)..."
                 className="w-full rounded-lg bg-slate-900 border border-slate-700 px-3 py-2 pl-9 text-sm text-slate-100 placeholder:text-slate-500 focus:outline-none focus:ring-2 focus:ring-sky-500/70 focus:border-sky-500"
               />
               <span className="pointer-events-none absolute left-2.5 top-2.5 text-slate-500 text-xs">
@@ -160,7 +208,37 @@ export default function UserManagementPage() {
               </span>
             </div>
 
-            <div className="flex gap-2 text-xs">
+            <div className="flex flex-wrap items-center gap-2 text-xs">
+              <select
+                value={roleFilter}
+                onChange={(e) => setRoleFilter(e.target.value)}
+                className="rounded-lg bg-slate-900 border border-slate-700 px-2 py-1.5 text-slate-200 focus:outline-none focus:ring-2 focus:ring-sky-500/70"
+              >
+                <option value="">Όλοι οι ρόλοι</option>
+                {Object.values(BaseRole).map((r) => (
+                  <option key={r} value={r}>
+                    {r}
+                  </option>
+                ))}
+              </select>
+              <label className="flex items-center gap-1 text-slate-400">
+                Σύνδεση από
+                <input
+                  type="date"
+                  value={lastLoginFrom}
+                  onChange={(e) => setLastLoginFrom(e.target.value)}
+                  className="rounded-lg bg-slate-900 border border-slate-700 px-2 py-1 text-slate-200"
+                />
+              </label>
+              <label className="flex items-center gap-1 text-slate-400">
+                έως
+                <input
+                  type="date"
+                  value={lastLoginTo}
+                  onChange={(e) => setLastLoginTo(e.target.value)}
+                  className="rounded-lg bg-slate-900 border border-slate-700 px-2 py-1 text-slate-200"
+                />
+              </label>
               <button
                 type="button"
                 onClick={() => setStatusFilter("all")}
@@ -207,6 +285,7 @@ export default function UserManagementPage() {
                   <th className="py-3 px-4 text-left">Full name</th>
                   <th className="py-3 px-4 text-left">Role</th>
                   <th className="py-3 px-4 text-left">Status</th>
+                  <th className="py-3 px-4 text-left">Last login</th>
                   <th className="py-3 px-4 text-right w-56">Actions</th>
                 </tr>
               </thead>
@@ -215,7 +294,7 @@ export default function UserManagementPage() {
                 {loading && (
                   <tr>
                     <td
-                      colSpan={6}
+                      colSpan={7}
                       className="py-6 text-center text-slate-400"
                     >
                       Φόρτωση χρηστών...
@@ -223,10 +302,10 @@ export default function UserManagementPage() {
                   </tr>
                 )}
 
-                {!loading && filteredUsers.length === 0 && (
+                {!loading && users.length === 0 && (
                   <tr>
                     <td
-                      colSpan={6}
+                      colSpan={7}
                       className="py-6 text-center text-slate-500"
                     >
                       Δεν βρέθηκαν χρήστες με τα τρέχοντα φίλτρα.
@@ -235,7 +314,7 @@ export default function UserManagementPage() {
                 )}
 
                 {!loading &&
-                  filteredUsers.map((u) => {
+                  users.map((u) => {
                     const isSelf = currentUser && currentUser.id === u.id;
                     const isAdminAdmin =
                       currentUser &&
@@ -279,6 +358,11 @@ export default function UserManagementPage() {
                             {u.active ? "Active" : "Inactive"}
                           </span>
                         </td>
+                        <td className="py-2.5 px-4 text-slate-400 text-xs">
+                          {u.lastLoginAt
+                            ? new Date(u.lastLoginAt).toLocaleString()
+                            : "—"}
+                        </td>
                         <td className="py-2.5 px-4 text-right">
                           <div className="inline-flex gap-2">
                             {u.active ? (
@@ -329,6 +413,22 @@ export default function UserManagementPage() {
               </tbody>
             </table>
           </div>
+
+          {/* Paging (cursor) */}
+          {!loading && nextCursor != null && (
+            <div className="flex justify-center border-t border-slate-800 px-4 py-3">
+              <button
+                type="button"
+                disabled={loadingMore}
+                onClick={loadMore}
+                className="px-4 py-1.5 rounded-md border border-sky-500/70 bg-sky-500/10 text-xs font-medium text-sky-200 hover:bg-sky-500/20 disabled:opacity-50"
+              >
+                {loadingMore
+                  ? "Φόρτωση..."
+                  : `Περισσότεροι (${users.length} από ${totals.matching})`}
+              </button>
+            </div>
+          )}
         </div>
       </div>
     </div>
@@ -0,0 +1,83 @@
+package com.cinema.benchmarks;
+
+import com.cinema.benchmarks.support.Fixtures;
+import com.cinema.domain.entity.User;
+import com.cinema.domain.entity.value.HashedPassword;
+import com.cinema.domain.entity.value.UserId;
+import com.cinema.domain.entity.value.Username;
+import com.cinema.domain.enums.BaseRole;
+import com.cinema.infrastructure.security.TokenService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Authentication CPU per active user: password login (BCrypt cost 10 + JWT) against refresh rotation
+ * (SHA-256 of the presented and the next refresh token + JWT), the crypto parts of AuthenticateUserUseCase
+ * and RefreshTokenUseCase (database writes excluded).
+ *
+ * fortnight: all token work of one user active activeHours a day for 14 days; score / 14 = CPU per user per day.
+ * - login-10h:   former setup, 10 h access tokens => one password login every active day (14 logins)
+ * - refresh-15m: 15 min access tokens + 14 day refresh tokens => 1 login, then activeHours * 4 refreshes a day
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AuthCostBenchmark {
+
+    private static final String RAW_PASSWORD = "Passw0rd!x";
+    private static final int DAYS = 14;
+
+    /** Only fortnight depends on the usage pattern; login/refresh run once. */
+    @State(Scope.Benchmark)
+    public static class Usage {
+        @Param({"login-10h", "refresh-15m"})
+        public String scheme;
+
+        @Param({"8"})
+        public int activeHours;
+    }
+
+    private TokenService tokens;
+    private User user;
+    private String refreshToken;
+
+    @Setup
+    public void setup() {
+        tokens = new TokenService(Fixtures.JWT_SECRET, 900);
+        user = new User(UserId.of(1), new Username("bench_user"), HashedPassword.fromRaw(RAW_PASSWORD),
+                "Bench User", BaseRole.USER, true, 0, null, null);
+        refreshToken = tokens.newRefreshToken(UUID.randomUUID().toString());
+    }
+
+    /** One password login. */
+    @Benchmark
+    public void login(Blackhole bh) {
+        bh.consume(user.password().matches(RAW_PASSWORD));
+        bh.consume(tokens.generateToken(user));
+    }
+
+    /** One refresh: hash the presented token, mint + hash the next one, sign a new access token. */
+    @Benchmark
+    public void refresh(Blackhole bh) {
+        bh.consume(TokenService.refreshTokenHash(refreshToken));
+        String next = tokens.newRefreshToken(TokenService.refreshTokenFamily(refreshToken));
+        bh.consume(TokenService.refreshTokenHash(next));
+        bh.consume(tokens.generateToken(user));
+    }
+
+    @Benchmark
+    public void fortnight(Usage usage, Blackhole bh) {
+        if ("login-10h".equals(usage.scheme)) {
+            for (int d = 0; d < DAYS; d++) login(bh);
+            return;
+        }
+        login(bh);
+        for (int i = 0, n = DAYS * usage.activeHours * 4; i < n; i++) refresh(bh);
+    }
+}
@@ -0,0 +1,204 @@
+package com.cinema.benchmarks;
+
+import com.cinema.CinemaManagerApplication;
+import com.cinema.application.screenings.AssignHandlerUseCase;
+import com.cinema.application.screenings.BulkAssignHandlersUseCase;
+import com.cinema.application.screenings.BulkReviewScreeningsUseCase;
+import com.cinema.application.screenings.BulkScheduleScreeningsUseCase;
+import com.cinema.application.screenings.ReviewScreeningUseCase;
+import com.cinema.application.screenings.ScheduleScreeningUseCase;
+import com.cinema.domain.entity.value.ProgramId;
+import com.cinema.domain.entity.value.ScreeningId;
+import com.cinema.domain.entity.value.UserId;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 1,000 single-item use-case calls vs one bulk call, against the real stack (Spring, JPA, H2).
+ *
+ * Spec:
+ * - op=assign   AssignHandlerUseCase      vs BulkAssignHandlersUseCase   (program in ASSIGNMENT)
+ * - op=review   ReviewScreeningUseCase    vs BulkReviewScreeningsUseCase (program in REVIEW)
+ * - op=schedule ScheduleScreeningUseCase  vs BulkScheduleScreeningsUseCase (program in DECISION)
+ * - Rows are reset with plain SQL before every iteration; one iteration = one shot of 1,000 screenings
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BulkVsSingleBenchmark {
+
+    private static final int SCREENINGS = 1000;
+    private static final int STAFF = 4;
+    private static final LocalDate DAY = LocalDate.of(2027, 5, 1);
+
+    @Param({"assign", "review", "schedule"})
+    public String op;
+
+    private ConfigurableApplicationContext context;
+    private JdbcTemplate jdbc;
+
+    private AssignHandlerUseCase assign;
+    private BulkAssignHandlersUseCase bulkAssign;
+    private ReviewScreeningUseCase review;
+    private BulkReviewScreeningsUseCase bulkReview;
+    private ScheduleScreeningUseCase schedule;
+    private BulkScheduleScreeningsUseCase bulkSchedule;
+
+    private ProgramId programId;
+    private UserId programmer;
+    private final List<UserId> staff = new ArrayList<>();
+    private final List<ScreeningId> screenings = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void boot() {
+        context = SpringApplication.run(CinemaManagerApplication.class,
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:bench;DB_CLOSE_DELAY=-1",
+                "--spring.jpa.show-sql=false",
+                "--spring.h2.console.enabled=false",
+                "--logging.level.root=WARN");
+        jdbc = context.getBean(JdbcTemplate.class);
+
+        assign = context.getBean(AssignHandlerUseCase.class);
+        bulkAssign = context.getBean(BulkAssignHandlersUseCase.class);
+        review = context.getBean(ReviewScreeningUseCase.class);
+        bulkReview = context.getBean(BulkReviewScreeningsUseCase.class);
+        schedule = context.getBean(ScheduleScreeningUseCase.class);
+        bulkSchedule = context.getBean(BulkScheduleScreeningsUseCase.class);
+
+        seed();
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdown() {
+        context.close();
+    }
+
+    private void seed() {
+        programmer = insertUser("bench_programmer");
+        UserId submitter = insertUser("bench_submitter");
+        for (int i = 0; i < STAFF; i++) staff.add(insertUser("bench_staff_" + i));
+
+        jdbc.update("INSERT INTO programs (name, description, start_date, end_date, state, creator_user_id) "
+                + "VALUES ('Bench festival', 'bench', ?, ?, 'ASSIGNMENT', ?)", DAY, DAY.plusDays(13), programmer.value());
+        programId = new ProgramId(jdbc.queryForObject("SELECT id FROM programs WHERE name = 'Bench festival'", Long.class));
+
+        jdbc.update("INSERT INTO program_programmers (program_id, user_id) VALUES (?, ?)", programId.value(), programmer.value());
+        for (UserId s : staff) {
+            jdbc.update("INSERT INTO program_staff (program_id, user_id) VALUES (?, ?)", programId.value(), s.value());
+        }
+
+        List<Object[]> rows = new ArrayList<>(SCREENINGS);
+        for (int i = 0; i < SCREENINGS; i++) {
+            rows.add(new Object[]{programId.value(), submitter.value(), "Bench film " + i, i % 2 == 0 ? "Drama" : "Comedy"});
+        }
+        jdbc.batchUpdate("INSERT INTO screenings (program_id, submitter_id, title, genres, description, screening_state) "
+                + "VALUES (?, ?, ?, ?, 'bench', 'SUBMITTED')", rows);
+
+        jdbc.queryForList("SELECT id FROM screenings WHERE program_id = ? ORDER BY id", Long.class, programId.value())
+                .forEach(id -> screenings.add(new ScreeningId(id)));
+    }
+
+    private UserId insertUser(String username) {
+        jdbc.update("INSERT INTO users (username, password_hash, full_name, base_role, active, failed_attempts) "
+                + "VALUES (?, 'bench', ?, 'USER', TRUE, 0)", username, username);
+        return new UserId(jdbc.queryForObject("SELECT id FROM users WHERE username = ?", Long.class, username));
+    }
+
+    private UserId staffFor(int i) {
+        return staff.get(i % STAFF);
+    }
+
+    /** Puts program + rows back into the state the measured op starts from. */
+    @Setup(Level.Iteration)
+    public void reset() {
+        switch (op) {
+            case "assign" -> {
+                setProgramState("ASSIGNMENT");
+                jdbc.update("UPDATE screenings SET screening_state = 'SUBMITTED', staff_member_id = NULL WHERE program_id = ?",
+                        programId.value());
+            }
+            case "review" -> {
+                setProgramState("REVIEW");
+                jdbc.update("UPDATE screenings SET screening_state = 'SUBMITTED', review_score = NULL, "
+                        + "review_comments = NULL, reviewed_time = NULL WHERE program_id = ?", programId.value());
+                for (int k = 0; k < STAFF; k++) {
+                    jdbc.update("UPDATE screenings SET staff_member_id = ? WHERE program_id = ? AND MOD(id, ?) = ?",
+                            staff.get(k).value(), programId.value(), STAFF, k);
+                }
+            }
+            case "schedule" -> {
+                setProgramState("DECISION");
+                jdbc.update("UPDATE screenings SET screening_state = 'FINAL_SUBMITTED', start_time = NULL, "
+                        + "end_time = NULL, auditorium_name = NULL WHERE program_id = ?", programId.value());
+            }
+            default -> throw new IllegalArgumentException("unknown op " + op);
+        }
+    }
+
+    private void setProgramState(String state) {
+        jdbc.update("UPDATE programs SET state = ? WHERE id = ?", state, programId.value());
+    }
+
+    /** Handler assigned to the screening by the review reset (same MOD rule as the SQL). */
+    private UserId reviewer(ScreeningId id) {
+        return staff.get((int) (id.value() % STAFF));
+    }
+
+    @Benchmark
+    public void single() {
+        for (int i = 0; i < SCREENINGS; i++) {
+            ScreeningId id = screenings.get(i);
+            switch (op) {
+                case "assign" -> assign.assignHandler(programmer, id, staffFor(i));
+                case "review" -> review.review(reviewer(id), id, 7, "bench");
+                case "schedule" -> schedule.schedule(programmer, id, DAY.plusDays(i % 14), "Room " + (i % 6));
+                default -> throw new IllegalArgumentException("unknown op " + op);
+            }
+        }
+    }
+
+    @Benchmark
+    public void bulk() {
+        switch (op) {
+            case "assign" -> {
+                List<BulkAssignHandlersUseCase.Assignment> items = new ArrayList<>(SCREENINGS);
+                for (int i = 0; i < SCREENINGS; i++) {
+                    items.add(new BulkAssignHandlersUseCase.Assignment(screenings.get(i), staffFor(i)));
+                }
+                bulkAssign.assignHandlers(programmer, programId, items, false);
+            }
+            case "review" -> {
+                // the bulk review is per reviewer: one call per STAFF member
+                for (UserId reviewer : staff) {
+                    List<BulkReviewScreeningsUseCase.ReviewItem> items = new ArrayList<>();
+                    for (ScreeningId id : screenings) {
+                        if (reviewer(id).equals(reviewer)) {
+                            items.add(new BulkReviewScreeningsUseCase.ReviewItem(id, 7, "bench"));
+                        }
+                    }
+                    bulkReview.review(reviewer, programId, items);
+                }
+            }
+            case "schedule" -> {
+                List<BulkScheduleScreeningsUseCase.ScheduleItem> items = new ArrayList<>(SCREENINGS);
+                for (int i = 0; i < SCREENINGS; i++) {
+                    items.add(new BulkScheduleScreeningsUseCase.ScheduleItem(
+                            screenings.get(i), DAY.plusDays(i % 14), "Room " + (i % 6)));
+                }
+                bulkSchedule.schedule(programmer, programId, items);
+            }
+            default -> throw new IllegalArgumentException("unknown op " + op);
+        }
+    }
+}
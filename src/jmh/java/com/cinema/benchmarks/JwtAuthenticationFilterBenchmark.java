@@ -0,0 +1,91 @@
+package com.cinema.benchmarks;
+
+import com.cinema.benchmarks.support.Fixtures;
+import com.cinema.benchmarks.support.InMemorySessionRepository;
+import com.cinema.benchmarks.support.InMemoryUserRepository;
+import com.cinema.domain.entity.User;
+import com.cinema.domain.entity.value.UserId;
+import com.cinema.domain.enums.BaseRole;
+import com.cinema.infrastructure.security.JwtAuthenticationFilter;
+import com.cinema.infrastructure.security.TokenService;
+import com.cinema.infrastructure.security.TokenValidator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter end to end (header parsing, token validation, user lookup, SecurityContext setup).
+ *
+ * Spec:
+ * - anonymous: no Authorization header (cheapest path)
+ * - authenticated: valid token whose jti is one of the user's live sessions (SessionIndex lookup)
+ * - revoked: valid signature but the session was logged out -> 401 body written
+ * - sessions: other users' sessions in the index (a busy node), the lookup must stay flat
+ * - User lookup is in-memory, so the numbers exclude the DB round trip the real filter pays
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JwtAuthenticationFilterBenchmark {
+
+    @Param({"anonymous", "authenticated", "revoked"})
+    public String scenario;
+
+    @Param({"1", "100000"})
+    public int sessions;
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+    private final FilterChain chain = (req, res) -> { };
+
+    @Setup
+    public void setup() {
+        TokenService tokens = new TokenService(Fixtures.JWT_SECRET, 3600);
+        InMemoryUserRepository users = new InMemoryUserRepository();
+        InMemorySessionRepository sessionStore = new InMemorySessionRepository();
+        Instant now = Instant.now();
+
+        User user = Fixtures.user(1, "bench_user", BaseRole.USER);
+        users.Save(user);
+        TokenService.IssuedToken issued = tokens.generateToken(user);
+        sessionStore.open(user.id(), UUID.randomUUID().toString(), issued.jti(), 5, now);
+
+        for (int i = 1; i < sessions; i++) {
+            sessionStore.open(UserId.of(1 + i), UUID.randomUUID().toString(), UUID.randomUUID().toString(), 5, now);
+        }
+
+        filter = new JwtAuthenticationFilter(new TokenValidator(Fixtures.JWT_SECRET), users, sessionStore,
+                new SimpleMeterRegistry());
+
+        request = new MockHttpServletRequest("GET", "/api/programs");
+        switch (scenario) {
+            case "authenticated" -> request.addHeader("Authorization", "Bearer " + issued.token());
+            case "revoked" -> {
+                sessionStore.revokeByJti(user.id(), issued.jti());
+                request.addHeader("Authorization", "Bearer " + issued.token());
+            }
+            default -> { }
+        }
+    }
+
+    @Benchmark
+    public int doFilter() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(request, response, chain);
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+        return response.getStatus();
+    }
+}
@@ -0,0 +1,54 @@
+package com.cinema.benchmarks;
+
+import com.cinema.application.screenings.SearchScreeningsUseCase;
+import com.cinema.benchmarks.support.InMemoryProgramRepository;
+import com.cinema.benchmarks.support.InMemoryScreeningRepository;
+import com.cinema.domain.entity.Screening;
+import com.cinema.domain.entity.value.UserId;
+import com.cinema.domain.port.SearchResultCache;
+import com.cinema.infrastructure.metrics.UseCaseMetricsAspect;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the use-case timer: the same (near-empty) use-case call, direct vs through UseCaseMetricsAspect.
+ * The difference between the two is the per-call instrumentation overhead (budget: under 1 µs).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MetricsOverheadBenchmark {
+
+    private final UserId staffId = UserId.of(2);
+
+    private SearchScreeningsUseCase direct;
+    private SearchScreeningsUseCase timed;
+
+    @Setup
+    public void setup() {
+        direct = new SearchScreeningsUseCase(new InMemoryScreeningRepository(), new InMemoryProgramRepository(),
+                SearchResultCache.disabled());
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(direct);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new UseCaseMetricsAspect(new SimpleMeterRegistry()));
+        timed = factory.getProxy();
+    }
+
+    @Benchmark
+    public List<Screening> direct() {
+        return direct.myAssignedAsStaff(staffId, 0, 20);
+    }
+
+    @Benchmark
+    public List<Screening> timed() {
+        return timed.myAssignedAsStaff(staffId, 0, 20);
+    }
+}
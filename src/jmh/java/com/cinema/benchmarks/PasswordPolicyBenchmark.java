@@ -0,0 +1,36 @@
+package com.cinema.benchmarks;
+
+import com.cinema.domain.entity.value.Username;
+import com.cinema.domain.policy.PasswordPolicy;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PasswordPolicy.validate on registration / password change (no hashing, rules only).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PasswordPolicyBenchmark {
+
+    @Param({"Str0ng#Passw0rd!", "weak", "bench_user#2027X"})
+    public String password;
+
+    private PasswordPolicy policy;
+    private Username username;
+
+    @Setup
+    public void setup() {
+        policy = new PasswordPolicy(PasswordPolicy.Config.strongDefaults());
+        username = new Username("bench_user");
+    }
+
+    @Benchmark
+    public PasswordPolicy.Result validate() {
+        return policy.validate(password, username, "Bench User");
+    }
+}
@@ -0,0 +1,109 @@
+package com.cinema.benchmarks;
+
+import com.cinema.benchmarks.support.Fixtures;
+import com.cinema.domain.entity.Program;
+import com.cinema.domain.entity.value.ProgramId;
+import com.cinema.domain.entity.value.UserId;
+import com.cinema.domain.enums.ProgramState;
+import com.cinema.infrastructure.persistence.entity.ProgramEntity;
+import com.cinema.infrastructure.persistence.mapper.ProgramPersistenceMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Program membership: Program.isStaff/isProgrammer (primitive hash set) against the former HashSet<UserId>,
+ * and the cost of loading a program (ProgramPersistenceMapper.toDomain) per member count.
+ *
+ * Footprint: run with "-prof gc"; gc.alloc.rate.norm of load / legacyLoad is the bytes one loaded program
+ * allocates (members dominate), i.e. what each cached or in-flight Program holds on to.
+ * Probes are half members, half strangers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProgramMembershipBenchmark {
+
+    private static final int PROBES = 1024; // power of two (mask)
+
+    @Param({"10", "1000", "10000"})
+    public int members;
+
+    private final ProgramPersistenceMapper mapper = new ProgramPersistenceMapper();
+
+    private Program program;
+    private Set<UserId> legacyStaff;
+    private ProgramEntity entity;
+    private UserId[] probes;
+    private int next;
+
+    @Setup
+    public void setup() {
+        Random rnd = new Random(42);
+
+        // staff ids spread over a range 4x the member count, like real user tables
+        Set<Long> staffIds = new HashSet<>();
+        while (staffIds.size() < members) staffIds.add(2L + rnd.nextInt(members * 4));
+        long[] staff = staffIds.stream().mapToLong(Long::longValue).toArray();
+
+        program = Program.rehydrate(new ProgramId(1L), LocalDateTime.of(2027, 1, 1, 9, 0),
+                "Festival", "Benchmark festival", Fixtures.FESTIVAL_START, Fixtures.FESTIVAL_END,
+                UserId.of(1), ProgramState.SUBMISSION, new long[]{1L}, staff);
+
+        legacyStaff = new HashSet<>();
+        for (long id : staff) legacyStaff.add(UserId.of(id));
+
+        entity = mapper.toEntity(program);
+
+        probes = new UserId[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            probes[i] = (i % 2 == 0)
+                    ? UserId.of(staff[rnd.nextInt(staff.length)])
+                    : UserId.of(members * 4L + 10 + rnd.nextInt(1_000_000));
+        }
+    }
+
+    private UserId probe() {
+        return probes[next++ & (PROBES - 1)];
+    }
+
+    @Benchmark
+    public boolean isStaff() {
+        return program.isStaff(probe());
+    }
+
+    @Benchmark
+    public boolean isProgrammer() {
+        return program.isProgrammer(probe());
+    }
+
+    /** Baseline: the HashSet<UserId> Program used before. */
+    @Benchmark
+    public boolean legacyIsStaff() {
+        return legacyStaff.contains(probe());
+    }
+
+    @Benchmark
+    public Program load() {
+        return mapper.toDomain(entity);
+    }
+
+    /** Baseline: the former mapping, one UserId per member into a HashSet. */
+    @Benchmark
+    public void legacyLoad(Blackhole bh) {
+        Set<UserId> staff = new HashSet<>();
+        for (Long id : entity.getStaff()) staff.add(new UserId(id));
+        Set<UserId> programmers = new HashSet<>();
+        for (Long id : entity.getProgrammers()) programmers.add(new UserId(id));
+        bh.consume(staff);
+        bh.consume(programmers);
+    }
+}
@@ -0,0 +1,57 @@
+package com.cinema.benchmarks;
+
+import com.cinema.infrastructure.security.RateLimitFilter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * RateLimitFilter.doFilter under contention (8 threads).
+ *
+ * Spec:
+ * - sameClient: every thread hits one counter (one hot ConcurrentHashMap bin, e.g. clients behind a NAT)
+ * - distinctClients: one client address per thread (the usual case)
+ * - Limit is never reached, so only the allowed path is measured
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class RateLimitFilterBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Shared {
+        @Param({"sameClient", "distinctClients"})
+        public String clients;
+
+        final RateLimitFilter filter = new RateLimitFilter(Integer.MAX_VALUE, 1, new SimpleMeterRegistry());
+        final AtomicInteger nextClient = new AtomicInteger();
+    }
+
+    @State(Scope.Thread)
+    public static class PerThread {
+        MockHttpServletRequest request;
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        final FilterChain chain = (req, res) -> { };
+
+        @Setup
+        public void setup(Shared shared) {
+            request = new MockHttpServletRequest("GET", "/api/programs");
+            request.setRemoteAddr("sameClient".equals(shared.clients)
+                    ? "10.0.0.1"
+                    : "10.0.1." + shared.nextClient.incrementAndGet());
+        }
+    }
+
+    @Benchmark
+    public void doFilter(Shared shared, PerThread t) throws Exception {
+        shared.filter.doFilter(t.request, t.response, t.chain);
+    }
+}
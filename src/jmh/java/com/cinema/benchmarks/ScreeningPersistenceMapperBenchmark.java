@@ -0,0 +1,83 @@
+package com.cinema.benchmarks;
+
+import com.cinema.benchmarks.support.Fixtures;
+import com.cinema.domain.entity.Screening;
+import com.cinema.domain.entity.value.ProgramId;
+import com.cinema.domain.entity.value.UserId;
+import com.cinema.domain.enums.ScreeningState;
+import com.cinema.infrastructure.persistence.entity.ScreeningEntity;
+import com.cinema.infrastructure.persistence.mapper.ScreeningPersistenceMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ScreeningPersistenceMapper both ways; every JPA listing maps each row, so the page variant
+ * (200 rows = FETCH_PADDING window of the search use case) is the figure that matters.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ScreeningPersistenceMapperBenchmark {
+
+    private static final int PAGE = 200;
+
+    private final ScreeningPersistenceMapper mapper = new ScreeningPersistenceMapper();
+
+    private Screening timed;
+    private Screening draft;
+    private ScreeningEntity timedEntity;
+    private List<ScreeningEntity> page;
+
+    @Setup
+    public void setup() {
+        Random rnd = new Random(7);
+        ProgramId programId = new ProgramId(1L);
+        UserId submitter = UserId.of(10);
+        UserId staff = UserId.of(2);
+
+        timed = Fixtures.screening(1, programId, submitter, staff, ScreeningState.SCHEDULED, rnd);
+        draft = Fixtures.screening(2, programId, submitter, null, ScreeningState.CREATED, rnd);
+        timedEntity = withCreatedTime(mapper.toEntity(timed));
+
+        page = new ArrayList<>(PAGE);
+        for (int i = 0; i < PAGE; i++) {
+            ScreeningState state = (i % 3 == 0) ? ScreeningState.SCHEDULED : ScreeningState.SUBMITTED;
+            page.add(withCreatedTime(mapper.toEntity(Fixtures.screening(100 + i, programId, submitter, staff, state, rnd))));
+        }
+    }
+
+    private static ScreeningEntity withCreatedTime(ScreeningEntity e) {
+        // normally filled by @PrePersist
+        e.setCreatedTime(Fixtures.FESTIVAL_START.minusMonths(3).atStartOfDay());
+        return e;
+    }
+
+    @Benchmark
+    public ScreeningEntity toEntityTimed() {
+        return mapper.toEntity(timed);
+    }
+
+    @Benchmark
+    public ScreeningEntity toEntityDraft() {
+        return mapper.toEntity(draft);
+    }
+
+    @Benchmark
+    public Screening toDomainTimed() {
+        return mapper.toDomain(timedEntity);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PAGE)
+    public void toDomainPage(Blackhole bh) {
+        for (ScreeningEntity e : page) bh.consume(mapper.toDomain(e));
+    }
+}
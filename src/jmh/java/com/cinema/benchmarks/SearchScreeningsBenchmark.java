@@ -0,0 +1,89 @@
+package com.cinema.benchmarks;
+
+import com.cinema.application.screenings.SearchScreeningsUseCase;
+import com.cinema.benchmarks.support.Fixtures;
+import com.cinema.benchmarks.support.InMemoryProgramRepository;
+import com.cinema.benchmarks.support.InMemoryScreeningRepository;
+import com.cinema.domain.entity.Screening;
+import com.cinema.domain.entity.value.ProgramId;
+import com.cinema.domain.entity.value.UserId;
+import com.cinema.domain.enums.ProgramState;
+import com.cinema.domain.enums.ScreeningState;
+import com.cinema.domain.port.SearchResultCache;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SearchScreeningsUseCase.searchInProgram over an in-memory repository:
+ * isolates the window fetch + access filter + word match + sort from the database.
+ *
+ * Spec:
+ * - ANNOUNCED program, mostly SCHEDULED rows (the public timetable case)
+ * - visitor = anonymous, programmer = sees everything (membership check per row)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SearchScreeningsBenchmark {
+
+    private static final ScreeningState[] STATES = {
+            ScreeningState.SCHEDULED, ScreeningState.SCHEDULED, ScreeningState.SCHEDULED, ScreeningState.REJECTED
+    };
+
+    @Param({"1000", "10000"})
+    public int screenings;
+
+    @Param({"visitor", "programmer"})
+    public String actor;
+
+    private SearchScreeningsUseCase useCase;
+    private ProgramId programId;
+    private UserId actorId;
+
+    @Setup
+    public void setup() {
+        InMemoryProgramRepository programs = new InMemoryProgramRepository();
+        InMemoryScreeningRepository rows = new InMemoryScreeningRepository();
+
+        UserId programmer = UserId.of(1);
+        UserId staff = UserId.of(2);
+        programId = programs.save(Fixtures.program(1, 1, ProgramState.ANNOUNCED, Set.of(staff))).id();
+
+        Random rnd = new Random(42);
+        for (int i = 1; i <= screenings; i++) {
+            UserId submitter = UserId.of(100 + i % 500);
+            rows.save(Fixtures.screening(i, programId, submitter, staff, STATES[i % STATES.length], rnd));
+        }
+
+        useCase = new SearchScreeningsUseCase(rows, programs, SearchResultCache.disabled()); // measures the search itself
+        actorId = "programmer".equals(actor) ? programmer : null;
+    }
+
+    @Benchmark
+    public List<Screening> timetablePage() {
+        return useCase.searchInProgram(actorId, programId, null, null, null, null, null, 0, 50, true);
+    }
+
+    @Benchmark
+    public List<Screening> titleAndGenre() {
+        return useCase.searchInProgram(actorId, programId, "night river", "drama", null, null, null, 0, 50, false);
+    }
+
+    @Benchmark
+    public List<Screening> dateRange() {
+        return useCase.searchInProgram(actorId, programId, null, null,
+                Fixtures.FESTIVAL_START.plusDays(3), Fixtures.FESTIVAL_START.plusDays(5), null, 0, 50, true);
+    }
+
+    @Benchmark
+    public List<Screening> deepPage() {
+        return useCase.searchInProgram(actorId, programId, null, null, null, null, null, 150, 50, true);
+    }
+}
@@ -0,0 +1,68 @@
+package com.cinema.benchmarks;
+
+import com.cinema.domain.Exceptions.StateTransitionForbidden;
+import com.cinema.domain.enums.ProgramState;
+import com.cinema.domain.enums.ScreeningState;
+import com.cinema.domain.service.ProgramStateMachine;
+import com.cinema.domain.service.ScreeningStateMachine;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ScreeningStateMachine / ProgramStateMachine transition checks.
+ * Each op walks every (from, to) pair, so allowed and forbidden lookups are both covered.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StateMachineBenchmark {
+
+    private static final ScreeningState[] SCREENING_STATES = ScreeningState.values();
+    private static final ProgramState[] PROGRAM_STATES = ProgramState.values();
+
+    private final ScreeningStateMachine screenings = new ScreeningStateMachine();
+    private final ProgramStateMachine programs = new ProgramStateMachine();
+
+    @Benchmark
+    public void screeningCanTransition(Blackhole bh) {
+        for (ScreeningState from : SCREENING_STATES) {
+            for (ScreeningState to : SCREENING_STATES) {
+                bh.consume(screenings.canTransition(from, to));
+            }
+        }
+    }
+
+    @Benchmark
+    public void programCanTransition(Blackhole bh) {
+        for (ProgramState from : PROGRAM_STATES) {
+            for (ProgramState to : PROGRAM_STATES) {
+                bh.consume(programs.canTransition(from, to));
+            }
+        }
+    }
+
+    /** Happy path of a festival: CREATED ... ANNOUNCED, one transition() per phase. */
+    @Benchmark
+    public ProgramState programLifecycle() {
+        ProgramState s = ProgramState.CREATED;
+        for (int i = 1; i < PROGRAM_STATES.length; i++) {
+            s = programs.transition(s, PROGRAM_STATES[i]);
+        }
+        return s;
+    }
+
+    /** Forbidden transition: cost of building the StateTransitionForbidden exception. */
+    @Benchmark
+    public void screeningForbidden(Blackhole bh) {
+        try {
+            bh.consume(screenings.requireTransition(ScreeningState.SCHEDULED, ScreeningState.CREATED));
+        } catch (StateTransitionForbidden ex) {
+            bh.consume(ex);
+        }
+    }
+}
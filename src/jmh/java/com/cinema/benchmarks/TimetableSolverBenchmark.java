@@ -0,0 +1,99 @@
+package com.cinema.benchmarks;
+
+import com.cinema.domain.entity.value.ScreeningId;
+import com.cinema.domain.service.TimetableSolver;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TimetableSolver at the size the DECISION phase must handle: 2,000 screenings, 10 rooms, 28 days,
+ * the controller's defaults (10:00-24:00, 15 min turnover, 1.5 s budget), solved in under 2 s.
+ *
+ * Spec:
+ * - Single shot, no warmup, several forks: each fork's first iteration is a cold first request
+ * - Durations 70..110 min: about 90% of the room time, so placing everything takes a real search
+ * - Time alone says little (the solver uses its whole budget): the "unplaced" / "placed" counters report
+ *   the result of every solve, the target being 0 unplaced
+ * - Pool sized like AppConfig (one thread per core)
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 5)
+@Fork(3)
+@State(Scope.Benchmark)
+public class TimetableSolverBenchmark {
+
+    private static final String[] GENRES = {
+            "drama", "comedy", "documentary", "horror", "animation", "thriller", "romance", "sci-fi",
+            "western", "musical", "crime", "fantasy", "war", "family", "short"
+    };
+
+    @Param({"2000"})
+    public int screenings;
+
+    @Param({"10"})
+    public int rooms;
+
+    @Param({"28"})
+    public int days;
+
+    @Param({"1500"})
+    public long budgetMillis;
+
+    private TimetableSolver solver;
+    private TimetableSolver.Problem problem;
+
+    /** Result of the solves in the iteration (summed per iteration by JMH). */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Outcome {
+        public long placed;
+        public long unplaced;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            placed = 0;
+            unplaced = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        solver = new TimetableSolver(new ForkJoinPool(Runtime.getRuntime().availableProcessors()));
+
+        Random rnd = new Random(42);
+        List<TimetableSolver.Item> items = new ArrayList<>(screenings);
+        for (int i = 1; i <= screenings; i++) {
+            items.add(new TimetableSolver.Item(new ScreeningId((long) i), GENRES[rnd.nextInt(GENRES.length)],
+                    70 + rnd.nextInt(41)));
+        }
+        List<String> roomNames = new ArrayList<>(rooms);
+        for (int r = 1; r <= rooms; r++) roomNames.add("Room " + r);
+
+        LocalDate first = LocalDate.of(2027, 5, 1);
+        problem = new TimetableSolver.Problem(items, roomNames, first, first.plusDays(days - 1L),
+                LocalTime.of(10, 0), LocalTime.MIDNIGHT, 15, List.of());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        solver.close();
+    }
+
+    @Benchmark
+    public TimetableSolver.Solution solve(Outcome outcome) {
+        TimetableSolver.Solution solution = solver.solve(problem, Duration.ofMillis(budgetMillis), 7L);
+        outcome.placed += solution.placements().size();
+        outcome.unplaced += solution.unplaced().size();
+        return solution;
+    }
+}
@@ -0,0 +1,52 @@
+package com.cinema.benchmarks;
+
+import com.cinema.benchmarks.support.Fixtures;
+import com.cinema.domain.enums.BaseRole;
+import com.cinema.infrastructure.security.TokenService;
+import com.cinema.infrastructure.security.TokenValidator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TokenValidator.validate: HS256 signature check + claim parsing, paid on every authenticated request.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TokenValidatorBenchmark {
+
+    private TokenValidator validator;
+    private String validToken;
+    private String tamperedToken;
+
+    @Setup
+    public void setup() {
+        validator = new TokenValidator(Fixtures.JWT_SECRET);
+        TokenService tokens = new TokenService(Fixtures.JWT_SECRET, 3600);
+        validToken = tokens.generateToken(Fixtures.user(1, "bench_user", BaseRole.USER)).token();
+
+        // flip one signature char: parses fine, fails on the HMAC check
+        int i = validToken.lastIndexOf('.') + 5;
+        char c = validToken.charAt(i);
+        tamperedToken = validToken.substring(0, i) + (c == 'A' ? 'B' : 'A') + validToken.substring(i + 1);
+    }
+
+    @Benchmark
+    public TokenValidator.TokenData validToken() {
+        return validator.validate(validToken);
+    }
+
+    @Benchmark
+    public void tamperedToken(Blackhole bh) {
+        try {
+            bh.consume(validator.validate(tamperedToken));
+        } catch (TokenValidator.InvalidTokenException ex) {
+            bh.consume(ex);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.cinema.benchmarks;
+
+import com.cinema.domain.port.UserLookup;
+import com.cinema.infrastructure.repository.UserLookupIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UserLookupIndex (GET /api/users/lookup) per keystroke: latency distribution (SampleTime => p99 in the report)
+ * for prefix queries, one-typo queries (prefix scan misses, fuzzy variants run) and full-name word prefixes.
+ *
+ * Users get random syllable usernames and full names from small first/last name pools,
+ * so short prefixes match many users and typos mostly miss.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+@State(Scope.Benchmark)
+public class UserLookupBenchmark {
+
+    private static final int QUERIES = 1024; // power of two (mask)
+
+    private static final String[] SYLLABLES = {
+            "an", "ka", "to", "ri", "mel", "dor", "se", "li", "pa", "nik", "os", "el", "ta", "ver", "mo", "zu"
+    };
+    private static final String[] FIRST = {
+            "Maria", "Eleni", "Nikos", "Giorgos", "Anna", "Kostas", "Dimitra", "Yannis", "Sofia", "Petros"
+    };
+    private static final String[] LAST = {
+            "Papadopoulos", "Nikolaou", "Georgiou", "Ioannou", "Konstantinou", "Dimitriou", "Vasileiou", "Alexiou"
+    };
+
+    @Param({"1000000"})
+    public int users;
+
+    private UserLookupIndex index;
+    private String[] prefixes;
+    private String[] typos;
+    private String[] names;
+    private int next;
+
+    @Setup
+    public void setup() {
+        Random rnd = new Random(42);
+        index = new UserLookupIndex();
+
+        String[] usernames = new String[users];
+        for (int i = 0; i < users; i++) {
+            StringBuilder u = new StringBuilder();
+            while (u.length() < 6) u.append(SYLLABLES[rnd.nextInt(SYLLABLES.length)]);
+            u.append(i);
+            usernames[i] = u.toString();
+            String full = FIRST[rnd.nextInt(FIRST.length)] + " " + LAST[rnd.nextInt(LAST.length)];
+            index.put(i + 1L, usernames[i], full, true);
+        }
+
+        prefixes = new String[QUERIES];
+        typos = new String[QUERIES];
+        names = new String[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            String u = usernames[rnd.nextInt(users)];
+            String p = u.substring(0, Math.min(u.length(), 3 + rnd.nextInt(6)));
+            prefixes[i] = p;
+
+            // swap two neighbours => the exact prefix usually matches nobody
+            int at = rnd.nextInt(p.length() - 1);
+            typos[i] = p.substring(0, at) + p.charAt(at + 1) + p.charAt(at) + p.substring(at + 2) + "x";
+
+            String last = LAST[rnd.nextInt(LAST.length)];
+            names[i] = last.substring(0, 2 + rnd.nextInt(last.length() - 2));
+        }
+    }
+
+    private int slot() {
+        return next++ & (QUERIES - 1);
+    }
+
+    @Benchmark
+    public List<UserLookup.Match> prefix() {
+        return index.lookup(prefixes[slot()], 10);
+    }
+
+    @Benchmark
+    public List<UserLookup.Match> typo() {
+        return index.lookup(typos[slot()], 10);
+    }
+
+    @Benchmark
+    public List<UserLookup.Match> fullName() {
+        return index.lookup(names[slot()], 10);
+    }
+}
@@ -0,0 +1,403 @@
+package com.cinema.benchmarks.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+/**
+ * End-to-end load generator: drives a running app through a full festival lifecycle over HTTP
+ * (security filter chain -> controllers -> use cases -> JPA -> H2) and reports per-endpoint latency.
+ *
+ * Spec:
+ * - registration: submitters + staff + one programmer register, ADMIN activates them
+ * - login storm: everyone logs in (loginRounds times, last token is kept)
+ * - submission: program created, staff added, SUBMISSION; every submitter creates + submits films
+ * - assignment: bulk handler assignment (balanced)
+ * - review: each STAFF lists its screenings and reviews them one by one; approve in SCHEDULING
+ * - final submission: submitters final-submit in FINAL_PUBLICATION
+ * - decision: timetable preview + commit in DECISION, then ANNOUNCED
+ * - public reads: anonymous flood of timetable / search / detail GETs
+ * - Closed loop: "concurrency" workers, each sends its next request when the previous one returns
+ *
+ * Run against a locally started app (rate limiting off), e.g.
+ *   mvn -Pbenchmarks test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.cinema.benchmarks.load.FestivalLoadTest \
+ *     -Dexec.args="--admin-user=admin --admin-password=... --submitters=300 --reads=50000"
+ */
+public final class FestivalLoadTest {
+
+    private static final String PASSWORD = "Passw0rd!x";
+    private static final String[] GENRES = {"Drama", "Comedy", "Documentary", "Thriller", "Animation", "Horror"};
+
+    private final Options opt;
+    private final LoadClient client;
+    private final ExecutorService pool;
+    private final String runId;
+
+    private final ObjectMapper json = new ObjectMapper();
+    private final ArrayNode report = json.createArrayNode();
+
+    private String adminToken;
+    private List<String> usernames;
+    private long[] userIds;
+    private long programmerId;
+    private String programmerToken;
+    private final List<Long> submitterIds = new ArrayList<>();
+    private final List<Long> staffIds = new ArrayList<>();
+    private final Map<Long, String> tokens = new HashMap<>();
+    private long programId;
+    private final List<Long> screeningIds = new ArrayList<>();
+    private final Map<Long, Long> submitterOf = new HashMap<>();
+    private final Map<Long, List<Long>> assigned = new HashMap<>();
+
+    record Options(
+            String baseUrl,
+            String adminUser,
+            String adminPassword,
+            int submitters,
+            int staff,
+            int filmsPerSubmitter,
+            int loginRounds,
+            int concurrency,
+            int reads,
+            int rooms,
+            int solverBudgetMillis,
+            Duration timeout,
+            String reportFile
+    ) {
+        static Options parse(String[] args) {
+            Map<String, String> a = new HashMap<>();
+            for (String arg : args) {
+                if (!arg.startsWith("--") || !arg.contains("=")) {
+                    throw new IllegalArgumentException("Expected --name=value, got: " + arg);
+                }
+                a.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+            String adminUser = a.get("admin-user");
+            String adminPassword = a.get("admin-password");
+            if (adminUser == null || adminPassword == null) {
+                throw new IllegalArgumentException("--admin-user and --admin-password are required (an active ADMIN account)");
+            }
+            return new Options(
+                    a.getOrDefault("base-url", "http://localhost:8080"),
+                    adminUser,
+                    adminPassword,
+                    Integer.parseInt(a.getOrDefault("submitters", "200")),
+                    Integer.parseInt(a.getOrDefault("staff", "10")),
+                    Integer.parseInt(a.getOrDefault("films-per-submitter", "1")),
+                    Integer.parseInt(a.getOrDefault("login-rounds", "3")),
+                    Integer.parseInt(a.getOrDefault("concurrency", "32")),
+                    Integer.parseInt(a.getOrDefault("reads", "20000")),
+                    Integer.parseInt(a.getOrDefault("rooms", "6")),
+                    Integer.parseInt(a.getOrDefault("solver-budget-millis", "2000")),
+                    Duration.ofSeconds(Long.parseLong(a.getOrDefault("timeout-seconds", "30"))),
+                    a.get("report")
+            );
+        }
+    }
+
+    FestivalLoadTest(Options opt) {
+        this.opt = opt;
+        this.client = new LoadClient(opt.baseUrl(), opt.timeout());
+        this.pool = Executors.newFixedThreadPool(opt.concurrency());
+        // 6 base-36 chars: keeps usernames unique across runs against the same database (5-20 chars)
+        long min = 60_466_176L; // 36^5
+        this.runId = Long.toString(min + System.currentTimeMillis() % (36 * min - min), 36);
+    }
+
+    public static void main(String[] args) throws Exception {
+        FestivalLoadTest test = new FestivalLoadTest(Options.parse(args));
+        try {
+            test.run();
+        } finally {
+            test.pool.shutdownNow();
+        }
+    }
+
+    void run() throws IOException {
+        System.out.printf("Festival load test against %s: %d submitters x %d films, %d staff, concurrency %d%n",
+                opt.baseUrl(), opt.submitters(), opt.filmsPerSubmitter(), opt.staff(), opt.concurrency());
+
+        phase("setup", () -> adminToken = login(opt.adminUser(), opt.adminPassword()));
+        phase("registration", this::registration);
+        phase("login storm", this::loginStorm);
+        phase("submission", this::submission);
+        phase("assignment", this::assignment);
+        phase("review", this::review);
+        phase("final submission", this::finalSubmission);
+        phase("decision", this::decision);
+        phase("public reads", this::publicReads);
+
+        if (opt.reportFile() != null) {
+            json.writerWithDefaultPrettyPrinter().writeValue(new File(opt.reportFile()), report);
+            System.out.println("\nReport written to " + opt.reportFile());
+        }
+    }
+
+    // -------------------------
+    // phases
+    // -------------------------
+
+    private void registration() {
+        List<String> names = new ArrayList<>();
+        names.add("lp" + runId);
+        for (int i = 0; i < opt.staff(); i++) names.add("lt" + runId + "_" + i);
+        for (int i = 0; i < opt.submitters(); i++) names.add("ls" + runId + "_" + i);
+
+        long[] ids = new long[names.size()];
+        parallel(names.size(), i -> {
+            var res = require(client.call("POST /api/auth/register", "POST", "/api/auth/register",
+                    Map.of("username", names.get(i), "password", PASSWORD, "fullName", "Load User " + i), null), "register");
+            ids[i] = res.body().path("id").asLong();
+        });
+        parallel(ids.length, i -> require(client.call("PUT /api/admin/users/{id}/activate", "PUT",
+                "/api/admin/users/" + ids[i] + "/activate", null, adminToken), "activate"));
+
+        programmerId = ids[0];
+        for (int i = 1; i <= opt.staff(); i++) staffIds.add(ids[i]);
+        for (int i = opt.staff() + 1; i < ids.length; i++) submitterIds.add(ids[i]);
+        usernames = names;
+        userIds = ids;
+    }
+
+    private void loginStorm() {
+        String[] latest = new String[userIds.length];
+        for (int round = 0; round < opt.loginRounds(); round++) {
+            parallel(userIds.length, i -> latest[i] = login(usernames.get(i), PASSWORD));
+        }
+        for (int i = 0; i < userIds.length; i++) tokens.put(userIds[i], latest[i]);
+        programmerToken = tokens.get(programmerId);
+    }
+
+    private void submission() {
+        LocalDate start = LocalDate.now().plusDays(60);
+        String name = "Load Festival " + runId;
+        require(client.call("POST /api/programs", "POST", "/api/programs", Map.of(
+                "name", name, "description", "Load test festival",
+                "startDate", start.toString(), "endDate", start.plusDays(13).toString()), programmerToken), "create program");
+
+        var found = require(client.call("GET /api/programs", "GET", "/api/programs?name=" + name.replace(' ', '+'),
+                null, programmerToken), "find program");
+        programId = found.body().path(0).path("id").asLong();
+
+        for (long staff : staffIds) {
+            require(client.call("POST /api/programs/{id}/staff/{userId}", "POST",
+                    "/api/programs/" + programId + "/staff/" + staff, null, programmerToken), "add staff");
+        }
+        changeState("SUBMISSION");
+
+        int total = submitterIds.size() * opt.filmsPerSubmitter();
+        long[] created = new long[total];
+        parallel(total, i -> {
+            long submitter = submitterIds.get(i % submitterIds.size());
+            String token = tokens.get(submitter);
+            var s = require(client.call("POST /api/screenings", "POST", "/api/screenings?programId=" + programId,
+                    Map.of("title", "Load film " + i, "genre", GENRES[i % GENRES.length],
+                            "description", "Generated by the load test"), token), "create screening");
+            long id = s.body().path("id").asLong();
+            require(client.call("PUT /api/screenings/{id}/submit", "PUT", "/api/screenings/" + id + "/submit",
+                    null, token), "submit");
+            created[i] = id;
+        });
+        for (int i = 0; i < total; i++) {
+            screeningIds.add(created[i]);
+            submitterOf.put(created[i], submitterIds.get(i % submitterIds.size()));
+        }
+    }
+
+    private void assignment() {
+        changeState("ASSIGNMENT");
+        for (int from = 0; from < screeningIds.size(); from += 1000) {
+            List<Map<String, Object>> items = new ArrayList<>();
+            for (Long id : screeningIds.subList(from, Math.min(screeningIds.size(), from + 1000))) {
+                items.add(Map.of("screeningId", id));
+            }
+            var res = require(client.call("PUT /api/screenings/handlers", "PUT",
+                    "/api/screenings/handlers?programId=" + programId + "&balance=true",
+                    Map.of("items", items), programmerToken), "bulk assign");
+            if (res.body().path("failed").asInt() > 0) {
+                throw new IllegalStateException("Bulk assignment reported failures: " + res.body());
+            }
+        }
+    }
+
+    private void review() {
+        changeState("REVIEW");
+
+        List<List<Long>> perStaff = listAssigned();
+        List<long[]> work = new ArrayList<>(); // {staffId, screeningId}
+        for (int s = 0; s < staffIds.size(); s++) {
+            assigned.put(staffIds.get(s), perStaff.get(s));
+            for (Long id : perStaff.get(s)) work.add(new long[]{staffIds.get(s), id});
+        }
+
+        parallel(work.size(), i -> {
+            long[] w = work.get(i);
+            int score = 1 + ThreadLocalRandom.current().nextInt(10);
+            require(client.call("PUT /api/screenings/{id}/review", "PUT",
+                    "/api/screenings/" + w[1] + "/review?score=" + score + "&comments=load", null, tokens.get(w[0])), "review");
+        });
+    }
+
+    private List<List<Long>> listAssigned() {
+        List<List<Long>> out = new ArrayList<>(Collections.nCopies(staffIds.size(), null)); // one slot per worker
+        parallel(staffIds.size(), s -> {
+            List<Long> ids = new ArrayList<>();
+            for (int offset = 0; ; offset += 200) {
+                var page = require(client.call("GET /api/screenings/by-staff", "GET",
+                        "/api/screenings/by-staff?offset=" + offset + "&limit=200", null, tokens.get(staffIds.get(s))), "by-staff");
+                for (JsonNode n : page.body()) ids.add(n.path("id").asLong());
+                if (page.body().size() < 200) break;
+            }
+            out.set(s, ids);
+        });
+        return out;
+    }
+
+    private void finalSubmission() {
+        changeState("SCHEDULING");
+        List<long[]> approvals = new ArrayList<>();
+        assigned.forEach((staff, ids) -> ids.forEach(id -> approvals.add(new long[]{staff, id})));
+        parallel(approvals.size(), i -> require(client.call("PUT /api/screenings/{id}/approve", "PUT",
+                "/api/screenings/" + approvals.get(i)[1] + "/approve", null, tokens.get(approvals.get(i)[0])), "approve"));
+
+        changeState("FINAL_PUBLICATION");
+        parallel(screeningIds.size(), i -> {
+            long id = screeningIds.get(i);
+            require(client.call("PUT /api/screenings/{id}/final-submit", "PUT",
+                    "/api/screenings/" + id + "/final-submit", null, tokens.get(submitterOf.get(id))), "final-submit");
+        });
+    }
+
+    private void decision() {
+        changeState("DECISION");
+
+        List<String> rooms = new ArrayList<>();
+        for (int r = 1; r <= opt.rooms(); r++) rooms.add("Room " + r);
+
+        var preview = require(client.call("POST /api/programs/{id}/timetable/preview", "POST",
+                "/api/programs/" + programId + "/timetable/preview",
+                Map.of("rooms", rooms, "budgetMillis", opt.solverBudgetMillis()), programmerToken), "timetable preview");
+        System.out.printf("timetable: %d placed, %d unplaced%n",
+                preview.body().path("placed").asInt(), preview.body().path("unplaced").asInt());
+
+        require(client.call("POST /api/programs/{id}/timetable/{previewId}/commit", "POST",
+                "/api/programs/" + programId + "/timetable/" + preview.body().path("previewId").asText() + "/commit",
+                null, programmerToken), "timetable commit");
+
+        changeState("ANNOUNCED");
+    }
+
+    private void publicReads() {
+        AtomicInteger remaining = new AtomicInteger(opt.reads());
+        int pages = Math.max(1, screeningIds.size() / 50);
+
+        parallel(opt.concurrency(), worker -> {
+            ThreadLocalRandom rnd = ThreadLocalRandom.current();
+            while (remaining.getAndDecrement() > 0) {
+                int pick = rnd.nextInt(100);
+                if (pick < 60) {
+                    client.call("GET /api/screenings/by-program?timetable", "GET", "/api/screenings/by-program?programId="
+                            + programId + "&timetable=true&offset=" + 50 * rnd.nextInt(pages) + "&limit=50", null, null);
+                } else if (pick < 80) {
+                    client.call("GET /api/screenings/by-program?genre", "GET", "/api/screenings/by-program?programId="
+                            + programId + "&genre=" + GENRES[rnd.nextInt(GENRES.length)] + "&limit=50", null, null);
+                } else if (pick < 90) {
+                    client.call("GET /api/programs/{id}", "GET", "/api/programs/" + programId, null, null);
+                } else {
+                    long id = screeningIds.get(rnd.nextInt(screeningIds.size()));
+                    client.call("GET /api/screenings/{id}", "GET", "/api/screenings/" + id, null, null);
+                }
+            }
+        });
+    }
+
+    // -------------------------
+    // helpers
+    // -------------------------
+
+    private void phase(String name, Runnable body) {
+        LatencyStats stats = new LatencyStats();
+        client.useStats(stats);
+        long start = System.nanoTime();
+        body.run();
+        long wall = System.nanoTime() - start;
+        stats.print(System.out, name, wall);
+        report.add(toJson(name, stats, wall));
+    }
+
+    private String login(String username, String password) {
+        var res = require(client.call("POST /api/auth/login", "POST", "/api/auth/login",
+                Map.of("username", username, "password", password), null), "login " + username);
+        return res.body().path("token").asText();
+    }
+
+    private void changeState(String next) {
+        require(client.call("PUT /api/programs/{id}/state", "PUT", "/api/programs/" + programId + "/state",
+                Map.of("nextState", next), programmerToken), "program -> " + next);
+    }
+
+    private static LoadClient.Response require(LoadClient.Response res, String what) {
+        if (!res.ok()) throw new IllegalStateException(what + " failed: HTTP " + res.status() + " " + res.body());
+        return res;
+    }
+
+    /** Runs task(0..count-1) on the worker pool and waits; the first failure aborts the run. */
+    private void parallel(int count, IntConsumer task) {
+        List<Future<?>> futures = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int n = i;
+            futures.add(pool.submit(() -> task.accept(n)));
+        }
+        for (Future<?> f : futures) {
+            try {
+                f.get();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted", ex);
+            } catch (ExecutionException ex) {
+                futures.forEach(other -> other.cancel(true));
+                throw new IllegalStateException("Load test aborted: " + ex.getCause().getMessage(), ex.getCause());
+            }
+        }
+    }
+
+    private ObjectNode toJson(String phase, LatencyStats stats, long wallNanos) {
+        ObjectNode node = json.createObjectNode();
+        node.put("phase", phase);
+        node.put("seconds", wallNanos / 1e9);
+        node.put("requests", stats.totalRequests());
+        ArrayNode endpoints = node.putArray("endpoints");
+        for (LatencyStats.Endpoint e : stats.snapshot()) {
+            var h = e.histogram;
+            ObjectNode en = endpoints.addObject();
+            en.put("endpoint", e.name);
+            en.put("count", h.getTotalCount());
+            en.put("errors", e.errors.sum());
+            en.put("p50_us", h.getValueAtPercentile(50));
+            en.put("p90_us", h.getValueAtPercentile(90));
+            en.put("p99_us", h.getValueAtPercentile(99));
+            en.put("p999_us", h.getValueAtPercentile(99.9));
+            en.put("max_us", h.getMaxValue());
+        }
+        return node;
+    }
+}
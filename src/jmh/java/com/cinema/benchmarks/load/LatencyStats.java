@@ -0,0 +1,70 @@
+package com.cinema.benchmarks.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint latency + error accounting for the load generator.
+ *
+ * Spec:
+ * - One HDR histogram per endpoint name (e.g. "POST /api/auth/login"), microsecond resolution, 3 significant digits
+ * - Errors = transport failures or status >= 400 (latency still recorded)
+ * - Recorded from many threads at once (ConcurrentHistogram)
+ */
+final class LatencyStats {
+
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    static final class Endpoint {
+        final String name;
+        final Histogram histogram = new ConcurrentHistogram(MAX_TRACKABLE_MICROS, 3);
+        final LongAdder errors = new LongAdder();
+
+        Endpoint(String name) {
+            this.name = name;
+        }
+    }
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+
+    void record(String endpoint, long nanos, boolean error) {
+        Endpoint e = endpoints.computeIfAbsent(endpoint, Endpoint::new);
+        e.histogram.recordValue(Math.min(MAX_TRACKABLE_MICROS, Math.max(1, nanos / 1_000)));
+        if (error) e.errors.increment();
+    }
+
+    List<Endpoint> snapshot() {
+        return endpoints.values().stream().sorted(Comparator.comparing(e -> e.name)).toList();
+    }
+
+    long totalRequests() {
+        return endpoints.values().stream().mapToLong(e -> e.histogram.getTotalCount()).sum();
+    }
+
+    /** Table of count / errors / req/s / p50..max (ms); throughput is relative to the given wall time. */
+    void print(PrintStream out, String title, long wallNanos) {
+        double seconds = Math.max(1e-9, wallNanos / 1e9);
+        out.printf("%n== %s (%.1f s, %d requests, %.0f req/s) ==%n", title, seconds, totalRequests(), totalRequests() / seconds);
+        out.printf("%-52s %8s %6s %9s %8s %8s %8s %8s %8s%n",
+                "endpoint", "count", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Endpoint e : snapshot()) {
+            Histogram h = e.histogram;
+            out.printf("%-52s %8d %6d %9.1f %8.2f %8.2f %8.2f %8.2f %8.2f%n",
+                    e.name, h.getTotalCount(), e.errors.sum(), h.getTotalCount() / seconds,
+                    ms(h.getValueAtPercentile(50)), ms(h.getValueAtPercentile(90)), ms(h.getValueAtPercentile(99)),
+                    ms(h.getValueAtPercentile(99.9)), ms(h.getMaxValue()));
+        }
+    }
+
+    private static double ms(long micros) {
+        return micros / 1000.0;
+    }
+}
@@ -0,0 +1,103 @@
+package com.cinema.benchmarks.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Thin JSON-over-HTTP client that records every call into the current phase's LatencyStats.
+ */
+final class LoadClient {
+
+    record Response(int status, JsonNode body) {
+        boolean ok() { return status >= 200 && status < 300; }
+    }
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private final HttpClient http;
+    private final String baseUrl;
+    private final Duration timeout;
+    private volatile LatencyStats stats;
+
+    LoadClient(String baseUrl, Duration timeout) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.timeout = timeout;
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(timeout)
+                .build();
+    }
+
+    void useStats(LatencyStats stats) {
+        this.stats = stats;
+    }
+
+    /**
+     * @param endpoint name the call is reported under (templated path, not the concrete URL)
+     */
+    Response call(String endpoint, String method, String path, Object body, String token) {
+        long start = System.nanoTime();
+        try {
+            HttpResponse<byte[]> res = http.send(request(method, path, body, token), HttpResponse.BodyHandlers.ofByteArray());
+            long elapsed = System.nanoTime() - start;
+            stats.record(endpoint, elapsed, res.statusCode() >= 400);
+            return new Response(res.statusCode(), parse(res.body()));
+        } catch (IOException ex) {
+            stats.record(endpoint, System.nanoTime() - start, true);
+            return new Response(599, MissingNode.getInstance());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted", ex);
+        }
+    }
+
+    /**
+     * Open-loop variant: sends without waiting; the future never fails (transport errors become status 599).
+     * The body is not parsed.
+     */
+    CompletableFuture<Integer> callAsync(String endpoint, String method, String path, Object body, String token) {
+        LatencyStats recordTo = stats;
+        long start = System.nanoTime();
+        return http.sendAsync(request(method, path, body, token), HttpResponse.BodyHandlers.discarding())
+                .handle((res, ex) -> {
+                    int status = ex == null ? res.statusCode() : 599;
+                    recordTo.record(endpoint, System.nanoTime() - start, status >= 400);
+                    return status;
+                });
+    }
+
+    private HttpRequest request(String method, String path, Object body, String token) {
+        HttpRequest.Builder b = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(timeout);
+        if (token != null) b.header("Authorization", "Bearer " + token);
+
+        HttpRequest.BodyPublisher publisher = HttpRequest.BodyPublishers.noBody();
+        if (body != null) {
+            try {
+                publisher = HttpRequest.BodyPublishers.ofByteArray(JSON.writeValueAsBytes(body));
+            } catch (IOException ex) {
+                throw new IllegalArgumentException("Cannot serialize request body", ex);
+            }
+            b.header("Content-Type", "application/json");
+        }
+        b.method(method, publisher);
+        return b.build();
+    }
+
+    private static JsonNode parse(byte[] body) {
+        if (body == null || body.length == 0) return MissingNode.getInstance();
+        try {
+            return JSON.readTree(body);
+        } catch (IOException ex) {
+            return MissingNode.getInstance(); // plain-text error bodies
+        }
+    }
+}
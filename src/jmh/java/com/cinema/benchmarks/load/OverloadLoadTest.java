@@ -0,0 +1,316 @@
+package com.cinema.benchmarks.load;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Goodput under overload: measures what the app sustains, then offers a multiple of it (open loop) and
+ * reports per priority class how much still completes successfully within the SLO.
+ *
+ * Spec:
+ * - setup: N users register, get activated, log in and create one program each
+ * - mix: anonymous program search (PUBLIC), own program / profile GETs with a token (READ),
+ *   own program updates (WRITE); percentages via --public / --read (WRITE gets the rest)
+ * - calibration: closed loop, "concurrency" workers for calibration-seconds => capacity C (2xx per second)
+ * - overload: open loop at factor * C requests per second for overload-seconds; arrivals do not wait for
+ *   responses (max-outstanding caps the client, excess arrivals are counted as dropped)
+ * - goodput = 2xx within slo-ms per second. Run once with overload.enabled=true and once with false:
+ *   with shedding the excess is answered 503 right away and goodput stays near C, WRITE shed last
+ *
+ * Run against a locally started app (rate limiting off), e.g.
+ *   mvn -Pbenchmarks test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.cinema.benchmarks.load.OverloadLoadTest \
+ *     -Dexec.args="--admin-user=admin --admin-password=... --factor=3 --slo-ms=500"
+ */
+public final class OverloadLoadTest {
+
+    private static final String PASSWORD = "Passw0rd!x";
+
+    enum Kind { PUBLIC, READ, WRITE }
+
+    private final Options opt;
+    private final LoadClient client;
+    private final String runId;
+
+    private String adminToken;
+    private final List<String> tokens = new ArrayList<>();
+    private final List<Long> programIds = new ArrayList<>();
+
+    record Options(
+            String baseUrl,
+            String adminUser,
+            String adminPassword,
+            int users,
+            int concurrency,
+            int calibrationSeconds,
+            int overloadSeconds,
+            double factor,
+            int sloMillis,
+            int publicPercent,
+            int readPercent,
+            int maxOutstanding,
+            Duration timeout
+    ) {
+        static Options parse(String[] args) {
+            Map<String, String> a = new HashMap<>();
+            for (String arg : args) {
+                if (!arg.startsWith("--") || !arg.contains("=")) {
+                    throw new IllegalArgumentException("Expected --name=value, got: " + arg);
+                }
+                a.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+            String adminUser = a.get("admin-user");
+            String adminPassword = a.get("admin-password");
+            if (adminUser == null || adminPassword == null) {
+                throw new IllegalArgumentException("--admin-user and --admin-password are required (an active ADMIN account)");
+            }
+            Options o = new Options(
+                    a.getOrDefault("base-url", "http://localhost:8080"),
+                    adminUser,
+                    adminPassword,
+                    Integer.parseInt(a.getOrDefault("users", "20")),
+                    Integer.parseInt(a.getOrDefault("concurrency", "32")),
+                    Integer.parseInt(a.getOrDefault("calibration-seconds", "15")),
+                    Integer.parseInt(a.getOrDefault("overload-seconds", "30")),
+                    Double.parseDouble(a.getOrDefault("factor", "3")),
+                    Integer.parseInt(a.getOrDefault("slo-ms", "500")),
+                    Integer.parseInt(a.getOrDefault("public", "60")),
+                    Integer.parseInt(a.getOrDefault("read", "30")),
+                    Integer.parseInt(a.getOrDefault("max-outstanding", "4000")),
+                    Duration.ofSeconds(Long.parseLong(a.getOrDefault("timeout-seconds", "10")))
+            );
+            if (o.publicPercent() < 0 || o.readPercent() < 0 || o.publicPercent() + o.readPercent() > 100) {
+                throw new IllegalArgumentException("--public + --read must be within 0..100");
+            }
+            return o;
+        }
+    }
+
+    /** Outcome counters of one phase, per class. */
+    private static final class Outcomes {
+        final Map<Kind, LongAdder[]> byKind = new EnumMap<>(Kind.class);  // sent, ok, ok within SLO, 503, other, dropped
+
+        Outcomes() {
+            for (Kind k : Kind.values()) {
+                LongAdder[] c = new LongAdder[6];
+                for (int i = 0; i < c.length; i++) c[i] = new LongAdder();
+                byKind.put(k, c);
+            }
+        }
+
+        void record(Kind kind, int status, long nanos, long sloNanos) {
+            LongAdder[] c = byKind.get(kind);
+            c[0].increment();
+            if (status >= 200 && status < 300) {
+                c[1].increment();
+                if (nanos <= sloNanos) c[2].increment();
+            } else if (status == 503) {
+                c[3].increment();
+            } else {
+                c[4].increment();
+            }
+        }
+
+        void dropped(Kind kind) {
+            byKind.get(kind)[5].increment();
+        }
+
+        long goodput() {
+            return byKind.values().stream().mapToLong(c -> c[2].sum()).sum();
+        }
+
+        void print(String title, double seconds) {
+            System.out.printf("%n-- %s: goodput %.1f req/s (2xx within SLO) --%n", title, goodput() / seconds);
+            System.out.printf("%-8s %9s %9s %9s %9s %9s %9s %12s%n",
+                    "class", "sent", "2xx", "in SLO", "503", "other", "dropped", "goodput/s");
+            for (var e : byKind.entrySet()) {
+                LongAdder[] c = e.getValue();
+                System.out.printf("%-8s %9d %9d %9d %9d %9d %9d %12.1f%n", e.getKey(),
+                        c[0].sum(), c[1].sum(), c[2].sum(), c[3].sum(), c[4].sum(), c[5].sum(), c[2].sum() / seconds);
+            }
+        }
+    }
+
+    OverloadLoadTest(Options opt) {
+        this.opt = opt;
+        this.client = new LoadClient(opt.baseUrl(), opt.timeout());
+        long min = 60_466_176L; // 36^5, see FestivalLoadTest
+        this.runId = Long.toString(min + System.currentTimeMillis() % (36 * min - min), 36);
+    }
+
+    public static void main(String[] args) throws Exception {
+        new OverloadLoadTest(Options.parse(args)).run();
+        System.exit(0); // HttpClient selector threads
+    }
+
+    void run() throws Exception {
+        System.out.printf("Overload test against %s: %d users, mix %d%% public / %d%% read / %d%% write, SLO %d ms%n",
+                opt.baseUrl(), opt.users(), opt.publicPercent(), opt.readPercent(),
+                100 - opt.publicPercent() - opt.readPercent(), opt.sloMillis());
+
+        client.useStats(new LatencyStats());
+        setup();
+
+        double capacity = calibrate();
+        if (capacity <= 0) throw new IllegalStateException("Calibration completed no request successfully");
+        overload(capacity * opt.factor());
+    }
+
+    // -------------------------
+    // phases
+    // -------------------------
+
+    private void setup() {
+        adminToken = login(opt.adminUser(), opt.adminPassword());
+        LocalDate start = LocalDate.now().plusDays(90);
+
+        for (int i = 0; i < opt.users(); i++) {
+            String username = "lo" + runId + "_" + i;
+            var reg = require(client.call("POST /api/auth/register", "POST", "/api/auth/register",
+                    Map.of("username", username, "password", PASSWORD, "fullName", "Overload User " + i), null), "register");
+            require(client.call("PUT /api/admin/users/{id}/activate", "PUT",
+                    "/api/admin/users/" + reg.body().path("id").asLong() + "/activate", null, adminToken), "activate");
+            String token = login(username, PASSWORD);
+
+            String name = "Overload " + runId + " " + i;
+            require(client.call("POST /api/programs", "POST", "/api/programs", Map.of(
+                    "name", name, "description", "Overload test program",
+                    "startDate", start.toString(), "endDate", start.plusDays(6).toString()), token), "create program");
+            var found = require(client.call("GET /api/programs", "GET", "/api/programs?name=" + name.replace(' ', '+'),
+                    null, token), "find program");
+
+            tokens.add(token);
+            programIds.add(found.body().path(0).path("id").asLong());
+        }
+    }
+
+    /** Closed loop: the 2xx rate this app sustains for the mix. */
+    private double calibrate() throws Exception {
+        LatencyStats stats = new LatencyStats();
+        client.useStats(stats);
+        Outcomes outcomes = new Outcomes();
+        long sloNanos = TimeUnit.MILLISECONDS.toNanos(opt.sloMillis());
+
+        ExecutorService pool = Executors.newFixedThreadPool(opt.concurrency());
+        long start = System.nanoTime();
+        long end = start + TimeUnit.SECONDS.toNanos(opt.calibrationSeconds());
+        List<Future<?>> workers = new ArrayList<>();
+        for (int w = 0; w < opt.concurrency(); w++) {
+            workers.add(pool.submit(() -> {
+                while (System.nanoTime() < end) {
+                    Kind kind = pick();
+                    long t0 = System.nanoTime();
+                    int status = send(kind).join();
+                    outcomes.record(kind, status, System.nanoTime() - t0, sloNanos);
+                }
+            }));
+        }
+        for (Future<?> f : workers) f.get();
+        pool.shutdown();
+
+        long wall = System.nanoTime() - start;
+        double seconds = wall / 1e9;
+        stats.print(System.out, "calibration (closed loop, concurrency " + opt.concurrency() + ")", wall);
+        outcomes.print("calibration", seconds);
+
+        long ok = outcomes.byKind.values().stream().mapToLong(c -> c[1].sum()).sum();
+        System.out.printf("capacity ~ %.1f req/s%n", ok / seconds);
+        return ok / seconds;
+    }
+
+    /** Open loop: arrivals on a fixed schedule, independent of how fast the app answers. */
+    private void overload(double rate) {
+        LatencyStats stats = new LatencyStats();
+        client.useStats(stats);
+        Outcomes outcomes = new Outcomes();
+        long sloNanos = TimeUnit.MILLISECONDS.toNanos(opt.sloMillis());
+        Semaphore outstanding = new Semaphore(opt.maxOutstanding());
+
+        long interval = (long) (1e9 / rate);
+        long start = System.nanoTime();
+        long end = start + TimeUnit.SECONDS.toNanos(opt.overloadSeconds());
+        List<CompletableFuture<Void>> inFlight = new ArrayList<>();
+
+        for (long next = start; next < end; next += interval) {
+            long wait = next - System.nanoTime();
+            if (wait > 0) LockSupport.parkNanos(wait);
+
+            Kind kind = pick();
+            if (!outstanding.tryAcquire()) {
+                outcomes.dropped(kind);
+                continue;
+            }
+            long scheduled = next;
+            inFlight.add(send(kind).thenAccept(status -> {
+                // latency from the scheduled arrival: a late sender does not hide queueing (coordinated omission)
+                outcomes.record(kind, status, System.nanoTime() - scheduled, sloNanos);
+                outstanding.release();
+            }));
+            if (inFlight.size() >= 10_000) inFlight.removeIf(CompletableFuture::isDone);
+        }
+        CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new)).join();
+
+        long wall = System.nanoTime() - start;
+        stats.print(System.out, String.format("overload (open loop, %.0f req/s offered)", rate), wall);
+        outcomes.print(String.format("overload x%.1f", opt.factor()), opt.overloadSeconds());
+    }
+
+    // -------------------------
+    // helpers
+    // -------------------------
+
+    private Kind pick() {
+        int p = ThreadLocalRandom.current().nextInt(100);
+        if (p < opt.publicPercent()) return Kind.PUBLIC;
+        if (p < opt.publicPercent() + opt.readPercent()) return Kind.READ;
+        return Kind.WRITE;
+    }
+
+    private CompletableFuture<Integer> send(Kind kind) {
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+        int u = rnd.nextInt(tokens.size());
+        String token = tokens.get(u);
+        long programId = programIds.get(u);
+
+        switch (kind) {
+            case PUBLIC:
+                return client.callAsync("PUBLIC GET /api/programs", "GET",
+                        "/api/programs?offset=" + rnd.nextInt(4) * 20 + "&limit=20", null, null);
+            case READ:
+                return rnd.nextBoolean()
+                        ? client.callAsync("READ GET /api/programs/{id}", "GET", "/api/programs/" + programId, null, token)
+                        : client.callAsync("READ GET /api/me", "GET", "/api/me", null, token);
+            default:
+                LocalDate start = LocalDate.now().plusDays(90);
+                return client.callAsync("WRITE PUT /api/programs/{id}", "PUT", "/api/programs/" + programId, Map.of(
+                        "name", "Overload " + runId + " " + u,
+                        "description", "Updated " + rnd.nextInt(1_000_000),
+                        "startDate", start.toString(), "endDate", start.plusDays(6).toString()), token);
+        }
+    }
+
+    private String login(String username, String password) {
+        var res = require(client.call("POST /api/auth/login", "POST", "/api/auth/login",
+                Map.of("username", username, "password", password), null), "login " + username);
+        return res.body().path("token").asText();
+    }
+
+    private static LoadClient.Response require(LoadClient.Response res, String what) {
+        if (!res.ok()) throw new IllegalStateException(what + " failed: HTTP " + res.status() + " " + res.body());
+        return res;
+    }
+}
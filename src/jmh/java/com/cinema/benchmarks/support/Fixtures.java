@@ -0,0 +1,95 @@
+package com.cinema.benchmarks.support;
+
+import com.cinema.domain.entity.Program;
+import com.cinema.domain.entity.Screening;
+import com.cinema.domain.entity.User;
+import com.cinema.domain.entity.value.HashedPassword;
+import com.cinema.domain.entity.value.ProgramId;
+import com.cinema.domain.entity.value.ScreeningId;
+import com.cinema.domain.entity.value.UserId;
+import com.cinema.domain.entity.value.Username;
+import com.cinema.domain.enums.BaseRole;
+import com.cinema.domain.enums.ProgramState;
+import com.cinema.domain.enums.ScreeningState;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Deterministic test data shared by the benchmark suites.
+ */
+public final class Fixtures {
+
+    /** Same value as application.yml so tokens match what the running app issues. */
+    public static final String JWT_SECRET = "MySuperStrongJwtSecretKey1234567890AB";
+
+    /** Pre-hashed; benchmarks never check it, so no BCrypt cost at setup. */
+    private static final HashedPassword PASSWORD =
+            new HashedPassword("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z2zZ3Dbw9qg3N5q1p6z0X1nK");
+
+    private static final String[] GENRES = {
+            "Drama", "Comedy", "Documentary", "Thriller", "Animation", "Horror", "Romance", "Sci-Fi"
+    };
+    private static final String[] WORDS = {
+            "night", "river", "city", "silent", "last", "summer", "light", "road", "winter", "house",
+            "garden", "shadow", "sea", "station", "letters", "mountain", "island", "echo", "glass", "dream"
+    };
+
+    public static final LocalDate FESTIVAL_START = LocalDate.of(2027, 5, 1);
+    public static final LocalDate FESTIVAL_END = LocalDate.of(2027, 5, 14);
+
+    private Fixtures() {}
+
+    public static User user(long id, String username, BaseRole role) {
+        return new User(UserId.of(id), new Username(username), PASSWORD, "Bench " + username, role,
+                true, 0, null, null);
+    }
+
+    public static Program program(long id, long creatorId, ProgramState state, Set<UserId> staff) {
+        return Program.rehydrate(new ProgramId(id), LocalDateTime.of(2027, 1, 1, 9, 0),
+                "Festival " + id, "Benchmark festival", FESTIVAL_START, FESTIVAL_END,
+                UserId.of(creatorId), state, Set.of(UserId.of(creatorId)), staff);
+    }
+
+    /**
+     * Screening in the given state with plausible film fields; SCHEDULED/APPROVED rows get a day and a room,
+     * SCHEDULED rows also get a time slot.
+     */
+    public static Screening screening(long id, ProgramId programId, UserId submitterId, UserId staffId,
+                                      ScreeningState state, Random rnd) {
+        String title = WORDS[rnd.nextInt(WORDS.length)] + " " + WORDS[rnd.nextInt(WORDS.length)] + " " + id;
+        String genre = GENRES[rnd.nextInt(GENRES.length)]
+                + (rnd.nextBoolean() ? ", " + GENRES[rnd.nextInt(GENRES.length)] : "");
+
+        boolean placed = state == ScreeningState.SCHEDULED;
+        LocalDate day = FESTIVAL_START.plusDays(rnd.nextInt(14));
+        LocalDateTime start = placed ? day.atTime(10 + rnd.nextInt(10), 0) : null;
+
+        return Screening.rehydrate(
+                new ScreeningId(id), programId, submitterId,
+                title, genre, "A film about " + title, null,
+                placed ? "Room " + (1 + rnd.nextInt(6)) : null,
+                placed ? day : null,
+                state,
+                staffId,
+                state.ordinal() >= ScreeningState.REVIEWED.ordinal() ? 1 + rnd.nextInt(10) : null,
+                state.ordinal() >= ScreeningState.REVIEWED.ordinal() ? "solid" : null,
+                state == ScreeningState.REJECTED ? "not this year" : null,
+                LocalDate.of(2027, 2, 1),
+                LocalDate.of(2027, 2, 10),
+                state.ordinal() >= ScreeningState.REVIEWED.ordinal() ? LocalDate.of(2027, 3, 1) : null,
+                state.ordinal() >= ScreeningState.FINAL_SUBMITTED.ordinal() ? LocalDate.of(2027, 4, 1) : null,
+                start,
+                placed ? 90 + rnd.nextInt(60) : null
+        );
+    }
+
+    public static Screening withId(Screening s, ScreeningId id) {
+        return Screening.rehydrate(id, s.programId(), s.submitterId(), s.title(), s.genre(), s.description(), s.castNames(),
+                s.room(), s.scheduledTime(), s.state(), s.staffMemberId(), s.reviewScore(), s.reviewComments(),
+                s.rejectionReason(), s.createdTime(), s.submittedTime(), s.reviewedTime(), s.finalSubmittedTime(),
+                s.startTime(), s.durationMinutes());
+    }
+}
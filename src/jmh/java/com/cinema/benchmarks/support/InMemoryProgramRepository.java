@@ -0,0 +1,98 @@
+package com.cinema.benchmarks.support;
+
+import com.cinema.domain.entity.Program;
+import com.cinema.domain.entity.value.ProgramId;
+import com.cinema.domain.entity.value.UserId;
+import com.cinema.domain.enums.ProgramState;
+import com.cinema.domain.port.ProgramRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * ProgramRepository stand-in for benchmarks.
+ * Membership checks go through the domain sets, i.e. the cost the JPA adapter pays after loading the program.
+ */
+public final class InMemoryProgramRepository implements ProgramRepository {
+
+    private final TreeMap<Long, Program> rows = new TreeMap<>();
+    private long sequence = 0;
+
+    @Override
+    public Optional<Program> findById(ProgramId id) {
+        return Optional.ofNullable(rows.get(id.value()));
+    }
+
+    @Override
+    public List<Program> findByCreator(UserId id) {
+        return rows.values().stream().filter(p -> p.creatorUserId().equals(id)).toList();
+    }
+
+    @Override
+    public List<Program> search(String nameContains, ProgramState state, LocalDate fromDate, LocalDate toDate,
+                                int offset, int limit) {
+        String q = nameContains == null ? null : nameContains.trim().toLowerCase(Locale.ROOT);
+        return rows.values().stream()
+                .filter(p -> q == null || q.isEmpty() || p.name().toLowerCase(Locale.ROOT).contains(q))
+                .filter(p -> state == null || p.state() == state)
+                .filter(p -> fromDate == null || !p.endDate().isBefore(fromDate))
+                .filter(p -> toDate == null || !p.startDate().isAfter(toDate))
+                .skip(Math.max(0, offset))
+                .limit(Math.max(0, limit))
+                .toList();
+    }
+
+    @Override
+    public boolean isProgrammer(ProgramId programId, UserId userId) {
+        Program p = rows.get(programId.value());
+        return p != null && p.isProgrammer(userId);
+    }
+
+    @Override
+    public boolean isStaff(ProgramId programId, UserId userId) {
+        Program p = rows.get(programId.value());
+        return p != null && p.isStaff(userId);
+    }
+
+    @Override
+    public Program save(Program program) {
+        Objects.requireNonNull(program);
+        program.pullEvents(); // nobody listens here; keep the aggregate from accumulating them
+        Program stored = program;
+        if (program.id() == null) {
+            stored = Program.rehydrate(new ProgramId(++sequence), program.createdAt(), program.name(),
+                    program.description(), program.startDate(), program.endDate(), program.creatorUserId(),
+                    program.state(), program.programmerIds(), program.staffIds());
+        } else {
+            sequence = Math.max(sequence, program.id().value());
+        }
+        rows.put(stored.id().value(), stored);
+        return stored;
+    }
+
+    @Override
+    public boolean existsByName(String name) {
+        return rows.values().stream().anyMatch(p -> p.name().equalsIgnoreCase(name));
+    }
+
+    @Override
+    public void addProgrammer(ProgramId programId, UserId userId) {
+        Program p = rows.get(programId.value());
+        if (p != null) p.addProgrammer(userId);
+    }
+
+    @Override
+    public void addStaff(ProgramId programId, UserId userId) {
+        Program p = rows.get(programId.value());
+        if (p != null) p.addStaff(userId);
+    }
+
+    @Override
+    public void deleteById(ProgramId id) {
+        rows.remove(id.value());
+    }
+}
@@ -0,0 +1,171 @@
+package com.cinema.benchmarks.support;
+
+import com.cinema.domain.entity.Screening;
+import com.cinema.domain.entity.value.ProgramId;
+import com.cinema.domain.entity.value.ScreeningId;
+import com.cinema.domain.entity.value.UserId;
+import com.cinema.domain.enums.ScreeningState;
+import com.cinema.domain.port.ScreeningRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * ScreeningRepository stand-in for benchmarks: keeps use-case cost visible without JPA/H2 noise.
+ *
+ * Spec:
+ * - Rows ordered by id (like the JPA listings); ids are assigned on save when missing
+ * - Paging is applied after filtering, same contract as the JPA adapter
+ * - Not thread-safe; benchmarks populate it in @Setup and only read afterwards
+ */
+public final class InMemoryScreeningRepository implements ScreeningRepository {
+
+    private final TreeMap<Long, Screening> rows = new TreeMap<>();
+    private long sequence = 0;
+
+    @Override
+    public Optional<Screening> findById(ScreeningId id) {
+        return Optional.ofNullable(rows.get(id.value()));
+    }
+
+    @Override
+    public List<Screening> findByIds(Collection<ScreeningId> ids) {
+        List<Screening> out = new ArrayList<>(ids.size());
+        for (ScreeningId id : ids) {
+            Screening s = rows.get(id.value());
+            if (s != null) out.add(s);
+        }
+        return out;
+    }
+
+    @Override
+    public List<Screening> findByProgram(ProgramId programId, int offset, int limit) {
+        return page(s -> s.programId().equals(programId), offset, limit);
+    }
+
+    @Override
+    public List<Screening> findByProgram(ProgramId programId, ScreeningState state, int offset, int limit) {
+        return page(s -> s.programId().equals(programId) && s.state() == state, offset, limit);
+    }
+
+    @Override
+    public List<Screening> findByProgramAndState(ProgramId programId, ScreeningState state) {
+        return page(s -> s.programId().equals(programId) && s.state() == state, 0, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public long forEachInProgram(ProgramId programId, ScreeningState state, Consumer<Screening> action) {
+        long n = 0;
+        for (Screening s : rows.values()) {
+            if (!s.programId().equals(programId) || (state != null && s.state() != state)) continue;
+            action.accept(s);
+            n++;
+        }
+        return n;
+    }
+
+    @Override
+    public List<Screening> findByState(ScreeningState state) {
+        return page(s -> s.state() == state, 0, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<Screening> findBySubmitter(UserId submitterId, int offset, int limit) {
+        return page(s -> s.submitterId().equals(submitterId), offset, limit);
+    }
+
+    @Override
+    public List<Screening> findBySubmitter(UserId submitterId, ScreeningState state, int offset, int limit) {
+        return page(s -> s.submitterId().equals(submitterId) && s.state() == state, offset, limit);
+    }
+
+    @Override
+    public List<Screening> findByStaffMember(UserId staffId, int offset, int limit) {
+        return page(s -> staffId.equals(s.staffMemberId()), offset, limit);
+    }
+
+    @Override
+    public boolean existsByProgramIdAndSubmitterId(ProgramId programId, UserId submitterId) {
+        return rows.values().stream()
+                .anyMatch(s -> s.programId().equals(programId) && s.submitterId().equals(submitterId));
+    }
+
+    @Override
+    public long countByProgramAndState(ProgramId programId, ScreeningState state) {
+        return rows.values().stream()
+                .filter(s -> s.programId().equals(programId) && s.state() == state)
+                .count();
+    }
+
+    @Override
+    public Map<UserId, Long> countAssignedByStaff(ProgramId programId) {
+        Map<UserId, Long> out = new HashMap<>();
+        for (Screening s : rows.values()) {
+            if (s.programId().equals(programId) && s.staffMemberId() != null) {
+                out.merge(s.staffMemberId(), 1L, Long::sum);
+            }
+        }
+        return out;
+    }
+
+    @Override
+    public Screening save(Screening screening) {
+        Objects.requireNonNull(screening);
+        screening.pullEvents(); // nobody listens here; keep the aggregate from accumulating them
+        Screening stored = screening;
+        if (screening.id() == null) {
+            stored = Fixtures.withId(screening, new ScreeningId(++sequence));
+        } else {
+            sequence = Math.max(sequence, screening.id().value());
+        }
+        rows.put(stored.id().value(), stored);
+        return stored;
+    }
+
+    @Override
+    public List<Screening> saveAll(List<Screening> screenings) {
+        List<Screening> out = new ArrayList<>(screenings.size());
+        for (Screening s : screenings) out.add(save(s));
+        return out;
+    }
+
+    @Override
+    public int insertAll(List<Screening> screenings) {
+        for (Screening s : screenings) save(s);
+        return screenings.size();
+    }
+
+    @Override
+    public void deleteById(ScreeningId id) {
+        rows.remove(id.value());
+    }
+
+    @Override
+    public void onChangedElsewhere(Consumer<ProgramId> listener) {
+        // single process: nothing is written elsewhere
+    }
+
+    public int size() {
+        return rows.size();
+    }
+
+    private List<Screening> page(Predicate<Screening> filter, int offset, int limit) {
+        List<Screening> out = new ArrayList<>();
+        int skipped = 0;
+        for (Screening s : rows.values()) {
+            if (!filter.test(s)) continue;
+            if (skipped++ < offset) continue;
+            out.add(s);
+            if (out.size() >= limit) break;
+        }
+        return out;
+    }
+}
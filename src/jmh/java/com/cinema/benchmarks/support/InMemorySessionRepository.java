@@ -0,0 +1,56 @@
+package com.cinema.benchmarks.support;
+
+import com.cinema.domain.entity.value.UserId;
+import com.cinema.domain.port.SessionRepository;
+import com.cinema.infrastructure.repository.SessionIndex;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * SessionRepository stand-in for benchmarks: the production SessionIndex without the user_sessions table.
+ */
+public final class InMemorySessionRepository implements SessionRepository {
+
+    private final SessionIndex index = new SessionIndex();
+
+    @Override
+    public List<String> open(UserId userId, String sessionId, String jti, int maxPerUser, Instant now) {
+        List<String> evicted = index.leastRecentlyUsed(userId.value(), maxPerUser - 1);
+        evicted.forEach(index::drop);
+        index.add(sessionId, userId.value(), jti, now.toEpochMilli());
+        return evicted;
+    }
+
+    @Override
+    public boolean isActive(UserId userId, String jti) {
+        return index.isActive(userId.value(), jti);
+    }
+
+    @Override
+    public boolean rotate(String sessionId, String nextJti, Instant now) {
+        index.moveTo(sessionId, nextJti, now.toEpochMilli());
+        return true;
+    }
+
+    @Override
+    public boolean revoke(String sessionId) {
+        index.drop(sessionId);
+        return true;
+    }
+
+    @Override
+    public boolean revokeByJti(UserId userId, String jti) {
+        String sessionId = index.sessionOf(userId.value(), jti);
+        if (sessionId == null) return false;
+        index.drop(sessionId);
+        return true;
+    }
+
+    @Override
+    public int revokeAll(UserId userId) {
+        List<String> ids = index.sessionIds(userId.value());
+        ids.forEach(index::drop);
+        return ids.size();
+    }
+}
@@ -0,0 +1,91 @@
+package com.cinema.benchmarks.support;
+
+import com.cinema.domain.entity.User;
+import com.cinema.domain.entity.value.UserId;
+import com.cinema.domain.entity.value.Username;
+import com.cinema.domain.enums.BaseRole;
+import com.cinema.domain.port.UserRepository;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * UserRepository stand-in for benchmarks (thread-safe: the filter benchmarks read it from several threads).
+ */
+public final class InMemoryUserRepository implements UserRepository {
+
+    private final Map<Long, User> rows = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<User> findById(UserId id) {
+        return Optional.ofNullable(rows.get(id.value()));
+    }
+
+    @Override
+    public Optional<User> findByUserName(Username username) {
+        return rows.values().stream().filter(u -> u.username().equals(username)).findFirst();
+    }
+
+    @Override
+    public List<User> findAll() {
+        return List.copyOf(rows.values());
+    }
+
+    @Override
+    public List<User> findByRole(BaseRole role) {
+        return rows.values().stream().filter(u -> u.baseRole() == role).toList();
+    }
+
+    @Override
+    public long countByRole(BaseRole role) {
+        return rows.values().stream().filter(u -> u.baseRole() == role).count();
+    }
+
+    @Override
+    public User Save(User user) {
+        Objects.requireNonNull(user.id(), "benchmark users carry their id");
+        rows.put(user.id().value(), user);
+        return user;
+    }
+
+    @Override
+    public void deleteById(UserId id) {
+        rows.remove(id.value());
+    }
+
+    @Override
+    public boolean existsByUsername(Username username) {
+        return findByUserName(username).isPresent();
+    }
+
+    @Override
+    public List<User> findPage(DirectoryFilter filter, Long beforeId, int limit) {
+        return rows.values().stream()
+                .filter(matches(filter))
+                .filter(u -> beforeId == null || u.id().value() < beforeId)
+                .sorted(Comparator.comparing((User u) -> u.id().value()).reversed())
+                .limit(Math.max(limit, 0))
+                .toList();
+    }
+
+    @Override
+    public long count(DirectoryFilter filter) {
+        return rows.values().stream().filter(matches(filter)).count();
+    }
+
+    private static Predicate<User> matches(DirectoryFilter f) {
+        if (f == null) return u -> true;
+        String prefix = f.usernamePrefix() != null ? f.usernamePrefix().trim().toLowerCase(Locale.ROOT) : null;
+        return u -> (f.role() == null || u.baseRole() == f.role())
+                && (f.active() == null || u.isActive() == f.active())
+                && (prefix == null || u.username().value().toLowerCase(Locale.ROOT).startsWith(prefix))
+                && (f.lastLoginFrom() == null || (u.lastLoginAt() != null && !u.lastLoginAt().isBefore(f.lastLoginFrom())))
+                && (f.lastLoginTo() == null || (u.lastLoginAt() != null && u.lastLoginAt().isBefore(f.lastLoginTo())));
+    }
+}
@@ -5,11 +5,13 @@ import com.cinema.domain.entity.value.UserId;
 import com.cinema.domain.enums.ProgramState;
 import com.cinema.domain.port.ProgramRepository;
 import com.cinema.domain.port.ScreeningRepository;
+import com.cinema.domain.port.SearchResultCache;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
 
 @Service
@@ -17,10 +19,13 @@ public class SearchProgramsUseCase {
 
     private final ProgramRepository programRepository;
     private final ScreeningRepository screeningRepository;
+    private final SearchResultCache resultCache;
 
-    public SearchProgramsUseCase(ProgramRepository programRepository, ScreeningRepository screeningRepository) {
+    public SearchProgramsUseCase(ProgramRepository programRepository, ScreeningRepository screeningRepository,
+                                 SearchResultCache resultCache) {
         this.programRepository = Objects.requireNonNull(programRepository);
         this.screeningRepository = Objects.requireNonNull(screeningRepository);
+        this.resultCache = Objects.requireNonNull(resultCache);
     }
 
     /**
@@ -30,6 +35,8 @@ public class SearchProgramsUseCase {
      * - SUBMITTER: can see programs where they have submitted/created screenings; otherwise VISITOR rights.
      *
      * Sorting: by date then name.
+     * - VISITOR searches are cached per normalized query (SearchResultCache, invalidated by any program write);
+     *   authenticated views depend on the actor's memberships and submissions and are computed every time
      */
     public List<Program> search(
             UserId actorId,
@@ -43,6 +50,21 @@ public class SearchProgramsUseCase {
         int safeOffset = Math.max(0, offset);
         int safeLimit = Math.max(1, Math.min(limit, 200));
 
+        if (actorId == null) {
+            long stamp = resultCache.catalogStamp(); // before the read
+            String key = cacheKey(name, state, from, to, safeOffset, safeLimit);
+            var cached = resultCache.programs(key);
+            if (cached.isPresent()) return cached.get();
+
+            List<Program> result = compute(null, name, state, from, to, safeOffset, safeLimit);
+            resultCache.putPrograms(key, result, stamp);
+            return result;
+        }
+        return compute(actorId, name, state, from, to, safeOffset, safeLimit);
+    }
+
+    private List<Program> compute(UserId actorId, String name, ProgramState state, LocalDate from, LocalDate to,
+                                 int safeOffset, int safeLimit) {
         // fetch more, then role-filter, then page
         int fetchOffset = 0;
         int fetchLimit = safeOffset + safeLimit + 200;
@@ -57,6 +79,20 @@ public class SearchProgramsUseCase {
                 .toList();
     }
 
+    /** Same normalization as ProgramRepository.search (trimmed, lower case); fields are length-prefixed. */
+    private String cacheKey(String name, ProgramState state, LocalDate from, LocalDate to, int offset, int limit) {
+        StringBuilder key = new StringBuilder("VISITOR");
+        for (String field : List.of(
+                name == null ? "" : name.trim().toLowerCase(Locale.ROOT),
+                state == null ? "" : state.name(),
+                from == null ? "" : from.toString(),
+                to == null ? "" : to.toString(),
+                offset + "/" + limit)) {
+            key.append(' ').append(field.length()).append(':').append(field);
+        }
+        return key.toString();
+    }
+
     private boolean canSee(UserId actorId, Program p) {
         // VISITOR: only announced
         if (actorId == null) {
@@ -0,0 +1,235 @@
+package com.cinema.application.screenings;
+
+import com.cinema.domain.entity.Screening;
+import com.cinema.domain.entity.value.ProgramId;
+import com.cinema.domain.entity.value.ScreeningId;
+import com.cinema.domain.enums.ScreeningState;
+import com.cinema.domain.port.ScreeningRepository;
+import com.cinema.domain.service.AuditoriumSchedule;
+import com.cinema.domain.service.AuditoriumSchedule.Slot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Shared, in-memory view of which auditorium is booked when.
+ *
+ * Spec:
+ * - Built lazily from the time slots of all SCHEDULED screenings; date-only scheduling (ScheduleScreeningUseCase,
+ *   BulkScheduleScreeningsUseCase) has no time and is not booked here
+ * - Stored slots that overlap one already indexed (legacy rows, or a cross-node clash) are logged and kept
+ *   aside: they still count as conflicts and for nextFree(), and move into the index once their rival is gone
+ * - reserve(): checked and applied under the write lock, undone if the surrounding transaction rolls back;
+ *   the undo removes only the slot this call inserted (if still there) and puts back a replaced slot only
+ *   where it still fits, so it never touches another transaction's booking and never throws
+ * - release(): applied only after the surrounding transaction commits
+ * - Timetable commits book the screening plus its turnover (CommitTimetableUseCase); slots rebuilt from the
+ *   database (first use, cross-node reload) cover the screening itself, as no turnover is stored
+ * - Other nodes keep their own calendar: every schedule / unschedule / timetable commit saves screenings, which
+ *   publishes a SCREENINGS invalidation for the program; on arrival the program's slots are reloaded from the
+ *   database (under the write lock, so local commits cannot interleave). Slots of transactions still in flight
+ *   here are left alone. Best effort: two nodes booking the same room within one flush interval can still clash
+ */
+@Component
+public class AuditoriumCalendar {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditoriumCalendar.class);
+
+    private final ScreeningRepository screeningRepository;
+    private final AuditoriumSchedule schedule = new AuditoriumSchedule();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Set<ScreeningId> inFlight = new HashSet<>(); // guarded by the write lock
+    private final Map<ScreeningId, Slot> collisions = new LinkedHashMap<>(); // guarded by the lock
+    private volatile boolean loaded;
+
+    public AuditoriumCalendar(ScreeningRepository screeningRepository) {
+        this.screeningRepository = Objects.requireNonNull(screeningRepository);
+        screeningRepository.onChangedElsewhere(this::reload);
+    }
+
+    public Optional<Slot> conflict(String room, LocalDateTime start, LocalDateTime end) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            Optional<Slot> clash = schedule.conflict(room, start, end);
+            return clash.isPresent() ? clash : collidingWith(room, start, end);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Optional<LocalDateTime> nextFree(String room, LocalDateTime from, int minutes, LocalDateTime notAfter) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            Optional<LocalDateTime> free = schedule.nextFree(room, from, minutes, notAfter);
+            // the few slots kept aside push the candidate past them; re-check the index from there
+            while (free.isPresent()) {
+                LocalDateTime start = free.get();
+                Optional<Slot> aside = collidingWith(room, start, start.plusMinutes(minutes));
+                if (aside.isEmpty()) break;
+                free = schedule.nextFree(room, aside.get().end(), minutes, notAfter);
+            }
+            return free;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<Slot> snapshot() {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            List<Slot> slots = new ArrayList<>(schedule.slots());
+            slots.addAll(collisions.values());
+            return slots;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** Books the slot or throws IllegalStateException naming the conflicting screening. */
+    public Slot reserve(ScreeningId screeningId, String room, LocalDateTime start, int minutes) {
+        ensureLoaded();
+        Slot slot = new Slot(screeningId, room.trim(), start, start.plusMinutes(minutes));
+
+        boolean inTransaction = TransactionSynchronizationManager.isSynchronizationActive();
+        Optional<Slot> previous;
+        Optional<Slot> setAside;
+        lock.writeLock().lock();
+        try {
+            Optional<Slot> aside = collidingWith(slot.room(), slot.start(), slot.end());
+            if (aside.isPresent() && !aside.get().screeningId().equals(screeningId)) {
+                throw new IllegalStateException("Room is already booked by screening " + aside.get().screeningId().value()
+                        + " (" + aside.get().start() + " - " + aside.get().end() + ")");
+            }
+            previous = schedule.reserve(slot);
+            setAside = Optional.ofNullable(collisions.remove(screeningId));
+            if (inTransaction) inFlight.add(screeningId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        if (inTransaction) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    lock.writeLock().lock();
+                    try {
+                        inFlight.remove(screeningId);
+                        if (status != STATUS_COMMITTED && schedule.releaseExact(slot)) {
+                            previous.ifPresent(schedule::tryReserve);
+                            setAside.ifPresent(s -> collisions.put(screeningId, s));
+                            promote();
+                        }
+                    } finally {
+                        lock.writeLock().unlock();
+                    }
+                }
+            });
+        }
+        return slot;
+    }
+
+    public void release(ScreeningId screeningId) {
+        afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                remove(screeningId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    private void ensureLoaded() {
+        if (loaded) return;
+        lock.writeLock().lock();
+        try {
+            if (loaded) return;
+            for (Screening s : screeningRepository.findByState(ScreeningState.SCHEDULED)) {
+                slotOf(s).ifPresent(this::index);
+            }
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** The program's screenings were written on another node: its slots become what the database says. */
+    private void reload(ProgramId programId) {
+        if (!loaded) return; // the first use loads everything anyway
+        lock.writeLock().lock();
+        try {
+            screeningRepository.forEachInProgram(programId, null, s -> {
+                if (inFlight.contains(s.id())) return;
+                remove(s.id());
+                if (s.state() == ScreeningState.SCHEDULED) slotOf(s).ifPresent(this::index);
+            });
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Indexes a stored slot; one overlapping the index is reported and kept aside (write lock held). */
+    private void index(Slot slot) {
+        if (schedule.tryReserve(slot)) return;
+        Slot rival = schedule.conflict(slot.room(), slot.start(), slot.end()).orElseThrow();
+        collisions.put(slot.screeningId(), slot);
+        log.warn("Screening {} is booked in {} ({} - {}) over screening {} ({} - {}); kept aside until resolved",
+                slot.screeningId().value(), slot.room(), slot.start(), slot.end(),
+                rival.screeningId().value(), rival.start(), rival.end());
+    }
+
+    /** Drops the screening's slot; slots kept aside that now fit move into the index (write lock held). */
+    private void remove(ScreeningId screeningId) {
+        collisions.remove(screeningId);
+        if (schedule.release(screeningId).isPresent()) promote();
+    }
+
+    private void promote() {
+        if (!collisions.isEmpty()) collisions.values().removeIf(schedule::tryReserve);
+    }
+
+    private Optional<Slot> collidingWith(String room, LocalDateTime start, LocalDateTime end) {
+        String key = AuditoriumSchedule.roomKey(room);
+        for (Slot aside : collisions.values()) {
+            if (AuditoriumSchedule.roomKey(aside.room()).equals(key)
+                    && aside.start().isBefore(end) && aside.end().isAfter(start)) {
+                return Optional.of(aside);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<Slot> slotOf(Screening s) {
+        if (!s.hasTimeSlot()) return Optional.empty(); // date-only scheduling books no time
+        return Optional.of(new Slot(s.id(), s.room(), s.startTime(), s.endTime()));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,185 @@
+package com.cinema.application.screenings;
+
+import com.cinema.domain.Exceptions.AuthorizationException;
+import com.cinema.domain.Exceptions.NotFoundException;
+import com.cinema.domain.Exceptions.ValidationException;
+import com.cinema.domain.entity.Program;
+import com.cinema.domain.entity.Screening;
+import com.cinema.domain.entity.value.ProgramId;
+import com.cinema.domain.entity.value.ScreeningId;
+import com.cinema.domain.entity.value.UserId;
+import com.cinema.domain.enums.ProgramState;
+import com.cinema.domain.enums.ScreeningState;
+import com.cinema.domain.port.ProgramRepository;
+import com.cinema.domain.port.ScreeningRepository;
+import jakarta.transaction.Transactional;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class BulkAssignHandlersUseCase {
+
+    public static final int MAX_ITEMS = 1000;
+
+    private final ScreeningRepository screeningRepository;
+    private final ProgramRepository programRepository;
+
+    public BulkAssignHandlersUseCase(ScreeningRepository screeningRepository,
+                                     ProgramRepository programRepository) {
+        this.screeningRepository = Objects.requireNonNull(screeningRepository);
+        this.programRepository = Objects.requireNonNull(programRepository);
+    }
+
+    /** staffId == null -> pick a handler (balance mode only). */
+    public record Assignment(ScreeningId screeningId, UserId staffId) {}
+
+    /**
+     * Spec:
+     * - Only PROGRAMMER of the program (checked once for the whole batch)
+     * - Only when program is in ASSIGNMENT (checked once)
+     * - Per item: same rules as AssignHandlerUseCase (SUBMITTED, STAFF member, no handler yet, submitter != handler)
+     * - Invalid items are reported and skipped; valid ones are written in one transaction
+     * - balance=true: items without staffId go to the least loaded STAFF member of the program
+     */
+    @Transactional
+    public List<BulkItemResult> assignHandlers(UserId callerId, ProgramId programId,
+                                               List<Assignment> assignments, boolean balance) {
+        if (callerId == null) throw new AuthorizationException("Unauthorized");
+        if (programId == null) throw new ValidationException("programId", "programId is required");
+        if (assignments == null || assignments.isEmpty()) {
+            throw new ValidationException("items", "At least one assignment is required");
+        }
+        if (assignments.size() > MAX_ITEMS) {
+            throw new ValidationException("items", "At most " + MAX_ITEMS + " assignments per request");
+        }
+
+        Program program = programRepository.findById(programId)
+                .orElseThrow(() -> new NotFoundException("Program", "Program not found"));
+
+        if (!program.isProgrammer(callerId)) {
+            throw new AuthorizationException("Only PROGRAMMER of the program can assign handlers");
+        }
+        if (program.state() != ProgramState.ASSIGNMENT) {
+            throw new ValidationException("programState", "Handler assignment allowed only in ASSIGNMENT");
+        }
+
+        Map<ScreeningId, Screening> byId = screeningRepository.findByIds(
+                        assignments.stream().map(Assignment::screeningId).filter(Objects::nonNull).toList())
+                .stream()
+                .collect(Collectors.toMap(Screening::id, Function.identity()));
+
+        StaffLoad load = balance
+                ? new StaffLoad(program.staff(), screeningRepository.countAssignedByStaff(programId))
+                : null;
+
+        List<BulkItemResult> results = new ArrayList<>(assignments.size());
+        List<Screening> toSave = new ArrayList<>();
+        Set<ScreeningId> seen = new HashSet<>();
+
+        for (Assignment a : assignments) {
+            ScreeningId sid = a == null ? null : a.screeningId();
+            if (sid == null || sid.value() == null) {
+                results.add(BulkItemResult.failed(sid, "screeningId", "screeningId is required"));
+                continue;
+            }
+            if (!seen.add(sid)) {
+                results.add(BulkItemResult.failed(sid, "screeningId", "Duplicate screening in request"));
+                continue;
+            }
+
+            Screening screening = byId.get(sid);
+            if (screening == null || !screening.programId().equals(programId)) {
+                results.add(BulkItemResult.failed(sid, "screeningId", "Screening not found in program"));
+                continue;
+            }
+            if (screening.state() != ScreeningState.SUBMITTED) {
+                results.add(BulkItemResult.failed(sid, "screeningState",
+                        "Only SUBMITTED screenings can receive handler assignment"));
+                continue;
+            }
+            if (screening.staffMemberId() != null) {
+                results.add(BulkItemResult.failed(sid, "handler", "Handler already assigned"));
+                continue;
+            }
+
+            UserId staffId = a.staffId();
+            if (staffId == null) {
+                if (load == null) {
+                    results.add(BulkItemResult.failed(sid, "staffId", "staffId is required"));
+                    continue;
+                }
+                staffId = load.leastLoadedExcept(screening.submitterId());
+                if (staffId == null) {
+                    results.add(BulkItemResult.failed(sid, "staffId", "No eligible STAFF member in program"));
+                    continue;
+                }
+            } else {
+                if (!program.isStaff(staffId)) {
+                    results.add(BulkItemResult.failed(sid, "staffId", "User is not STAFF of this program"));
+                    continue;
+                }
+                if (screening.submitterId().equals(staffId)) {
+                    results.add(BulkItemResult.failed(sid, "staffId",
+                            "Submitter cannot be assigned as STAFF handler"));
+                    continue;
+                }
+            }
+
+            screening.assignHandler(staffId);
+            if (load != null) load.increment(staffId);
+
+            toSave.add(screening);
+            results.add(BulkItemResult.ok(screening));
+        }
+
+        screeningRepository.saveAll(toSave);
+        return results;
+    }
+
+    /**
+     * Min-heap of STAFF members by current handler count (ties -> lower user id).
+     * Explicit assignments in the same batch also count towards the load.
+     */
+    private static final class StaffLoad {
+
+        private final Map<UserId, Long> counts = new HashMap<>();
+        private final PriorityQueue<UserId> heap;
+
+        StaffLoad(Set<UserId> staff, Map<UserId, Long> current) {
+            for (UserId s : staff) counts.put(s, current.getOrDefault(s, 0L));
+            this.heap = new PriorityQueue<>(
+                    Comparator.<UserId>comparingLong(counts::get).thenComparing(UserId::value));
+            heap.addAll(counts.keySet());
+        }
+
+        UserId leastLoadedExcept(UserId excluded) {
+            UserId head = heap.peek();
+            if (head == null) return null;
+            if (!head.equals(excluded)) return head;
+
+            // the submitter is the least loaded one: take the next candidate
+            heap.poll();
+            UserId next = heap.peek();
+            heap.add(head);
+            return next;
+        }
+
+        void increment(UserId staffId) {
+            if (!counts.containsKey(staffId)) return;
+            heap.remove(staffId);
+            counts.merge(staffId, 1L, Long::sum);
+            heap.add(staffId);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.cinema.application.screenings;
+
+import com.cinema.domain.entity.Screening;
+import com.cinema.domain.entity.value.ScreeningId;
+
+/**
+ * Per-item outcome of a bulk screening command.
+ * - ok: screening holds the updated state
+ * - failed: field/message describe why the item was skipped (same shape as ValidationException)
+ */
+public record BulkItemResult(ScreeningId screeningId, Screening screening, String field, String message) {
+
+    public static BulkItemResult ok(Screening screening) {
+        return new BulkItemResult(screening.id(), screening, null, null);
+    }
+
+    public static BulkItemResult failed(ScreeningId screeningId, String field, String message) {
+        return new BulkItemResult(screeningId, null, field, message);
+    }
+
+    public boolean succeeded() {
+        return screening != null;
+    }
+}
@@ -0,0 +1,126 @@
+package com.cinema.application.screenings;
+
+import com.cinema.domain.Exceptions.AuthorizationException;
+import com.cinema.domain.Exceptions.NotFoundException;
+import com.cinema.domain.Exceptions.ValidationException;
+import com.cinema.domain.entity.Program;
+import com.cinema.domain.entity.Screening;
+import com.cinema.domain.entity.value.ProgramId;
+import com.cinema.domain.entity.value.ScreeningId;
+import com.cinema.domain.entity.value.UserId;
+import com.cinema.domain.enums.ProgramState;
+import com.cinema.domain.enums.ScreeningState;
+import com.cinema.domain.port.ProgramRepository;
+import com.cinema.domain.port.ScreeningRepository;
+import jakarta.transaction.Transactional;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class BulkReviewScreeningsUseCase {
+
+    public static final int MAX_ITEMS = 1000;
+
+    private final ScreeningRepository screeningRepository;
+    private final ProgramRepository programRepository;
+
+    public BulkReviewScreeningsUseCase(ScreeningRepository screeningRepository,
+                                       ProgramRepository programRepository) {
+        this.screeningRepository = Objects.requireNonNull(screeningRepository);
+        this.programRepository = Objects.requireNonNull(programRepository);
+    }
+
+    public record ReviewItem(ScreeningId screeningId, Integer score, String comments) {}
+
+    /**
+     * Spec:
+     * - Only STAFF of the program, only in program REVIEW state (checked once for the whole batch)
+     * - Per item: caller must be the assigned handler, screening must be SUBMITTED, score 0..10
+     * - Invalid items are reported and skipped; valid ones are written in one transaction
+     */
+    @Transactional
+    public List<BulkItemResult> review(UserId staffId, ProgramId programId, List<ReviewItem> items) {
+        if (staffId == null) throw new AuthorizationException("Unauthorized");
+        if (programId == null) throw new ValidationException("programId", "programId is required");
+        if (items == null || items.isEmpty()) {
+            throw new ValidationException("items", "At least one review is required");
+        }
+        if (items.size() > MAX_ITEMS) {
+            throw new ValidationException("items", "At most " + MAX_ITEMS + " reviews per request");
+        }
+
+        Program program = programRepository.findById(programId)
+                .orElseThrow(() -> new NotFoundException("Program", "Program not found"));
+
+        if (!program.isStaff(staffId)) {
+            throw new AuthorizationException("Only STAFF of the program can review screenings");
+        }
+        if (program.state() != ProgramState.REVIEW) {
+            throw new ValidationException("programState", "Reviews are allowed only in REVIEW state");
+        }
+
+        Map<ScreeningId, Screening> byId = screeningRepository.findByIds(
+                        items.stream().map(i -> i == null ? null : i.screeningId()).filter(Objects::nonNull).toList())
+                .stream()
+                .collect(Collectors.toMap(Screening::id, Function.identity()));
+
+        List<BulkItemResult> results = new ArrayList<>(items.size());
+        List<Screening> toSave = new ArrayList<>();
+        Set<ScreeningId> seen = new HashSet<>();
+
+        for (ReviewItem item : items) {
+            ScreeningId sid = item == null ? null : item.screeningId();
+            if (sid == null || sid.value() == null) {
+                results.add(BulkItemResult.failed(sid, "screeningId", "screeningId is required"));
+                continue;
+            }
+            if (!seen.add(sid)) {
+                results.add(BulkItemResult.failed(sid, "screeningId", "Duplicate screening in request"));
+                continue;
+            }
+
+            Screening screening = byId.get(sid);
+            if (screening == null || !screening.programId().equals(programId)) {
+                results.add(BulkItemResult.failed(sid, "screeningId", "Screening not found in program"));
+                continue;
+            }
+            if (!screening.isAssignedTo(staffId)) {
+                results.add(BulkItemResult.failed(sid, "handler", "Only assigned STAFF can review this screening"));
+                continue;
+            }
+            if (screening.state() == ScreeningState.REVIEWED) {
+                results.add(BulkItemResult.failed(sid, "screeningState", "Screening already reviewed"));
+                continue;
+            }
+            if (screening.state() != ScreeningState.SUBMITTED) {
+                results.add(BulkItemResult.failed(sid, "screeningState", "Only SUBMITTED screenings can be reviewed"));
+                continue;
+            }
+            if (item.score() == null) {
+                results.add(BulkItemResult.failed(sid, "score", "score is required"));
+                continue;
+            }
+
+            try {
+                screening.review(item.score(), item.comments());
+            } catch (IllegalStateException | IllegalArgumentException ex) {
+                results.add(BulkItemResult.failed(sid, "screening", ex.getMessage()));
+                continue;
+            }
+
+            toSave.add(screening);
+            results.add(BulkItemResult.ok(screening));
+        }
+
+        screeningRepository.saveAll(toSave);
+        return results;
+    }
+}
@@ -0,0 +1,129 @@
+package com.cinema.application.screenings;
+
+import com.cinema.domain.Exceptions.AuthorizationException;
+import com.cinema.domain.Exceptions.NotFoundException;
+import com.cinema.domain.Exceptions.ValidationException;
+import com.cinema.domain.entity.Program;
+import com.cinema.domain.entity.Screening;
+import com.cinema.domain.entity.value.ProgramId;
+import com.cinema.domain.entity.value.ScreeningId;
+import com.cinema.domain.entity.value.UserId;
+import com.cinema.domain.enums.ProgramState;
+import com.cinema.domain.enums.ScreeningState;
+import com.cinema.domain.port.ProgramRepository;
+import com.cinema.domain.port.ScreeningRepository;
+import jakarta.transaction.Transactional;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class BulkScheduleScreeningsUseCase {
+
+    public static final int MAX_ITEMS = 1000;
+
+    private final ScreeningRepository screeningRepository;
+    private final ProgramRepository programRepository;
+
+    public BulkScheduleScreeningsUseCase(ScreeningRepository screeningRepository,
+                                         ProgramRepository programRepository) {
+        this.screeningRepository = Objects.requireNonNull(screeningRepository);
+        this.programRepository = Objects.requireNonNull(programRepository);
+    }
+
+    public record ScheduleItem(ScreeningId screeningId, LocalDate date, String room) {}
+
+    /**
+     * Spec:
+     * - Only PROGRAMMER (or creator) of the program, only in DECISION (checked once for the whole batch)
+     * - Per item: screening must be FINAL_SUBMITTED, date and room required
+     * - Invalid items are reported and skipped; valid ones are written in one transaction
+     */
+    @Transactional
+    public List<BulkItemResult> schedule(UserId actorId, ProgramId programId, List<ScheduleItem> items) {
+        if (actorId == null) throw new AuthorizationException("Unauthorized");
+        if (programId == null) throw new ValidationException("programId", "programId is required");
+        if (items == null || items.isEmpty()) {
+            throw new ValidationException("items", "At least one screening is required");
+        }
+        if (items.size() > MAX_ITEMS) {
+            throw new ValidationException("items", "At most " + MAX_ITEMS + " screenings per request");
+        }
+
+        Program program = programRepository.findById(programId)
+                .orElseThrow(() -> new NotFoundException("Program", "Program not found"));
+
+        boolean isProgrammer = program.isProgrammer(actorId) || program.creatorUserId().equals(actorId);
+        if (!isProgrammer) {
+            throw new AuthorizationException("Only PROGRAMMER of this program can schedule screenings");
+        }
+        if (program.state() != ProgramState.DECISION) {
+            throw new ValidationException("programState", "Scheduling allowed only in DECISION");
+        }
+
+        Map<ScreeningId, Screening> byId = screeningRepository.findByIds(
+                        items.stream().map(i -> i == null ? null : i.screeningId()).filter(Objects::nonNull).toList())
+                .stream()
+                .collect(Collectors.toMap(Screening::id, Function.identity()));
+
+        List<BulkItemResult> results = new ArrayList<>(items.size());
+        List<Screening> toSave = new ArrayList<>();
+        Set<ScreeningId> seen = new HashSet<>();
+
+        for (ScheduleItem item : items) {
+            ScreeningId sid = item == null ? null : item.screeningId();
+            if (sid == null || sid.value() == null) {
+                results.add(BulkItemResult.failed(sid, "screeningId", "screeningId is required"));
+                continue;
+            }
+            if (!seen.add(sid)) {
+                results.add(BulkItemResult.failed(sid, "screeningId", "Duplicate screening in request"));
+                continue;
+            }
+            if (item.date() == null) {
+                results.add(BulkItemResult.failed(sid, "date", "date is required"));
+                continue;
+            }
+            if (item.room() == null || item.room().isBlank()) {
+                results.add(BulkItemResult.failed(sid, "room", "room is required"));
+                continue;
+            }
+
+            Screening screening = byId.get(sid);
+            if (screening == null || !screening.programId().equals(programId)) {
+                results.add(BulkItemResult.failed(sid, "screeningId", "Screening not found in program"));
+                continue;
+            }
+            if (screening.state() == ScreeningState.SCHEDULED) {
+                results.add(BulkItemResult.failed(sid, "screeningState", "Screening already scheduled"));
+                continue;
+            }
+            if (screening.state() != ScreeningState.FINAL_SUBMITTED) {
+                results.add(BulkItemResult.failed(sid, "screeningState",
+                        "Only FINAL_SUBMITTED screenings can be scheduled"));
+                continue;
+            }
+
+            try {
+                screening.schedule(item.date(), item.room());
+            } catch (IllegalStateException | IllegalArgumentException ex) {
+                results.add(BulkItemResult.failed(sid, "screening", ex.getMessage()));
+                continue;
+            }
+
+            toSave.add(screening);
+            results.add(BulkItemResult.ok(screening));
+        }
+
+        screeningRepository.saveAll(toSave);
+        return results;
+    }
+}
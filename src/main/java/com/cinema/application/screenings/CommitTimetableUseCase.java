@@ -0,0 +1,123 @@
+package com.cinema.application.screenings;
+
+import com.cinema.domain.Exceptions.AuthorizationException;
+import com.cinema.domain.Exceptions.NotFoundException;
+import com.cinema.domain.Exceptions.ValidationException;
+import com.cinema.domain.entity.Program;
+import com.cinema.domain.entity.Screening;
+import com.cinema.domain.entity.value.ProgramId;
+import com.cinema.domain.entity.value.ScreeningId;
+import com.cinema.domain.entity.value.UserId;
+import com.cinema.domain.enums.ProgramState;
+import com.cinema.domain.enums.ScreeningState;
+import com.cinema.domain.port.ProgramRepository;
+import com.cinema.domain.port.ScreeningRepository;
+import com.cinema.domain.service.TimetableSolver.Placement;
+import jakarta.transaction.Transactional;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class CommitTimetableUseCase {
+
+    private final ScreeningRepository screeningRepository;
+    private final ProgramRepository programRepository;
+    private final AuditoriumCalendar calendar;
+    private final TimetablePreviewStore previews;
+
+    public CommitTimetableUseCase(ScreeningRepository screeningRepository,
+                                  ProgramRepository programRepository,
+                                  AuditoriumCalendar calendar,
+                                  TimetablePreviewStore previews) {
+        this.screeningRepository = Objects.requireNonNull(screeningRepository);
+        this.programRepository = Objects.requireNonNull(programRepository);
+        this.calendar = Objects.requireNonNull(calendar);
+        this.previews = Objects.requireNonNull(previews);
+    }
+
+    /**
+     * Spec:
+     * - Only PROGRAMMER (or creator) of the program, only in DECISION
+     * - All or nothing: if any placed screening is no longer FINAL_SUBMITTED or its room got booked
+     *   in the meantime, nothing is scheduled (transaction and calendar reservations roll back)
+     * - The calendar gets the room time the solver planned (screening + turnover), the screening its own duration
+     * - A committed preview cannot be committed again (dropped once the transaction commits; a failed commit
+     *   leaves it there to retry)
+     */
+    @Transactional
+    public List<Screening> commit(UserId actorId, ProgramId programId, String previewId) {
+        if (actorId == null) throw new AuthorizationException("Unauthorized");
+        if (programId == null) throw new ValidationException("programId", "programId is required");
+        if (previewId == null || previewId.isBlank()) throw new ValidationException("previewId", "previewId is required");
+
+        var preview = previews.get(previewId)
+                .filter(p -> p.programId().equals(programId))
+                .orElseThrow(() -> new NotFoundException("TimetablePreview", "Preview not found or expired"));
+
+        Program program = programRepository.findById(programId)
+                .orElseThrow(() -> new NotFoundException("Program", "Program not found"));
+
+        boolean isProgrammer = program.isProgrammer(actorId) || program.creatorUserId().equals(actorId);
+        if (!isProgrammer) {
+            throw new AuthorizationException("Only PROGRAMMER of this program can schedule screenings");
+        }
+        if (program.state() != ProgramState.DECISION) {
+            throw new ValidationException("programState", "Scheduling allowed only in DECISION");
+        }
+
+        Map<ScreeningId, Screening> byId = screeningRepository.findByIds(
+                        preview.placements().stream().map(Placement::screeningId).toList())
+                .stream()
+                .collect(Collectors.toMap(Screening::id, Function.identity()));
+
+        List<Screening> toSave = new ArrayList<>(preview.placements().size());
+        for (Placement p : preview.placements()) {
+            Screening screening = byId.get(p.screeningId());
+            if (screening == null || !screening.programId().equals(programId)) {
+                throw new ValidationException("screeningId",
+                        "Screening " + p.screeningId().value() + " no longer exists in program");
+            }
+            if (screening.state() != ScreeningState.FINAL_SUBMITTED) {
+                throw new ValidationException("screeningState",
+                        "Screening " + p.screeningId().value() + " is no longer FINAL_SUBMITTED");
+            }
+
+            int minutes = (int) ChronoUnit.MINUTES.between(p.start(), p.end());
+            int occupied = (int) ChronoUnit.MINUTES.between(p.start(), p.occupiedUntil());
+            try {
+                calendar.reserve(screening.id(), p.room(), p.start(), occupied);
+                screening.scheduleSlot(p.start(), minutes, p.room());
+            } catch (IllegalStateException | IllegalArgumentException ex) {
+                throw new ValidationException("timetable",
+                        "Screening " + p.screeningId().value() + ": " + ex.getMessage());
+            }
+            toSave.add(screening);
+        }
+
+        List<Screening> saved = screeningRepository.saveAll(toSave);
+        afterCommit(() -> previews.remove(previewId));
+        return saved;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,92 @@
+package com.cinema.application.screenings;
+
+import com.cinema.domain.Exceptions.NotFoundException;
+import com.cinema.domain.Exceptions.ValidationException;
+import com.cinema.domain.entity.Program;
+import com.cinema.domain.entity.Screening;
+import com.cinema.domain.entity.value.ProgramId;
+import com.cinema.domain.entity.value.UserId;
+import com.cinema.domain.enums.ProgramState;
+import com.cinema.domain.enums.ScreeningState;
+import com.cinema.domain.port.ProgramRepository;
+import com.cinema.domain.port.ScreeningRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Full export of a program's screenings (no paging cap).
+ *
+ * Spec:
+ * - Same visibility as SearchScreeningsUseCase / ViewScreeningUseCase:
+ *   PROGRAMMER => everything (full), SUBMITTER => own (full), STAFF => assigned (full),
+ *   anybody else (incl. VISITOR) => public screenings only (ANNOUNCED program + SCHEDULED)
+ * - Two steps so errors surface before the response starts: prepare() validates and resolves the
+ *   actor's program roles once, stream() walks the repository cursor and hands out rows one by one
+ * - Rows the actor cannot see are skipped, never buffered
+ */
+@Service
+public class ExportScreeningsUseCase {
+
+    private final ScreeningRepository screeningRepository;
+    private final ProgramRepository programRepository;
+
+    public ExportScreeningsUseCase(ScreeningRepository screeningRepository,
+                                   ProgramRepository programRepository) {
+        this.screeningRepository = Objects.requireNonNull(screeningRepository);
+        this.programRepository = Objects.requireNonNull(programRepository);
+    }
+
+    /** actorId == null => VISITOR */
+    public Export prepare(UserId actorId, ProgramId programId, ScreeningState state) {
+        if (programId == null) throw new ValidationException("programId", "programId is required");
+
+        Program program = programRepository.findById(programId)
+                .orElseThrow(() -> new NotFoundException("Program", "Program not found"));
+
+        boolean programmer = actorId != null && programRepository.isProgrammer(programId, actorId);
+        boolean staff = actorId != null && programRepository.isStaff(programId, actorId);
+
+        return new Export(actorId, programId, state, program.state() == ProgramState.ANNOUNCED, programmer, staff);
+    }
+
+    /**
+     * Returns the number of rows handed to the sink.
+     */
+    public long stream(Export export, Consumer<Row> sink) {
+        Objects.requireNonNull(export);
+        Objects.requireNonNull(sink);
+
+        long[] written = {0};
+        screeningRepository.forEachInProgram(export.programId(), export.state(), s -> {
+            boolean full = export.canViewFull(s);
+            if (!full && !export.isPublic(s)) return;
+            sink.accept(new Row(s, full));
+            written[0]++;
+        });
+        return written[0];
+    }
+
+    public record Export(
+            UserId actorId,
+            ProgramId programId,
+            ScreeningState state,
+            boolean announced,
+            boolean programmer,
+            boolean staff
+    ) {
+        boolean canViewFull(Screening s) {
+            if (actorId == null) return false;
+            if (programmer) return true;
+            if (s.isOwner(actorId)) return true;
+            return staff && s.isAssignedTo(actorId);
+        }
+
+        boolean isPublic(Screening s) {
+            return announced && s.state() == ScreeningState.SCHEDULED;
+        }
+    }
+
+    public record Row(Screening screening, boolean full) {}
+}
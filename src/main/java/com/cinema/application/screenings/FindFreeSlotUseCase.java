@@ -0,0 +1,38 @@
+package com.cinema.application.screenings;
+
+import com.cinema.domain.Exceptions.AuthorizationException;
+import com.cinema.domain.Exceptions.ValidationException;
+import com.cinema.domain.entity.Screening;
+import com.cinema.domain.entity.value.UserId;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.Optional;
+
+@Service
+public class FindFreeSlotUseCase {
+
+    private final AuditoriumCalendar calendar;
+
+    public FindFreeSlotUseCase(AuditoriumCalendar calendar) {
+        this.calendar = Objects.requireNonNull(calendar);
+    }
+
+    /**
+     * Spec:
+     * - Authenticated users only
+     * - Earliest start >= from where the room is free for N minutes (optionally ending by "until")
+     */
+    public Optional<LocalDateTime> nextFreeSlot(UserId actorId, String room, LocalDateTime from,
+                                                int minutes, LocalDateTime until) {
+        if (actorId == null) throw new AuthorizationException("Unauthorized");
+        if (room == null || room.isBlank()) throw new ValidationException("room", "room is required");
+        if (from == null) throw new ValidationException("from", "from is required");
+        if (minutes <= 0 || minutes > Screening.MAX_DURATION_MINUTES) {
+            throw new ValidationException("minutes", "minutes must be 1.." + Screening.MAX_DURATION_MINUTES);
+        }
+
+        return calendar.nextFree(room, from, minutes, until);
+    }
+}
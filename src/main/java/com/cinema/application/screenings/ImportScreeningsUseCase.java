@@ -0,0 +1,310 @@
+package com.cinema.application.screenings;
+
+import com.cinema.domain.Exceptions.AuthorizationException;
+import com.cinema.domain.Exceptions.NotFoundException;
+import com.cinema.domain.Exceptions.ValidationException;
+import com.cinema.domain.entity.ImportJob;
+import com.cinema.domain.entity.ImportRowError;
+import com.cinema.domain.entity.Program;
+import com.cinema.domain.entity.Screening;
+import com.cinema.domain.entity.value.ProgramId;
+import com.cinema.domain.entity.value.UserId;
+import com.cinema.domain.enums.ImportJobState;
+import com.cinema.domain.enums.ProgramState;
+import com.cinema.domain.port.ImportJobRepository;
+import com.cinema.domain.port.ProgramRepository;
+import com.cinema.domain.port.ScreeningRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Bulk screening import: a stream of draft rows (title, genres, cast, duration, description) becomes
+ * CREATED (or, with autoSubmit, SUBMITTED) screenings of one program.
+ *
+ * Spec:
+ * - Same rules as CreateScreeningUseCase (authenticated, program creator blocked) and, for autoSubmit,
+ *   SubmitScreeningUseCase (program in SUBMISSION, screening complete)
+ * - Rows are consumed one by one and written in batches of batchSize, each batch in its own transaction
+ *   together with its error rows and the job progress (rowsRead) => a crash never loses or repeats rows
+ * - Invalid rows (parse errors, field limits, !isCompleteForSubmission) are reported per row and skipped
+ * - A job whose stream broke off is INTERRUPTED; resume() + the same stream continues after rowsRead
+ * - One runner per job: resume() claims the job under a new run token (conditional UPDATE on the token and
+ *   rowsRead it read, so two resumes cannot both win and no batch slips in between) and every batch, as well
+ *   as the final COMPLETED/INTERRUPTED write, first re-checks the token under the job's row lock. A runner
+ *   that lost the job stops without writing and returns the job as the new runner left it
+ * - autoSubmit: the program state is checked again for every batch (under the job lock); once the program
+ *   has left SUBMISSION the batch is not written and the job is INTERRUPTED with the reason
+ */
+@Service
+public class ImportScreeningsUseCase {
+
+    public static final int MAX_TITLE = 200;
+    public static final int MAX_GENRES = 500;
+    public static final int MAX_CAST = 2000;
+    public static final int MAX_DESCRIPTION = 4000;
+
+    // a RUNNING job without progress for this long is presumed dead (server restart) and may be resumed
+    private static final Duration STALE_AFTER = Duration.ofMinutes(2);
+
+    private final ScreeningRepository screeningRepository;
+    private final ProgramRepository programRepository;
+    private final ImportJobRepository importJobRepository;
+    private final TransactionTemplate tx;
+    private final int batchSize;
+
+    public ImportScreeningsUseCase(ScreeningRepository screeningRepository,
+                                   ProgramRepository programRepository,
+                                   ImportJobRepository importJobRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${screenings.import.batch-size:500}") int batchSize) {
+        this.screeningRepository = Objects.requireNonNull(screeningRepository);
+        this.programRepository = Objects.requireNonNull(programRepository);
+        this.importJobRepository = Objects.requireNonNull(importJobRepository);
+        this.tx = new TransactionTemplate(Objects.requireNonNull(transactionManager));
+        if (batchSize <= 0) throw new IllegalArgumentException("batchSize must be > 0");
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * One parsed input row. error != null => the row could not be parsed (reported as-is).
+     * rowNumber counts data rows from 1 (CSV header excluded).
+     */
+    public record Draft(
+            long rowNumber,
+            String title,
+            String genre,
+            String castNames,
+            Integer durationMinutes,
+            String description,
+            String errorField,
+            String error
+    ) {
+        public static Draft invalid(long rowNumber, String field, String message) {
+            return new Draft(rowNumber, null, null, null, null, null, field, message);
+        }
+    }
+
+    public ImportJob start(UserId actorId, ProgramId programId, String format, boolean autoSubmit) {
+        if (actorId == null) throw new AuthorizationException("Unauthorized");
+        if (programId == null) throw new ValidationException("programId", "programId is required");
+        if (format == null || format.isBlank()) throw new ValidationException("format", "format is required");
+
+        checkProgram(actorId, programId, autoSubmit);
+        return importJobRepository.save(ImportJob.start(programId, actorId, format, autoSubmit));
+    }
+
+    public ImportJob resume(UserId actorId, Long jobId) {
+        ImportJob job = job(actorId, jobId);
+
+        if (job.state() == ImportJobState.COMPLETED) {
+            throw new ValidationException("jobState", "Import job already completed");
+        }
+        if (job.state() == ImportJobState.RUNNING
+                && job.updatedTime() != null
+                && job.updatedTime().isAfter(LocalDateTime.now().minus(STALE_AFTER))) {
+            throw new ValidationException("jobState", "Import job is still running");
+        }
+
+        checkProgram(actorId, job.programId(), job.autoSubmit());
+
+        String previousRunToken = job.runToken();
+        job.resume();
+        return tx.execute(status -> {
+            if (!importJobRepository.claim(job.id(), previousRunToken, job.rowsRead(), job.runToken())) {
+                throw new ValidationException("jobState", "Import job was resumed by another request");
+            }
+            return importJobRepository.save(job);
+        });
+    }
+
+    /**
+     * Consumes the rows of a RUNNING job (from start() or resume()) and returns the job as last committed.
+     * Rows at or below job.rowsRead() were committed by an earlier run and are skipped.
+     * A failing stream does not propagate: the job is returned INTERRUPTED with the reason.
+     */
+    public ImportJob run(ImportJob job, Iterator<Draft> rows) {
+        Objects.requireNonNull(job);
+        Objects.requireNonNull(rows);
+        if (job.id() == null || job.state() != ImportJobState.RUNNING) {
+            throw new ValidationException("jobState", "Import job is not running");
+        }
+
+        long committedUpTo = job.rowsRead();
+        String runToken = job.runToken();
+        ImportJob current = job;
+        List<Draft> batch = new ArrayList<>(batchSize);
+
+        try {
+            while (rows.hasNext()) {
+                Draft row = rows.next();
+                if (row.rowNumber() <= committedUpTo) continue;
+
+                batch.add(row);
+                if (batch.size() >= batchSize) {
+                    current = commitBatch(current, runToken, batch);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) current = commitBatch(current, runToken, batch);
+
+            Long id = current.id();
+            return tx.execute(status -> {
+                if (!importJobRepository.lockRun(id, runToken)) return load(id);
+                ImportJob done = load(id);
+                done.complete();
+                return importJobRepository.save(done);
+            });
+        } catch (RunTakenOver ex) {
+            return load(job.id());
+        } catch (RuntimeException ex) {
+            Long id = current.id();
+            String reason = ex.getMessage() != null ? ex.getMessage() : ex.getClass().getSimpleName();
+            return tx.execute(status -> {
+                if (!importJobRepository.lockRun(id, runToken)) return load(id);
+                ImportJob broken = load(id);
+                broken.interrupt("Stopped after row " + broken.rowsRead() + ": " + reason);
+                return importJobRepository.save(broken);
+            });
+        }
+    }
+
+    public ImportJob job(UserId actorId, Long jobId) {
+        if (actorId == null) throw new AuthorizationException("Unauthorized");
+        if (jobId == null) throw new ValidationException("jobId", "jobId is required");
+
+        ImportJob job = load(jobId);
+        if (!job.isOwner(actorId)) {
+            throw new AuthorizationException("Only the submitter can access this import job");
+        }
+        return job;
+    }
+
+    public List<ImportRowError> errors(UserId actorId, Long jobId, int offset, int limit) {
+        ImportJob job = job(actorId, jobId);
+        return importJobRepository.findErrors(job.id(), offset, limit);
+    }
+
+    // -------------------------
+    // internals
+    // -------------------------
+
+    private void checkProgram(UserId actorId, ProgramId programId, boolean autoSubmit) {
+        Program program = program(programId);
+
+        // ✅ conflict of interest: ONLY CREATOR blocked (same as single create/submit)
+        if (program.creatorUserId().equals(actorId)) {
+            throw new AuthorizationException("Creator cannot submit screenings to own program");
+        }
+        if (autoSubmit) checkSubmission(program);
+    }
+
+    private static void checkSubmission(Program program) {
+        if (program.state() != ProgramState.SUBMISSION) {
+            throw new ValidationException("programState", "Screening submission allowed only in SUBMISSION"
+                    + " (program is " + program.state() + ")");
+        }
+    }
+
+    private Program program(ProgramId programId) {
+        return programRepository.findById(programId)
+                .orElseThrow(() -> new NotFoundException("Program", "Program not found"));
+    }
+
+    private ImportJob commitBatch(ImportJob job, String runToken, List<Draft> batch) {
+        Long id = job.id();
+        return tx.execute(status -> {
+            // still ours? (and stays ours until this batch commits: the check holds the row lock)
+            if (!importJobRepository.lockRun(id, runToken)) throw new RunTakenOver();
+
+            // progress is applied to the stored row, so a rolled-back batch leaves no trace in memory either
+            ImportJob current = load(id);
+
+            // the programmer may have closed SUBMISSION since the last batch (the failure interrupts the job)
+            if (current.autoSubmit()) checkSubmission(program(current.programId()));
+
+            List<Screening> drafts = new ArrayList<>(batch.size());
+            List<ImportRowError> errors = new ArrayList<>();
+            long submitted = 0;
+
+            for (Draft row : batch) {
+                ImportRowError invalid = validate(row);
+                if (invalid != null) {
+                    errors.add(invalid);
+                    continue;
+                }
+
+                Screening screening;
+                try {
+                    screening = Screening.newDraft(current.programId(), current.submitterId(),
+                            trimToNull(row.title()), trimToNull(row.genre()), trimToNull(row.description()),
+                            trimToNull(row.castNames()), row.durationMinutes());
+                } catch (IllegalArgumentException ex) {
+                    errors.add(new ImportRowError(row.rowNumber(), "screening", ex.getMessage()));
+                    continue;
+                }
+
+                if (!screening.isCompleteForSubmission()) {
+                    errors.add(new ImportRowError(row.rowNumber(), "screening", "Screening is incomplete for submission"));
+                    continue;
+                }
+                if (current.autoSubmit()) {
+                    screening.submit();
+                    submitted++;
+                }
+                drafts.add(screening);
+            }
+
+            screeningRepository.insertAll(drafts);
+            importJobRepository.saveErrors(id, errors);
+
+            current.recordBatch(batch.get(batch.size() - 1).rowNumber(), drafts.size(), submitted, errors.size());
+            return importJobRepository.save(current);
+        });
+    }
+
+    /** Another request resumed the job: this runner must not write anything more. */
+    private static final class RunTakenOver extends RuntimeException {
+        RunTakenOver() {
+            super("Import job was resumed by another request", null, false, false);
+        }
+    }
+
+    private ImportRowError validate(Draft row) {
+        long n = row.rowNumber();
+        if (row.error() != null) return new ImportRowError(n, row.errorField(), row.error());
+
+        if (tooLong(row.title(), MAX_TITLE)) return tooLong(n, "title", MAX_TITLE);
+        if (tooLong(row.genre(), MAX_GENRES)) return tooLong(n, "genres", MAX_GENRES);
+        if (tooLong(row.castNames(), MAX_CAST)) return tooLong(n, "cast", MAX_CAST);
+        if (tooLong(row.description(), MAX_DESCRIPTION)) return tooLong(n, "description", MAX_DESCRIPTION);
+        return null;
+    }
+
+    private ImportJob load(Long jobId) {
+        return importJobRepository.findById(jobId)
+                .orElseThrow(() -> new NotFoundException("ImportJob", "Import job not found"));
+    }
+
+    private static boolean tooLong(String value, int max) {
+        return value != null && value.trim().length() > max;
+    }
+
+    private static ImportRowError tooLong(long row, String field, int max) {
+        return new ImportRowError(row, field, field + " must be at most " + max + " characters");
+    }
+
+    private static String trimToNull(String s) {
+        if (s == null) return null;
+        String t = s.trim();
+        return t.isEmpty() ? null : t;
+    }
+}
@@ -0,0 +1,125 @@
+package com.cinema.application.screenings;
+
+import com.cinema.domain.Exceptions.AuthorizationException;
+import com.cinema.domain.Exceptions.NotFoundException;
+import com.cinema.domain.Exceptions.ValidationException;
+import com.cinema.domain.entity.Program;
+import com.cinema.domain.entity.Screening;
+import com.cinema.domain.entity.value.ProgramId;
+import com.cinema.domain.entity.value.UserId;
+import com.cinema.domain.enums.ProgramState;
+import com.cinema.domain.enums.ScreeningState;
+import com.cinema.domain.port.ProgramRepository;
+import com.cinema.domain.port.ScreeningRepository;
+import com.cinema.domain.service.TimetableSolver;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Objects;
+
+@Service
+public class PreviewTimetableUseCase {
+
+    public static final long MAX_BUDGET_MILLIS = 10_000;
+
+    private final ScreeningRepository screeningRepository;
+    private final ProgramRepository programRepository;
+    private final AuditoriumCalendar calendar;
+    private final TimetableSolver solver;
+    private final TimetablePreviewStore previews;
+
+    public PreviewTimetableUseCase(ScreeningRepository screeningRepository,
+                                   ProgramRepository programRepository,
+                                   AuditoriumCalendar calendar,
+                                   TimetableSolver solver,
+                                   TimetablePreviewStore previews) {
+        this.screeningRepository = Objects.requireNonNull(screeningRepository);
+        this.programRepository = Objects.requireNonNull(programRepository);
+        this.calendar = Objects.requireNonNull(calendar);
+        this.solver = Objects.requireNonNull(solver);
+        this.previews = Objects.requireNonNull(previews);
+    }
+
+    public record Options(
+            List<String> rooms,
+            LocalTime dayStart,
+            LocalTime dayEnd,
+            int turnoverMinutes,
+            int defaultDurationMinutes,
+            long budgetMillis
+    ) {}
+
+    /**
+     * Spec:
+     * - Only PROGRAMMER (or creator) of the program, only in DECISION
+     * - Takes all FINAL_SUBMITTED screenings, program startDate..endDate and the given rooms
+     * - Screenings without a duration use defaultDurationMinutes
+     * - Rooms already booked in the auditorium calendar are respected
+     * - Nothing is written: the result is stored as a preview to be committed later
+     */
+    public TimetablePreviewStore.Preview preview(UserId actorId, ProgramId programId, Options options) {
+        if (actorId == null) throw new AuthorizationException("Unauthorized");
+        if (programId == null) throw new ValidationException("programId", "programId is required");
+        if (options == null || options.rooms() == null || options.rooms().stream().allMatch(r -> r == null || r.isBlank())) {
+            throw new ValidationException("rooms", "At least one room is required");
+        }
+        if (options.dayStart() == null || options.dayEnd() == null) {
+            throw new ValidationException("dayStart", "dayStart and dayEnd are required");
+        }
+        if (options.turnoverMinutes() < 0) throw new ValidationException("turnoverMinutes", "turnoverMinutes must be >= 0");
+        if (options.defaultDurationMinutes() <= 0 || options.defaultDurationMinutes() > Screening.MAX_DURATION_MINUTES) {
+            throw new ValidationException("defaultDurationMinutes",
+                    "defaultDurationMinutes must be 1.." + Screening.MAX_DURATION_MINUTES);
+        }
+        if (options.budgetMillis() <= 0 || options.budgetMillis() > MAX_BUDGET_MILLIS) {
+            throw new ValidationException("budgetMillis", "budgetMillis must be 1.." + MAX_BUDGET_MILLIS);
+        }
+
+        Program program = programRepository.findById(programId)
+                .orElseThrow(() -> new NotFoundException("Program", "Program not found"));
+
+        boolean isProgrammer = program.isProgrammer(actorId) || program.creatorUserId().equals(actorId);
+        if (!isProgrammer) {
+            throw new AuthorizationException("Only PROGRAMMER of this program can plan the timetable");
+        }
+        if (program.state() != ProgramState.DECISION) {
+            throw new ValidationException("programState", "Timetable planning allowed only in DECISION");
+        }
+        if (program.startDate() == null || program.endDate() == null) {
+            throw new ValidationException("programDates", "Program startDate and endDate are required");
+        }
+
+        var items = screeningRepository.findByProgramAndState(programId, ScreeningState.FINAL_SUBMITTED)
+                .stream()
+                .map(s -> new TimetableSolver.Item(
+                        s.id(),
+                        s.genre(),
+                        s.durationMinutes() != null ? s.durationMinutes() : options.defaultDurationMinutes()))
+                .toList();
+
+        var rooms = options.rooms().stream().filter(r -> r != null && !r.isBlank()).map(String::trim).toList();
+
+        var problem = new TimetableSolver.Problem(
+                items,
+                rooms,
+                program.startDate(),
+                program.endDate(),
+                options.dayStart(),
+                options.dayEnd(),
+                options.turnoverMinutes(),
+                calendar.snapshot()
+        );
+
+        TimetableSolver.Solution solution;
+        try {
+            solution = solver.solve(problem, Duration.ofMillis(options.budgetMillis()), programId.value());
+        } catch (IllegalArgumentException ex) {
+            throw new ValidationException("timetable", ex.getMessage());
+        }
+
+        return previews.put(programId, actorId, solution.placements(), solution.unplaced(),
+                solution.penalty(), solution.restarts());
+    }
+}
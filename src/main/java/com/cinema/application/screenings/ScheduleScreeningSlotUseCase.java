@@ -0,0 +1,105 @@
+package com.cinema.application.screenings;
+
+import com.cinema.domain.Exceptions.AuthorizationException;
+import com.cinema.domain.Exceptions.NotFoundException;
+import com.cinema.domain.Exceptions.ValidationException;
+import com.cinema.domain.entity.Program;
+import com.cinema.domain.entity.Screening;
+import com.cinema.domain.entity.value.ProgramId;
+import com.cinema.domain.entity.value.ScreeningId;
+import com.cinema.domain.entity.value.UserId;
+import com.cinema.domain.enums.ProgramState;
+import com.cinema.domain.enums.ScreeningState;
+import com.cinema.domain.port.ProgramRepository;
+import com.cinema.domain.port.ScreeningRepository;
+import jakarta.transaction.Transactional;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+@Service
+public class ScheduleScreeningSlotUseCase {
+
+    private final ScreeningRepository screeningRepository;
+    private final ProgramRepository programRepository;
+    private final AuditoriumCalendar calendar;
+
+    public ScheduleScreeningSlotUseCase(ScreeningRepository screeningRepository,
+                                        ProgramRepository programRepository,
+                                        AuditoriumCalendar calendar) {
+        this.screeningRepository = Objects.requireNonNull(screeningRepository);
+        this.programRepository = Objects.requireNonNull(programRepository);
+        this.calendar = Objects.requireNonNull(calendar);
+    }
+
+    /**
+     * Time-slot scheduling:
+     * - Same gates as ScheduleScreeningUseCase (PROGRAMMER, DECISION, FINAL_SUBMITTED)
+     * - durationMinutes falls back to the screening's stored duration
+     * - Slot must lie within the program's startDate..endDate (when set)
+     * - Room must be free for [start, start + duration) across all programs
+     * - After scheduling => SCHEDULED with start/end time
+     */
+    @Transactional
+    public Screening scheduleSlot(UserId actorId, ScreeningId screeningId, LocalDateTime start,
+                                  Integer durationMinutes, String room) {
+        if (actorId == null) throw new AuthorizationException("Unauthorized");
+        if (screeningId == null) throw new ValidationException("screeningId", "screeningId is required");
+        if (start == null) throw new ValidationException("start", "start is required");
+        if (room == null || room.isBlank()) throw new ValidationException("room", "room is required");
+
+        Screening screening = screeningRepository.findById(screeningId)
+                .orElseThrow(() -> new NotFoundException("Screening", "Screening not found"));
+
+        ProgramId programId = screening.programId();
+
+        Program program = programRepository.findById(programId)
+                .orElseThrow(() -> new NotFoundException("Program", "Program not found"));
+
+        boolean isProgrammer = program.isProgrammer(actorId) || program.creatorUserId().equals(actorId);
+        if (!isProgrammer) {
+            throw new AuthorizationException("Only PROGRAMMER of this program can schedule screenings");
+        }
+
+        if (program.state() != ProgramState.DECISION) {
+            throw new ValidationException("programState", "Scheduling allowed only in DECISION");
+        }
+
+        if (screening.state() == ScreeningState.SCHEDULED) {
+            throw new ValidationException("screeningState", "Screening already scheduled");
+        }
+        if (screening.state() != ScreeningState.FINAL_SUBMITTED) {
+            throw new ValidationException("screeningState", "Only FINAL_SUBMITTED screenings can be scheduled");
+        }
+
+        Integer minutes = durationMinutes != null ? durationMinutes : screening.durationMinutes();
+        if (minutes == null) throw new ValidationException("durationMinutes", "durationMinutes is required");
+        if (minutes <= 0 || minutes > Screening.MAX_DURATION_MINUTES) {
+            throw new ValidationException("durationMinutes",
+                    "Duration must be 1.." + Screening.MAX_DURATION_MINUTES + " minutes");
+        }
+
+        LocalDateTime end = start.plusMinutes(minutes);
+        if (program.startDate() != null && start.isBefore(program.startDate().atStartOfDay())) {
+            throw new ValidationException("start", "Screening starts before the program");
+        }
+        if (program.endDate() != null && end.isAfter(program.endDate().plusDays(1).atStartOfDay())) {
+            throw new ValidationException("start", "Screening ends after the program");
+        }
+
+        try {
+            calendar.reserve(screening.id(), room, start, minutes);
+        } catch (IllegalStateException ex) {
+            throw new ValidationException("room", ex.getMessage());
+        }
+
+        try {
+            screening.scheduleSlot(start, minutes, room);
+        } catch (IllegalStateException | IllegalArgumentException ex) {
+            throw new ValidationException("screening", ex.getMessage());
+        }
+
+        return screeningRepository.save(screening);
+    }
+}
@@ -35,6 +35,7 @@ public class ScheduleScreeningUseCase {
      * - Only PROGRAMMER of this program (program-aware role)
      * - Only when Program is in DECISION
      * - Only FINAL_SUBMITTED screenings can be scheduled
+     * - Date-only: no time slot, so the auditorium calendar is not involved (see ScheduleScreeningSlotUseCase)
      * - After scheduling => SCHEDULED
      */
     @Transactional
@@ -11,6 +11,7 @@ import com.cinema.domain.enums.ProgramState;
 import com.cinema.domain.enums.ScreeningState;
 import com.cinema.domain.port.ProgramRepository;
 import com.cinema.domain.port.ScreeningRepository;
+import com.cinema.domain.port.SearchResultCache;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,16 +27,22 @@ public class SearchScreeningsUseCase {
 
     private final ScreeningRepository screeningRepository;
     private final ProgramRepository programRepository;
+    private final SearchResultCache resultCache;
 
     public SearchScreeningsUseCase(ScreeningRepository screeningRepository,
-                                   ProgramRepository programRepository) {
+                                   ProgramRepository programRepository,
+                                   SearchResultCache resultCache) {
         this.screeningRepository = Objects.requireNonNull(screeningRepository);
         this.programRepository = Objects.requireNonNull(programRepository);
+        this.resultCache = Objects.requireNonNull(resultCache);
     }
 
     /**
      * Spec: Search screenings within a program by film fields + date-range with AND semantics.
      * NOTE: your domain currently supports title/genre/scheduledTime only.
+     * - Results are cached per normalized query and role class (SearchResultCache): everyone who sees only the
+     *   public timetable shares one entry, each program's programmers another; staff and submitters of the
+     *   program see their own screenings too and are not cached
      */
     @Transactional(readOnly = true)
     public List<Screening> searchInProgram(
@@ -59,9 +66,37 @@ public class SearchScreeningsUseCase {
             throw new ValidationException("dates", "toDate must be on/after fromDate");
         }
 
+        long stamp = resultCache.stamp(programId); // before any read the result depends on
         Program program = programRepository.findById(programId)
                 .orElseThrow(() -> new NotFoundException("Program", "Program not found"));
 
+        String roleClass = roleClass(actorId, programId);
+        String key = roleClass == null ? null
+                : cacheKey(roleClass, titleQuery, genreQuery, fromDate, toDate, stateFilter, safeOffset, safeLimit, timetableSort);
+        if (key != null) {
+            var cached = resultCache.screenings(programId, key);
+            if (cached.isPresent()) return cached.get();
+        }
+
+        List<Screening> result = compute(actorId, programId, program, titleQuery, genreQuery, fromDate, toDate,
+                stateFilter, safeOffset, safeLimit, timetableSort);
+        if (key != null) resultCache.putScreenings(programId, key, result, stamp);
+        return result;
+    }
+
+    private List<Screening> compute(
+            UserId actorId,
+            ProgramId programId,
+            Program program,
+            String titleQuery,
+            String genreQuery,
+            LocalDate fromDate,
+            LocalDate toDate,
+            ScreeningState stateFilter,
+            int safeOffset,
+            int safeLimit,
+            boolean timetableSort
+    ) {
         // 1) fetch a window (not full table)
         int fetchOffset = Math.max(0, safeOffset - FETCH_PADDING);
         int fetchLimit = safeLimit + 2 * FETCH_PADDING;
@@ -168,6 +203,35 @@ public class SearchScreeningsUseCase {
         return isPublic;
     }
 
+    /**
+     * Actors that see exactly the same screenings share a class: VISITOR (public timetable only: anonymous, or no
+     * role and no submissions in the program), PROGRAMMER (everything). null = actor-specific view, not cached.
+     */
+    private String roleClass(UserId actorId, ProgramId programId) {
+        if (actorId == null) return "VISITOR";
+        if (programRepository.isProgrammer(programId, actorId)) return "PROGRAMMER";
+        if (programRepository.isStaff(programId, actorId)) return null;
+        if (screeningRepository.existsByProgramIdAndSubmitterId(programId, actorId)) return null;
+        return "VISITOR";
+    }
+
+    /** Same results => same key: word order, case and repeats do not matter; fields are length-prefixed. */
+    private String cacheKey(String roleClass, String titleQuery, String genreQuery, LocalDate fromDate, LocalDate toDate,
+                            ScreeningState stateFilter, int offset, int limit, boolean timetableSort) {
+        StringBuilder key = new StringBuilder(roleClass);
+        for (String field : List.of(
+                String.join(" ", new TreeSet<>(tokenize(titleQuery))),
+                String.join(" ", new TreeSet<>(tokenize(genreQuery))),
+                fromDate == null ? "" : fromDate.toString(),
+                toDate == null ? "" : toDate.toString(),
+                stateFilter == null ? "" : stateFilter.name(),
+                offset + "/" + limit,
+                timetableSort ? "timetable" : "genre")) {
+            key.append(' ').append(field.length()).append(':').append(field);
+        }
+        return key.toString();
+    }
+
     private Comparator<Screening> byGenreThenTitle() {
         return Comparator.comparing((Screening s) -> safeLower(s.genre()))
                 .thenComparing(s -> safeLower(s.title()));
@@ -0,0 +1,67 @@
+package com.cinema.application.screenings;
+
+import com.cinema.domain.entity.value.ProgramId;
+import com.cinema.domain.entity.value.ScreeningId;
+import com.cinema.domain.entity.value.UserId;
+import com.cinema.domain.service.TimetableSolver.Placement;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Holds solver previews until they are committed.
+ * - Bounded (oldest preview evicted first) and expiring, previews are cheap to recompute
+ * - In-memory only: a restart drops pending previews
+ */
+@Component
+public class TimetablePreviewStore {
+
+    static final int MAX_PREVIEWS = 64;
+    static final Duration TTL = Duration.ofMinutes(30);
+
+    public record Preview(
+            String id,
+            ProgramId programId,
+            UserId createdBy,
+            Instant createdAt,
+            List<Placement> placements,
+            List<ScreeningId> unplaced,
+            double penalty,
+            int restarts
+    ) {}
+
+    private final Map<String, Preview> previews = new LinkedHashMap<>(16, 0.75f, false) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Preview> eldest) {
+            return size() > MAX_PREVIEWS;
+        }
+    };
+
+    public synchronized Preview put(ProgramId programId, UserId createdBy, List<Placement> placements,
+                                    List<ScreeningId> unplaced, double penalty, int restarts) {
+        Preview p = new Preview(UUID.randomUUID().toString(), programId, createdBy, Instant.now(),
+                List.copyOf(placements), List.copyOf(unplaced), penalty, restarts);
+        previews.put(p.id(), p);
+        return p;
+    }
+
+    public synchronized Optional<Preview> get(String id) {
+        Preview p = previews.get(id);
+        if (p == null) return Optional.empty();
+        if (p.createdAt().plus(TTL).isBefore(Instant.now())) {
+            previews.remove(id);
+            return Optional.empty();
+        }
+        return Optional.of(p);
+    }
+
+    public synchronized void remove(String id) {
+        previews.remove(id);
+    }
+}
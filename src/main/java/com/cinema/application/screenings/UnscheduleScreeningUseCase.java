@@ -0,0 +1,67 @@
+package com.cinema.application.screenings;
+
+import com.cinema.domain.Exceptions.AuthorizationException;
+import com.cinema.domain.Exceptions.NotFoundException;
+import com.cinema.domain.Exceptions.ValidationException;
+import com.cinema.domain.entity.Program;
+import com.cinema.domain.entity.Screening;
+import com.cinema.domain.entity.value.ScreeningId;
+import com.cinema.domain.entity.value.UserId;
+import com.cinema.domain.enums.ProgramState;
+import com.cinema.domain.enums.ScreeningState;
+import com.cinema.domain.port.ProgramRepository;
+import com.cinema.domain.port.ScreeningRepository;
+import jakarta.transaction.Transactional;
+import org.springframework.stereotype.Service;
+
+import java.util.Objects;
+
+@Service
+public class UnscheduleScreeningUseCase {
+
+    private final ScreeningRepository screeningRepository;
+    private final ProgramRepository programRepository;
+    private final AuditoriumCalendar calendar;
+
+    public UnscheduleScreeningUseCase(ScreeningRepository screeningRepository,
+                                      ProgramRepository programRepository,
+                                      AuditoriumCalendar calendar) {
+        this.screeningRepository = Objects.requireNonNull(screeningRepository);
+        this.programRepository = Objects.requireNonNull(programRepository);
+        this.calendar = Objects.requireNonNull(calendar);
+    }
+
+    /**
+     * Spec:
+     * - Only PROGRAMMER (or creator) of the program, only in DECISION
+     * - SCHEDULED -> FINAL_SUBMITTED, room/time slot is freed after commit
+     */
+    @Transactional
+    public Screening unschedule(UserId actorId, ScreeningId screeningId) {
+        if (actorId == null) throw new AuthorizationException("Unauthorized");
+        if (screeningId == null) throw new ValidationException("screeningId", "screeningId is required");
+
+        Screening screening = screeningRepository.findById(screeningId)
+                .orElseThrow(() -> new NotFoundException("Screening", "Screening not found"));
+
+        Program program = programRepository.findById(screening.programId())
+                .orElseThrow(() -> new NotFoundException("Program", "Program not found"));
+
+        boolean isProgrammer = program.isProgrammer(actorId) || program.creatorUserId().equals(actorId);
+        if (!isProgrammer) {
+            throw new AuthorizationException("Only PROGRAMMER of this program can unschedule screenings");
+        }
+
+        if (program.state() != ProgramState.DECISION) {
+            throw new ValidationException("programState", "Unscheduling allowed only in DECISION");
+        }
+        if (screening.state() != ScreeningState.SCHEDULED) {
+            throw new ValidationException("screeningState", "Only SCHEDULED screenings can be unscheduled");
+        }
+
+        screening.unschedule();
+        Screening saved = screeningRepository.save(screening);
+        calendar.release(screening.id());
+        return saved;
+    }
+}
@@ -8,6 +8,7 @@ import com.cinema.domain.entity.value.UserId;
 import com.cinema.domain.enums.BaseRole;
 import com.cinema.domain.port.UserRepository;
 import com.cinema.infrastructure.security.AuditLogger;
+import com.cinema.infrastructure.security.LoginAttemptTracker;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,16 +19,20 @@ public class ActivateUserUseCase {
 
     private final UserRepository userRepository;
     private final AuditLogger auditLogger;
+    private final LoginAttemptTracker loginAttempts;
 
-    public ActivateUserUseCase(UserRepository userRepository, AuditLogger auditLogger) {
+    public ActivateUserUseCase(UserRepository userRepository, AuditLogger auditLogger,
+                               LoginAttemptTracker loginAttempts) {
         this.userRepository = Objects.requireNonNull(userRepository);
         this.auditLogger = Objects.requireNonNull(auditLogger);
+        this.loginAttempts = Objects.requireNonNull(loginAttempts);
     }
 
     /**
      * Spec:
      * - ADMIN can activate accounts.
-     * - Idempotent if already active.
+     * - Also lifts a login lockout of an active account before it ends by itself.
+     * - Idempotent if already active (and not locked).
      */
     @Transactional
     public void execute(UserId actorId, UserId targetUserId) {
@@ -44,13 +49,14 @@ public class ActivateUserUseCase {
         User target = userRepository.findById(targetUserId)
                 .orElseThrow(() -> new NotFoundException("User", "User not found"));
 
-        if (target.isActive()) {
+        if (target.isActive() && target.lockedUntil() == null) {
             auditLogger.logAction(actorId, "ACTIVATE_USER_NOOP", "userId=" + targetUserId.value());
             return;
         }
 
         target.activate();          // domain should set active=true and reset counters
         userRepository.Save(target);
+        loginAttempts.reset(target.username().value());
 
         auditLogger.logAction(actorId, "ACTIVATE_USER", "userId=" + targetUserId.value());
     }
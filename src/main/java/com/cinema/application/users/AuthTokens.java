@@ -0,0 +1,10 @@
+package com.cinema.application.users;
+
+import com.cinema.domain.entity.User;
+
+/** Result of login / refresh: short-lived access token (JWT) + the next refresh token of the session. */
+public record AuthTokens(String accessToken,
+                         String refreshToken,
+                         long expiresInSeconds,
+                         User user) {
+}
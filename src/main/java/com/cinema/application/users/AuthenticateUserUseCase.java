@@ -1,15 +1,25 @@
 package com.cinema.application.users;
 
 import com.cinema.domain.Exceptions.AuthorizationException;
+import com.cinema.domain.entity.RefreshTokenFamily;
 import com.cinema.domain.entity.User;
 import com.cinema.domain.entity.value.Username;
+import com.cinema.domain.policy.RateLimitPolicy;
+import com.cinema.domain.policy.TokenPolicy;
+import com.cinema.domain.port.RefreshTokenRepository;
+import com.cinema.domain.port.SessionRepository;
 import com.cinema.domain.port.UserRepository;
 import com.cinema.infrastructure.security.AuditLogger;
+import com.cinema.infrastructure.security.LoginAttemptTracker;
 import com.cinema.infrastructure.security.TokenService;
+import com.cinema.infrastructure.diagnostics.RequestTrace;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.util.Objects;
+import java.util.UUID;
 
 @Service
 public class AuthenticateUserUseCase {
@@ -17,25 +27,49 @@ public class AuthenticateUserUseCase {
     private final UserRepository userRepository;
     private final TokenService tokenService;
     private final AuditLogger auditLogger;
+    private final RefreshTokenRepository refreshTokens;
+    private final SessionRepository sessions;
+    private final LoginAttemptTracker loginAttempts;
+    private final RateLimitPolicy rateLimitPolicy;
+    private final TokenPolicy tokenPolicy;
+    private final Clock clock;
 
     public AuthenticateUserUseCase(
             UserRepository userRepository,
             TokenService tokenService,
-            AuditLogger auditLogger
+            AuditLogger auditLogger,
+            RefreshTokenRepository refreshTokens,
+            SessionRepository sessions,
+            LoginAttemptTracker loginAttempts,
+            RateLimitPolicy rateLimitPolicy,
+            TokenPolicy tokenPolicy,
+            Clock clock
     ) {
         this.userRepository = Objects.requireNonNull(userRepository);
         this.tokenService = Objects.requireNonNull(tokenService);
         this.auditLogger = Objects.requireNonNull(auditLogger);
+        this.refreshTokens = Objects.requireNonNull(refreshTokens);
+        this.sessions = Objects.requireNonNull(sessions);
+        this.loginAttempts = Objects.requireNonNull(loginAttempts);
+        this.rateLimitPolicy = Objects.requireNonNull(rateLimitPolicy);
+        this.tokenPolicy = Objects.requireNonNull(tokenPolicy);
+        this.clock = Objects.requireNonNull(clock);
     }
 
     /**
      * Spec:
-     * - Submit username/password; on success return NEW token and invalidate previous (single active token).
-     * - 3 consecutive failed attempts -> deactivate account.
+     * - Submit username/password; on success return NEW token in a NEW session (one per device); the user's
+     *   least recently used sessions beyond TokenPolicy.maxActiveSessionsPerUser are ended.
+     * - RateLimitPolicy.maxFailedLoginAttempts consecutive failures lock the username for lockoutDuration
+     *   (LoginAttemptTracker); while locked, requests are rejected before any DB read or BCrypt check.
+     * - Failures are counted in memory only; the lockout itself is persisted (users.locked_until + audit),
+     *   and kept although the call fails (no rollback on AuthorizationException).
      * - Inactive account blocks authentication.
+     * - Also returns a refresh token (new rotation family, same id as the session), so the session can be
+     *   extended via RefreshTokenUseCase without another password check.
      */
-    @Transactional
-    public String authenticate(String rawUsername, String rawPassword) {
+    @Transactional(noRollbackFor = AuthorizationException.class)
+    public AuthTokens authenticate(String rawUsername, String rawPassword) {
 
         String normalizedUsername = rawUsername == null ? null : rawUsername.trim();
 
@@ -45,10 +79,16 @@ public class AuthenticateUserUseCase {
             throw new AuthorizationException("Invalid username or password");
         }
 
+        if (loginAttempts.lockedUntil(normalizedUsername) != null) throw locked();
+
         Username username = Username.of(normalizedUsername);
 
-        User user = userRepository.findByUserName(username)
-                .orElseThrow(() -> new AuthorizationException("Invalid username or password"));
+        User user = userRepository.findByUserName(username).orElse(null);
+        if (user == null) {
+            // unknown names lock like real ones (no account enumeration)
+            if (loginAttempts.recordFailure(normalizedUsername) != null) throw locked();
+            throw new AuthorizationException("Invalid username or password");
+        }
 
         if (!user.isActive()) {
             auditLogger.logAction(
@@ -59,39 +99,50 @@ public class AuthenticateUserUseCase {
             throw new AuthorizationException("User is inactive");
         }
 
-        // Password check
-        if (!user.password().matches(rawPassword)) {
-            user.registerFailedLogin();
-            userRepository.Save(user);
+        // lock persisted earlier (restart, other node, tracker entry dropped)
+        if (user.isLockedOut(clock.instant())) {
+            loginAttempts.lock(normalizedUsername, user.lockedUntil());
+            throw locked();
+        }
 
-            if (!user.isActive()) {
-                // Spec: 3 consecutive failures -> deactivate
-                auditLogger.logAction(
-                        user.id(),
-                        "LOGIN_DEACTIVATED",
-                        "Account deactivated after 3 consecutive failed authentication attempts"
-                );
-                throw new AuthorizationException("Account deactivated after 3 failed attempts");
-            }
+        // Password check
+        if (!RequestTrace.bcrypt("check", () -> user.password().matches(rawPassword))) {
+            Instant lockedUntil = loginAttempts.recordFailure(normalizedUsername);
+            if (lockedUntil == null) throw new AuthorizationException("Invalid username or password");
 
+            // the only write a failed login makes
+            user.lockOut(lockedUntil, rateLimitPolicy.maxFailedLoginAttempts());
+            userRepository.Save(user);
             auditLogger.logAction(
                     user.id(),
-                    "LOGIN_FAILED",
-                    "Invalid username or password"
+                    "LOGIN_LOCKED",
+                    "Locked until " + lockedUntil + " after " + rateLimitPolicy.maxFailedLoginAttempts()
+                            + " consecutive failed authentication attempts"
             );
-            throw new AuthorizationException("Invalid username or password");
+            throw locked();
         }
 
         // Success: issue new token (jti must be unique)
         TokenService.IssuedToken issued = tokenService.generateToken(user);
 
-        // Spec: invalidate any previous token -> overwrite currentJti,
-        // reset failed attempts, set lastLoginAt
-        user.startSession(issued.jti());
-        userRepository.Save(user);
+        // reset failed attempts / lock, set lastLoginAt
+        loginAttempts.reset(normalizedUsername);
+        user.recordLogin();
+        User saved = userRepository.Save(user);
+
+        Instant now = clock.instant();
+        String familyId = UUID.randomUUID().toString();
+        String refreshToken = tokenService.newRefreshToken(familyId);
+        sessions.open(user.id(), familyId, issued.jti(), tokenPolicy.maxActiveSessionsPerUser(), now);
+        refreshTokens.create(new RefreshTokenFamily(familyId, user.id(),
+                TokenService.refreshTokenHash(refreshToken), tokenPolicy.refreshExpiry(now), null), now);
 
         auditLogger.logLogin(user.id());
 
-        return issued.token();
+        return new AuthTokens(issued.token(), refreshToken, tokenService.expirationSeconds(), saved);
+    }
+
+    private static AuthorizationException locked() {
+        return new AuthorizationException("Account temporarily locked after too many failed attempts; try again later");
     }
 }
@@ -9,6 +9,7 @@ import com.cinema.domain.entity.value.UserId;
 import com.cinema.domain.policy.PasswordPolicy;
 import com.cinema.domain.port.UserRepository;
 import com.cinema.infrastructure.security.AuditLogger;
+import com.cinema.infrastructure.diagnostics.RequestTrace;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -70,7 +71,7 @@ public class ChangePasswordUseCase {
         }
 
         // old password mismatch -> counts as a failed attempt
-        if (!user.password().matches(currentPassword)) {
+        if (!RequestTrace.bcrypt("check", () -> user.password().matches(currentPassword))) {
             user.registerFailedLogin(); // after 3 -> deactivates inside domain
             userRepository.Save(user);
 
@@ -88,7 +89,7 @@ public class ChangePasswordUseCase {
                 .validate(newPassword, user.username(), user.fullName())
                 .ensureValid();
 
-        HashedPassword newHash = HashedPassword.fromRaw(newPassword);
+        HashedPassword newHash = RequestTrace.bcrypt("hash", () -> HashedPassword.fromRaw(newPassword));
 
         // domain changePassword should reset failed attempts (good) and may also invalidateSession (ok)
         user.changePassword(newHash);
@@ -0,0 +1,81 @@
+package com.cinema.application.users;
+
+import com.cinema.domain.Exceptions.AuthorizationException;
+import com.cinema.domain.Exceptions.ValidationException;
+import com.cinema.domain.entity.User;
+import com.cinema.domain.entity.value.UserId;
+import com.cinema.domain.enums.BaseRole;
+import com.cinema.domain.port.UserRepository;
+import com.cinema.domain.port.UserRepository.DirectoryFilter;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Objects;
+
+@Service
+public class ListUsersUseCase {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 200;
+
+    private final UserRepository userRepository;
+
+    public ListUsersUseCase(UserRepository userRepository) {
+        this.userRepository = Objects.requireNonNull(userRepository);
+    }
+
+    /** One directory page; nextCursor is null on the last page. */
+    public record UserPage(List<User> users, Long nextCursor) {}
+
+    /**
+     * Spec:
+     * - ADMIN only.
+     * - Newest first; cursor = nextCursor of the previous page (null = first page).
+     * - limit defaults to 50, capped at 200.
+     * - One extra row is read to tell whether another page exists (no count per page).
+     */
+    @Transactional(readOnly = true)
+    public UserPage page(UserId actorId, DirectoryFilter filter, Long cursor, Integer limit) {
+        requireAdmin(actorId);
+        validate(filter);
+        if (cursor != null && cursor <= 0) throw new ValidationException("cursor", "cursor must be positive");
+
+        int size = (limit == null || limit <= 0) ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+        List<User> rows = userRepository.findPage(filter, cursor, size + 1);
+
+        if (rows.size() <= size) return new UserPage(rows, null);
+        List<User> page = rows.subList(0, size);
+        return new UserPage(List.copyOf(page), page.get(size - 1).id().value());
+    }
+
+    /**
+     * Spec:
+     * - ADMIN only; same filter semantics as page().
+     */
+    @Transactional(readOnly = true)
+    public long count(UserId actorId, DirectoryFilter filter) {
+        requireAdmin(actorId);
+        validate(filter);
+        return userRepository.count(filter);
+    }
+
+    private void requireAdmin(UserId actorId) {
+        if (actorId == null) throw new AuthorizationException("Unauthorized");
+
+        User actor = userRepository.findById(actorId)
+                .orElseThrow(() -> new AuthorizationException("Invalid actor"));
+
+        if (actor.baseRole() != BaseRole.ADMIN) {
+            throw new AuthorizationException("Only ADMIN can list users");
+        }
+    }
+
+    private static void validate(DirectoryFilter filter) {
+        if (filter == null) return;
+        if (filter.lastLoginFrom() != null && filter.lastLoginTo() != null
+                && !filter.lastLoginFrom().isBefore(filter.lastLoginTo())) {
+            throw new ValidationException("lastLoginFrom", "lastLoginFrom must be before lastLoginTo");
+        }
+    }
+}
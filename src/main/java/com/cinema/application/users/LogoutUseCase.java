@@ -6,6 +6,7 @@ import com.cinema.domain.Exceptions.ValidationException;
 import com.cinema.domain.entity.User;
 import com.cinema.domain.entity.value.UserId;
 import com.cinema.domain.enums.BaseRole;
+import com.cinema.domain.port.SessionRepository;
 import com.cinema.domain.port.UserRepository;
 import com.cinema.infrastructure.security.AuditLogger;
 import org.springframework.stereotype.Service;
@@ -18,28 +19,31 @@ public class LogoutUseCase {
 
     private final AuditLogger auditLogger;
     private final UserRepository userRepository;
+    private final SessionRepository sessions;
 
-    public LogoutUseCase(AuditLogger auditLogger, UserRepository userRepository) {
+    public LogoutUseCase(AuditLogger auditLogger, UserRepository userRepository, SessionRepository sessions) {
         this.auditLogger = Objects.requireNonNull(auditLogger);
         this.userRepository = Objects.requireNonNull(userRepository);
+        this.sessions = Objects.requireNonNull(sessions);
     }
 
     /**
      * Spec:
      * - Allow currently authenticated user to log out.
-     * - Upon calling, the user's token must be invalidated.
+     * - Upon calling, the user's token must be invalidated (refresh tokens included).
+     * - Only the session of the calling token (jti) ends, the user's other devices stay logged in;
+     *   without a jti every session of the user ends.
      * - Idempotent: if already logged out, no-op.
      */
     @Transactional
-    public void logoutSelf(UserId actorId) {
+    public void logoutSelf(UserId actorId, String jti) {
         if (actorId == null) throw new AuthorizationException("Unauthorized");
 
-        User actor = userRepository.findById(actorId)
+        userRepository.findById(actorId)
                 .orElseThrow(() -> new NotFoundException("User", "User not found"));
 
-        // Always invalidate (idempotent if already null)
-        actor.invalidateSession();
-        userRepository.Save(actor);
+        if (jti != null) sessions.revokeByJti(actorId, jti);
+        else sessions.revokeAll(actorId);
 
         auditLogger.logAction(actorId, "LOGOUT", "self");
     }
@@ -48,6 +52,7 @@ public class LogoutUseCase {
      * Spec:
      * - ADMIN accounts must also be able to forcefully log out any NON-ADMIN accounts
      *   and invalidate their respective tokens.
+     * - Every session of the target (all devices, refresh tokens included) ends in one DELETE.
      * - Idempotent: if target already logged out, no-op.
      */
     @Transactional
@@ -74,8 +79,7 @@ public class LogoutUseCase {
             throw new AuthorizationException("Cannot force logout an ADMIN account");
         }
 
-        target.invalidateSession();
-        userRepository.Save(target);
+        sessions.revokeAll(targetUserId);
 
         auditLogger.logAction(adminId, "FORCE_LOGOUT", "userId=" + targetUserId.value());
     }
@@ -0,0 +1,42 @@
+package com.cinema.application.users;
+
+import com.cinema.domain.Exceptions.AuthorizationException;
+import com.cinema.domain.Exceptions.ValidationException;
+import com.cinema.domain.entity.value.UserId;
+import com.cinema.domain.port.UserLookup;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Objects;
+
+@Service
+public class LookupUsersUseCase {
+
+    public static final int DEFAULT_LIMIT = 10;
+    public static final int MAX_LIMIT = 50;
+    public static final int MAX_QUERY_LENGTH = 64;
+
+    private final UserLookup userLookup;
+
+    public LookupUsersUseCase(UserLookup userLookup) {
+        this.userLookup = Objects.requireNonNull(userLookup);
+    }
+
+    /**
+     * Spec:
+     * - Any signed-in user (programmers pick staff/programmers by name instead of by id).
+     * - Active users only; prefix matches on username / full-name words first, then one-typo matches.
+     * - Blank query => empty list; limit defaults to 10, capped at 50.
+     * - Served from memory (no database round trip), so it can run per keystroke.
+     */
+    public List<UserLookup.Match> lookup(UserId actorId, String query, Integer limit) {
+        if (actorId == null) throw new AuthorizationException("Unauthorized");
+        if (query == null || query.isBlank()) return List.of();
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new ValidationException("q", "Query must be at most " + MAX_QUERY_LENGTH + " characters");
+        }
+
+        int size = (limit == null || limit <= 0) ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+        return userLookup.lookup(query, size);
+    }
+}
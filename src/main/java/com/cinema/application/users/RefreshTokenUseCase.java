@@ -0,0 +1,112 @@
+package com.cinema.application.users;
+
+import com.cinema.domain.Exceptions.AuthorizationException;
+import com.cinema.domain.entity.RefreshTokenFamily;
+import com.cinema.domain.entity.User;
+import com.cinema.domain.policy.TokenPolicy;
+import com.cinema.domain.port.RefreshTokenRepository;
+import com.cinema.domain.port.SessionRepository;
+import com.cinema.domain.port.UserRepository;
+import com.cinema.infrastructure.security.AuditLogger;
+import com.cinema.infrastructure.security.TokenService;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Objects;
+
+@Service
+public class RefreshTokenUseCase {
+
+    private static final String INVALID = "Unauthorized: invalid refresh token";
+
+    private final RefreshTokenRepository refreshTokens;
+    private final SessionRepository sessions;
+    private final UserRepository userRepository;
+    private final TokenService tokenService;
+    private final TokenPolicy tokenPolicy;
+    private final AuditLogger auditLogger;
+    private final Clock clock;
+
+    public RefreshTokenUseCase(RefreshTokenRepository refreshTokens,
+                               SessionRepository sessions,
+                               UserRepository userRepository,
+                               TokenService tokenService,
+                               TokenPolicy tokenPolicy,
+                               AuditLogger auditLogger,
+                               Clock clock) {
+        this.refreshTokens = Objects.requireNonNull(refreshTokens);
+        this.sessions = Objects.requireNonNull(sessions);
+        this.userRepository = Objects.requireNonNull(userRepository);
+        this.tokenService = Objects.requireNonNull(tokenService);
+        this.tokenPolicy = Objects.requireNonNull(tokenPolicy);
+        this.auditLogger = Objects.requireNonNull(auditLogger);
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    /**
+     * Spec:
+     * - Exchanges the current refresh token of a session for a new access token + the next refresh token
+     *   (rotation); no password check, no BCrypt.
+     * - The presented token must be the family's current one, unexpired and unrevoked, and its session must
+     *   still be alive (user active, device not logged out / evicted): otherwise 401.
+     * - Reuse of an already-rotated token (replay of a stolen token, or two clients racing the same token)
+     *   revokes the whole family and ends that session: both holders have to log in again
+     *   (the user's other devices keep their sessions).
+     * - Revocations are kept even though the call fails (no rollback on AuthorizationException).
+     */
+    @Transactional(noRollbackFor = AuthorizationException.class)
+    public AuthTokens refresh(String rawRefreshToken) {
+        String presented = rawRefreshToken == null ? null : rawRefreshToken.trim();
+        String familyId = TokenService.refreshTokenFamily(presented);
+        if (familyId == null) throw new AuthorizationException(INVALID);
+
+        RefreshTokenFamily family = refreshTokens.findByFamily(familyId)
+                .orElseThrow(() -> new AuthorizationException(INVALID));
+
+        Instant now = clock.instant();
+        String presentedHash = TokenService.refreshTokenHash(presented);
+
+        if (family.isRevoked() || family.isExpired(now)) {
+            throw new AuthorizationException("Unauthorized: refresh token expired or revoked");
+        }
+
+        User user = userRepository.findById(family.userId())
+                .orElseThrow(() -> new AuthorizationException(INVALID));
+
+        if (!family.isCurrent(presentedHash)) {
+            revokeOnReuse(family, user, now);
+            throw new AuthorizationException(INVALID);
+        }
+
+        // deactivation ends every session; logout / eviction delete the family along with its session
+        if (!user.isActive()) {
+            sessions.revoke(familyId);
+            throw new AuthorizationException("Unauthorized: session ended");
+        }
+
+        String next = tokenService.newRefreshToken(familyId);
+        if (!refreshTokens.rotate(familyId, presentedHash, TokenService.refreshTokenHash(next),
+                tokenPolicy.refreshExpiry(now), now)) {
+            // someone rotated it between our read and our write: same token used twice
+            revokeOnReuse(family, user, now);
+            throw new AuthorizationException(INVALID);
+        }
+
+        TokenService.IssuedToken issued = tokenService.generateToken(user);
+        if (!sessions.rotate(familyId, issued.jti(), now)) {
+            throw new AuthorizationException("Unauthorized: session ended");
+        }
+
+        return new AuthTokens(issued.token(), next, tokenService.expirationSeconds(), user);
+    }
+
+    private void revokeOnReuse(RefreshTokenFamily family, User user, Instant now) {
+        refreshTokens.revoke(family.familyId(), now);
+        sessions.revoke(family.familyId());
+
+        auditLogger.logAction(user.id(), "REFRESH_TOKEN_REUSE",
+                "Refresh token reused; session revoked (family=" + family.familyId() + ")");
+    }
+}
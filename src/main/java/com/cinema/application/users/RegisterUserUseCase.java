@@ -8,6 +8,7 @@ import com.cinema.domain.enums.BaseRole;
 import com.cinema.domain.policy.PasswordPolicy;
 import com.cinema.domain.port.UserRepository;
 import com.cinema.infrastructure.security.AuditLogger;
+import com.cinema.infrastructure.diagnostics.RequestTrace;
 import org.springframework.stereotype.Service;
 
 import java.util.Objects;
@@ -52,7 +53,7 @@ public class RegisterUserUseCase {
                 .validate(rawPassword, username, normalizedFullName)
                 .ensureValid();
 
-        HashedPassword hashedPassword = HashedPassword.fromRaw(rawPassword);
+        HashedPassword hashedPassword = RequestTrace.bcrypt("hash", () -> HashedPassword.fromRaw(rawPassword));
 
         // SPEC: account must be INACTIVE upon registration request
         User user = new User(
@@ -63,8 +64,8 @@ public class RegisterUserUseCase {
                 BaseRole.USER,    // permanent role
                 false,            // active=false (critical spec requirement)
                 0,                // failed attempts counter
-                null,             // currentJti
-                null              // lastLoginAt
+                null,             // lastLoginAt
+                null              // lockedUntil
         );
 
         User saved = userRepository.Save(user);
@@ -4,6 +4,7 @@ import com.cinema.domain.Exceptions.AuthorizationException;
 import com.cinema.domain.Exceptions.NotFoundException;
 import com.cinema.domain.Exceptions.ValidationException;
 import com.cinema.domain.entity.User;
+import com.cinema.domain.port.SessionRepository;
 import com.cinema.domain.port.UserRepository;
 import com.cinema.infrastructure.security.TokenService;
 import com.cinema.infrastructure.security.TokenValidator;
@@ -17,19 +18,22 @@ public class ValidateTokenUseCase {
     private final TokenValidator tokenValidator;
     private final TokenService tokenService;
     private final UserRepository userRepository;
+    private final SessionRepository sessions;
 
     public ValidateTokenUseCase(TokenValidator tokenValidator,
                                 TokenService tokenService,
-                                UserRepository userRepository) {
+                                UserRepository userRepository,
+                                SessionRepository sessions) {
         this.tokenValidator = Objects.requireNonNull(tokenValidator);
         this.tokenService = Objects.requireNonNull(tokenService);
         this.userRepository = Objects.requireNonNull(userRepository);
+        this.sessions = Objects.requireNonNull(sessions);
     }
 
     /**
      * Validates token itself (spec):
      * - invalid / expired / revoked must produce different errors (invalid/expired handled by TokenValidator exceptions,
-     *   revoked handled here via blacklist/currentJti).
+     *   revoked handled here via blacklist/user sessions).
      * - inactive account blocks token validity.
      *
      * NOTE: "not owner" is checked in use-cases that take actorId/targetId (OwnershipGuard).
@@ -54,9 +58,8 @@ public class ValidateTokenUseCase {
             throw new AuthorizationException("ACCOUNT_INACTIVE: Account inactive");
         }
 
-        // Single active token rule: jti must match currentJti
-        String currentJti = user.currentJti();
-        if (currentJti == null || !currentJti.equals(raw.jti())) {
+        // jti must be the current token of one of the user's sessions
+        if (!sessions.isActive(user.id(), raw.jti())) {
             throw new AuthorizationException("TOKEN_REVOKED: Token is not current");
         }
 
@@ -0,0 +1,155 @@
+package com.cinema.domain.entity;
+
+import com.cinema.domain.entity.value.ProgramId;
+import com.cinema.domain.entity.value.UserId;
+import com.cinema.domain.enums.ImportJobState;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Bulk screening import (one uploaded CSV/NDJSON stream).
+ *
+ * Invariant:
+ * - rowsRead only grows, and only together with the batch that produced it (resume cursor)
+ * - rowsRead == rowsImported + rowsFailed
+ * - COMPLETED is final
+ * - runToken names the one runner allowed to write batches; start() and resume() hand out a new one
+ */
+public class ImportJob {
+
+    private final Long id;                 // nullable before save
+    private final ProgramId programId;
+    private final UserId submitterId;
+    private final String format;
+    private final boolean autoSubmit;
+
+    private ImportJobState state;
+
+    private long rowsRead;
+    private long rowsImported;
+    private long rowsSubmitted;
+    private long rowsFailed;
+
+    private String message;
+    private String runToken;               // nullable for jobs created before run tokens
+
+    private final LocalDateTime createdTime;
+    private LocalDateTime updatedTime;
+
+    public static ImportJob start(ProgramId programId, UserId submitterId, String format, boolean autoSubmit) {
+        LocalDateTime now = LocalDateTime.now();
+        return new ImportJob(null, programId, submitterId, format, autoSubmit, ImportJobState.RUNNING,
+                0, 0, 0, 0, null, newRunToken(), now, now);
+    }
+
+    public static ImportJob rehydrate(
+            Long id,
+            ProgramId programId,
+            UserId submitterId,
+            String format,
+            boolean autoSubmit,
+            ImportJobState state,
+            long rowsRead,
+            long rowsImported,
+            long rowsSubmitted,
+            long rowsFailed,
+            String message,
+            String runToken,
+            LocalDateTime createdTime,
+            LocalDateTime updatedTime
+    ) {
+        return new ImportJob(id, programId, submitterId, format, autoSubmit, state,
+                rowsRead, rowsImported, rowsSubmitted, rowsFailed, message, runToken, createdTime, updatedTime);
+    }
+
+    private ImportJob(
+            Long id,
+            ProgramId programId,
+            UserId submitterId,
+            String format,
+            boolean autoSubmit,
+            ImportJobState state,
+            long rowsRead,
+            long rowsImported,
+            long rowsSubmitted,
+            long rowsFailed,
+            String message,
+            String runToken,
+            LocalDateTime createdTime,
+            LocalDateTime updatedTime
+    ) {
+        this.id = id;
+        this.programId = Objects.requireNonNull(programId, "programId");
+        this.submitterId = Objects.requireNonNull(submitterId, "submitterId");
+        this.format = Objects.requireNonNull(format, "format");
+        this.autoSubmit = autoSubmit;
+        this.state = state != null ? state : ImportJobState.RUNNING;
+        this.rowsRead = rowsRead;
+        this.rowsImported = rowsImported;
+        this.rowsSubmitted = rowsSubmitted;
+        this.rowsFailed = rowsFailed;
+        this.message = message;
+        this.runToken = runToken;
+        this.createdTime = createdTime;
+        this.updatedTime = updatedTime;
+    }
+
+    public boolean isOwner(UserId userId) {
+        return userId != null && submitterId.equals(userId);
+    }
+
+    /** Progress of one committed batch; lastRow is the highest data row number the batch covered. */
+    public void recordBatch(long lastRow, long imported, long submitted, long failed) {
+        if (state != ImportJobState.RUNNING) throw new IllegalStateException("Import job is not running");
+        if (lastRow < rowsRead) throw new IllegalStateException("Import cursor cannot move backwards");
+        this.rowsRead = lastRow;
+        this.rowsImported += imported;
+        this.rowsSubmitted += submitted;
+        this.rowsFailed += failed;
+        this.updatedTime = LocalDateTime.now();
+    }
+
+    public void complete() {
+        if (state != ImportJobState.RUNNING) throw new IllegalStateException("Import job is not running");
+        this.state = ImportJobState.COMPLETED;
+        this.message = null;
+        this.updatedTime = LocalDateTime.now();
+    }
+
+    public void interrupt(String reason) {
+        if (state == ImportJobState.COMPLETED) throw new IllegalStateException("Import job already completed");
+        this.state = ImportJobState.INTERRUPTED;
+        this.message = reason;
+        this.updatedTime = LocalDateTime.now();
+    }
+
+    /** Back to RUNNING under a new run token: the previous runner may no longer write batches. */
+    public void resume() {
+        if (state == ImportJobState.COMPLETED) throw new IllegalStateException("Import job already completed");
+        this.state = ImportJobState.RUNNING;
+        this.message = null;
+        this.runToken = newRunToken();
+        this.updatedTime = LocalDateTime.now();
+    }
+
+    private static String newRunToken() {
+        return UUID.randomUUID().toString();
+    }
+
+    public Long id() { return id; }
+    public ProgramId programId() { return programId; }
+    public UserId submitterId() { return submitterId; }
+    public String format() { return format; }
+    public boolean autoSubmit() { return autoSubmit; }
+    public ImportJobState state() { return state; }
+    public long rowsRead() { return rowsRead; }
+    public long rowsImported() { return rowsImported; }
+    public long rowsSubmitted() { return rowsSubmitted; }
+    public long rowsFailed() { return rowsFailed; }
+    public String message() { return message; }
+    public String runToken() { return runToken; }
+    public LocalDateTime createdTime() { return createdTime; }
+    public LocalDateTime updatedTime() { return updatedTime; }
+}
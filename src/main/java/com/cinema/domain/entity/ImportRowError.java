@@ -0,0 +1,6 @@
+package com.cinema.domain.entity;
+
+/**
+ * One rejected row of an import job (rowNumber counts data rows from 1, header excluded).
+ */
+public record ImportRowError(long rowNumber, String field, String message) {}
@@ -3,8 +3,10 @@ package com.cinema.domain.entity;
 import com.cinema.domain.entity.value.ProgramId;
 import com.cinema.domain.entity.value.UserId;
 import com.cinema.domain.enums.ProgramState;
+import com.cinema.domain.event.ProgramStateChanged;
 import com.cinema.domain.service.ProgramStateMachine;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
@@ -23,8 +25,12 @@ public class Program {
 
     private final UserId creatorUserId;
 
-    private final Set<UserId> programmers = new HashSet<>();
-    private final Set<UserId> staff = new HashSet<>();
+    // primitive id sets (MemberIds): membership checks are on every authorization path
+    private MemberIds programmers = MemberIds.empty();
+    private MemberIds staff = MemberIds.empty();
+
+    // state transitions since load; drained by the repository on save (not persisted)
+    private final List<ProgramStateChanged> pendingEvents = new ArrayList<>();
 
     /**
      * Create/new + simple rehydrate base fields.
@@ -66,7 +72,7 @@ public class Program {
         this.state = (state == null) ? ProgramState.CREATED : state;
 
         // ✅ Invariant: creator is always PROGRAMMER
-        this.programmers.add(creatorUserId);
+        this.programmers.add(creatorUserId.value());
     }
 
     /**
@@ -87,6 +93,42 @@ public class Program {
             ProgramState state,
             Set<UserId> programmers,
             Set<UserId> staff
+    ) {
+        return rehydrate(id, createdAt, name, description, startDate, endDate, creatorUserId, state,
+                MemberIds.of(programmers), MemberIds.of(staff));
+    }
+
+    /**
+     * REHYDRATION factory on raw user ids (persistence mapper, caches): no UserId/Long per member.
+     * Same invariants as above.
+     */
+    public static Program rehydrate(
+            ProgramId id,
+            LocalDateTime createdAt,
+            String name,
+            String description,
+            LocalDate startDate,
+            LocalDate endDate,
+            UserId creatorUserId,
+            ProgramState state,
+            long[] programmerIds,
+            long[] staffIds
+    ) {
+        return rehydrate(id, createdAt, name, description, startDate, endDate, creatorUserId, state,
+                MemberIds.of(programmerIds), MemberIds.of(staffIds));
+    }
+
+    private static Program rehydrate(
+            ProgramId id,
+            LocalDateTime createdAt,
+            String name,
+            String description,
+            LocalDate startDate,
+            LocalDate endDate,
+            UserId creatorUserId,
+            ProgramState state,
+            MemberIds programmers,
+            MemberIds staff
     ) {
         Program p = new Program(
                 id,
@@ -99,26 +141,25 @@ public class Program {
                 state
         );
 
-        p.programmers.clear();
-        p.staff.clear();
-
-        if (programmers != null) p.programmers.addAll(programmers);
-        if (staff != null) p.staff.addAll(staff);
+        p.programmers = programmers;
+        p.staff = staff;
 
         // ✅ enforce creator membership
-        p.programmers.add(p.creatorUserId);
+        p.programmers.add(p.creatorUserId.value());
 
         // ✅ invariant: creator cannot be STAFF
-        if (p.staff.contains(p.creatorUserId)) {
+        if (p.staff.contains(p.creatorUserId.value())) {
             throw new IllegalStateException("Creator cannot be STAFF in the same program");
         }
 
         // ✅ invariant: nobody can be both
-        for (UserId u : new HashSet<>(p.programmers)) {
-            if (p.staff.contains(u)) {
-                throw new IllegalStateException(
-                        "User cannot be both PROGRAMMER and STAFF in same program: " + u.value()
-                );
+        if (p.programmers.intersects(p.staff)) {
+            for (UserId u : p.programmers.asSet()) {
+                if (p.staff.contains(u.value())) {
+                    throw new IllegalStateException(
+                            "User cannot be both PROGRAMMER and STAFF in same program: " + u.value()
+                    );
+                }
             }
         }
 
@@ -174,10 +215,10 @@ public class Program {
         ensureProgrammersMutable();
         requireUserId(userId);
 
-        if (staff.contains(userId))
+        if (staff.contains(userId.value()))
             throw new IllegalArgumentException("User is STAFF in this program; cannot also be PROGRAMMER");
 
-        if (!programmers.add(userId))
+        if (!programmers.add(userId.value()))
             throw new IllegalArgumentException("User is already PROGRAMMER in this program");
     }
 
@@ -190,17 +231,17 @@ public class Program {
             throw new IllegalArgumentException("Cannot remove creator from programmers");
         }
 
-        programmers.remove(userId);
+        programmers.remove(userId.value());
     }
 
     public void addStaff(UserId userId) {
         ensureStaffMutable();
         requireUserId(userId);
 
-        if (programmers.contains(userId))
+        if (programmers.contains(userId.value()))
             throw new IllegalArgumentException("User is PROGRAMMER in this program; cannot also be STAFF");
 
-        if (!staff.add(userId))
+        if (!staff.add(userId.value()))
             throw new IllegalArgumentException("User is already STAFF in this program");
     }
 
@@ -213,7 +254,7 @@ public class Program {
             throw new IllegalArgumentException("Creator cannot be STAFF in this program");
         }
 
-        staff.remove(userId);
+        staff.remove(userId.value());
     }
 
     public void changeState(ProgramState nextState, ProgramStateMachine sm) {
@@ -221,15 +262,25 @@ public class Program {
         Objects.requireNonNull(sm, "ProgramStateMachine is required");
         Objects.requireNonNull(nextState, "nextState is required");
 
+        ProgramState previous = this.state;
         this.state = sm.transition(this.state, nextState);
+        pendingEvents.add(new ProgramStateChanged(id, previous, this.state, Instant.now()));
+    }
+
+    /** Transitions recorded since the last call (oldest first); clears the list. */
+    public List<ProgramStateChanged> pullEvents() {
+        if (pendingEvents.isEmpty()) return List.of();
+        List<ProgramStateChanged> out = List.copyOf(pendingEvents);
+        pendingEvents.clear();
+        return out;
     }
 
     public boolean isProgrammer(UserId userId) {
-        return userId != null && programmers.contains(userId);
+        return userId != null && programmers.contains(userId.value());
     }
 
     public boolean isStaff(UserId userId) {
-        return userId != null && staff.contains(userId);
+        return userId != null && staff.contains(userId.value());
     }
 
     /* ---------------- Getters ---------------- */
@@ -246,6 +297,11 @@ public class Program {
 
     public UserId creatorUserId() { return creatorUserId; }
 
-    public Set<UserId> programmers() { return Collections.unmodifiableSet(programmers); }
-    public Set<UserId> staff() { return Collections.unmodifiableSet(staff); }
+    /** Read-only views (UserIds are created while iterating; prefer isProgrammer/isStaff for checks). */
+    public Set<UserId> programmers() { return programmers.asSet(); }
+    public Set<UserId> staff() { return staff.asSet(); }
+
+    /** Copies of the member ids (no particular order). */
+    public long[] programmerIds() { return programmers.toArray(); }
+    public long[] staffIds() { return staff.toArray(); }
 }
@@ -0,0 +1,49 @@
+package com.cinema.domain.entity;
+
+import com.cinema.domain.entity.value.UserId;
+
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * One refresh-token rotation family (started by a login).
+ *
+ * Spec:
+ * - Only the hash of the family's current token is kept; every refresh swaps it for the next one
+ * - A token of the family that is not the current one has been rotated away already => reuse
+ * - Unusable once revoked or past expiresAt (sliding: each rotation extends it by the refresh TTL)
+ */
+public class RefreshTokenFamily {
+
+    private final String familyId;
+    private final UserId userId;
+    private final String tokenHash;
+    private final Instant expiresAt;
+    private final Instant revokedAt;
+
+    public RefreshTokenFamily(String familyId, UserId userId, String tokenHash, Instant expiresAt, Instant revokedAt) {
+        this.familyId = Objects.requireNonNull(familyId);
+        this.userId = Objects.requireNonNull(userId);
+        this.tokenHash = Objects.requireNonNull(tokenHash);
+        this.expiresAt = Objects.requireNonNull(expiresAt);
+        this.revokedAt = revokedAt;
+    }
+
+    public boolean isRevoked() {
+        return revokedAt != null;
+    }
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    public boolean isCurrent(String presentedHash) {
+        return tokenHash.equals(presentedHash);
+    }
+
+    public String familyId() { return familyId; }
+    public UserId userId() { return userId; }
+    public String tokenHash() { return tokenHash; }
+    public Instant expiresAt() { return expiresAt; }
+    public Instant revokedAt() { return revokedAt; }
+}
@@ -4,8 +4,13 @@ import com.cinema.domain.entity.value.ProgramId;
 import com.cinema.domain.entity.value.ScreeningId;
 import com.cinema.domain.entity.value.UserId;
 import com.cinema.domain.enums.ScreeningState;
+import com.cinema.domain.event.ScreeningStateChanged;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 public class Screening {
@@ -17,10 +22,15 @@ public class Screening {
     private String title;
     private String genre;
     private String description;
+    private String castNames;
 
     private String room;
     private LocalDate scheduledTime;
 
+    // time-slot scheduling (null for date-only scheduling)
+    private LocalDateTime startTime;
+    private Integer durationMinutes;
+
     private ScreeningState state;
 
     private UserId staffMemberId;
@@ -37,8 +47,20 @@ public class Screening {
     // ✅ NEW (για FINAL_SUBMITTED)
     private LocalDate finalSubmittedTime;
 
+    // state transitions since load; drained by the repository on save (not persisted)
+    private final List<ScreeningStateChanged> pendingEvents = new ArrayList<>();
+
     // ✅ for NEW screening creation
     public static Screening newDraft(ProgramId programId, UserId submitterId, String title, String genre, String description) {
+        return newDraft(programId, submitterId, title, genre, description, null, null);
+    }
+
+    // draft with the optional film details (bulk import: cast list, running time)
+    public static Screening newDraft(ProgramId programId, UserId submitterId, String title, String genre,
+                                     String description, String castNames, Integer durationMinutes) {
+        if (durationMinutes != null && (durationMinutes <= 0 || durationMinutes > MAX_DURATION_MINUTES)) {
+            throw new IllegalArgumentException("Duration must be 1.." + MAX_DURATION_MINUTES + " minutes");
+        }
         return new Screening(
                 null,
                 programId,
@@ -46,6 +68,7 @@ public class Screening {
                 title,
                 genre,
                 description,
+                castNames,
                 null,
                 null,
                 ScreeningState.CREATED,
@@ -56,11 +79,13 @@ public class Screening {
                 LocalDate.now(),
                 null,
                 null,
-                null // ✅ finalSubmittedTime
+                null, // ✅ finalSubmittedTime
+                null,
+                durationMinutes
         );
     }
 
-    // ✅ for JPA rehydration (17 args)
+    // ✅ for JPA rehydration (20 args)
     public static Screening rehydrate(
             ScreeningId id,
             ProgramId programId,
@@ -68,6 +93,7 @@ public class Screening {
             String title,
             String genre,
             String description,
+            String castNames,
             String room,
             LocalDate scheduledTime,
             ScreeningState state,
@@ -78,7 +104,9 @@ public class Screening {
             LocalDate createdTime,
             LocalDate submittedTime,
             LocalDate reviewedTime,
-            LocalDate finalSubmittedTime // ✅ NEW
+            LocalDate finalSubmittedTime, // ✅ NEW
+            LocalDateTime startTime,
+            Integer durationMinutes
     ) {
         return new Screening(
                 id,
@@ -87,6 +115,7 @@ public class Screening {
                 title,
                 genre,
                 description,
+                castNames,
                 room,
                 scheduledTime,
                 state,
@@ -97,7 +126,9 @@ public class Screening {
                 createdTime,
                 submittedTime,
                 reviewedTime,
-                finalSubmittedTime
+                finalSubmittedTime,
+                startTime,
+                durationMinutes
         );
     }
 
@@ -108,6 +139,7 @@ public class Screening {
             String title,
             String genre,
             String description,
+            String castNames,
             String room,
             LocalDate scheduledTime,
             ScreeningState state,
@@ -118,7 +150,9 @@ public class Screening {
             LocalDate createdTime,
             LocalDate submittedTime,
             LocalDate reviewedTime,
-            LocalDate finalSubmittedTime // ✅ NEW
+            LocalDate finalSubmittedTime, // ✅ NEW
+            LocalDateTime startTime,
+            Integer durationMinutes
     ) {
         this.id = id;
         this.programId = Objects.requireNonNull(programId, "programId");
@@ -127,6 +161,7 @@ public class Screening {
         this.title = title;
         this.genre = genre;
         this.description = description;
+        this.castNames = castNames;
 
         this.room = room;
         this.scheduledTime = scheduledTime;
@@ -144,6 +179,9 @@ public class Screening {
         this.reviewedTime = reviewedTime;
 
         this.finalSubmittedTime = finalSubmittedTime; // ✅
+
+        this.startTime = startTime;
+        this.durationMinutes = durationMinutes;
     }
 
     public boolean isOwner(UserId userId) {
@@ -170,7 +208,7 @@ public class Screening {
     public void submit() {
         if (state != ScreeningState.CREATED) throw new IllegalStateException("Only CREATED can be submitted");
         if (!isCompleteForSubmission()) throw new IllegalStateException("Screening is incomplete");
-        state = ScreeningState.SUBMITTED;
+        moveTo(ScreeningState.SUBMITTED);
         submittedTime = LocalDate.now();
     }
 
@@ -187,13 +225,13 @@ public class Screening {
         this.reviewScore = score;
         this.reviewComments = (comments == null) ? "" : comments.trim();
 
-        state = ScreeningState.REVIEWED;
+        moveTo(ScreeningState.REVIEWED);
         reviewedTime = LocalDate.now();
     }
 
     public void approve() {
         if (state != ScreeningState.REVIEWED) throw new IllegalStateException("Only REVIEWED can be approved");
-        state = ScreeningState.APPROVED;
+        moveTo(ScreeningState.APPROVED);
     }
 
     // ✅ NEW: final submit
@@ -201,7 +239,7 @@ public class Screening {
         if (state != ScreeningState.APPROVED) {
             throw new IllegalStateException("Only APPROVED can be final-submitted");
         }
-        state = ScreeningState.FINAL_SUBMITTED;
+        moveTo(ScreeningState.FINAL_SUBMITTED);
         finalSubmittedTime = LocalDate.now();
     }
 
@@ -215,13 +253,62 @@ public class Screening {
 
         this.scheduledTime = date;
         this.room = room.trim();
-        state = ScreeningState.SCHEDULED;
+        this.startTime = null; // date-only: no time slot
+        moveTo(ScreeningState.SCHEDULED);
+    }
+
+    public static final int MAX_DURATION_MINUTES = 24 * 60;
+
+    // time-slot scheduling: start + duration in a room
+    public void scheduleSlot(LocalDateTime start, int durationMinutes, String room) {
+        if (state != ScreeningState.APPROVED && state != ScreeningState.FINAL_SUBMITTED) {
+            throw new IllegalStateException("Only APPROVED or FINAL_SUBMITTED can be scheduled");
+        }
+        if (start == null) throw new IllegalArgumentException("start time required");
+        if (durationMinutes <= 0 || durationMinutes > MAX_DURATION_MINUTES) {
+            throw new IllegalArgumentException("Duration must be 1.." + MAX_DURATION_MINUTES + " minutes");
+        }
+        if (room == null || room.isBlank()) throw new IllegalArgumentException("room required");
+
+        this.startTime = start;
+        this.durationMinutes = durationMinutes;
+        this.scheduledTime = start.toLocalDate();
+        this.room = room.trim();
+        moveTo(ScreeningState.SCHEDULED);
+    }
+
+    // back to FINAL_SUBMITTED, frees the room/time (duration is kept)
+    public void unschedule() {
+        if (state != ScreeningState.SCHEDULED) throw new IllegalStateException("Only SCHEDULED can be unscheduled");
+        this.scheduledTime = null;
+        this.startTime = null;
+        this.room = null;
+        moveTo(ScreeningState.FINAL_SUBMITTED);
+    }
+
+    private void moveTo(ScreeningState next) {
+        ScreeningState previous = state;
+        state = next;
+        pendingEvents.add(new ScreeningStateChanged(id, programId, submitterId, staffMemberId,
+                previous, next, Instant.now()));
+    }
+
+    /** Transitions recorded since the last call (oldest first); clears the list. */
+    public List<ScreeningStateChanged> pullEvents() {
+        if (pendingEvents.isEmpty()) return List.of();
+        List<ScreeningStateChanged> out = List.copyOf(pendingEvents);
+        pendingEvents.clear();
+        return out;
+    }
+
+    public boolean hasTimeSlot() {
+        return startTime != null && durationMinutes != null && room != null;
     }
 
     public void reject(String reason) {
         if (reason == null || reason.isBlank()) throw new IllegalArgumentException("rejection reason required");
         this.rejectionReason = reason.trim();
-        state = ScreeningState.REJECTED;
+        moveTo(ScreeningState.REJECTED);
     }
 
     public void withdraw() {
@@ -238,6 +325,7 @@ public class Screening {
     public String title() { return title; }
     public String genre() { return genre; }
     public String description() { return description; }
+    public String castNames() { return castNames; }
 
     public String room() { return room; }
     public LocalDate scheduledTime() { return scheduledTime; }
@@ -256,4 +344,11 @@ public class Screening {
     public LocalDate reviewedTime() { return reviewedTime; }
 
     public LocalDate finalSubmittedTime() { return finalSubmittedTime; } // ✅ NEW
+
+    public LocalDateTime startTime() { return startTime; }
+    public Integer durationMinutes() { return durationMinutes; }
+
+    public LocalDateTime endTime() {
+        return (startTime == null || durationMinutes == null) ? null : startTime.plusMinutes(durationMinutes);
+    }
 }
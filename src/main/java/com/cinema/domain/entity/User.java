@@ -18,9 +18,12 @@ public class User {
     private boolean active;
     private int failedAttempts;
 
-    // ✅ για token invalidation rules (spec)
-    private String currentJti;      // null σημαίνει “κανένα active session/token”
     private Instant lastLoginAt;
+    private Instant lockedUntil;    // προσωρινό κλείδωμα μετά από αποτυχημένα logins (null = όχι)
+
+    // ✅ για token invalidation rules (spec): τα sessions ζουν στο SessionRepository,
+    // το flag ζητά από το UserRepository.Save να τα τερματίσει όλα
+    private boolean sessionsRevoked;
 
     public User(
             UserId id,
@@ -30,8 +33,8 @@ public class User {
             BaseRole baseRole,
             boolean active,
             int failedAttempts,
-            String currentJti,
-            Instant lastLoginAt
+            Instant lastLoginAt,
+            Instant lockedUntil
     ) {
         if (username == null) throw new IllegalArgumentException("Username cannot be null");
         if (password == null) throw new IllegalArgumentException("Password cannot be null");
@@ -44,8 +47,8 @@ public class User {
         this.baseRole = baseRole;
         this.active = active;
         this.failedAttempts = failedAttempts;
-        this.currentJti = currentJti;
         this.lastLoginAt = lastLoginAt;
+        this.lockedUntil = lockedUntil;
     }
 
     public void updateFullName(String newFullName) {
@@ -79,6 +82,7 @@ public class User {
     public void activate() {
         this.active = true;
         this.failedAttempts = 0;
+        this.lockedUntil = null;
     }
 
     public void deactivate() {
@@ -96,20 +100,31 @@ public class User {
         }
     }
 
+    /** Ξεκλειδώνει μόνο του στο until (LoginAttemptTracker: μόνο αυτή η μετάβαση αποθηκεύεται) */
+    public void lockOut(Instant until, int failures) {
+        if (until == null) throw new IllegalArgumentException("until cannot be null");
+        this.lockedUntil = until;
+        this.failedAttempts = failures;
+    }
+
+    public boolean isLockedOut(Instant now) {
+        return lockedUntil != null && now.isBefore(lockedUntil);
+    }
+
     public void resetFailedAttempts() {
         this.failedAttempts = 0;
     }
 
-    /** Καλείται στο επιτυχές login */
-    public void startSession(String jti) {
-        if (jti == null || jti.isBlank()) throw new IllegalArgumentException("jti cannot be blank");
-        this.currentJti = jti;
+    /** Καλείται στο επιτυχές login (το session ανοίγει στο SessionRepository) */
+    public void recordLogin() {
         this.lastLoginAt = Instant.now();
         this.failedAttempts = 0;
+        this.lockedUntil = null;
     }
 
+    /** Τερματίζει ΟΛΑ τα sessions (όλες τις συσκευές) του χρήστη στο επόμενο Save */
     public void invalidateSession() {
-        this.currentJti = null;
+        this.sessionsRevoked = true;
     }
 
     // Getters
@@ -121,6 +136,7 @@ public class User {
     public boolean isActive() { return active; }
     public int failedAttempts() { return failedAttempts; }
 
-    public String currentJti() { return currentJti; }
+    public boolean sessionsRevoked() { return sessionsRevoked; }
     public Instant lastLoginAt() { return lastLoginAt; }
+    public Instant lockedUntil() { return lockedUntil; }
 }
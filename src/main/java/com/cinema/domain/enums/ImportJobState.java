@@ -0,0 +1,7 @@
+package com.cinema.domain.enums;
+
+public enum ImportJobState {
+    RUNNING,
+    INTERRUPTED, // stream broke off; resumable from rowsRead
+    COMPLETED
+}
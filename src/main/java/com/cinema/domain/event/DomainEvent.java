@@ -0,0 +1,15 @@
+package com.cinema.domain.event;
+
+import com.cinema.domain.entity.value.ProgramId;
+
+import java.time.Instant;
+
+/**
+ * Something that happened to an aggregate (recorded by the entity, published when it is saved).
+ */
+public sealed interface DomainEvent permits ScreeningStateChanged, ProgramStateChanged {
+
+    ProgramId programId();
+
+    Instant occurredAt();
+}
@@ -0,0 +1,13 @@
+package com.cinema.domain.event;
+
+import com.cinema.domain.entity.value.ProgramId;
+import com.cinema.domain.enums.ProgramState;
+
+import java.time.Instant;
+
+public record ProgramStateChanged(
+        ProgramId programId,
+        ProgramState from,
+        ProgramState to,
+        Instant occurredAt
+) implements DomainEvent {}
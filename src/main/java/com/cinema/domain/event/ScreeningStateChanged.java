@@ -0,0 +1,26 @@
+package com.cinema.domain.event;
+
+import com.cinema.domain.entity.value.ProgramId;
+import com.cinema.domain.entity.value.ScreeningId;
+import com.cinema.domain.entity.value.UserId;
+import com.cinema.domain.enums.ScreeningState;
+
+import java.time.Instant;
+
+/**
+ * screeningId is null while the screening is not saved yet (the repository fills it in on publish).
+ */
+public record ScreeningStateChanged(
+        ScreeningId screeningId,
+        ProgramId programId,
+        UserId submitterId,
+        UserId staffMemberId,
+        ScreeningState from,
+        ScreeningState to,
+        Instant occurredAt
+) implements DomainEvent {
+
+    public ScreeningStateChanged withScreeningId(ScreeningId id) {
+        return new ScreeningStateChanged(id, programId, submitterId, staffMemberId, from, to, occurredAt);
+    }
+}
@@ -0,0 +1,11 @@
+package com.cinema.domain.port;
+
+import com.cinema.domain.event.DomainEvent;
+
+import java.util.List;
+
+public interface DomainEventPublisher {
+
+    // called by repository adapters inside the saving transaction; delivery happens after commit
+    void publish(List<? extends DomainEvent> events);
+}
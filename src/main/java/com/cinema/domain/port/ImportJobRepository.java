@@ -0,0 +1,32 @@
+package com.cinema.domain.port;
+
+import com.cinema.domain.entity.ImportJob;
+import com.cinema.domain.entity.ImportRowError;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ImportJobRepository {
+
+    ImportJob save(ImportJob job);
+
+    Optional<ImportJob> findById(Long id);
+
+    /**
+     * Sets the job's run token to runToken only if the stored job still has previousRunToken (null-safe) and
+     * rowsRead, i.e. nobody resumed it or wrote a batch since it was read. false => the caller lost the race.
+     * Call inside the transaction that then saves the resumed job (the row stays locked until it ends).
+     */
+    boolean claim(Long jobId, String previousRunToken, long rowsRead, String runToken);
+
+    /**
+     * true if the job is RUNNING under runToken; the row then stays locked until the current
+     * transaction ends, so no resume can take the run over before that transaction's batch commits.
+     */
+    boolean lockRun(Long jobId, String runToken);
+
+    // per-row error report (written together with the batch that produced it)
+    void saveErrors(Long jobId, List<ImportRowError> errors);
+
+    List<ImportRowError> findErrors(Long jobId, int offset, int limit);
+}
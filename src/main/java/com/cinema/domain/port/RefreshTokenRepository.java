@@ -0,0 +1,22 @@
+package com.cinema.domain.port;
+
+import com.cinema.domain.entity.RefreshTokenFamily;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public interface RefreshTokenRepository {
+
+    void create(RefreshTokenFamily family, Instant issuedAt);
+
+    Optional<RefreshTokenFamily> findByFamily(String familyId);
+
+    /**
+     * Compare-and-set rotation: replaces the token hash only if it is still expectedHash and the family
+     * is not revoked. false => another request rotated it first (or it was revoked).
+     */
+    boolean rotate(String familyId, String expectedHash, String nextHash, Instant expiresAt, Instant now);
+
+    /** A family is deleted together with its session (SessionRepository). */
+    void revoke(String familyId, Instant now);
+}
@@ -6,18 +6,30 @@ import com.cinema.domain.entity.value.ScreeningId;
 import com.cinema.domain.entity.value.UserId;
 import com.cinema.domain.enums.ScreeningState;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface ScreeningRepository {
 
     Optional<Screening> findById(ScreeningId id);
 
+    // bulk operations (single round trip / single flush)
+    List<Screening> findByIds(Collection<ScreeningId> ids);
+
     // program listings
     List<Screening> findByProgram(ProgramId programId, int offset, int limit); // ✅ NEW (all states)
     List<Screening> findByProgram(ProgramId programId, ScreeningState state, int offset, int limit);
     List<Screening> findByProgramAndState(ProgramId programId, ScreeningState state); // ✅ for transitions
 
+    // export: forward-only pass over a whole program (ordered by id), one row at a time; state == null => all states
+    long forEachInProgram(ProgramId programId, ScreeningState state, Consumer<Screening> action);
+
+    // all programs (auditorium calendar is global)
+    List<Screening> findByState(ScreeningState state);
+
     // submitter listings
     List<Screening> findBySubmitter(UserId submitterId, int offset, int limit); // ✅ NEW (all states)
     List<Screening> findBySubmitter(UserId submitterId, ScreeningState state, int offset, int limit);
@@ -29,7 +41,18 @@ public interface ScreeningRepository {
 
     long countByProgramAndState(ProgramId programId, ScreeningState state);
 
+    // handler load per STAFF member (screenings currently assigned in the program)
+    Map<UserId, Long> countAssignedByStaff(ProgramId programId);
+
     Screening save(Screening screening);
 
+    List<Screening> saveAll(List<Screening> screenings);
+
+    // new rows only (bulk import): one batched INSERT, generated ids are not read back
+    int insertAll(List<Screening> screenings);
+
     void deleteById(ScreeningId id);
+
+    // another node wrote screenings of the program (cluster invalidation); listener runs on a background thread
+    void onChangedElsewhere(Consumer<ProgramId> listener);
 }
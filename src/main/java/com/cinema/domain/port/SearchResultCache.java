@@ -0,0 +1,46 @@
+package com.cinema.domain.port;
+
+import com.cinema.domain.entity.Program;
+import com.cinema.domain.entity.Screening;
+import com.cinema.domain.entity.value.ProgramId;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Results of repeated searches (SearchScreeningsUseCase, SearchProgramsUseCase), keyed by the normalized query
+ * and the role class of the actor.
+ *
+ * Spec:
+ * - Take a stamp before loading and store the result against it; a write in between (or before the commit of
+ *   a write) makes the stored result invalid, so a hit is never older than the last committed write
+ * - Screening searches are versioned per program (its screenings and the program itself),
+ *   program searches by the whole catalog (any program write)
+ * - Hits are copies: callers may mutate what they get
+ */
+public interface SearchResultCache {
+
+    long stamp(ProgramId programId);
+
+    long catalogStamp();
+
+    Optional<List<Screening>> screenings(ProgramId programId, String key);
+
+    void putScreenings(ProgramId programId, String key, List<Screening> result, long stamp);
+
+    Optional<List<Program>> programs(String key);
+
+    void putPrograms(String key, List<Program> result, long stamp);
+
+    /** Never hits, stores nothing. */
+    static SearchResultCache disabled() {
+        return new SearchResultCache() {
+            @Override public long stamp(ProgramId programId) { return 0; }
+            @Override public long catalogStamp() { return 0; }
+            @Override public Optional<List<Screening>> screenings(ProgramId programId, String key) { return Optional.empty(); }
+            @Override public void putScreenings(ProgramId programId, String key, List<Screening> result, long stamp) { }
+            @Override public Optional<List<Program>> programs(String key) { return Optional.empty(); }
+            @Override public void putPrograms(String key, List<Program> result, long stamp) { }
+        };
+    }
+}
@@ -0,0 +1,35 @@
+package com.cinema.domain.port;
+
+import com.cinema.domain.entity.value.UserId;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Logged-in devices of a user: one session per successful login, identified by its refresh token family id,
+ * pointing at the session's current access token (jti).
+ *
+ * Spec:
+ * - At most maxPerUser sessions per user; opening one more evicts the least recently used
+ * - isActive is answered from memory (O(1)), it is checked on every authenticated request
+ * - Changes become visible to isActive when the surrounding transaction commits
+ */
+public interface SessionRepository {
+
+    /** Opens a session for the access token jti; returns the ids of the sessions evicted to stay within maxPerUser. */
+    List<String> open(UserId userId, String sessionId, String jti, int maxPerUser, Instant now);
+
+    /** true when jti is the current access token of one of the user's sessions; counts as a use (LRU). */
+    boolean isActive(UserId userId, String jti);
+
+    /** Moves the session to the next access token (refresh). false => the session no longer exists. */
+    boolean rotate(String sessionId, String nextJti, Instant now);
+
+    boolean revoke(String sessionId);
+
+    /** Ends the session whose current access token is jti (logout of one device). */
+    boolean revokeByJti(UserId userId, String jti);
+
+    /** Ends every session of the user in one statement (force logout, deactivation, password change). */
+    int revokeAll(UserId userId);
+}
@@ -0,0 +1,20 @@
+package com.cinema.domain.port;
+
+import com.cinema.domain.entity.value.UserId;
+
+import java.util.List;
+
+/**
+ * Type-ahead lookup of active users (staff/programmer assignment).
+ *
+ * Spec:
+ * - Matches the query against the start of the username or of any word of the full name (case/accent-insensitive)
+ * - Prefix matches come first; when they do not fill the limit, matches within one typo follow
+ * - Only ACTIVE users are returned
+ */
+public interface UserLookup {
+
+    List<Match> lookup(String query, int limit);
+
+    record Match(UserId id, String username, String fullName) {}
+}
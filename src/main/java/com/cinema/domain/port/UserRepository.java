@@ -5,6 +5,7 @@ import com.cinema.domain.entity.value.UserId;
 import com.cinema.domain.entity.value.Username;
 import com.cinema.domain.enums.BaseRole;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +24,27 @@ public interface UserRepository {
 
     boolean existsByUsername(Username username);
 
-
-
+    /**
+     * Admin directory page, newest first (id descending).
+     *
+     * Spec:
+     * - Keyset paging: beforeId = id of the last user of the previous page (null = first page)
+     * - Returns at most limit users matching the filter
+     */
+    List<User> findPage(DirectoryFilter filter, Long beforeId, int limit);
+
+    long count(DirectoryFilter filter);
+
+    /**
+     * Admin directory filter; null fields are not applied.
+     * usernamePrefix is case-insensitive, lastLoginFrom inclusive, lastLoginTo exclusive.
+     */
+    record DirectoryFilter(BaseRole role,
+                           Boolean active,
+                           String usernamePrefix,
+                           Instant lastLoginFrom,
+                           Instant lastLoginTo) {
+
+        public static final DirectoryFilter ALL = new DirectoryFilter(null, null, null, null, null);
+    }
 }
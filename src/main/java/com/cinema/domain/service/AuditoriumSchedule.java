@@ -0,0 +1,156 @@
+package com.cinema.domain.service;
+
+import com.cinema.domain.entity.value.ScreeningId;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * Per-auditorium occupancy index.
+ *
+ * Spec:
+ * - Slots in one room never overlap, so each room is a TreeMap keyed by start time
+ *   (the disjoint-interval case of an interval tree)
+ * - Conflict check: floor + ceiling lookup -> O(log n)
+ * - Next free slot: O(log n) to locate, then walks the gaps after "from"
+ * - Intervals are half-open [start, end): back-to-back screenings do not conflict
+ * - Undo (rollback) works on the exact Slot instance reserved: a slot put there since by someone else is kept
+ * - Room names are matched trimmed and case-insensitive
+ *
+ * Not thread-safe; callers guard it (see application AuditoriumCalendar).
+ */
+public final class AuditoriumSchedule {
+
+    public record Slot(ScreeningId screeningId, String room, LocalDateTime start, LocalDateTime end) {
+        public Slot {
+            Objects.requireNonNull(screeningId, "screeningId");
+            Objects.requireNonNull(room, "room");
+            Objects.requireNonNull(start, "start");
+            Objects.requireNonNull(end, "end");
+            if (!end.isAfter(start)) throw new IllegalArgumentException("Slot end must be after start");
+        }
+    }
+
+    private final Map<String, TreeMap<LocalDateTime, Slot>> rooms = new HashMap<>();
+    private final Map<ScreeningId, Slot> byScreening = new HashMap<>();
+
+    public static String roomKey(String room) {
+        return room == null ? null : room.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /** First slot in the room overlapping [start, end). */
+    public Optional<Slot> conflict(String room, LocalDateTime start, LocalDateTime end) {
+        TreeMap<LocalDateTime, Slot> slots = rooms.get(roomKey(room));
+        if (slots == null || slots.isEmpty()) return Optional.empty();
+
+        // the slot starting at or before "start" may still be running
+        var before = slots.floorEntry(start);
+        if (before != null && before.getValue().end().isAfter(start)) {
+            return Optional.of(before.getValue());
+        }
+
+        // the first slot starting after "start" must not begin before "end"
+        var after = slots.higherEntry(start);
+        if (after != null && after.getKey().isBefore(end)) {
+            return Optional.of(after.getValue());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Adds the slot, replacing an older slot of the same screening (re-scheduling).
+     * Returns the replaced slot; throws IllegalStateException on conflict (index unchanged).
+     */
+    public Optional<Slot> reserve(Slot slot) {
+        Optional<Slot> previous = release(slot.screeningId());
+
+        Optional<Slot> clash = conflict(slot.room(), slot.start(), slot.end());
+        if (clash.isPresent()) {
+            previous.ifPresent(this::put);
+            throw new IllegalStateException("Room is already booked by screening " + clash.get().screeningId().value()
+                    + " (" + clash.get().start() + " - " + clash.get().end() + ")");
+        }
+
+        put(slot);
+        return previous;
+    }
+
+    /** Adds the slot only if the screening holds none and the room is free; never throws. */
+    public boolean tryReserve(Slot slot) {
+        if (byScreening.containsKey(slot.screeningId())) return false;
+        if (conflict(slot.room(), slot.start(), slot.end()).isPresent()) return false;
+        put(slot);
+        return true;
+    }
+
+    /**
+     * Removes the slot only while this very instance is still the screening's slot
+     * (identity, not equals: an equal slot reserved again by another caller is theirs).
+     */
+    public boolean releaseExact(Slot slot) {
+        if (byScreening.get(slot.screeningId()) != slot) return false;
+        release(slot.screeningId());
+        return true;
+    }
+
+    public Optional<Slot> release(ScreeningId screeningId) {
+        Slot old = byScreening.remove(screeningId);
+        if (old == null) return Optional.empty();
+
+        TreeMap<LocalDateTime, Slot> slots = rooms.get(roomKey(old.room()));
+        if (slots != null) {
+            slots.remove(old.start());
+            if (slots.isEmpty()) rooms.remove(roomKey(old.room()));
+        }
+        return Optional.of(old);
+    }
+
+    public Optional<Slot> slotOf(ScreeningId screeningId) {
+        return Optional.ofNullable(byScreening.get(screeningId));
+    }
+
+    /**
+     * Earliest start >= from where [start, start + minutes) is free in the room,
+     * or empty when nothing fits before notAfter (exclusive upper bound for the end, nullable).
+     */
+    public Optional<LocalDateTime> nextFree(String room, LocalDateTime from, int minutes, LocalDateTime notAfter) {
+        if (minutes <= 0) throw new IllegalArgumentException("minutes must be positive");
+        TreeMap<LocalDateTime, Slot> slots = rooms.get(roomKey(room));
+
+        LocalDateTime candidate = from;
+        if (slots != null) {
+            var before = slots.floorEntry(from);
+            if (before != null && before.getValue().end().isAfter(candidate)) {
+                candidate = before.getValue().end();
+            }
+
+            // slots are disjoint and sorted: jump over each one that cuts into the window
+            for (Slot next : slots.tailMap(candidate, true).values()) {
+                if (!next.start().isBefore(candidate.plusMinutes(minutes))) break;
+                candidate = next.end();
+            }
+        }
+
+        if (notAfter != null && candidate.plusMinutes(minutes).isAfter(notAfter)) return Optional.empty();
+        return Optional.of(candidate);
+    }
+
+    public List<Slot> slots() {
+        return List.copyOf(byScreening.values());
+    }
+
+    public int size() {
+        return byScreening.size();
+    }
+
+    private void put(Slot slot) {
+        rooms.computeIfAbsent(roomKey(slot.room()), k -> new TreeMap<>()).put(slot.start(), slot);
+        byScreening.put(slot.screeningId(), slot);
+    }
+}
@@ -0,0 +1,344 @@
+package com.cinema.domain.service;
+
+import com.cinema.domain.entity.value.ScreeningId;
+import com.cinema.domain.service.AuditoriumSchedule.Slot;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Builds a conflict-free timetable for a set of screenings.
+ *
+ * Spec:
+ * - Every screening gets (room, start) inside one day window [dayStart, dayEnd] of firstDay..lastDay
+ * - Rooms never double-book: already booked slots (blocked) are respected, turnover minutes are kept between screenings
+ * - Objective (lower is better): unplaced screenings first, then genre spread
+ *   (same genre on the same day, same genre running at the same time in another room)
+ * - Randomized greedy with restarts, run on a ForkJoinPool until the time budget is used; best solution wins
+ * - The budget also bounds the first pass: a pass cut off by the deadline with nothing better yet
+ *   is returned as is (the screenings it did not reach are unplaced)
+ * - Owns its pool: close() shuts it down
+ */
+public final class TimetableSolver implements AutoCloseable {
+
+    private static final double W_SAME_DAY = 1.0;
+    private static final double W_CONCURRENT = 10.0;
+    private static final double W_DAY_LOAD = 0.5;
+    private static final double W_LATE = 0.05;
+
+    public record Item(ScreeningId screeningId, String genre, int durationMinutes) {}
+
+    public record Problem(
+            List<Item> items,
+            List<String> rooms,
+            LocalDate firstDay,
+            LocalDate lastDay,
+            LocalTime dayStart,
+            LocalTime dayEnd,
+            int turnoverMinutes,
+            List<Slot> blocked
+    ) {}
+
+    /** end: the screening's own end; occupiedUntil: end plus turnover, the room time the solver planned with. */
+    public record Placement(ScreeningId screeningId, String room, LocalDateTime start, LocalDateTime end,
+                            LocalDateTime occupiedUntil) {}
+
+    public record Solution(List<Placement> placements, List<ScreeningId> unplaced, double penalty, int restarts) {}
+
+    private final ForkJoinPool pool;
+
+    public TimetableSolver(ForkJoinPool pool) {
+        this.pool = Objects.requireNonNull(pool);
+    }
+
+    public Solution solve(Problem problem, Duration budget, long seed) {
+        validate(problem);
+        if (problem.items().isEmpty()) return new Solution(List.of(), List.of(), 0, 0);
+
+        long deadline = System.nanoTime() + budget.toNanos();
+        Model model = new Model(problem);
+
+        int workers = Math.max(1, pool.getParallelism());
+        List<ForkJoinTask<Best>> tasks = new ArrayList<>(workers);
+        for (int w = 0; w < workers; w++) {
+            long workerSeed = seed + w * 0x9E3779B97F4A7C15L;
+            boolean deterministicFirst = (w == 0);
+            tasks.add(pool.submit(() -> search(model, workerSeed, deterministicFirst, deadline)));
+        }
+
+        Best best = null;
+        int restarts = 0;
+        for (ForkJoinTask<Best> t : tasks) {
+            Best b;
+            try {
+                b = t.get();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Timetable solver interrupted", ex);
+            } catch (ExecutionException ex) {
+                throw new IllegalStateException("Timetable solver failed", ex.getCause());
+            }
+            restarts += b.restarts;
+            if (best == null || b.score < best.score) best = b;
+        }
+
+        return model.toSolution(best, restarts);
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    private static void validate(Problem p) {
+        Objects.requireNonNull(p, "problem");
+        if (p.items() == null) throw new IllegalArgumentException("items required");
+        if (p.rooms() == null || p.rooms().isEmpty()) throw new IllegalArgumentException("at least one room required");
+        if (p.firstDay() == null || p.lastDay() == null || p.lastDay().isBefore(p.firstDay())) {
+            throw new IllegalArgumentException("invalid day range");
+        }
+        if (p.dayStart() == null || p.dayEnd() == null) throw new IllegalArgumentException("day window required");
+        if (p.turnoverMinutes() < 0) throw new IllegalArgumentException("turnover must be >= 0");
+    }
+
+    // -------------------------
+    // search
+    // -------------------------
+
+    private static Best search(Model m, long seed, boolean deterministicFirst, long deadline) {
+        Random rnd = new Random(seed);
+        Best best = null;
+        int restarts = 0;
+
+        do {
+            boolean noise = !(deterministicFirst && restarts == 0);
+            Best candidate = greedy(m, rnd, noise, deadline, best == null);
+            restarts++;
+            if (candidate != null && (best == null || candidate.score < best.score)) best = candidate;
+        } while (System.nanoTime() < deadline);
+
+        best.restarts = restarts;
+        return best;
+    }
+
+    /**
+     * One greedy construction. At the deadline it returns null, or with keepPartial what it placed so far
+     * (the rest unplaced).
+     */
+    private static Best greedy(Model m, Random rnd, boolean noise, long deadline, boolean keepPartial) {
+        int n = m.items.length;
+
+        // longest first, perturbed for diversification
+        Integer[] order = new Integer[n];
+        double[] key = new double[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+            key[i] = m.items[i].durationMinutes() * (noise ? 0.7 + 0.6 * rnd.nextDouble() : 1.0);
+        }
+        Arrays.sort(order, Comparator.comparingDouble((Integer i) -> -key[i]).thenComparingInt(i -> i));
+
+        AuditoriumSchedule occupancy = new AuditoriumSchedule();
+        for (Slot s : m.blocked) occupancy.reserve(s);
+
+        int days = m.days;
+        int[][] genreOnDay = new int[days][m.genreCount];
+        // (day, genre) -> placed intervals, at d * genreCount + g
+        List<List<long[]>> genreIntervals = new ArrayList<>(Collections.nCopies(days * m.genreCount, null));
+        long[] dayLoad = new long[days];
+        double averageLoad = (double) m.totalMinutes / days;
+
+        int[] roomOf = new int[n];
+        LocalDateTime[] startOf = new LocalDateTime[n];
+        double penalty = 0;
+        int unplaced = 0;
+
+        for (int k = 0; k < n; k++) {
+            if ((k & 63) == 0 && System.nanoTime() > deadline) {
+                if (!keepPartial) return null;
+                for (int rest = k; rest < n; rest++) roomOf[order[rest]] = -1;
+                unplaced += n - k;
+                break;
+            }
+
+            int i = order[k];
+            Item item = m.items[i];
+            int g = m.genreOf[i];
+            int occupied = item.durationMinutes() + m.turnover;
+
+            double bestCost = Double.MAX_VALUE;
+            int bestDay = -1;
+            int bestRoom = -1;
+            LocalDateTime bestStart = null;
+            double bestObjective = 0;
+
+            for (int d = 0; d < days; d++) {
+                LocalDateTime open = m.dayOpen[d];
+                LocalDateTime close = m.dayClose[d].plusMinutes(m.turnover);
+
+                for (int r = 0; r < m.rooms.length; r++) {
+                    var start = occupancy.nextFree(m.rooms[r], open, occupied, close);
+                    if (start.isEmpty()) continue;
+
+                    LocalDateTime s = start.get();
+                    long from = ChronoUnit.MINUTES.between(m.epoch, s);
+                    long to = from + item.durationMinutes();
+
+                    double objective = 0;
+                    if (g >= 0) {
+                        objective += W_SAME_DAY * genreOnDay[d][g];
+                        objective += W_CONCURRENT * overlaps(genreIntervals.get(d * m.genreCount + g), from, to);
+                    }
+                    double cost = objective
+                            + W_DAY_LOAD * (dayLoad[d] / Math.max(1.0, averageLoad))
+                            + W_LATE * (ChronoUnit.MINUTES.between(open, s) / (double) m.dayLength);
+                    if (noise) cost += 0.01 * rnd.nextDouble();
+
+                    if (cost < bestCost) {
+                        bestCost = cost;
+                        bestDay = d;
+                        bestRoom = r;
+                        bestStart = s;
+                        bestObjective = objective;
+                    }
+                }
+            }
+
+            if (bestDay < 0) {
+                roomOf[i] = -1;
+                unplaced++;
+                continue;
+            }
+
+            occupancy.reserve(new Slot(item.screeningId(), m.rooms[bestRoom], bestStart, bestStart.plusMinutes(occupied)));
+            roomOf[i] = bestRoom;
+            startOf[i] = bestStart;
+            dayLoad[bestDay] += item.durationMinutes();
+            penalty += bestObjective;
+
+            if (g >= 0) {
+                genreOnDay[bestDay][g]++;
+                int cell = bestDay * m.genreCount + g;
+                if (genreIntervals.get(cell) == null) genreIntervals.set(cell, new ArrayList<>());
+                long from = ChronoUnit.MINUTES.between(m.epoch, bestStart);
+                genreIntervals.get(cell).add(new long[]{from, from + item.durationMinutes()});
+            }
+        }
+
+        Best b = new Best();
+        b.roomOf = roomOf;
+        b.startOf = startOf;
+        b.penalty = penalty;
+        b.unplaced = unplaced;
+        b.score = unplaced * 1_000_000.0 + penalty;
+        return b;
+    }
+
+    private static int overlaps(List<long[]> intervals, long from, long to) {
+        if (intervals == null) return 0;
+        int c = 0;
+        for (long[] iv : intervals) {
+            if (iv[0] < to && from < iv[1]) c++;
+        }
+        return c;
+    }
+
+    // -------------------------
+    // model
+    // -------------------------
+
+    private static final class Best {
+        int[] roomOf;
+        LocalDateTime[] startOf;
+        double penalty;
+        int unplaced;
+        double score;
+        int restarts;
+    }
+
+    /** Immutable, shared between workers. */
+    private static final class Model {
+        final Item[] items;
+        final int[] genreOf;
+        final int genreCount;
+        final String[] rooms;
+        final int days;
+        final LocalDateTime[] dayOpen;
+        final LocalDateTime[] dayClose;
+        final long dayLength;
+        final LocalDateTime epoch;
+        final int turnover;
+        final long totalMinutes;
+        final List<Slot> blocked;
+
+        Model(Problem p) {
+            this.items = p.items().toArray(Item[]::new);
+            this.rooms = p.rooms().stream().map(String::trim).distinct().toArray(String[]::new);
+            this.turnover = p.turnoverMinutes();
+            this.blocked = List.copyOf(p.blocked() == null ? List.of() : p.blocked());
+
+            Map<String, Integer> genres = new HashMap<>();
+            this.genreOf = new int[items.length];
+            long total = 0;
+            for (int i = 0; i < items.length; i++) {
+                if (items[i].durationMinutes() <= 0) throw new IllegalArgumentException("duration must be positive");
+                total += items[i].durationMinutes();
+                String g = primaryGenre(items[i].genre());
+                genreOf[i] = g == null ? -1 : genres.computeIfAbsent(g, k -> genres.size());
+            }
+            this.genreCount = genres.size();
+            this.totalMinutes = total;
+
+            this.days = (int) ChronoUnit.DAYS.between(p.firstDay(), p.lastDay()) + 1;
+            this.dayOpen = new LocalDateTime[days];
+            this.dayClose = new LocalDateTime[days];
+            for (int d = 0; d < days; d++) {
+                LocalDate day = p.firstDay().plusDays(d);
+                dayOpen[d] = day.atTime(p.dayStart());
+                dayClose[d] = p.dayEnd().isAfter(p.dayStart())
+                        ? day.atTime(p.dayEnd())
+                        : day.plusDays(1).atTime(p.dayEnd()); // window past midnight
+            }
+            this.dayLength = Math.max(1, ChronoUnit.MINUTES.between(dayOpen[0], dayClose[0]));
+            this.epoch = dayOpen[0];
+        }
+
+        Solution toSolution(Best best, int restarts) {
+            List<Placement> placements = new ArrayList<>();
+            List<ScreeningId> unplaced = new ArrayList<>();
+            for (int i = 0; i < items.length; i++) {
+                if (best.roomOf[i] < 0) {
+                    unplaced.add(items[i].screeningId());
+                    continue;
+                }
+                LocalDateTime start = best.startOf[i];
+                LocalDateTime end = start.plusMinutes(items[i].durationMinutes());
+                placements.add(new Placement(items[i].screeningId(), rooms[best.roomOf[i]], start, end,
+                        end.plusMinutes(turnover)));
+            }
+            placements.sort(Comparator.comparing(Placement::start).thenComparing(Placement::room));
+            return new Solution(List.copyOf(placements), List.copyOf(unplaced), best.penalty, restarts);
+        }
+
+        private static String primaryGenre(String genre) {
+            if (genre == null || genre.isBlank()) return null;
+            String first = genre.split(",")[0].trim().toLowerCase(Locale.ROOT);
+            return first.isEmpty() ? null : first;
+        }
+    }
+}
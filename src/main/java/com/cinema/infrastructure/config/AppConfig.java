@@ -1,8 +1,11 @@
 package com.cinema.infrastructure.config;
 
 import com.cinema.domain.policy.PasswordPolicy;
+import com.cinema.domain.policy.RateLimitPolicy;
+import com.cinema.domain.policy.TokenPolicy;
 import com.cinema.domain.service.ProgramStateMachine;
 import com.cinema.domain.service.ScreeningStateMachine;
+import com.cinema.domain.service.TimetableSolver;
 import com.cinema.infrastructure.security.TokenService;
 import com.cinema.infrastructure.security.TokenValidator;
 import org.springframework.beans.factory.annotation.Value;
@@ -10,6 +13,8 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ForkJoinPool;
 
 
 @Configuration
@@ -33,17 +38,46 @@ public class AppConfig {
     }
 
 
+    // dedicated pool: solver restarts must not starve the common pool used by parallel streams;
+    // CPU-bound, so never more threads than cores; the pool is shut down with the context
+    @Bean(destroyMethod = "close")
+    public TimetableSolver timetableSolver(
+            @Value("${timetable.solver.parallelism:0}") int parallelism
+    ) {
+        int cores = Runtime.getRuntime().availableProcessors();
+        int threads = parallelism > 0 ? Math.min(parallelism, cores) : cores;
+        return new TimetableSolver(new ForkJoinPool(threads));
+    }
+
     @Bean
     public PasswordPolicy passwordPolicy() {
         return new PasswordPolicy(PasswordPolicy.Config.strongDefaults());
     }
 
+    // consecutive bad passwords per username => time-based lockout (LoginAttemptTracker)
+    @Bean
+    public RateLimitPolicy rateLimitPolicy(
+            @Value("${auth.lockout.max-failed-attempts:3}") int maxFailedAttempts,
+            @Value("${auth.lockout.duration:15m}") Duration lockoutDuration
+    ) {
+        return new RateLimitPolicy(maxFailedAttempts, lockoutDuration, RateLimitPolicy.defaults().loginAttemptsPerMinute());
+    }
+
+    // short-lived access tokens; sessions are kept alive by rotating refresh tokens (POST /api/auth/refresh)
     @Bean
-    public TokenService tokenService(
-            @Value("${jwt.secret}") String secret,
-            @Value("${jwt.expiration-seconds}") long expirationSeconds
+    public TokenPolicy tokenPolicy(
+            @Value("${jwt.access-ttl:15m}") Duration accessTtl,
+            @Value("${jwt.refresh-ttl:14d}") Duration refreshTtl,
+            @Value("${jwt.clock-skew:60s}") Duration clockSkew,
+            @Value("${jwt.max-sessions-per-user:5}") int maxSessionsPerUser,
+            @Value("${jwt.issuer:cinema-api}") String issuer
     ) {
-        return new TokenService(secret, expirationSeconds);
+        return new TokenPolicy(accessTtl, refreshTtl, clockSkew, maxSessionsPerUser, issuer);
+    }
+
+    @Bean
+    public TokenService tokenService(@Value("${jwt.secret}") String secret, TokenPolicy tokenPolicy) {
+        return new TokenService(secret, tokenPolicy.accessTtl().toSeconds());
     }
 
     @Bean
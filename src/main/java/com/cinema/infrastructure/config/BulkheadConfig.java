@@ -0,0 +1,54 @@
+package com.cinema.infrastructure.config;
+
+import com.cinema.infrastructure.web.Bulkhead;
+import com.cinema.infrastructure.web.BulkheadHandlerAdapter;
+import com.cinema.infrastructure.web.Bulkheads;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcRegistrations;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+/**
+ * Bulkheads per route group (bulkheads.enabled, default on): controller methods run on the executor of their
+ * group (auth, admin, write, read) via async servlet processing, see BulkheadHandlerAdapter.
+ */
+@Configuration
+@ConditionalOnProperty(name = "bulkheads.enabled", havingValue = "true", matchIfMissing = true)
+public class BulkheadConfig {
+
+    @Bean(destroyMethod = "close")
+    public Bulkheads bulkheads(
+            @Value("${bulkheads.auth.threads:8}") int authThreads,
+            @Value("${bulkheads.auth.queue:200}") int authQueue,
+            @Value("${bulkheads.admin.threads:4}") int adminThreads,
+            @Value("${bulkheads.admin.queue:50}") int adminQueue,
+            @Value("${bulkheads.write.threads:32}") int writeThreads,
+            @Value("${bulkheads.write.queue:200}") int writeQueue,
+            @Value("${bulkheads.read.threads:64}") int readThreads,
+            @Value("${bulkheads.read.queue:1000}") int readQueue,
+            MeterRegistry registry
+    ) {
+        return new Bulkheads(
+                new Bulkhead("auth", authThreads, authQueue, registry),
+                new Bulkhead("admin", adminThreads, adminQueue, registry),
+                new Bulkhead("write", writeThreads, writeQueue, registry),
+                new Bulkhead("read", readThreads, readQueue, registry)
+        );
+    }
+
+    @Bean
+    public WebMvcRegistrations bulkheadHandlerAdapter(
+            Bulkheads bulkheads,
+            @Value("${bulkheads.timeout-ms:30000}") long timeoutMillis
+    ) {
+        return new WebMvcRegistrations() {
+            @Override
+            public RequestMappingHandlerAdapter getRequestMappingHandlerAdapter() {
+                return new BulkheadHandlerAdapter(bulkheads, timeoutMillis);
+            }
+        };
+    }
+}
@@ -0,0 +1,38 @@
+package com.cinema.infrastructure.config;
+
+import com.cinema.infrastructure.web.RequestCoalescingFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.List;
+
+/**
+ * Single-flight for identical anonymous reads (coalescing.enabled, default on).
+ * Sits after rate limiting and before the security chain: a follower costs no token check, load-shedding slot
+ * or bulkhead thread.
+ */
+@Configuration
+@ConditionalOnProperty(name = "coalescing.enabled", havingValue = "true", matchIfMissing = true)
+public class CoalescingConfig {
+
+    @Bean
+    public FilterRegistrationBean<RequestCoalescingFilter> requestCoalescingFilter(
+            @Value("${coalescing.routes:/api/screenings/by-program,/api/programs/*}") List<String> routes,
+            @Value("${coalescing.ttl-ms:0}") long ttlMillis,
+            @Value("${coalescing.max-entries:1000}") int maxEntries,
+            @Value("${coalescing.max-body-bytes:1048576}") int maxBodyBytes,
+            @Value("${coalescing.max-wait-ms:10000}") long maxWaitMillis,
+            MeterRegistry registry
+    ) {
+        FilterRegistrationBean<RequestCoalescingFilter> bean = new FilterRegistrationBean<>(
+                new RequestCoalescingFilter(routes, ttlMillis, maxEntries, maxBodyBytes, maxWaitMillis, registry));
+        bean.addUrlPatterns("/api/*");
+        bean.setOrder(Ordered.HIGHEST_PRECEDENCE + 60);
+        return bean;
+    }
+}
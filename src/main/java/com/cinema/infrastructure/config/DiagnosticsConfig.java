@@ -0,0 +1,94 @@
+package com.cinema.infrastructure.config;
+
+import com.cinema.infrastructure.diagnostics.CountingDataSource;
+import com.cinema.infrastructure.diagnostics.DispatchMarkInterceptor;
+import com.cinema.infrastructure.diagnostics.QueryCountFilter;
+import com.cinema.infrastructure.diagnostics.RequestTrace;
+import com.cinema.infrastructure.diagnostics.SlowRequestFilter;
+import com.cinema.infrastructure.diagnostics.SlowRequestRecorder;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+/**
+ * Request diagnostics:
+ * - SQL statement counting per request (diagnostics.query-count.enabled, default on)
+ * - slow-request flight recorder (diagnostics.slow-requests.enabled, default on)
+ * Both filters sit outside the security chain so the JWT user lookup is included.
+ * The DataSource wrapper is always installed; it does nothing outside a counted/traced request.
+ */
+@Configuration
+public class DiagnosticsConfig {
+
+    // at the DataSource, not in Hibernate: JdbcTemplate paths (outbox, sessions, exports, ...) count too
+    @Bean
+    public static BeanPostProcessor countingDataSourceWrapper() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource ds && !(bean instanceof CountingDataSource)) {
+                    return new CountingDataSource(ds);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "diagnostics.query-count.enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<QueryCountFilter> queryCountFilter(
+            @Value("${diagnostics.query-count.budget:20}") int budget,
+            @Value("${diagnostics.query-count.n-plus-one-threshold:10}") int nPlusOneThreshold,
+            @Value("${diagnostics.query-count.header:false}") boolean header,
+            MeterRegistry registry
+    ) {
+        FilterRegistrationBean<QueryCountFilter> bean =
+                new FilterRegistrationBean<>(new QueryCountFilter(budget, nPlusOneThreshold, header, registry));
+        bean.addUrlPatterns("/api/*");
+        bean.setOrder(Ordered.HIGHEST_PRECEDENCE + 40);
+        return bean;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "diagnostics.slow-requests.enabled", havingValue = "true", matchIfMissing = true)
+    public SlowRequestRecorder slowRequestRecorder(
+            @Value("${diagnostics.slow-requests.capacity:256}") int capacity,
+            @Value("${diagnostics.slow-requests.threshold-ms:500}") long thresholdMillis,
+            @Value("${diagnostics.slow-requests.jfr:false}") boolean jfr
+    ) {
+        RequestTrace.enableJfr(jfr);
+        return new SlowRequestRecorder(capacity, thresholdMillis);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "diagnostics.slow-requests.enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<SlowRequestFilter> slowRequestFilter(
+            SlowRequestRecorder recorder,
+            @Value("${diagnostics.slow-requests.jfr:false}") boolean jfr
+    ) {
+        FilterRegistrationBean<SlowRequestFilter> bean = new FilterRegistrationBean<>(new SlowRequestFilter(recorder, jfr));
+        bean.addUrlPatterns("/api/*");
+        bean.setOrder(Ordered.HIGHEST_PRECEDENCE + 30);
+        return bean;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "diagnostics.slow-requests.enabled", havingValue = "true", matchIfMissing = true)
+    public WebMvcConfigurer dispatchMarkInterceptor() {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(new DispatchMarkInterceptor()).addPathPatterns("/api/**");
+            }
+        };
+    }
+}
@@ -0,0 +1,74 @@
+package com.cinema.infrastructure.config;
+
+import com.cinema.domain.port.ProgramRepository;
+import com.cinema.infrastructure.events.EventStreamHub;
+import com.cinema.infrastructure.events.OutboxFanout;
+import com.cinema.infrastructure.events.OutboxRelay;
+import com.cinema.infrastructure.events.OutboxStore;
+import com.cinema.infrastructure.events.OutboxSubscriber;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Domain event delivery:
+ * - repositories write the events recorded by Screening/Program to the outbox (same transaction as the save)
+ * - OutboxRelay delivers committed rows to the OutboxSubscriber beans that need each event once; relays of
+ *   several nodes share the rows (events.outbox.relay-enabled=false leaves it to the other nodes)
+ * - OutboxFanout delivers every row to this node's broadcast subscribers (the SSE hub), on every node
+ */
+@Configuration
+public class EventsConfig {
+
+    @Bean(destroyMethod = "close")
+    public EventStreamHub eventStreamHub(
+            ProgramRepository programRepository,
+            @Value("${events.sse.max-connections:10000}") int maxConnections,
+            @Value("${events.sse.buffer:64}") int bufferSize,
+            @Value("${events.sse.timeout-ms:1800000}") long timeoutMillis,
+            @Value("${events.sse.heartbeat-seconds:25}") long heartbeatSeconds,
+            @Value("${events.sse.sender-threads:4}") int senderThreads,
+            MeterRegistry registry
+    ) {
+        return new EventStreamHub(programRepository, maxConnections, bufferSize, timeoutMillis,
+                heartbeatSeconds, senderThreads, registry);
+    }
+
+    @Bean
+    public OutboxRelay outboxRelay(
+            OutboxStore store,
+            List<OutboxSubscriber> subscribers,
+            PlatformTransactionManager transactionManager,
+            @Value("${events.outbox.batch-size:200}") int batchSize,
+            @Value("${events.outbox.poll-interval-ms:1000}") long pollIntervalMillis,
+            @Value("${events.outbox.max-per-second:0}") int maxPerSecond,
+            @Value("${events.outbox.max-attempts:10}") int maxAttempts,
+            @Value("${events.outbox.retention-hours:168}") long retentionHours,
+            @Value("${events.outbox.relay-enabled:true}") boolean relayEnabled,
+            MeterRegistry registry
+    ) {
+        return new OutboxRelay(store, subscribers, new TransactionTemplate(transactionManager),
+                batchSize, pollIntervalMillis, maxPerSecond, maxAttempts, Duration.ofHours(retentionHours),
+                relayEnabled, registry);
+    }
+
+    @Bean
+    public OutboxFanout outboxFanout(
+            OutboxStore store,
+            List<OutboxSubscriber> subscribers,
+            PlatformTransactionManager transactionManager,
+            @Value("${events.outbox.batch-size:200}") int batchSize,
+            @Value("${events.outbox.poll-interval-ms:1000}") long pollIntervalMillis,
+            @Value("${events.outbox.fanout-gap-grace-ms:10000}") long gapGraceMillis,
+            MeterRegistry registry
+    ) {
+        return new OutboxFanout(store, subscribers, new TransactionTemplate(transactionManager),
+                batchSize, pollIntervalMillis, gapGraceMillis, registry);
+    }
+}
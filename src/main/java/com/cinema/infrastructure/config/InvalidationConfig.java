@@ -0,0 +1,52 @@
+package com.cinema.infrastructure.config;
+
+import com.cinema.infrastructure.invalidation.BrokerTransport;
+import com.cinema.infrastructure.invalidation.ChangeLogTransport;
+import com.cinema.infrastructure.invalidation.InvalidationBroker;
+import com.cinema.infrastructure.invalidation.InvalidationBus;
+import com.cinema.infrastructure.invalidation.InvalidationTransport;
+import com.cinema.infrastructure.invalidation.LocalInvalidationBroker;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Cross-node cache invalidation (InvalidationBus), invalidation.transport:
+ * - none (default): single node, nothing is sent
+ * - changelog: cache_invalidations table in the shared database (works wherever the nodes share one)
+ * - broker: the InvalidationBroker bean (Redis, Kafka, ... client); LocalInvalidationBroker when there is none
+ */
+@Configuration
+public class InvalidationConfig {
+
+    @Bean
+    public InvalidationBus invalidationBus(
+            @Value("${invalidation.transport:none}") String transport,
+            @Value("${invalidation.flush-interval-ms:50}") long flushIntervalMillis,
+            @Value("${invalidation.max-batch:500}") int maxBatch,
+            @Value("${invalidation.tracked-keys:100000}") int trackedKeys,
+            @Value("${invalidation.changelog.poll-interval-ms:500}") long pollIntervalMillis,
+            @Value("${invalidation.changelog.overlap-ms:5000}") long overlapMillis,
+            @Value("${invalidation.changelog.retention-minutes:60}") long retentionMinutes,
+            @Value("${invalidation.broker.topic:cinema.invalidations}") String topic,
+            JdbcTemplate jdbc,
+            ObjectProvider<InvalidationBroker> brokers,
+            MeterRegistry registry
+    ) {
+        String nodeId = UUID.randomUUID().toString();
+        InvalidationTransport t = switch (transport) {
+            case "none" -> null;
+            case "changelog" -> new ChangeLogTransport(jdbc, nodeId, pollIntervalMillis,
+                    Duration.ofMillis(overlapMillis), Duration.ofMinutes(retentionMinutes));
+            case "broker" -> new BrokerTransport(brokers.getIfAvailable(LocalInvalidationBroker::new), topic);
+            default -> throw new IllegalArgumentException("invalidation.transport must be none, changelog or broker: " + transport);
+        };
+        return new InvalidationBus(t, nodeId, flushIntervalMillis, maxBatch, trackedKeys, registry);
+    }
+}
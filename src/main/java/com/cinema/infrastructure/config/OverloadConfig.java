@@ -0,0 +1,46 @@
+package com.cinema.infrastructure.config;
+
+import com.cinema.infrastructure.security.AdaptiveConcurrencyLimiter;
+import com.cinema.infrastructure.security.LoadSheddingFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Adaptive concurrency limit with priority-based load shedding (overload.enabled, default on).
+ * The filter runs inside the security chain only (SecurityConfig), not as a plain servlet filter.
+ */
+@Configuration
+@ConditionalOnProperty(name = "overload.enabled", havingValue = "true", matchIfMissing = true)
+public class OverloadConfig {
+
+    @Bean
+    public AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter(
+            @Value("${overload.initial-limit:50}") int initialLimit,
+            @Value("${overload.min-limit:20}") int minLimit,
+            @Value("${overload.max-limit:200}") int maxLimit,
+            @Value("${overload.tolerance:1.5}") double tolerance,
+            @Value("${overload.window-samples:50}") int windowSamples
+    ) {
+        return new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, tolerance, windowSamples);
+    }
+
+    @Bean
+    public LoadSheddingFilter loadSheddingFilter(
+            AdaptiveConcurrencyLimiter limiter,
+            @Value("${overload.retry-after-seconds:1}") int retryAfterSeconds,
+            MeterRegistry registry
+    ) {
+        return new LoadSheddingFilter(limiter, retryAfterSeconds, registry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<LoadSheddingFilter> loadSheddingFilterRegistration(LoadSheddingFilter filter) {
+        FilterRegistrationBean<LoadSheddingFilter> bean = new FilterRegistrationBean<>(filter);
+        bean.setEnabled(false);
+        return bean;
+    }
+}
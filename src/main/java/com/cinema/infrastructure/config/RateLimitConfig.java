@@ -0,0 +1,31 @@
+package com.cinema.infrastructure.config;
+
+import com.cinema.infrastructure.security.RateLimitFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Per-IP rate limiting in front of the security chain (off unless rate-limit.enabled=true).
+ */
+@Configuration
+@ConditionalOnProperty(name = "rate-limit.enabled", havingValue = "true")
+public class RateLimitConfig {
+
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilter(
+            @Value("${rate-limit.max-requests:120}") int maxRequests,
+            @Value("${rate-limit.window-seconds:60}") long windowSeconds,
+            MeterRegistry registry
+    ) {
+        FilterRegistrationBean<RateLimitFilter> bean =
+                new FilterRegistrationBean<>(new RateLimitFilter(maxRequests, windowSeconds, registry));
+        bean.addUrlPatterns("/api/*");
+        bean.setOrder(Ordered.HIGHEST_PRECEDENCE + 50);
+        return bean;
+    }
+}
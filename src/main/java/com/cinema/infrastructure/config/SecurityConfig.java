@@ -1,6 +1,9 @@
 package com.cinema.infrastructure.config;
 
 import com.cinema.infrastructure.security.JwtAuthenticationFilter;
+import com.cinema.infrastructure.security.LoadSheddingFilter;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -21,9 +24,12 @@ import java.util.List;
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final ObjectProvider<LoadSheddingFilter> loadSheddingFilter;
 
-    public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter) {
+    public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter,
+                          ObjectProvider<LoadSheddingFilter> loadSheddingFilter) {
         this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+        this.loadSheddingFilter = loadSheddingFilter;
     }
 
     @Bean
@@ -38,8 +44,11 @@ public class SecurityConfig {
                         // preflight
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
 
+                        // async dispatch writes the result of a request authorized on its way in (bulkheads)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // auth
-                        .requestMatchers(HttpMethod.POST, "/api/auth/login", "/api/auth/register").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/api/auth/login", "/api/auth/register", "/api/auth/refresh").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/auth/validate").permitAll()
 
                         // swagger/h2/static
@@ -59,12 +68,17 @@ public class SecurityConfig {
                                 "/api/programs",
                                 "/api/programs/*",
                                 "/api/screenings/*",
-                                "/api/screenings/by-program"
+                                "/api/screenings/by-program",
+                                "/api/events/stream"
                         ).permitAll()
 
                         // ADMIN only (user-management)
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
 
+                        // operations: health is public, metrics (prometheus) ADMIN only
+                        .requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
+
                         // everything else requires authentication
                         // PROGRAMMER/STAFF/SUBMITTER are program-specific -> enforce in application layer
                         .anyRequest().authenticated()
@@ -74,6 +88,9 @@ public class SecurityConfig {
                 .formLogin(form -> form.disable())
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
 
+        // overload.enabled: shed before the token check / user read (OverloadConfig)
+        loadSheddingFilter.ifAvailable(filter -> http.addFilterBefore(filter, JwtAuthenticationFilter.class));
+
         return http.build();
     }
 
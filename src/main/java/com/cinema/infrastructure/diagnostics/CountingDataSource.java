@@ -0,0 +1,134 @@
+package com.cinema.infrastructure.diagnostics;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * DataSource wrapper feeding QueryCounter and RequestTrace with every statement executed through it,
+ * whoever issues it (Hibernate, JdbcTemplate, plain JDBC).
+ *
+ * Spec:
+ * - Connections and statements are JDK proxies (same idea as Spring's TransactionAwareDataSourceProxy);
+ *   everything but the execute* calls is passed straight through
+ * - One execute* call = one statement: a JDBC batch counts once, like a single execution
+ * - SQL text: the one given to prepareStatement / prepareCall, or to execute* / addBatch for plain statements
+ * - Outside a counted/traced request the hooks are no-ops, so only the proxy hop remains
+ * - Installed around the application DataSource by DiagnosticsConfig
+ */
+public class CountingDataSource extends DelegatingDataSource {
+
+    public CountingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(super.getConnection(username, password));
+    }
+
+    private static Connection wrap(Connection target) {
+        return (Connection) Proxy.newProxyInstance(CountingDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new ConnectionHandler(target));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+
+    /** equals / hashCode on the proxy itself, as callers keep connections in maps and holders. */
+    private static Object identity(Object proxy, Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            default -> null;
+        };
+    }
+
+    private static final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object own = identity(proxy, method, args);
+            if (own != null) return own;
+
+            Object result = CountingDataSource.invoke(target, method, args);
+            return switch (method.getName()) {
+                case "prepareStatement" -> statement(proxy, (Statement) result, PreparedStatement.class, (String) args[0]);
+                case "prepareCall" -> statement(proxy, (Statement) result, CallableStatement.class, (String) args[0]);
+                case "createStatement" -> statement(proxy, (Statement) result, Statement.class, null);
+                default -> result;
+            };
+        }
+
+        private static Object statement(Object connection, Statement target, Class<?> type, String sql) {
+            return Proxy.newProxyInstance(CountingDataSource.class.getClassLoader(), new Class<?>[]{type},
+                    new StatementHandler(target, (Connection) connection, sql));
+        }
+    }
+
+    private static final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final Connection connection;
+        private final String preparedSql; // null for plain statements
+        private String batchSql;
+
+        StatementHandler(Statement target, Connection connection, String preparedSql) {
+            this.target = target;
+            this.connection = connection;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object own = identity(proxy, method, args);
+            if (own != null) return own;
+
+            String name = method.getName();
+            if (name.equals("getConnection")) return connection;
+            if (name.equals("addBatch") && args != null && args.length == 1 && batchSql == null) {
+                batchSql = (String) args[0];
+            }
+            if (!name.startsWith("execute")) return CountingDataSource.invoke(target, method, args);
+
+            String sql = args != null && args.length > 0 && args[0] instanceof String s ? s
+                    : preparedSql != null ? preparedSql
+                    : batchSql;
+            if (name.endsWith("Batch")) batchSql = null;
+
+            RequestTrace.Timing timing = RequestTrace.sqlStarted();
+            try {
+                return CountingDataSource.invoke(target, method, args);
+            } finally {
+                String text = sql == null ? "<unknown>" : sql;
+                QueryCounter.record(text);
+                RequestTrace.sqlEnded(timing, text);
+            }
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.cinema.infrastructure.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR custom events mirroring the flight-recorder spans (emitted only when diagnostics.slow-requests.jfr=true).
+ * Recording them still needs an active JFR session, e.g. -XX:StartFlightRecording or jcmd JFR.start.
+ */
+final class DiagnosticEvents {
+
+    private DiagnosticEvents() {}
+
+    @Name("com.cinema.HttpRequest")
+    @Label("HTTP Request")
+    @Category({"Cinema", "Requests"})
+    @StackTrace(false)
+    static final class RequestEvent extends Event {
+        @Label("Method") String method;
+        @Label("URI") String uri;
+        @Label("Route") String route;
+        @Label("Status") int status;
+        @Label("SQL Statements") int sqlCount;
+    }
+
+    @Name("com.cinema.Sql")
+    @Label("SQL Statement")
+    @Category({"Cinema", "Persistence"})
+    @StackTrace(false)
+    static final class SqlEvent extends Event {
+        @Label("SQL") String sql;
+    }
+
+    @Name("com.cinema.UseCase")
+    @Label("Use Case")
+    @Category({"Cinema", "Application"})
+    @StackTrace(false)
+    static final class UseCaseEvent extends Event {
+        @Label("Use Case") String useCase;
+    }
+
+    @Name("com.cinema.Bcrypt")
+    @Label("BCrypt")
+    @Description("Password hash or check")
+    @Category({"Cinema", "Security"})
+    @StackTrace(false)
+    static final class BcryptEvent extends Event {
+        @Label("Operation") String operation;
+    }
+}
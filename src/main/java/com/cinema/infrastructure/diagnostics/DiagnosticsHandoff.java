@@ -0,0 +1,46 @@
+package com.cinema.infrastructure.diagnostics;
+
+/**
+ * Carries the request's diagnostics (QueryCounter scope, RequestTrace) to a thread the request continues on:
+ * the bulkhead worker running the controller (BulkheadHandlerAdapter), the async dispatch writing the result.
+ *
+ * Spec:
+ * - capture() on the thread that has them, attach() on the next one; closing the attachment restores
+ *   whatever that thread had before (pool threads are reused)
+ * - Hand-over, not sharing: the capturing thread has moved on when the next one runs
+ * - Nothing captured (diagnostics off, no request) => attach() is a no-op
+ */
+public final class DiagnosticsHandoff {
+
+    private static final DiagnosticsHandoff NONE = new DiagnosticsHandoff(null, null);
+
+    private final QueryCounter.Scope scope;
+    private final RequestTrace trace;
+
+    /** Open attachment; close() puts the thread's previous state back. */
+    public interface Attachment extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private DiagnosticsHandoff(QueryCounter.Scope scope, RequestTrace trace) {
+        this.scope = scope;
+        this.trace = trace;
+    }
+
+    public static DiagnosticsHandoff capture() {
+        QueryCounter.Scope scope = QueryCounter.currentScope();
+        RequestTrace trace = RequestTrace.current();
+        return scope == null && trace == null ? NONE : new DiagnosticsHandoff(scope, trace);
+    }
+
+    public Attachment attach() {
+        if (this == NONE) return () -> { };
+        QueryCounter.Scope previousScope = QueryCounter.swap(scope);
+        RequestTrace previousTrace = RequestTrace.swap(trace);
+        return () -> {
+            QueryCounter.swap(previousScope);
+            RequestTrace.swap(previousTrace);
+        };
+    }
+}
@@ -0,0 +1,17 @@
+package com.cinema.infrastructure.diagnostics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Marks the moment the request leaves the filter chain and reaches the controller (filter time of a trace).
+ */
+public class DispatchMarkInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        RequestTrace.markDispatched();
+        return true;
+    }
+}
@@ -0,0 +1,153 @@
+package com.cinema.infrastructure.diagnostics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Counts SQL statements per HTTP request.
+ *
+ * Spec:
+ * - Metric cinema.http.queries{method, uri}: statements per request (uri = matched route pattern)
+ * - Over budget: WARN log + cinema.http.queries.over_budget{method, uri}
+ * - Same SQL repeated >= nPlusOneThreshold times: WARN log with the statement + cinema.http.queries.n_plus_one
+ * - Debug header X-Query-Count (off by default): the body is buffered so the header can still be set,
+ *   which is why it is meant for dev/test only
+ */
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Query-Count";
+
+    private static final Logger log = LoggerFactory.getLogger(QueryCountFilter.class);
+    private static final String SCOPE_ATTRIBUTE = QueryCountFilter.class.getName() + ".scope";
+
+    private final int budget;
+    private final int nPlusOneThreshold;
+    private final boolean exposeHeader;
+    private final MeterRegistry registry;
+
+    private record RouteKey(String method, String uri) {}
+
+    private record RouteMeters(DistributionSummary queries, Counter overBudget, Counter nPlusOne) {}
+
+    private final Map<RouteKey, RouteMeters> meters = new ConcurrentHashMap<>();
+
+    public QueryCountFilter(int budget, int nPlusOneThreshold, boolean exposeHeader, MeterRegistry registry) {
+        if (budget < 0) throw new IllegalArgumentException("budget must be >= 0");
+        if (nPlusOneThreshold < 2) throw new IllegalArgumentException("nPlusOneThreshold must be >= 2");
+        this.budget = budget;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+        this.exposeHeader = exposeHeader;
+        this.registry = Objects.requireNonNull(registry);
+    }
+
+    /** A handler that ran on a bulkhead has its result written by the async dispatch: reported there. */
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        QueryCounter.Scope resumed = (QueryCounter.Scope) request.getAttribute(SCOPE_ATTRIBUTE);
+        if (resumed != null) {
+            QueryCounter.Scope previous = QueryCounter.swap(resumed);
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                QueryCounter.swap(previous);
+                finish(request, response, resumed);
+            }
+            return;
+        }
+
+        try (QueryCounter.Scope scope = QueryCounter.open()) {
+            HttpServletResponse target = exposeHeader ? new ContentCachingResponseWrapper(response) : response;
+            try {
+                chain.doFilter(request, target);
+            } finally {
+                finish(request, target, scope);
+            }
+        }
+    }
+
+    private void finish(HttpServletRequest request, HttpServletResponse response, QueryCounter.Scope scope)
+            throws IOException {
+        if (isAsyncStarted(request)) {
+            request.setAttribute(SCOPE_ATTRIBUTE, scope);
+            return;
+        }
+        report(request, scope);
+
+        ContentCachingResponseWrapper buffered = WebUtils.getNativeResponse(response, ContentCachingResponseWrapper.class);
+        if (buffered != null) {
+            buffered.setHeader(HEADER, String.valueOf(scope.count()));
+            buffered.copyBodyToResponse();
+        }
+    }
+
+    private void report(HttpServletRequest request, QueryCounter.Scope scope) {
+        String uri = routeOf(request);
+        RouteMeters m = meters.computeIfAbsent(new RouteKey(request.getMethod(), uri), this::register);
+        int count = scope.count();
+        m.queries().record(count);
+
+        if (count > budget) {
+            m.overBudget().increment();
+            log.warn("{} {} ({}) executed {} SQL statements (budget {}), {} distinct",
+                    request.getMethod(), request.getRequestURI(), uri, count, budget, scope.distinct());
+        }
+
+        List<QueryCounter.Repeated> repeated = scope.repeated(nPlusOneThreshold);
+        if (!repeated.isEmpty()) {
+            m.nPlusOne().increment();
+            QueryCounter.Repeated worst = repeated.get(0);
+            log.warn("Possible N+1 in {} {} ({}): statement repeated {} times: {}",
+                    request.getMethod(), request.getRequestURI(), uri, worst.times(), oneLine(worst.sql()));
+        }
+    }
+
+    private RouteMeters register(RouteKey k) {
+        return new RouteMeters(
+                DistributionSummary.builder("cinema.http.queries")
+                        .description("SQL statements per HTTP request")
+                        .tag("method", k.method()).tag("uri", k.uri())
+                        .register(registry),
+                Counter.builder("cinema.http.queries.over_budget")
+                        .tag("method", k.method()).tag("uri", k.uri())
+                        .register(registry),
+                Counter.builder("cinema.http.queries.n_plus_one")
+                        .tag("method", k.method()).tag("uri", k.uri())
+                        .register(registry)
+        );
+    }
+
+    /** Route pattern (bounded tag values); requests rejected before dispatch have none. */
+    private static String routeOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? "UNKNOWN" : pattern.toString();
+    }
+
+    private static String oneLine(String sql) {
+        String s = sql.replaceAll("\\s+", " ").trim();
+        return s.length() > 300 ? s.substring(0, 300) + "..." : s;
+    }
+}
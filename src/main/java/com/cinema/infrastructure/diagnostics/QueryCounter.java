@@ -0,0 +1,121 @@
+package com.cinema.infrastructure.diagnostics;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-thread SQL statement counter.
+ *
+ * Spec:
+ * - A Scope is opened per HTTP request by QueryCountFilter (or around any block, e.g. in a test)
+ * - Every statement executed on this thread while a scope is open is counted, JPA and JdbcTemplate alike
+ *   (CountingDataSource); statements on other threads are not, unless the scope is handed over
+ *   to them (DiagnosticsHandoff)
+ * - Scopes nest: an inner scope counts its own statements and they still count for the outer one
+ * - Identical SQL text is grouped, so a statement repeated once per row (N+1) stands out
+ *
+ * Usage for statement budgets:
+ *   try (QueryCounter.Scope q = QueryCounter.open()) {
+ *       useCase.search(...);
+ *       q.assertAtMost(3);
+ *   }
+ */
+public final class QueryCounter {
+
+    /** Distinct statements remembered per scope; further ones are only counted. */
+    private static final int MAX_DISTINCT = 200;
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private QueryCounter() {}
+
+    public static Scope open() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /** Statements counted so far by the innermost open scope (0 when none is open). */
+    public static int current() {
+        Scope s = CURRENT.get();
+        return s == null ? 0 : s.count;
+    }
+
+    /** Innermost open scope of this thread, or null. */
+    static Scope currentScope() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Makes scope (null: none) the current one of this thread and returns the previous one, for a request that
+     * continues on another thread (async dispatch, bulkhead worker; see DiagnosticsHandoff).
+     */
+    static Scope swap(Scope scope) {
+        Scope previous = CURRENT.get();
+        if (scope == null) CURRENT.remove();
+        else CURRENT.set(scope);
+        return previous;
+    }
+
+    static void record(String sql) {
+        for (Scope s = CURRENT.get(); s != null; s = s.parent) {
+            s.add(sql);
+        }
+    }
+
+    public record Repeated(String sql, int times) {}
+
+    public static final class Scope implements AutoCloseable {
+
+        private final Scope parent;
+        private final Map<String, Integer> bySql = new LinkedHashMap<>();
+        private int count;
+        private boolean closed;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        private void add(String sql) {
+            count++;
+            if (bySql.size() < MAX_DISTINCT || bySql.containsKey(sql)) {
+                bySql.merge(sql, 1, Integer::sum);
+            }
+        }
+
+        public int count() {
+            return count;
+        }
+
+        public int distinct() {
+            return bySql.size();
+        }
+
+        /** Statements issued at least minTimes with identical SQL, most repeated first. */
+        public List<Repeated> repeated(int minTimes) {
+            return bySql.entrySet().stream()
+                    .filter(e -> e.getValue() >= minTimes)
+                    .map(e -> new Repeated(e.getKey(), e.getValue()))
+                    .sorted((a, b) -> Integer.compare(b.times(), a.times()))
+                    .toList();
+        }
+
+        public void assertAtMost(int budget) {
+            if (count > budget) {
+                throw new AssertionError("Expected at most " + budget + " SQL statements but " + count
+                        + " were executed; most repeated: " + repeated(2));
+            }
+        }
+
+        @Override
+        public void close() {
+            if (closed) return;
+            closed = true;
+            if (CURRENT.get() == this) {
+                if (parent == null) CURRENT.remove();
+                else CURRENT.set(parent);
+            }
+        }
+    }
+}
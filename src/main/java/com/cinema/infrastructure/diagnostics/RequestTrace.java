@@ -0,0 +1,193 @@
+package com.cinema.infrastructure.diagnostics;
+
+import java.lang.reflect.Method;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Per-request span collector for the slow-request flight recorder.
+ *
+ * Spec:
+ * - Opened by SlowRequestFilter on the request thread; all static hooks are no-ops when no trace is open.
+ *   Threads the request continues on (bulkhead worker, async dispatch) get it through DiagnosticsHandoff;
+ *   one thread at a time, so the trace itself is not synchronized
+ * - filter time = request start -> controller dispatch (servlet filters incl. security/JWT)
+ * - Spans: usecase (UseCaseMetricsAspect), sql (CountingDataSource: any JDBC execution, SQL text + time),
+ *   bcrypt (password hash/check)
+ * - At most MAX_SPANS spans are kept; the rest are only counted (sql/bcrypt totals stay exact)
+ * - Span names are kept as given; SQL is collapsed to one line and cut at MAX_SQL_LENGTH only for a trace
+ *   that is actually recorded (Span.normalized, SlowRequestFilter), not on every statement
+ * - When JFR events are enabled the same spans are also emitted as jdk.jfr events (see DiagnosticEvents)
+ */
+public final class RequestTrace {
+
+    public static final int MAX_SPANS = 200;
+    private static final int MAX_SQL_LENGTH = 500;
+
+    public enum Kind { USECASE, SQL, BCRYPT }
+
+    /** Offsets are relative to the request start. */
+    public record Span(Kind kind, String name, long startMicros, long durationMicros) {
+
+        /** Same span with the name on one line and at most MAX_SQL_LENGTH characters. */
+        Span normalized() {
+            return new Span(kind, normalize(name), startMicros, durationMicros);
+        }
+    }
+
+    private static final ThreadLocal<RequestTrace> CURRENT = new ThreadLocal<>();
+    private static volatile boolean jfrEnabled;
+
+    private final Instant startedAt = Instant.now();
+    private final long startNanos = System.nanoTime();
+    private long dispatchNanos = -1;
+
+    private final List<Span> spans = new ArrayList<>();
+    private int droppedSpans;
+
+    private int sqlCount;
+    private long sqlNanos;
+    private int bcryptCount;
+    private long bcryptNanos;
+
+    private RequestTrace() {}
+
+    public static void enableJfr(boolean enabled) {
+        jfrEnabled = enabled;
+    }
+
+    /** New trace, not yet current on any thread (see swap). */
+    static RequestTrace begin() {
+        return new RequestTrace();
+    }
+
+    /** Trace open on this thread, or null. */
+    static RequestTrace current() {
+        return CURRENT.get();
+    }
+
+    /** Makes trace (null: none) the one of this thread and returns the previous one (see QueryCounter.swap). */
+    static RequestTrace swap(RequestTrace trace) {
+        RequestTrace previous = CURRENT.get();
+        if (trace == null) CURRENT.remove();
+        else CURRENT.set(trace);
+        return previous;
+    }
+
+    // -------------------------
+    // hooks
+    // -------------------------
+
+    static void markDispatched() {
+        RequestTrace t = CURRENT.get();
+        if (t != null && t.dispatchNanos < 0) t.dispatchNanos = System.nanoTime();
+    }
+
+    /** Start of a JDBC execution; pair with {@link #sqlEnded(Timing)}. */
+    static Timing sqlStarted() {
+        RequestTrace t = CURRENT.get();
+        if (t == null) return Timing.NOOP;
+        DiagnosticEvents.SqlEvent event = jfrEnabled ? new DiagnosticEvents.SqlEvent() : null;
+        if (event != null) event.begin();
+        return new Timing(t, null, event);
+    }
+
+    static void sqlEnded(Timing timing, String sql) {
+        RequestTrace t = timing.trace;
+        if (t == null) return;
+        long end = System.nanoTime();
+        t.sqlCount++;
+        t.sqlNanos += end - timing.startNanos;
+        t.add(Kind.SQL, sql, timing.startNanos, end);
+        if (timing.event instanceof DiagnosticEvents.SqlEvent e) {
+            e.sql = sql;
+            e.commit();
+        }
+    }
+
+    /** Start of a use-case call; pair with {@link #useCaseEnded(Timing)}. The name is only built when traced. */
+    public static Timing useCaseStarted(Class<?> type, Method method) {
+        RequestTrace t = CURRENT.get();
+        if (t == null && !jfrEnabled) return Timing.NOOP;
+        String name = type.getSimpleName() + "." + method.getName();
+        DiagnosticEvents.UseCaseEvent event = jfrEnabled ? new DiagnosticEvents.UseCaseEvent() : null;
+        if (event != null) {
+            event.useCase = name;
+            event.begin();
+        }
+        return new Timing(t, name, event);
+    }
+
+    public static void useCaseEnded(Timing timing) {
+        if (timing == Timing.NOOP) return;
+        if (timing.trace != null) timing.trace.add(Kind.USECASE, timing.name, timing.startNanos, System.nanoTime());
+        if (timing.event != null) timing.event.commit();
+    }
+
+    /** In-flight span handle; NOOP when nothing is traced. */
+    public static final class Timing {
+        static final Timing NOOP = new Timing(null, null, null);
+
+        private final RequestTrace trace;
+        private final String name;
+        private final jdk.jfr.Event event;
+        private final long startNanos = System.nanoTime();
+
+        private Timing(RequestTrace trace, String name, jdk.jfr.Event event) {
+            this.trace = trace;
+            this.name = name;
+            this.event = event;
+        }
+    }
+
+    /** Times a BCrypt hash/check; works with or without an open trace. */
+    public static <T> T bcrypt(String operation, Supplier<T> body) {
+        RequestTrace t = CURRENT.get();
+        DiagnosticEvents.BcryptEvent event = jfrEnabled ? new DiagnosticEvents.BcryptEvent() : null;
+        if (event != null) event.begin();
+        long start = System.nanoTime();
+        try {
+            return body.get();
+        } finally {
+            long end = System.nanoTime();
+            if (t != null) {
+                t.bcryptCount++;
+                t.bcryptNanos += end - start;
+                t.add(Kind.BCRYPT, operation, start, end);
+            }
+            if (event != null) {
+                event.operation = operation;
+                event.commit();
+            }
+        }
+    }
+
+    private void add(Kind kind, String name, long start, long end) {
+        if (spans.size() >= MAX_SPANS) {
+            droppedSpans++;
+            return;
+        }
+        spans.add(new Span(kind, name, (start - startNanos) / 1_000, (end - start) / 1_000));
+    }
+
+    private static String normalize(String s) {
+        String one = s.replaceAll("\\s+", " ").trim();
+        return one.length() > MAX_SQL_LENGTH ? one.substring(0, MAX_SQL_LENGTH) + "..." : one;
+    }
+
+    // -------------------------
+    // read side
+    // -------------------------
+
+    Instant startedAt() { return startedAt; }
+    long startNanos() { return startNanos; }
+    long filterNanos(long endNanos) { return (dispatchNanos < 0 ? endNanos : dispatchNanos) - startNanos; }
+    List<Span> spans() { return spans; }
+    int droppedSpans() { return droppedSpans; }
+    int sqlCount() { return sqlCount; }
+    long sqlNanos() { return sqlNanos; }
+    int bcryptCount() { return bcryptCount; }
+    long bcryptNanos() { return bcryptNanos; }
+}
@@ -0,0 +1,110 @@
+package com.cinema.infrastructure.diagnostics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.Objects;
+
+/**
+ * Outermost filter of the flight recorder: opens a RequestTrace, and keeps it in the
+ * SlowRequestRecorder when the request took at least the threshold.
+ * A request that went async (bulkhead worker) is recorded when its async dispatch has written the result.
+ */
+public class SlowRequestFilter extends OncePerRequestFilter {
+
+    private static final String PENDING_ATTRIBUTE = SlowRequestFilter.class.getName() + ".pending";
+
+    private final SlowRequestRecorder recorder;
+    private final boolean jfr;
+
+    private record Pending(RequestTrace trace, DiagnosticEvents.RequestEvent event) {}
+
+    public SlowRequestFilter(SlowRequestRecorder recorder, boolean jfr) {
+        this.recorder = Objects.requireNonNull(recorder);
+        this.jfr = jfr;
+    }
+
+    // the event stream stays open for minutes by design: never "slow", and its disconnects are not requests
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getServletPath().equals("/api/events/stream");
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        Pending pending = (Pending) request.getAttribute(PENDING_ATTRIBUTE);
+        if (pending == null) {
+            DiagnosticEvents.RequestEvent event = jfr ? new DiagnosticEvents.RequestEvent() : null;
+            if (event != null) event.begin();
+            pending = new Pending(RequestTrace.begin(), event);
+        }
+
+        RequestTrace previous = RequestTrace.swap(pending.trace());
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            RequestTrace.swap(previous);
+            if (isAsyncStarted(request)) {
+                request.setAttribute(PENDING_ATTRIBUTE, pending);
+            } else {
+                finish(request, response, pending);
+            }
+        }
+    }
+
+    private void finish(HttpServletRequest request, HttpServletResponse response, Pending pending) {
+        RequestTrace trace = pending.trace();
+        long end = System.nanoTime();
+        long total = end - trace.startNanos();
+        String route = routeOf(request);
+
+        if (recorder.isSlow(total)) {
+            recorder.record(new SlowRequestRecorder.Trace(
+                    trace.startedAt(),
+                    request.getMethod(),
+                    request.getRequestURI(),
+                    route,
+                    response.getStatus(),
+                    total / 1_000,
+                    trace.filterNanos(end) / 1_000,
+                    trace.sqlCount(),
+                    trace.sqlNanos() / 1_000,
+                    trace.bcryptCount(),
+                    trace.bcryptNanos() / 1_000,
+                    trace.spans().stream()
+                            .sorted(Comparator.comparingLong(RequestTrace.Span::startMicros))
+                            .map(RequestTrace.Span::normalized)
+                            .toList(),
+                    trace.droppedSpans()
+            ));
+        }
+
+        DiagnosticEvents.RequestEvent event = pending.event();
+        if (event != null) {
+            event.method = request.getMethod();
+            event.uri = request.getRequestURI();
+            event.route = route;
+            event.status = response.getStatus();
+            event.sqlCount = trace.sqlCount();
+            event.commit();
+        }
+    }
+
+    private static String routeOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? "UNKNOWN" : pattern.toString();
+    }
+}
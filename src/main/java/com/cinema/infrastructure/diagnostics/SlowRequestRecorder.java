@@ -0,0 +1,77 @@
+package com.cinema.infrastructure.diagnostics;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fixed-size ring buffer of slow-request traces (newest overwrite oldest, lock-free).
+ */
+public class SlowRequestRecorder {
+
+    public record Trace(
+            Instant startedAt,
+            String method,
+            String uri,
+            String route,
+            int status,
+            long totalMicros,
+            long filterMicros,
+            int sqlCount,
+            long sqlMicros,
+            int bcryptCount,
+            long bcryptMicros,
+            List<RequestTrace.Span> spans,
+            int droppedSpans
+    ) {}
+
+    private final long thresholdNanos;
+    private final AtomicReferenceArray<Trace> ring;
+    private final AtomicLong written = new AtomicLong();
+
+    public SlowRequestRecorder(int capacity, long thresholdMillis) {
+        if (capacity < 1) throw new IllegalArgumentException("capacity must be >= 1");
+        if (thresholdMillis < 0) throw new IllegalArgumentException("threshold must be >= 0");
+        this.ring = new AtomicReferenceArray<>(capacity);
+        this.thresholdNanos = thresholdMillis * 1_000_000L;
+    }
+
+    public boolean isSlow(long totalNanos) {
+        return totalNanos >= thresholdNanos;
+    }
+
+    public void record(Trace trace) {
+        long slot = written.getAndIncrement();
+        ring.set((int) (slot % ring.length()), trace);
+    }
+
+    /** Newest first. */
+    public List<Trace> snapshot() {
+        List<Trace> out = new ArrayList<>(ring.length());
+        for (int i = 0; i < ring.length(); i++) {
+            Trace t = ring.get(i);
+            if (t != null) out.add(t);
+        }
+        out.sort(Comparator.comparing(Trace::startedAt).reversed());
+        return out;
+    }
+
+    public long recordedTotal() {
+        return written.get();
+    }
+
+    public void clear() {
+        for (int i = 0; i < ring.length(); i++) ring.set(i, null);
+    }
+
+    public int capacity() {
+        return ring.length();
+    }
+
+    public long thresholdMillis() {
+        return thresholdNanos / 1_000_000L;
+    }
+}
@@ -0,0 +1,318 @@
+package com.cinema.infrastructure.events;
+
+import com.cinema.domain.entity.Program;
+import com.cinema.domain.entity.value.ProgramId;
+import com.cinema.domain.entity.value.UserId;
+import com.cinema.domain.enums.ProgramState;
+import com.cinema.domain.event.DomainEvent;
+import com.cinema.domain.event.ProgramStateChanged;
+import com.cinema.domain.event.ScreeningStateChanged;
+import com.cinema.domain.port.ProgramRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fan-out of committed domain events (outbox subscriber) to Server-Sent-Event connections.
+ *
+ * Spec:
+ * - Visibility (same rules as the read use cases):
+ *   program state change => every logged-in user; VISITORs only when the program becomes ANNOUNCED;
+ *   screening state change => its submitter, its assigned STAFF member and the program's PROGRAMMERs
+ * - Subscribers are indexed by user id, so a screening event touches a handful of connections, not all of them
+ * - onEvent() never blocks: events are appended to a per-connection bounded queue (drop-oldest) and a small
+ *   sender pool drains queues that have work; a client that fell behind gets a "resync" event with the drop count
+ * - Idle connections cost one queue and one async request (no thread); a periodic comment keeps proxies
+ *   from closing them and weeds out dead sockets
+ */
+public class EventStreamHub implements OutboxSubscriber, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(EventStreamHub.class);
+
+    // program membership is looked up once per program and reused for a few seconds (events come in bursts)
+    private static final long MEMBERS_TTL_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private final ProgramRepository programRepository;
+    private final int maxConnections;
+    private final int bufferSize;
+    private final long timeoutMillis;
+
+    private final Set<Subscriber> all = ConcurrentHashMap.newKeySet();
+    private final Map<Long, Set<Subscriber>> byUser = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final Map<Long, Members> members = new ConcurrentHashMap<>();
+
+    private final ExecutorService senders;
+    private final ScheduledExecutorService heartbeat;
+
+    private final Counter delivered;
+    private final Counter dropped;
+
+    public EventStreamHub(ProgramRepository programRepository, int maxConnections, int bufferSize,
+                          long timeoutMillis, long heartbeatSeconds, int senderThreads, MeterRegistry registry) {
+        this.programRepository = Objects.requireNonNull(programRepository);
+        if (maxConnections <= 0 || bufferSize <= 0 || senderThreads <= 0) {
+            throw new IllegalArgumentException("maxConnections, bufferSize and senderThreads must be > 0");
+        }
+        this.maxConnections = maxConnections;
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeoutMillis;
+
+        AtomicInteger n = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(senderThreads, r -> {
+            Thread t = new Thread(r, "sse-sender-" + n.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "sse-heartbeat");
+            t.setDaemon(true);
+            return t;
+        });
+        if (heartbeatSeconds > 0) {
+            heartbeat.scheduleAtFixedRate(this::heartbeat, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+        }
+
+        Gauge.builder("cinema.sse.connections", connections, AtomicInteger::get).register(registry);
+        this.delivered = Counter.builder("cinema.sse.events").tag("outcome", "delivered").register(registry);
+        this.dropped = Counter.builder("cinema.sse.events").tag("outcome", "dropped").register(registry);
+    }
+
+    /**
+     * Opens a stream for the actor (null => VISITOR), optionally limited to one program.
+     * Returns null when the connection limit is reached.
+     */
+    public SseEmitter subscribe(UserId actorId, ProgramId programFilter) {
+        if (connections.incrementAndGet() > maxConnections) {
+            connections.decrementAndGet();
+            return null;
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber sub = new Subscriber(actorId, programFilter, emitter);
+
+        emitter.onCompletion(() -> remove(sub));
+        emitter.onTimeout(() -> remove(sub));
+        emitter.onError(ex -> remove(sub));
+
+        all.add(sub);
+        if (actorId != null) byUser.computeIfAbsent(actorId.value(), k -> ConcurrentHashMap.newKeySet()).add(sub);
+
+        // first frame commits the response headers, so the client sees the stream as open right away
+        sub.offer(SseEmitter.event().comment("connected").build());
+        return emitter;
+    }
+
+    public int connections() {
+        return connections.get();
+    }
+
+    @Override
+    public String name() {
+        return "sse";
+    }
+
+    /** Connections live on this node: it needs every event, whichever node's relay claims it. */
+    @Override
+    public boolean broadcast() {
+        return true;
+    }
+
+    /** The outbox offset doubles as the SSE event id. */
+    @Override
+    public void onEvent(long id, DomainEvent event) {
+        if (event instanceof ProgramStateChanged e) {
+            members.remove(e.programId().value());
+            Map<String, Object> data = new LinkedHashMap<>();
+            data.put("programId", e.programId().value());
+            data.put("from", e.from().name());
+            data.put("to", e.to().name());
+            data.put("at", e.occurredAt().toString());
+            var frame = frame(id, "program.state", data);
+            boolean toVisitors = e.to() == ProgramState.ANNOUNCED;
+            for (Subscriber s : all) {
+                if ((toVisitors || s.actorId != null) && s.wants(e.programId())) s.offer(frame);
+            }
+        } else if (event instanceof ScreeningStateChanged e) {
+            Map<String, Object> data = new LinkedHashMap<>();
+            data.put("screeningId", e.screeningId() != null ? e.screeningId().value() : null);
+            data.put("programId", e.programId().value());
+            data.put("from", e.from().name());
+            data.put("to", e.to().name());
+            data.put("at", e.occurredAt().toString());
+            var frame = frame(id, "screening.state", data);
+
+            // a user can be in several roles; each connection gets the event once
+            Set<Subscriber> targets = new HashSet<>();
+            addUser(targets, e.submitterId());
+            addUser(targets, e.staffMemberId());
+            for (UserId p : programmers(e.programId())) addUser(targets, p);
+
+            for (Subscriber s : targets) {
+                if (s.wants(e.programId())) s.offer(frame);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        heartbeat.shutdownNow();
+        senders.shutdownNow();
+        for (Subscriber s : all) {
+            try {
+                s.emitter.complete();
+            } catch (RuntimeException ignored) {
+                // already gone
+            }
+        }
+    }
+
+    // -------------------------
+    // internals
+    // -------------------------
+
+    // built once and shared by all recipients (an SseEventBuilder must not be built twice)
+    private static Set<DataWithMediaType> frame(long id, String name, Object data) {
+        return SseEmitter.event().id(Long.toString(id)).name(name).data(data, MediaType.APPLICATION_JSON).build();
+    }
+
+    private void addUser(Set<Subscriber> targets, UserId userId) {
+        if (userId == null) return;
+        Set<Subscriber> subs = byUser.get(userId.value());
+        if (subs != null) targets.addAll(subs);
+    }
+
+    private Set<UserId> programmers(ProgramId programId) {
+        long now = System.nanoTime();
+        Members m = members.get(programId.value());
+        if (m == null || now - m.loadedAt > MEMBERS_TTL_NANOS) {
+            Set<UserId> programmers = programRepository.findById(programId)
+                    .map(Program::programmers)
+                    .map(Set::copyOf)
+                    .orElse(Set.of());
+            m = new Members(programmers, now);
+            members.put(programId.value(), m);
+        }
+        return m.programmers;
+    }
+
+    private void heartbeat() {
+        var ping = SseEmitter.event().comment("ping " + Instant.now()).build();
+        for (Subscriber s : all) s.offer(ping);
+    }
+
+    private void remove(Subscriber sub) {
+        if (!sub.closed.compareAndSet(false, true)) return;
+        all.remove(sub);
+        if (sub.actorId != null) {
+            byUser.computeIfPresent(sub.actorId.value(), (k, set) -> {
+                set.remove(sub);
+                return set.isEmpty() ? null : set;
+            });
+        }
+        connections.decrementAndGet();
+    }
+
+    private record Members(Set<UserId> programmers, long loadedAt) {}
+
+    private final class Subscriber {
+
+        private final UserId actorId;
+        private final ProgramId programFilter;
+        private final SseEmitter emitter;
+
+        // guarded by "this"
+        private final ArrayDeque<Set<DataWithMediaType>> queue = new ArrayDeque<>();
+        private long droppedSinceLastSend;
+
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Subscriber(UserId actorId, ProgramId programFilter, SseEmitter emitter) {
+            this.actorId = actorId;
+            this.programFilter = programFilter;
+            this.emitter = emitter;
+        }
+
+        boolean wants(ProgramId programId) {
+            return programFilter == null || programFilter.equals(programId);
+        }
+
+        void offer(Set<DataWithMediaType> event) {
+            if (closed.get()) return;
+            synchronized (this) {
+                if (queue.size() >= bufferSize) {
+                    queue.pollFirst();
+                    droppedSinceLastSend++;
+                    dropped.increment();
+                }
+                queue.addLast(event);
+            }
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    senders.execute(this::drain);
+                } catch (RuntimeException ex) {
+                    scheduled.set(false); // pool shut down
+                }
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                Set<DataWithMediaType> next;
+                long lost;
+                synchronized (this) {
+                    next = queue.pollFirst();
+                    lost = droppedSinceLastSend;
+                    droppedSinceLastSend = 0;
+                    if (next == null) {
+                        scheduled.set(false);
+                        return;
+                    }
+                }
+                try {
+                    if (lost > 0) {
+                        emitter.send(SseEmitter.event().name("resync").data(Map.of("dropped", lost), MediaType.APPLICATION_JSON));
+                    }
+                    emitter.send(next);
+                    delivered.increment();
+                } catch (IOException | IllegalStateException ex) {
+                    log.debug("SSE subscriber gone: {}", ex.toString());
+                    remove(this);
+                    // not completeWithError: a vanished client is not a server error worth a stack trace
+                    try {
+                        emitter.complete();
+                    } catch (RuntimeException ignored) {
+                        // already completed by the container
+                    }
+                    synchronized (this) {
+                        queue.clear();
+                        scheduled.set(false);
+                    }
+                    return;
+                }
+            }
+        }
+    }
+}
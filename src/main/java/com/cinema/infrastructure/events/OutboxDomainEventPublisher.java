@@ -0,0 +1,42 @@
+package com.cinema.infrastructure.events;
+
+import com.cinema.domain.event.DomainEvent;
+import com.cinema.domain.port.DomainEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * DomainEventPublisher writing to the outbox table in the caller's transaction:
+ * the events commit or roll back together with the aggregate; OutboxRelay and OutboxFanout deliver them afterwards.
+ */
+@Component
+public class OutboxDomainEventPublisher implements DomainEventPublisher {
+
+    private final OutboxStore store;
+
+    public OutboxDomainEventPublisher(OutboxStore store) {
+        this.store = Objects.requireNonNull(store);
+    }
+
+    @Override
+    public void publish(List<? extends DomainEvent> events) {
+        if (events == null || events.isEmpty()) return;
+        store.append(events);
+
+        // wake the relay once the rows are visible (without a transaction they already are)
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    store.signal();
+                }
+            });
+        } else {
+            store.signal();
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.cinema.infrastructure.events;
+
+import com.cinema.domain.event.DomainEvent;
+import com.cinema.domain.event.ProgramStateChanged;
+import com.cinema.domain.event.ScreeningStateChanged;
+
+import java.time.Instant;
+
+/**
+ * A stored domain event. offset is the outbox row id: strictly increasing, the replay cursor.
+ * publishedAt is null while the relay has not delivered it.
+ */
+public record OutboxEvent(long offset, DomainEvent event, int attempts, Instant publishedAt) {
+
+    public static final String SCREENING = "SCREENING";
+    public static final String PROGRAM = "PROGRAM";
+
+    public String aggregateType() {
+        return aggregateType(event);
+    }
+
+    public long aggregateId() {
+        return aggregateId(event);
+    }
+
+    static String aggregateType(DomainEvent event) {
+        if (event instanceof ScreeningStateChanged) return SCREENING;
+        if (event instanceof ProgramStateChanged) return PROGRAM;
+        throw new IllegalArgumentException("Unsupported event: " + event);
+    }
+
+    static long aggregateId(DomainEvent event) {
+        if (event instanceof ScreeningStateChanged e) return e.screeningId().value();
+        return event.programId().value();
+    }
+}
@@ -0,0 +1,177 @@
+package com.cinema.infrastructure.events;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delivers outbox rows to the broadcast subscribers (OutboxSubscriber.broadcast(), e.g. the SSE hub) of this
+ * node, whichever node's OutboxRelay claims them.
+ *
+ * Spec:
+ * - Per-node cursor over the offsets, no row locks and no writes: every node reads every row. Each poll runs in
+ *   one read-only transaction (subscribers look things up, as they do on the relay thread)
+ * - Starts at the newest offset (a node that just started has no per-node state to catch up)
+ * - Offsets are taken at insert, not at commit, so a row can become visible after newer ones: an offset skipped
+ *   over is looked up again until it shows up or gapGrace has passed (rolled-back inserts leave holes for good).
+ *   Rows of one aggregate commit one after the other (row locks), so a late row never overtakes its aggregate
+ * - At most once per node: a failing subscriber is logged and counted, the event is not retried
+ *   (SSE clients resync from their own state; outbox replay is there for the rest)
+ * - Wakes up on commit signals of this node, otherwise polls every pollInterval (commits made on other nodes)
+ */
+public class OutboxFanout implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxFanout.class);
+
+    /** open holes looked up again; beyond this the oldest are given up (a burst of rollbacks) */
+    private static final int MAX_GAPS = 10_000;
+
+    private final OutboxStore store;
+    private final List<OutboxSubscriber> subscribers;
+    private final TransactionTemplate tx;
+    private final int batchSize;
+    private final long pollIntervalMillis;
+    private final long gapGraceNanos;
+
+    private final Counter delivered;
+    private final Counter failed;
+
+    private volatile boolean running;
+    private Thread thread;
+
+    // fan-out thread only
+    private long high;                                          // highest offset seen
+    private final LinkedHashMap<Long, Long> gaps = new LinkedHashMap<>(); // skipped offset -> give up at (nanoTime)
+
+    public OutboxFanout(OutboxStore store, List<OutboxSubscriber> subscribers, TransactionTemplate tx,
+                        int batchSize, long pollIntervalMillis, long gapGraceMillis, MeterRegistry registry) {
+        if (batchSize <= 0 || pollIntervalMillis <= 0 || gapGraceMillis < 0) {
+            throw new IllegalArgumentException("batchSize, pollIntervalMillis must be > 0, gapGraceMillis >= 0");
+        }
+        this.store = Objects.requireNonNull(store);
+        this.subscribers = subscribers.stream().filter(OutboxSubscriber::broadcast).toList();
+        this.tx = Objects.requireNonNull(tx);
+        tx.setReadOnly(true);
+        this.batchSize = batchSize;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.gapGraceNanos = TimeUnit.MILLISECONDS.toNanos(gapGraceMillis);
+
+        this.delivered = Counter.builder("cinema.outbox.fanout.events").tag("outcome", "delivered").register(registry);
+        this.failed = Counter.builder("cinema.outbox.fanout.events").tag("outcome", "failed").register(registry);
+    }
+
+    // started with the context (schema ready), stopped before the data source closes
+
+    @Override
+    public boolean isAutoStartup() {
+        return !subscribers.isEmpty();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) return;
+        running = true;
+        thread = new Thread(this::loop, "outbox-fanout");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    // -------------------------
+    // internals
+    // -------------------------
+
+    private void loop() {
+        high = -1;
+        while (running) {
+            try {
+                if (high < 0) high = store.maxOffset();
+                long seen = store.signals();
+                Integer n = tx.execute(status -> pollOnce());
+                if (n == null || n < batchSize) store.awaitSignal(seen, pollIntervalMillis);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ex) {
+                log.warn("Outbox fan-out poll failed: {}", ex.toString());
+                try {
+                    TimeUnit.MILLISECONDS.sleep(pollIntervalMillis);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /** Late rows first, then new ones; returns the number of new rows read. */
+    private int pollOnce() {
+        long now = System.nanoTime();
+        if (!gaps.isEmpty()) {
+            for (OutboxEvent e : store.readOffsets(new ArrayList<>(gaps.keySet()))) {
+                gaps.remove(e.offset());
+                deliver(e);
+            }
+            gaps.values().removeIf(giveUpAt -> giveUpAt - now <= 0);
+        }
+
+        List<OutboxEvent> rows = store.read(high, batchSize);
+        for (OutboxEvent e : rows) {
+            for (long missing = Math.max(high + 1, e.offset() - MAX_GAPS); missing < e.offset(); missing++) {
+                gaps.put(missing, now + gapGraceNanos);
+            }
+            high = e.offset();
+            deliver(e);
+        }
+        trimGaps();
+        return rows.size();
+    }
+
+    private void deliver(OutboxEvent e) {
+        for (OutboxSubscriber s : subscribers) {
+            try {
+                s.onEvent(e.offset(), e.event());
+                delivered.increment();
+            } catch (RuntimeException ex) {
+                failed.increment();
+                log.warn("Outbox event {} fan-out to {} failed: {}", e.offset(), s.name(), ex.toString());
+            }
+        }
+    }
+
+    private void trimGaps() {
+        var it = gaps.entrySet().iterator();
+        while (gaps.size() > MAX_GAPS && it.hasNext()) {
+            Map.Entry<Long, Long> oldest = it.next();
+            it.remove();
+            log.debug("Outbox fan-out: gave up waiting for offset {}", oldest.getKey());
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.cinema.infrastructure.events;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delivers outbox rows to the in-process subscribers that need each event handled once (not broadcast ones,
+ * see OutboxFanout).
+ *
+ * Spec:
+ * - One relay thread: claim a batch (SKIP LOCKED), hand every event to every such subscriber in offset order,
+ *   mark the delivered rows, commit; wakes up on commit signals, otherwise polls every pollInterval.
+ *   Relays of several nodes share the rows between them; rows are marked even with no such subscriber,
+ *   as purging and the outbox API go by it
+ * - Throughput cap: at most maxPerSecond events (0 = unlimited), enforced by pacing between batches
+ * - A subscriber failure leaves the event undelivered (retried next poll, attempts counted) and holds back the
+ *   rest of that aggregate's events in the batch => per-aggregate order survives failures; after maxAttempts the
+ *   event is retired with its error so one bad event cannot stall its aggregate forever
+ * - Delivered rows are kept for retention (replay), then purged
+ */
+public class OutboxRelay implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private static final Duration PURGE_EVERY = Duration.ofHours(1);
+
+    private final OutboxStore store;
+    private final Map<String, OutboxSubscriber> subscribers = new LinkedHashMap<>();
+    private final TransactionTemplate tx;
+    private final int batchSize;
+    private final long pollIntervalMillis;
+    private final int maxPerSecond;
+    private final int maxAttempts;
+    private final Duration retention;
+    private final boolean autoStartup;
+
+    private final Counter delivered;
+    private final Counter failed;
+    private final Counter retired;
+
+    private volatile boolean running;
+    private Thread thread;
+    private Instant nextPurge = Instant.now();
+
+    public OutboxRelay(OutboxStore store, List<OutboxSubscriber> subscribers, TransactionTemplate tx,
+                       int batchSize, long pollIntervalMillis, int maxPerSecond, int maxAttempts,
+                       Duration retention, boolean autoStartup, MeterRegistry registry) {
+        this.store = Objects.requireNonNull(store);
+        this.tx = Objects.requireNonNull(tx);
+        if (batchSize <= 0 || pollIntervalMillis <= 0 || maxPerSecond < 0 || maxAttempts <= 0) {
+            throw new IllegalArgumentException("batchSize, pollIntervalMillis, maxAttempts must be > 0, maxPerSecond >= 0");
+        }
+        for (OutboxSubscriber s : subscribers) {
+            if (this.subscribers.putIfAbsent(s.name(), s) != null) {
+                throw new IllegalArgumentException("Duplicate outbox subscriber: " + s.name());
+            }
+        }
+        // a single batch never exceeds one second's worth of the cap
+        this.batchSize = maxPerSecond > 0 ? Math.min(batchSize, maxPerSecond) : batchSize;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.maxPerSecond = maxPerSecond;
+        this.maxAttempts = maxAttempts;
+        this.retention = Objects.requireNonNull(retention);
+        this.autoStartup = autoStartup;
+
+        this.delivered = Counter.builder("cinema.outbox.events").tag("outcome", "delivered").register(registry);
+        this.failed = Counter.builder("cinema.outbox.events").tag("outcome", "failed").register(registry);
+        this.retired = Counter.builder("cinema.outbox.events").tag("outcome", "retired").register(registry);
+    }
+
+    // started with the context (after all beans and the schema are ready), stopped before the data source closes
+
+    @Override
+    public boolean isAutoStartup() {
+        return autoStartup;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) return;
+        running = true;
+        thread = new Thread(this::loop, "outbox-relay");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    public Set<String> subscriberNames() {
+        return subscribers.keySet();
+    }
+
+    /**
+     * Re-delivers stored events with offset > after to one subscriber (rebuilding a projection, catching up).
+     * Does not touch delivery state. Returns the last offset delivered (= after when there was nothing).
+     */
+    public long replay(String subscriberName, long after, int limit) {
+        OutboxSubscriber subscriber = subscribers.get(subscriberName);
+        if (subscriber == null) throw new IllegalArgumentException("Unknown outbox subscriber: " + subscriberName);
+
+        long last = after;
+        for (OutboxEvent e : store.read(after, limit)) {
+            subscriber.onEvent(e.offset(), e.event());
+            last = e.offset();
+        }
+        return last;
+    }
+
+    // -------------------------
+    // internals
+    // -------------------------
+
+    /** One claim/deliver/commit cycle; returns the number of events claimed. */
+    private int pollOnce() {
+        Integer n = tx.execute(status -> {
+            List<OutboxEvent> batch = store.claim(batchSize);
+            if (batch.isEmpty()) return 0;
+
+            List<Long> done = new ArrayList<>(batch.size());
+            Set<String> held = new HashSet<>();
+
+            for (OutboxEvent e : batch) {
+                String aggregate = e.aggregateType() + ":" + e.aggregateId();
+                if (held.contains(aggregate)) continue;
+
+                RuntimeException error = deliver(e);
+                if (error == null) {
+                    done.add(e.offset());
+                    delivered.increment();
+                    continue;
+                }
+
+                boolean retire = e.attempts() + 1 >= maxAttempts;
+                store.recordFailure(e.offset(), error.toString(), retire);
+                if (retire) {
+                    retired.increment();
+                    log.error("Outbox event {} ({}) retired after {} attempts", e.offset(), e.event(), maxAttempts, error);
+                } else {
+                    failed.increment();
+                    held.add(aggregate);
+                    log.warn("Outbox event {} delivery failed (attempt {}): {}", e.offset(), e.attempts() + 1, error.toString());
+                }
+            }
+            store.markPublished(done);
+            return batch.size();
+        });
+        return n != null ? n : 0;
+    }
+
+    private RuntimeException deliver(OutboxEvent e) {
+        RuntimeException first = null;
+        for (OutboxSubscriber s : subscribers.values()) {
+            if (s.broadcast()) continue; // every node's OutboxFanout has it
+            try {
+                s.onEvent(e.offset(), e.event());
+            } catch (RuntimeException ex) {
+                if (first == null) first = ex;
+            }
+        }
+        return first;
+    }
+
+    private void loop() {
+        while (running) {
+            try {
+                long started = System.nanoTime();
+                long seen = store.signals();
+                int n = pollOnce();
+                purgeIfDue();
+
+                if (n == 0) {
+                    store.awaitSignal(seen, pollIntervalMillis);
+                } else if (maxPerSecond > 0) {
+                    long minNanos = TimeUnit.SECONDS.toNanos(n) / maxPerSecond;
+                    long rest = minNanos - (System.nanoTime() - started);
+                    if (rest > 0) TimeUnit.NANOSECONDS.sleep(rest);
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ex) {
+                log.warn("Outbox relay poll failed: {}", ex.toString());
+                try {
+                    TimeUnit.MILLISECONDS.sleep(pollIntervalMillis);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void purgeIfDue() {
+        Instant now = Instant.now();
+        if (now.isBefore(nextPurge)) return;
+        nextPurge = now.plus(PURGE_EVERY);
+
+        int purged = store.purgePublishedBefore(now.minus(retention));
+        if (purged > 0) log.info("Outbox: purged {} delivered events older than {}", purged, retention);
+    }
+}
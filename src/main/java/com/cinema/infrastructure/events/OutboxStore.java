@@ -0,0 +1,248 @@
+package com.cinema.infrastructure.events;
+
+import com.cinema.domain.entity.value.ProgramId;
+import com.cinema.domain.entity.value.ScreeningId;
+import com.cinema.domain.entity.value.UserId;
+import com.cinema.domain.enums.ProgramState;
+import com.cinema.domain.enums.ScreeningState;
+import com.cinema.domain.event.DomainEvent;
+import com.cinema.domain.event.ProgramStateChanged;
+import com.cinema.domain.event.ScreeningStateChanged;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * JDBC access to outbox_events.
+ *
+ * Spec:
+ * - append() joins the caller's transaction (JdbcTemplate shares the JPA connection), one batch per call
+ * - claim() locks the oldest undelivered rows with FOR UPDATE SKIP LOCKED, so several relays (nodes) never
+ *   deliver the same row concurrently; rows of an aggregate with an older row still held elsewhere are left out
+ *   (per-aggregate order)
+ * - read() / readOffsets() take no locks: OutboxFanout tails the table by offset on every node
+ * - signal()/awaitSignal() let the relay and the fan-out wake up on commit instead of waiting for the next poll;
+ *   signals are counted, so each waiter sees every one it has not seen yet
+ */
+@Repository
+public class OutboxStore {
+
+    private static final int MAX_ERROR = 1000;
+
+    private static final String COLUMNS = "id, event_type, aggregate_id, program_id, submitter_id, staff_member_id, "
+            + "from_state, to_state, occurred_at, attempts, published_at";
+
+    private static final String INSERT_SQL = """
+            INSERT INTO outbox_events
+                (event_type, aggregate_type, aggregate_id, program_id, submitter_id, staff_member_id,
+                 from_state, to_state, occurred_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String CLAIM_SQL = "SELECT " + COLUMNS + " FROM outbox_events "
+            + "WHERE published_at IS NULL ORDER BY id FETCH FIRST ? ROWS ONLY FOR UPDATE SKIP LOCKED";
+
+    // oldest undelivered row per aggregate below a bound (ours are included: plain reads do not skip locks)
+    private static final String HEADS_SQL = "SELECT aggregate_type, aggregate_id, MIN(id) AS head FROM outbox_events "
+            + "WHERE published_at IS NULL AND id <= ? GROUP BY aggregate_type, aggregate_id";
+
+    private final JdbcTemplate jdbc;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition appended = lock.newCondition();
+    private long signals; // guarded by lock
+
+    public OutboxStore(JdbcTemplate jdbc) {
+        this.jdbc = Objects.requireNonNull(jdbc);
+    }
+
+    public void append(List<? extends DomainEvent> events) {
+        if (events == null || events.isEmpty()) return;
+
+        jdbc.batchUpdate(INSERT_SQL, events, events.size(), (ps, e) -> {
+            ps.setString(1, e.getClass().getSimpleName());
+            ps.setString(2, OutboxEvent.aggregateType(e));
+            ps.setLong(3, OutboxEvent.aggregateId(e));
+            ps.setLong(4, e.programId().value());
+            if (e instanceof ScreeningStateChanged s) {
+                ps.setObject(5, s.submitterId() != null ? s.submitterId().value() : null);
+                ps.setObject(6, s.staffMemberId() != null ? s.staffMemberId().value() : null);
+                ps.setString(7, s.from().name());
+                ps.setString(8, s.to().name());
+            } else {
+                ProgramStateChanged p = (ProgramStateChanged) e;
+                ps.setObject(5, null);
+                ps.setObject(6, null);
+                ps.setString(7, p.from().name());
+                ps.setString(8, p.to().name());
+            }
+            ps.setObject(9, e.occurredAt().atOffset(ZoneOffset.UTC));
+        });
+    }
+
+    /** Must run inside a transaction: the row locks last until it ends. */
+    public List<OutboxEvent> claim(int limit) {
+        List<OutboxEvent> rows = jdbc.query(CLAIM_SQL, ROW, limit);
+        if (rows.isEmpty()) return List.of();
+
+        // oldest row we hold per aggregate (rows come in id order)
+        Map<Aggregate, Long> ownHeads = new HashMap<>();
+        for (OutboxEvent e : rows) ownHeads.putIfAbsent(Aggregate.of(e), e.offset());
+
+        // an aggregate with an older undelivered row that we do not hold is still being handled elsewhere
+        Set<Aggregate> blocked = new HashSet<>();
+        long maxOffset = rows.get(rows.size() - 1).offset();
+        jdbc.query(HEADS_SQL, rs -> {
+            Aggregate a = new Aggregate(rs.getString("aggregate_type"), rs.getLong("aggregate_id"));
+            Long own = ownHeads.get(a);
+            if (own != null && own != rs.getLong("head")) blocked.add(a);
+        }, maxOffset);
+
+        if (blocked.isEmpty()) return rows;
+        return rows.stream().filter(e -> !blocked.contains(Aggregate.of(e))).toList();
+    }
+
+    public void markPublished(List<Long> offsets) {
+        if (offsets.isEmpty()) return;
+        OffsetDateTime now = OffsetDateTime.now(ZoneOffset.UTC);
+        jdbc.batchUpdate("UPDATE outbox_events SET published_at = ? WHERE id = ?", offsets, offsets.size(),
+                (ps, id) -> {
+                    ps.setObject(1, now);
+                    ps.setLong(2, id);
+                });
+    }
+
+    /** Counts a failed delivery; retire => the row is given up (published_at set, last_error kept). */
+    public void recordFailure(long offset, String error, boolean retire) {
+        jdbc.update("UPDATE outbox_events SET attempts = attempts + 1, last_error = ?, "
+                        + "published_at = CASE WHEN ? THEN CURRENT_TIMESTAMP ELSE published_at END WHERE id = ?",
+                truncate(error), retire, offset);
+    }
+
+    /** Events with offset > after, delivered or not (replay). */
+    public List<OutboxEvent> read(long after, int limit) {
+        return jdbc.query("SELECT " + COLUMNS + " FROM outbox_events WHERE id > ? ORDER BY id FETCH FIRST ? ROWS ONLY",
+                ROW, after, limit);
+    }
+
+    /** Events with the given offsets, in offset order (rows not visible, or gone, are simply missing). */
+    public List<OutboxEvent> readOffsets(Collection<Long> offsets) {
+        if (offsets.isEmpty()) return List.of();
+        String marks = String.join(", ", Collections.nCopies(offsets.size(), "?"));
+        return jdbc.query("SELECT " + COLUMNS + " FROM outbox_events WHERE id IN (" + marks + ") ORDER BY id",
+                ROW, offsets.toArray());
+    }
+
+    /** Highest offset written so far (0 when the table is empty). */
+    public long maxOffset() {
+        Long max = jdbc.queryForObject("SELECT MAX(id) FROM outbox_events", Long.class);
+        return max != null ? max : 0;
+    }
+
+    public int purgePublishedBefore(Instant cutoff) {
+        return jdbc.update("DELETE FROM outbox_events WHERE published_at < ?", cutoff.atOffset(ZoneOffset.UTC));
+    }
+
+    // -------------------------
+    // relay wake-up
+    // -------------------------
+
+    public void signal() {
+        lock.lock();
+        try {
+            signals++;
+            appended.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Signals so far: pass it to awaitSignal() after a poll to hear about commits made during the poll. */
+    public long signals() {
+        lock.lock();
+        try {
+            return signals;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Waits until there was a signal after seen (see signals()), or the timeout. */
+    public void awaitSignal(long seen, long timeoutMillis) throws InterruptedException {
+        lock.lock();
+        try {
+            long nanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+            while (signals == seen && nanos > 0) nanos = appended.awaitNanos(nanos);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // -------------------------
+    // mapping
+    // -------------------------
+
+    private record Aggregate(String type, long id) {
+        static Aggregate of(OutboxEvent e) {
+            return new Aggregate(e.aggregateType(), e.aggregateId());
+        }
+    }
+
+    private static final RowMapper<OutboxEvent> ROW = (rs, i) -> toEvent(rs);
+
+    private static OutboxEvent toEvent(ResultSet rs) throws SQLException {
+        String type = rs.getString("event_type");
+        ProgramId programId = new ProgramId(rs.getLong("program_id"));
+        Instant occurredAt = rs.getObject("occurred_at", OffsetDateTime.class).toInstant();
+
+        DomainEvent event;
+        if ("ScreeningStateChanged".equals(type)) {
+            event = new ScreeningStateChanged(
+                    new ScreeningId(rs.getLong("aggregate_id")),
+                    programId,
+                    userId(rs, "submitter_id"),
+                    userId(rs, "staff_member_id"),
+                    ScreeningState.valueOf(rs.getString("from_state")),
+                    ScreeningState.valueOf(rs.getString("to_state")),
+                    occurredAt);
+        } else if ("ProgramStateChanged".equals(type)) {
+            event = new ProgramStateChanged(
+                    programId,
+                    ProgramState.valueOf(rs.getString("from_state")),
+                    ProgramState.valueOf(rs.getString("to_state")),
+                    occurredAt);
+        } else {
+            throw new IllegalStateException("Unknown outbox event type: " + type);
+        }
+
+        OffsetDateTime published = rs.getObject("published_at", OffsetDateTime.class);
+        return new OutboxEvent(rs.getLong("id"), event, rs.getInt("attempts"),
+                published != null ? published.toInstant() : null);
+    }
+
+    private static UserId userId(ResultSet rs, String column) throws SQLException {
+        long v = rs.getLong(column);
+        return rs.wasNull() ? null : new UserId(v);
+    }
+
+    private static String truncate(String s) {
+        return s == null || s.length() <= MAX_ERROR ? s : s.substring(0, MAX_ERROR);
+    }
+}
@@ -0,0 +1,27 @@
+package com.cinema.infrastructure.events;
+
+import com.cinema.domain.event.DomainEvent;
+
+/**
+ * In-process consumer of the outbox stream (projections, notifications, cache invalidation, SSE).
+ *
+ * Spec:
+ * - Events arrive in offset order, per aggregate strictly in the order they were committed
+ * - At-least-once: after a failure (of any subscriber) the event is delivered again, so handlers must be idempotent;
+ *   offset can be used to drop duplicates
+ * - Called on the relay thread inside its transaction: do not block, hand slow work off
+ * - broadcast() subscribers hold per-node state (SSE connections): every node gets every event from its own
+ *   OutboxFanout instead, in a read-only transaction, at most once (a failure is logged, not retried)
+ */
+public interface OutboxSubscriber {
+
+    /** Stable name (used by the replay API). */
+    String name();
+
+    void onEvent(long offset, DomainEvent event);
+
+    /** true: delivered on every node (OutboxFanout); false: on one node per event (OutboxRelay). */
+    default boolean broadcast() {
+        return false;
+    }
+}
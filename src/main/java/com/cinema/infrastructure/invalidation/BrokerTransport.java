@@ -0,0 +1,90 @@
+package com.cinema.infrastructure.invalidation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Invalidations over a publish/subscribe broker (InvalidationBroker): one broker message per batch.
+ *
+ * Spec:
+ * - Message: UTF-8 text, "origin" on the first line, then one "region key version" line per invalidation
+ *   (regions are single words, see InvalidationBus)
+ * - Fire and forget: what the broker loses while a node is away stays lost (as with the change log after its
+ *   retention); unreadable messages are logged and skipped
+ */
+public final class BrokerTransport implements InvalidationTransport {
+
+    private static final Logger log = LoggerFactory.getLogger(BrokerTransport.class);
+
+    private final InvalidationBroker broker;
+    private final String topic;
+    private AutoCloseable subscription;
+
+    public BrokerTransport(InvalidationBroker broker, String topic) {
+        this.broker = Objects.requireNonNull(broker);
+        this.topic = Objects.requireNonNull(topic);
+    }
+
+    @Override
+    public String name() {
+        return "broker";
+    }
+
+    @Override
+    public void send(List<Invalidation> batch) {
+        if (batch.isEmpty()) return;
+        broker.publish(topic, encode(batch));
+    }
+
+    @Override
+    public synchronized void start(Consumer<List<Invalidation>> receiver) {
+        if (subscription != null) return;
+        subscription = broker.subscribe(topic, message -> {
+            List<Invalidation> batch;
+            try {
+                batch = decode(message);
+            } catch (RuntimeException ex) {
+                log.warn("Invalidation message on {} skipped: {}", topic, ex.toString());
+                return;
+            }
+            receiver.accept(batch);
+        });
+    }
+
+    @Override
+    public synchronized void close() {
+        if (subscription == null) return;
+        try {
+            subscription.close();
+        } catch (Exception ex) {
+            log.warn("Closing the {} subscription failed: {}", topic, ex.toString());
+        }
+        subscription = null;
+    }
+
+    static byte[] encode(List<Invalidation> batch) {
+        StringBuilder text = new StringBuilder(batch.get(0).origin());
+        for (Invalidation i : batch) {
+            text.append('\n').append(i.region()).append(' ').append(i.key()).append(' ').append(i.version());
+        }
+        return text.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    static List<Invalidation> decode(byte[] message) {
+        String[] lines = new String(message, StandardCharsets.UTF_8).split("\n");
+        String origin = lines[0];
+        List<Invalidation> batch = new ArrayList<>(lines.length - 1);
+        for (int n = 1; n < lines.length; n++) {
+            String[] f = lines[n].split(" ");
+            if (f.length != 3) throw new IllegalArgumentException("Malformed invalidation line: " + lines[n]);
+            batch.add(new Invalidation(origin, f[0], Long.parseLong(f[1]), Long.parseLong(f[2])));
+        }
+        return batch;
+    }
+}
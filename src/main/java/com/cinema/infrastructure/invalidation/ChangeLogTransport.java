@@ -0,0 +1,160 @@
+package com.cinema.infrastructure.invalidation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Invalidations through the cache_invalidations table (V8): needs nothing but the shared database.
+ *
+ * Spec:
+ * - send(): one JDBC batch of rows, committed on its own (the bus sends after the writer's commit)
+ * - One poller thread per node: rows of other nodes with created_at >= (newest seen - overlap), in id order.
+ *   Ids and timestamps are taken at insert, not at commit, so a row can become visible after newer ones;
+ *   the overlap re-reads the recent past to catch it. Rows already delivered are remembered for that window
+ *   and not delivered twice
+ * - A row committed later than the overlap after its insert is missed (the bus's versions do not help there)
+ * - Rows older than retention are purged by every node now and then (idempotent DELETE)
+ */
+public final class ChangeLogTransport implements InvalidationTransport {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeLogTransport.class);
+
+    private static final Duration PURGE_EVERY = Duration.ofMinutes(10);
+
+    private static final String INSERT_SQL =
+            "INSERT INTO cache_invalidations (origin, region, entity_key, version) VALUES (?, ?, ?, ?)";
+
+    private static final String POLL_SQL = """
+            SELECT id, origin, region, entity_key, version, created_at
+              FROM cache_invalidations
+             WHERE created_at >= ? AND origin <> ?
+             ORDER BY id
+            """;
+
+    private final JdbcTemplate jdbc;
+    private final String origin;
+    private final long pollIntervalMillis;
+    private final Duration overlap;
+    private final Duration retention;
+
+    private volatile boolean running;
+    private Thread thread;
+
+    // poller thread only
+    private OffsetDateTime newest;
+    private final Map<Long, OffsetDateTime> delivered = new LinkedHashMap<>();
+    private Instant nextPurge = Instant.now();
+
+    public ChangeLogTransport(JdbcTemplate jdbc, String origin, long pollIntervalMillis, Duration overlap,
+                              Duration retention) {
+        if (pollIntervalMillis <= 0 || overlap.isNegative() || retention.compareTo(overlap) <= 0) {
+            throw new IllegalArgumentException("pollIntervalMillis > 0, overlap >= 0 and retention > overlap required");
+        }
+        this.jdbc = Objects.requireNonNull(jdbc);
+        this.origin = Objects.requireNonNull(origin);
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.overlap = overlap;
+        this.retention = retention;
+    }
+
+    @Override
+    public String name() {
+        return "changelog";
+    }
+
+    @Override
+    public void send(List<Invalidation> batch) {
+        if (batch.isEmpty()) return;
+        jdbc.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, i) -> {
+            ps.setString(1, i.origin());
+            ps.setString(2, i.region());
+            ps.setLong(3, i.key());
+            ps.setLong(4, i.version());
+        });
+    }
+
+    @Override
+    public synchronized void start(Consumer<List<Invalidation>> receiver) {
+        if (running) return;
+        running = true;
+        thread = new Thread(() -> loop(receiver), "invalidation-changelog");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public synchronized void close() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    // -------------------------
+    // internals
+    // -------------------------
+
+    private void loop(Consumer<List<Invalidation>> receiver) {
+        while (running) {
+            try {
+                List<Invalidation> batch = pollOnce();
+                if (!batch.isEmpty()) receiver.accept(batch);
+                purgeIfDue();
+            } catch (RuntimeException ex) {
+                log.warn("Invalidation change-log poll failed: {}", ex.toString());
+            }
+            try {
+                TimeUnit.MILLISECONDS.sleep(pollIntervalMillis);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private List<Invalidation> pollOnce() {
+        // the first poll starts at "now" by the database clock: a new node has nothing cached yet
+        if (newest == null) newest = jdbc.queryForObject("SELECT CURRENT_TIMESTAMP", OffsetDateTime.class);
+
+        OffsetDateTime from = newest.minus(overlap);
+        List<Invalidation> batch = new ArrayList<>();
+        jdbc.query(POLL_SQL, rs -> {
+            long id = rs.getLong("id");
+            OffsetDateTime createdAt = rs.getObject("created_at", OffsetDateTime.class);
+            if (createdAt.isAfter(newest)) newest = createdAt;
+            if (delivered.putIfAbsent(id, createdAt) != null) return;
+            batch.add(new Invalidation(rs.getString("origin"), rs.getString("region"),
+                    rs.getLong("entity_key"), rs.getLong("version")));
+        }, from, origin);
+
+        OffsetDateTime forgetBefore = newest.minus(overlap);
+        delivered.values().removeIf(createdAt -> createdAt.isBefore(forgetBefore));
+        return batch;
+    }
+
+    private void purgeIfDue() {
+        Instant now = Instant.now();
+        if (now.isBefore(nextPurge) || newest == null) return;
+        nextPurge = now.plus(PURGE_EVERY);
+
+        int purged = jdbc.update("DELETE FROM cache_invalidations WHERE created_at < ?", newest.minus(retention));
+        if (purged > 0) log.debug("Invalidation change log: purged {} rows older than {}", purged, retention);
+    }
+}
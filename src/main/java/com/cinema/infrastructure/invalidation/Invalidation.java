@@ -0,0 +1,10 @@
+package com.cinema.infrastructure.invalidation;
+
+/**
+ * One invalidation on the bus: "region:key changed on node origin".
+ *
+ * version increases with every change a node publishes (one counter per node, a new node id per start),
+ * so per origin and key a higher version always means a later change; receivers drop the rest
+ * (duplicates, late deliveries).
+ */
+public record Invalidation(String origin, String region, long key, long version) {}
@@ -0,0 +1,15 @@
+package com.cinema.infrastructure.invalidation;
+
+import java.util.function.Consumer;
+
+/**
+ * Publish/subscribe client BrokerTransport runs on (Redis pub/sub, a Kafka topic, NATS, ...).
+ * Declare a bean of this type to use it; without one LocalInvalidationBroker stands in.
+ */
+public interface InvalidationBroker {
+
+    void publish(String topic, byte[] message);
+
+    /** Closing the handle ends the subscription. */
+    AutoCloseable subscribe(String topic, Consumer<byte[]> listener);
+}
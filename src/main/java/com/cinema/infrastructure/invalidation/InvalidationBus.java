@@ -0,0 +1,267 @@
+package com.cinema.infrastructure.invalidation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongConsumer;
+
+/**
+ * Tells the other nodes which in-process caches to drop (ProgramCache, VersionedSearchCache, SessionIndex,
+ * UserLookupIndex, AuditoriumCalendar), over a pluggable InvalidationTransport (InvalidationConfig).
+ *
+ * Spec:
+ * - Writers publish (region, key) next to their local invalidation; inside a transaction it is queued after
+ *   commit only, so other nodes never reload before the change is visible to them
+ * - Queued invalidations are coalesced (one per region and key, the latest version) and sent as one batch
+ *   every flushInterval, or as soon as maxBatch are queued; a failed send is retried with the next batch
+ * - Versions: one counter per node, taken at queue time; the node id is new on every start. Per origin and key
+ *   a receiver applies only versions above the last one it applied: a drop is always followed by a reload
+ *   that sees every change queued before it, so duplicates and late arrivals can be skipped safely
+ * - Receivers run the handlers subscribed for the region; a node ignores its own batches
+ * - Best effort: invalidations queued on a node that dies before its next flush are lost
+ * - No transport ("none", single node): publish() does nothing
+ * - Metrics: cinema.invalidation.messages{outcome=sent|applied|skipped}, cinema.invalidation.send.failures,
+ *   cinema.invalidation.pending
+ */
+public class InvalidationBus implements SmartLifecycle {
+
+    public static final String PROGRAM = "program";       // key: program id (aggregate, its search results)
+    public static final String SCREENINGS = "screenings"; // key: program id (screening search results, room slots)
+    public static final String USER = "user";             // key: user id (lookup index)
+    public static final String SESSIONS = "sessions";     // key: user id (session index)
+
+    private static final Logger log = LoggerFactory.getLogger(InvalidationBus.class);
+
+    private final InvalidationTransport transport; // null => single node
+    private final String nodeId;
+    private final long flushIntervalMillis;
+    private final int maxBatch;
+    private final int trackedKeys;
+
+    private final Map<String, List<LongConsumer>> handlers = new ConcurrentHashMap<>();
+
+    // guarded by "this"
+    private final LinkedHashMap<Key, Long> pending = new LinkedHashMap<>();
+    private long clock;
+
+    // guarded by "applied"; LRU: a forgotten key only means a duplicate may be applied again (harmless)
+    private final LinkedHashMap<Source, Long> applied;
+
+    private final Counter sent;
+    private final Counter appliedCount;
+    private final Counter skipped;
+    private final Counter sendFailures;
+
+    private final Object lifecycle = new Object();
+    private volatile boolean running;
+    private Thread flusher;
+
+    private record Key(String region, long key) {}
+
+    private record Source(String origin, String region, long key) {}
+
+    public InvalidationBus(InvalidationTransport transport, String nodeId, long flushIntervalMillis, int maxBatch,
+                           int trackedKeys, MeterRegistry registry) {
+        if (flushIntervalMillis <= 0 || maxBatch <= 0 || trackedKeys <= 0) {
+            throw new IllegalArgumentException("flushIntervalMillis, maxBatch and trackedKeys must be > 0");
+        }
+        this.transport = transport;
+        this.nodeId = Objects.requireNonNull(nodeId);
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.maxBatch = maxBatch;
+        this.trackedKeys = trackedKeys;
+        this.applied = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Source, Long> eldest) {
+                return size() > InvalidationBus.this.trackedKeys;
+            }
+        };
+
+        this.sent = Counter.builder("cinema.invalidation.messages").tag("outcome", "sent").register(registry);
+        this.appliedCount = Counter.builder("cinema.invalidation.messages").tag("outcome", "applied").register(registry);
+        this.skipped = Counter.builder("cinema.invalidation.messages").tag("outcome", "skipped").register(registry);
+        this.sendFailures = Counter.builder("cinema.invalidation.send.failures").register(registry);
+        Gauge.builder("cinema.invalidation.pending", this, InvalidationBus::pendingCount).register(registry);
+    }
+
+    public boolean isEnabled() {
+        return transport != null;
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    /** handler(key) runs on a transport thread when another node invalidated region:key. */
+    public void subscribe(String region, LongConsumer handler) {
+        handlers.computeIfAbsent(region, r -> new CopyOnWriteArrayList<>()).add(handler);
+    }
+
+    public void publish(String region, long key) {
+        if (transport == null) return;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(region, key);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(region, key);
+            }
+        });
+    }
+
+    public synchronized int pendingCount() {
+        return pending.size();
+    }
+
+    // started with the context (schema ready), stopped before the data source closes
+
+    @Override
+    public boolean isAutoStartup() {
+        return transport != null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public void start() {
+        synchronized (lifecycle) {
+            if (running || transport == null) return;
+            running = true;
+            transport.start(this::receive);
+            flusher = new Thread(this::loop, "invalidation-flusher");
+            flusher.setDaemon(true);
+            flusher.start();
+        }
+        log.info("Invalidation bus started: node {}, transport {}", nodeId, transport.name());
+    }
+
+    @Override
+    public void stop() {
+        synchronized (lifecycle) {
+            if (!running) return;
+            running = false;
+        }
+        synchronized (this) {
+            notifyAll();
+        }
+        try {
+            flusher.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        transport.close();
+    }
+
+    // -------------------------
+    // internals
+    // -------------------------
+
+    private synchronized void enqueue(String region, long key) {
+        Key k = new Key(region, key);
+        pending.remove(k); // re-queued at the end with the newer version
+        pending.put(k, ++clock);
+        if (pending.size() >= maxBatch) notifyAll();
+    }
+
+    private void loop() {
+        while (true) {
+            List<Invalidation> batch;
+            synchronized (this) {
+                if (running && pending.size() < maxBatch) {
+                    try {
+                        wait(flushIntervalMillis);
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+                batch = drain();
+            }
+            if (!batch.isEmpty()) flush(batch);
+            if (!running) return; // stop(): the last batch went out above
+        }
+    }
+
+    /** At most maxBatch pending invalidations, oldest first. */
+    private List<Invalidation> drain() {
+        List<Invalidation> batch = new ArrayList<>(Math.min(pending.size(), maxBatch));
+        var it = pending.entrySet().iterator();
+        while (it.hasNext() && batch.size() < maxBatch) {
+            var e = it.next();
+            batch.add(new Invalidation(nodeId, e.getKey().region(), e.getKey().key(), e.getValue()));
+            it.remove();
+        }
+        return batch;
+    }
+
+    private void flush(List<Invalidation> batch) {
+        try {
+            transport.send(batch);
+            sent.increment(batch.size());
+        } catch (RuntimeException ex) {
+            sendFailures.increment();
+            log.warn("Invalidation batch of {} not sent, retrying: {}", batch.size(), ex.toString());
+            requeue(batch);
+            try {
+                TimeUnit.MILLISECONDS.sleep(flushIntervalMillis); // a full queue would retry at once
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /** Back in front of the queue, unless the key was queued again meanwhile (with a newer version). */
+    private synchronized void requeue(List<Invalidation> batch) {
+        LinkedHashMap<Key, Long> merged = new LinkedHashMap<>();
+        for (Invalidation i : batch) merged.put(new Key(i.region(), i.key()), i.version());
+        for (var e : pending.entrySet()) merged.put(e.getKey(), e.getValue());
+        pending.clear();
+        pending.putAll(merged);
+    }
+
+    private void receive(List<Invalidation> batch) {
+        for (Invalidation i : batch) {
+            if (nodeId.equals(i.origin()) || !newer(i)) {
+                skipped.increment();
+                continue;
+            }
+            appliedCount.increment();
+            for (LongConsumer handler : handlers.getOrDefault(i.region(), List.of())) {
+                try {
+                    handler.accept(i.key());
+                } catch (RuntimeException ex) {
+                    log.warn("Invalidation {}:{} handler failed: {}", i.region(), i.key(), ex.toString());
+                }
+            }
+        }
+    }
+
+    private boolean newer(Invalidation i) {
+        Source source = new Source(i.origin(), i.region(), i.key());
+        synchronized (applied) {
+            Long last = applied.get(source);
+            if (last != null && last >= i.version()) return false;
+            applied.put(source, i.version());
+            return true;
+        }
+    }
+}
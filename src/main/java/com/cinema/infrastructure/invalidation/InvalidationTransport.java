@@ -0,0 +1,25 @@
+package com.cinema.infrastructure.invalidation;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Carries invalidation batches between nodes (InvalidationBus).
+ *
+ * Spec:
+ * - send() gets one coalesced batch of this node's invalidations; throwing makes the bus retry it
+ * - Delivery to the receiver may repeat and reorder batches; the bus sorts that out with the versions
+ * - A node's own batches may or may not come back; the bus ignores them
+ */
+public interface InvalidationTransport extends AutoCloseable {
+
+    String name();
+
+    void send(List<Invalidation> batch);
+
+    /** Starts delivering other nodes' batches to the receiver. */
+    void start(Consumer<List<Invalidation>> receiver);
+
+    @Override
+    void close();
+}
@@ -0,0 +1,62 @@
+package com.cinema.infrastructure.invalidation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * In-process stand-in for a real broker: topics live in this JVM only.
+ *
+ * Spec:
+ * - Messages are delivered on one daemon thread, in publish order, never on the publisher's thread
+ *   (like a broker client would); a failing listener does not keep the others from their message
+ * - Only useful for running BrokerTransport without infrastructure (development, several application
+ *   contexts in one JVM sharing an instance); across processes use a real InvalidationBroker
+ *   or the change-log transport
+ */
+public final class LocalInvalidationBroker implements InvalidationBroker, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalInvalidationBroker.class);
+
+    private final Map<String, List<Consumer<byte[]>>> topics = new ConcurrentHashMap<>();
+    private final ExecutorService delivery = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "invalidation-local-broker");
+        t.setDaemon(true);
+        return t;
+    });
+
+    @Override
+    public void publish(String topic, byte[] message) {
+        List<Consumer<byte[]>> listeners = topics.get(topic);
+        if (listeners == null || listeners.isEmpty()) return;
+
+        byte[] copy = message.clone();
+        delivery.execute(() -> {
+            for (Consumer<byte[]> listener : listeners) {
+                try {
+                    listener.accept(copy);
+                } catch (RuntimeException ex) {
+                    log.warn("Local broker: listener on {} failed: {}", topic, ex.toString());
+                }
+            }
+        });
+    }
+
+    @Override
+    public AutoCloseable subscribe(String topic, Consumer<byte[]> listener) {
+        topics.computeIfAbsent(topic, t -> new CopyOnWriteArrayList<>()).add(listener);
+        return () -> topics.get(topic).remove(listener);
+    }
+
+    @Override
+    public void close() {
+        delivery.shutdown();
+    }
+}
@@ -0,0 +1,55 @@
+package com.cinema.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Timer cache for method-level instrumentation.
+ *
+ * Building a Timer (tags + registry lookup) costs more than the measurement itself,
+ * so every (method, outcome, exception) combination is resolved once and reused.
+ */
+final class MethodTimers {
+
+    // exception == null -> success
+    private record Key(Class<?> type, Method method, Class<?> exception) {}
+
+    private final MeterRegistry registry;
+    private final String name;
+    private final String componentTag;
+
+    private final Map<Key, Timer> timers = new ConcurrentHashMap<>();
+
+    MethodTimers(MeterRegistry registry, String name, String componentTag) {
+        this.registry = registry;
+        this.name = name;
+        this.componentTag = componentTag;
+    }
+
+    Timer success(Class<?> type, Method method) {
+        return lookup(new Key(type, method, null));
+    }
+
+    Timer failure(Class<?> type, Method method, Throwable ex) {
+        return lookup(new Key(type, method, ex.getClass()));
+    }
+
+    private Timer lookup(Key key) {
+        Timer t = timers.get(key);
+        if (t != null) return t;
+        return timers.computeIfAbsent(key, this::build);
+    }
+
+    private Timer build(Key k) {
+        return Timer.builder(name)
+                .tag(componentTag, k.type().getSimpleName())
+                .tag("method", k.method().getName())
+                .tag("outcome", k.exception() == null ? "success" : "error")
+                .tag("exception", k.exception() == null ? "none" : k.exception().getSimpleName())
+                .register(registry);
+    }
+}
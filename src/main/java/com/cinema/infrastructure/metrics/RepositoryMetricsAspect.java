@@ -0,0 +1,45 @@
+package com.cinema.infrastructure.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times the JPA adapters behind the domain ports.
+ *
+ * Metric: cinema.repository{repository, method, outcome=success|error, exception}
+ */
+@Aspect
+@Component
+public class RepositoryMetricsAspect {
+
+    private final MethodTimers timers;
+
+    public RepositoryMetricsAspect(MeterRegistry registry) {
+        this.timers = new MethodTimers(registry, "cinema.repository", "repository");
+    }
+
+    @Around("execution(public * com.cinema.infrastructure.repository.JpaScreeningRepository.*(..))"
+            + " || execution(public * com.cinema.infrastructure.repository.JpaProgramRepository.*(..))"
+            + " || execution(public * com.cinema.infrastructure.repository.JpaUserRepository.*(..))")
+    public Object time(ProceedingJoinPoint pjp) throws Throwable {
+        Method method = ((MethodSignature) pjp.getSignature()).getMethod();
+        Class<?> type = ClassUtils.getUserClass(pjp.getTarget());
+        long start = System.nanoTime();
+        try {
+            Object result = pjp.proceed();
+            timers.success(type, method).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable ex) {
+            timers.failure(type, method, ex).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw ex;
+        }
+    }
+}
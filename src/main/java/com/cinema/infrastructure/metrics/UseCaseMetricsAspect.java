@@ -0,0 +1,52 @@
+package com.cinema.infrastructure.metrics;
+
+import com.cinema.infrastructure.diagnostics.RequestTrace;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every public method of application *UseCase beans.
+ *
+ * Metric: cinema.usecase{usecase, method, outcome=success|error, exception}
+ * Ordered outside the transaction interceptor, so commit time is included.
+ * Also reports each call as a span of the current RequestTrace (slow-request recorder).
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class UseCaseMetricsAspect {
+
+    private final MethodTimers timers;
+
+    public UseCaseMetricsAspect(MeterRegistry registry) {
+        this.timers = new MethodTimers(registry, "cinema.usecase", "usecase");
+    }
+
+    @Around("execution(public * com.cinema.application..*UseCase.*(..))")
+    public Object time(ProceedingJoinPoint pjp) throws Throwable {
+        Method method = ((MethodSignature) pjp.getSignature()).getMethod();
+        Class<?> type = ClassUtils.getUserClass(pjp.getTarget());
+        RequestTrace.Timing span = RequestTrace.useCaseStarted(type, method);
+        long start = System.nanoTime();
+        try {
+            Object result = pjp.proceed();
+            timers.success(type, method).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable ex) {
+            timers.failure(type, method, ex).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw ex;
+        } finally {
+            RequestTrace.useCaseEnded(span);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.cinema.infrastructure.persistence.entity;
+
+import com.cinema.domain.enums.ImportJobState;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "screening_import_jobs")
+public class ImportJobEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "program_id", nullable = false)
+    private Long programId;
+
+    @Column(name = "submitter_id", nullable = false)
+    private Long submitterId;
+
+    @Column(nullable = false, length = 10)
+    private String format;
+
+    @Column(name = "auto_submit", nullable = false)
+    private boolean autoSubmit;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "job_state", nullable = false, length = 20)
+    private ImportJobState jobState;
+
+    @Column(name = "rows_read", nullable = false)
+    private long rowsRead;
+
+    @Column(name = "rows_imported", nullable = false)
+    private long rowsImported;
+
+    @Column(name = "rows_submitted", nullable = false)
+    private long rowsSubmitted;
+
+    @Column(name = "rows_failed", nullable = false)
+    private long rowsFailed;
+
+    @Column(length = 2000)
+    private String message;
+
+    @Column(name = "run_token", length = 36)
+    private String runToken;
+
+    @Column(name = "created_time", nullable = false, updatable = false)
+    private LocalDateTime createdTime;
+
+    @Column(name = "updated_time", nullable = false)
+    private LocalDateTime updatedTime;
+
+    @PrePersist
+    void prePersist() {
+        if (createdTime == null) createdTime = LocalDateTime.now();
+        if (updatedTime == null) updatedTime = createdTime;
+    }
+
+    // getters/setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public Long getProgramId() { return programId; }
+    public void setProgramId(Long programId) { this.programId = programId; }
+
+    public Long getSubmitterId() { return submitterId; }
+    public void setSubmitterId(Long submitterId) { this.submitterId = submitterId; }
+
+    public String getFormat() { return format; }
+    public void setFormat(String format) { this.format = format; }
+
+    public boolean isAutoSubmit() { return autoSubmit; }
+    public void setAutoSubmit(boolean autoSubmit) { this.autoSubmit = autoSubmit; }
+
+    public ImportJobState getJobState() { return jobState; }
+    public void setJobState(ImportJobState jobState) { this.jobState = jobState; }
+
+    public long getRowsRead() { return rowsRead; }
+    public void setRowsRead(long rowsRead) { this.rowsRead = rowsRead; }
+
+    public long getRowsImported() { return rowsImported; }
+    public void setRowsImported(long rowsImported) { this.rowsImported = rowsImported; }
+
+    public long getRowsSubmitted() { return rowsSubmitted; }
+    public void setRowsSubmitted(long rowsSubmitted) { this.rowsSubmitted = rowsSubmitted; }
+
+    public long getRowsFailed() { return rowsFailed; }
+    public void setRowsFailed(long rowsFailed) { this.rowsFailed = rowsFailed; }
+
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+
+    public String getRunToken() { return runToken; }
+    public void setRunToken(String runToken) { this.runToken = runToken; }
+
+    public LocalDateTime getCreatedTime() { return createdTime; }
+    public void setCreatedTime(LocalDateTime createdTime) { this.createdTime = createdTime; }
+
+    public LocalDateTime getUpdatedTime() { return updatedTime; }
+    public void setUpdatedTime(LocalDateTime updatedTime) { this.updatedTime = updatedTime; }
+}
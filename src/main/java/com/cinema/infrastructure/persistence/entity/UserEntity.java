@@ -37,13 +37,12 @@ public class UserEntity {
     @Column(name = "failed_attempts", nullable = false)
     private int failedAttempts;
 
-    // --- Token tracking (για current token invalidation rules) ---
-    @Column(name = "current_jti", length = 36)
-    private String currentJti;
-
     @Column(name = "last_login_at")
     private Instant lastLoginAt;
 
+    @Column(name = "locked_until")
+    private Instant lockedUntil;
+
     // getters/setters
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
@@ -66,9 +65,9 @@ public class UserEntity {
     public int getFailedAttempts() { return failedAttempts; }
     public void setFailedAttempts(int failedAttempts) { this.failedAttempts = failedAttempts; }
 
-    public String getCurrentJti() { return currentJti; }
-    public void setCurrentJti(String currentJti) { this.currentJti = currentJti; }
-
     public Instant getLastLoginAt() { return lastLoginAt; }
     public void setLastLoginAt(Instant lastLoginAt) { this.lastLoginAt = lastLoginAt; }
+
+    public Instant getLockedUntil() { return lockedUntil; }
+    public void setLockedUntil(Instant lockedUntil) { this.lockedUntil = lockedUntil; }
 }
@@ -6,9 +6,8 @@ import com.cinema.domain.entity.value.UserId;
 import com.cinema.infrastructure.persistence.entity.ProgramEntity;
 import org.springframework.stereotype.Component;
 
-import java.util.Collections;
+import java.util.HashSet;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 @Component
 public class ProgramPersistenceMapper {
@@ -29,15 +28,15 @@ public class ProgramPersistenceMapper {
         e.setCreatedTime(p.createdAt());
 
         // ✅ Persist sets as-is
-        e.setProgrammers(p.programmers().stream().map(UserId::value).collect(Collectors.toSet()));
-        e.setStaff(p.staff().stream().map(UserId::value).collect(Collectors.toSet()));
+        e.setProgrammers(toLongSet(p.programmerIds()));
+        e.setStaff(toLongSet(p.staffIds()));
 
         return e;
     }
 
     public Program toDomain(ProgramEntity e) {
-        Set<UserId> programmers = toUserIdSet(e.getProgrammers());
-        Set<UserId> staff = toUserIdSet(e.getStaff());
+        long[] programmers = toArray(e.getProgrammers());
+        long[] staff = toArray(e.getStaff());
 
         // ✅ IMPORTANT: use rehydrate to avoid domain guards during mapping
         return Program.rehydrate(
@@ -54,8 +53,19 @@ public class ProgramPersistenceMapper {
         );
     }
 
-    private Set<UserId> toUserIdSet(Set<Long> ids) {
-        if (ids == null) return Collections.emptySet();
-        return ids.stream().map(UserId::new).collect(Collectors.toSet());
+    // member ids go straight between the element collections and Program's long[] sets (no UserId per member)
+
+    private static long[] toArray(Set<Long> ids) {
+        if (ids == null || ids.isEmpty()) return new long[0];
+        long[] out = new long[ids.size()];
+        int i = 0;
+        for (Long id : ids) out[i++] = id;
+        return out;
+    }
+
+    private static Set<Long> toLongSet(long[] ids) {
+        Set<Long> out = new HashSet<>(Math.max(4, ids.length * 4 / 3 + 1));
+        for (long id : ids) out.add(id);
+        return out;
     }
 }
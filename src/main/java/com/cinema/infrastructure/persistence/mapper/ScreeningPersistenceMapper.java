@@ -4,9 +4,12 @@ import com.cinema.domain.entity.Screening;
 import com.cinema.domain.entity.value.ProgramId;
 import com.cinema.domain.entity.value.ScreeningId;
 import com.cinema.domain.entity.value.UserId;
+import com.cinema.domain.enums.ScreeningState;
 import com.cinema.infrastructure.persistence.entity.ScreeningEntity;
 import org.springframework.stereotype.Component;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
@@ -36,9 +39,13 @@ public class ScreeningPersistenceMapper {
         e.setTitle(s.title());
         e.setGenres(s.genre());                 // domain.genre -> DB.genres
         e.setDescription(s.description());
+        e.setCastNames(s.castNames());
 
         e.setAuditoriumName(s.room());          // domain.room -> DB.auditorium_name
-        e.setStartTime(toLdt(s.scheduledTime()));// domain.scheduledTime -> DB.start_time
+        // timed slot -> start/end/duration; date-only -> start_time at 00:00, no end_time
+        e.setStartTime(s.startTime() != null ? s.startTime() : toLdt(s.scheduledTime()));
+        e.setEndTime(s.startTime() != null ? s.endTime() : null);
+        e.setDurationMinutes(s.durationMinutes());
 
         e.setScreeningState(s.state());
         e.setStaffMemberId(s.staffMemberId() != null ? s.staffMemberId().value() : null);
@@ -55,7 +62,7 @@ public class ScreeningPersistenceMapper {
         e.setRejectionReason(s.rejectionReason());
 
         // Entity fields not represented in domain:
-        // castNames, durationMinutes, endTime, approvedNotes, finalLocked
+        // approvedNotes, finalLocked
         // -> leave untouched until you add them to domain.
 
         return e;
@@ -69,6 +76,7 @@ public class ScreeningPersistenceMapper {
                 e.getTitle(),
                 e.getGenres(),
                 e.getDescription(),
+                e.getCastNames(),
                 e.getAuditoriumName(),
                 toLd(e.getStartTime()),
                 e.getScreeningState(),
@@ -79,7 +87,43 @@ public class ScreeningPersistenceMapper {
                 toLd(e.getCreatedTime()),
                 toLd(e.getSubmittedTime()),
                 toLd(e.getReviewedTime()),
-                toLd(e.getFinalSubmittedTime())
+                toLd(e.getFinalSubmittedTime()),
+                e.getEndTime() != null ? e.getStartTime() : null,
+                e.getDurationMinutes()
+        );
+    }
+
+    /**
+     * Same mapping as toDomain(ScreeningEntity), straight from a JDBC row (export cursor, no entity in between).
+     * Expects the screenings columns under their table names.
+     */
+    public Screening toDomain(ResultSet rs) throws SQLException {
+        LocalDateTime start = rs.getObject("start_time", LocalDateTime.class);
+        LocalDateTime end = rs.getObject("end_time", LocalDateTime.class);
+        long staff = rs.getLong("staff_member_id");
+        Long staffId = rs.wasNull() ? null : staff;
+
+        return Screening.rehydrate(
+                new ScreeningId(rs.getLong("id")),
+                new ProgramId(rs.getLong("program_id")),
+                new UserId(rs.getLong("submitter_id")),
+                rs.getString("title"),
+                rs.getString("genres"),
+                rs.getString("description"),
+                rs.getString("cast_names"),
+                rs.getString("auditorium_name"),
+                toLd(start),
+                ScreeningState.valueOf(rs.getString("screening_state")),
+                staffId != null ? new UserId(staffId) : null,
+                rs.getObject("review_score", Integer.class),
+                rs.getString("review_comments"),
+                rs.getString("rejection_reason"),
+                toLd(rs.getObject("created_time", LocalDateTime.class)),
+                toLd(rs.getObject("submitted_time", LocalDateTime.class)),
+                toLd(rs.getObject("reviewed_time", LocalDateTime.class)),
+                toLd(rs.getObject("final_submitted_time", LocalDateTime.class)),
+                end != null ? start : null,
+                rs.getObject("duration_minutes", Integer.class)
         );
     }
 }
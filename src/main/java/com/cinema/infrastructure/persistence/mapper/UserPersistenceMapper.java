@@ -4,8 +4,13 @@ import com.cinema.domain.entity.User;
 import com.cinema.domain.entity.value.HashedPassword;
 import com.cinema.domain.entity.value.UserId;
 import com.cinema.domain.entity.value.Username;
+import com.cinema.domain.enums.BaseRole;
 import com.cinema.infrastructure.persistence.entity.UserEntity;
 
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+
 public class UserPersistenceMapper {
 
     public UserEntity toEntity(User user) {
@@ -23,8 +28,8 @@ public class UserPersistenceMapper {
         e.setFailedAttempts(user.failedAttempts());
 
         // NEW
-        e.setCurrentJti(user.currentJti());
         e.setLastLoginAt(user.lastLoginAt());
+        e.setLockedUntil(user.lockedUntil());
 
         return e;
     }
@@ -40,8 +45,26 @@ public class UserPersistenceMapper {
                 e.getFailedAttempts(),
 
                 // NEW
-                e.getCurrentJti(),
-                e.getLastLoginAt()
+                e.getLastLoginAt(),
+                e.getLockedUntil()
+        );
+    }
+
+    /**
+     * Same mapping as toDomain(UserEntity), straight from a JDBC row (admin directory paging).
+     * Expects the users columns under their table names.
+     */
+    public User toDomain(ResultSet rs) throws SQLException {
+        return new User(
+                new UserId(rs.getLong("id")),
+                new Username(rs.getString("username")),
+                new HashedPassword(rs.getString("password_hash")),
+                rs.getString("full_name"),
+                BaseRole.valueOf(rs.getString("base_role")),
+                rs.getBoolean("active"),
+                rs.getInt("failed_attempts"),
+                rs.getObject("last_login_at", Instant.class),
+                rs.getObject("locked_until", Instant.class)
         );
     }
 }
@@ -0,0 +1,7 @@
+package com.cinema.infrastructure.persistence.spring;
+
+import com.cinema.infrastructure.persistence.entity.ImportJobEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface SpringDataImportJobJpa extends JpaRepository<ImportJobEntity, Long> {
+}
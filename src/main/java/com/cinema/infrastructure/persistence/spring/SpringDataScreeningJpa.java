@@ -4,8 +4,11 @@ import com.cinema.domain.enums.ScreeningState;
 import com.cinema.infrastructure.persistence.entity.ScreeningEntity;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface SpringDataScreeningJpa extends JpaRepository<ScreeningEntity, Long> {
 
@@ -14,6 +17,7 @@ public interface SpringDataScreeningJpa extends JpaRepository<ScreeningEntity, L
     List<ScreeningEntity> findBySubmitterId(Long submitterId, Pageable pageable);
 
     // by state
+    List<ScreeningEntity> findByScreeningState(ScreeningState screeningState);
     List<ScreeningEntity> findByProgramIdAndScreeningState(Long programId, ScreeningState screeningState);
     List<ScreeningEntity> findByProgramIdAndScreeningState(Long programId, ScreeningState screeningState, Pageable pageable);
 
@@ -25,4 +29,16 @@ public interface SpringDataScreeningJpa extends JpaRepository<ScreeningEntity, L
     // misc
     boolean existsByProgramIdAndSubmitterId(Long programId, Long submitterId);
     long countByProgramIdAndScreeningState(Long programId, ScreeningState screeningState);
+
+    // handler load: [staffMemberId, count]
+    @Query("""
+            select s.staffMemberId, count(s)
+            from ScreeningEntity s
+            where s.programId = :programId and s.staffMemberId is not null
+            group by s.staffMemberId
+            """)
+    List<Object[]> countAssignedByStaff(@Param("programId") Long programId);
+
+    @Query("select s.programId from ScreeningEntity s where s.id = :id")
+    Optional<Long> findProgramIdById(@Param("id") Long id);
 }
@@ -0,0 +1,68 @@
+package com.cinema.infrastructure.repository;
+
+import com.cinema.domain.entity.RefreshTokenFamily;
+import com.cinema.domain.entity.value.UserId;
+import com.cinema.domain.port.RefreshTokenRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+@Repository
+public class JdbcRefreshTokenRepository implements RefreshTokenRepository {
+
+    private final JdbcTemplate jdbc;
+
+    public JdbcRefreshTokenRepository(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    @Override
+    public void create(RefreshTokenFamily family, Instant issuedAt) {
+        jdbc.update("""
+                INSERT INTO refresh_tokens (family_id, user_id, token_hash, issued_at, expires_at)
+                VALUES (?, ?, ?, ?, ?)
+                """,
+                family.familyId(), family.userId().value(), family.tokenHash(), utc(issuedAt), utc(family.expiresAt()));
+    }
+
+    @Override
+    public Optional<RefreshTokenFamily> findByFamily(String familyId) {
+        return jdbc.query("""
+                SELECT family_id, user_id, token_hash, expires_at, revoked_at
+                FROM refresh_tokens WHERE family_id = ?
+                """, (rs, i) -> new RefreshTokenFamily(
+                rs.getString("family_id"),
+                new UserId(rs.getLong("user_id")),
+                rs.getString("token_hash"),
+                rs.getObject("expires_at", OffsetDateTime.class).toInstant(),
+                instant(rs.getObject("revoked_at", OffsetDateTime.class))
+        ), familyId).stream().findFirst();
+    }
+
+    @Override
+    public boolean rotate(String familyId, String expectedHash, String nextHash, Instant expiresAt, Instant now) {
+        return jdbc.update("""
+                UPDATE refresh_tokens
+                SET token_hash = ?, expires_at = ?, rotated_at = ?, rotations = rotations + 1
+                WHERE family_id = ? AND token_hash = ? AND revoked_at IS NULL
+                """, nextHash, utc(expiresAt), utc(now), familyId, expectedHash) == 1;
+    }
+
+    @Override
+    public void revoke(String familyId, Instant now) {
+        jdbc.update("UPDATE refresh_tokens SET revoked_at = ? WHERE family_id = ? AND revoked_at IS NULL",
+                utc(now), familyId);
+    }
+
+    private static OffsetDateTime utc(Instant instant) {
+        return instant.atOffset(ZoneOffset.UTC);
+    }
+
+    private static Instant instant(OffsetDateTime t) {
+        return t != null ? t.toInstant() : null;
+    }
+}
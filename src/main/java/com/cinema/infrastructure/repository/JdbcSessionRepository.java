@@ -0,0 +1,180 @@
+package com.cinema.infrastructure.repository;
+
+import com.cinema.domain.entity.value.UserId;
+import com.cinema.domain.port.SessionRepository;
+import com.cinema.infrastructure.invalidation.InvalidationBus;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * user_sessions (V6), mirrored into SessionIndex for the per-request checks.
+ *
+ * Spec:
+ * - The index changes after commit, so a token only works once its login is committed
+ * - LRU: the last use lives in the index and is written to last_used_at on login and refresh only
+ *   (no write per request); after a restart eviction falls back to the persisted value
+ * - Eviction is decided in the database, inside the login's transaction: the user row is locked first, so
+ *   concurrent logins of one user (on any node) take turns and each sees the sessions committed before it.
+ *   The last uses this node knows are written to last_used_at, then the sessions beyond the cap are deleted
+ * - Evicted / revoked sessions take their refresh token family with them (FK ON DELETE CASCADE)
+ * - Other nodes reload the user's sessions after every change (InvalidationBus.SESSIONS); until that arrives
+ *   a new login is unknown there and a revoked token still passes
+ */
+@Repository
+public class JdbcSessionRepository implements SessionRepository, SmartInitializingSingleton {
+
+    private static final int LOAD_FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbc;
+    private final SessionIndex index;
+    private final InvalidationBus invalidations;
+
+    public JdbcSessionRepository(JdbcTemplate jdbc, SessionIndex index, InvalidationBus invalidations) {
+        this.jdbc = jdbc;
+        this.index = index;
+        this.invalidations = invalidations;
+
+        invalidations.subscribe(InvalidationBus.SESSIONS, this::reload); // written on another node
+    }
+
+    /** Fills the index once the schema is migrated, before the web server takes requests. */
+    @Override
+    public void afterSingletonsInstantiated() {
+        index.clear();
+        jdbc.query(con -> {
+            var ps = con.prepareStatement("SELECT id, user_id, jti, last_used_at FROM user_sessions");
+            ps.setFetchSize(LOAD_FETCH_SIZE);
+            return ps;
+        }, rs -> {
+            index.add(rs.getString("id"), rs.getLong("user_id"), rs.getString("jti"),
+                    rs.getObject("last_used_at", OffsetDateTime.class).toInstant().toEpochMilli());
+        });
+    }
+
+    @Override
+    public List<String> open(UserId userId, String sessionId, String jti, int maxPerUser, Instant now) {
+        jdbc.query("SELECT id FROM users WHERE id = ? FOR UPDATE", rs -> {}, userId.value());
+
+        jdbc.update("""
+                INSERT INTO user_sessions (id, user_id, jti, created_at, last_used_at)
+                VALUES (?, ?, ?, ?, ?)
+                """, sessionId, userId.value(), jti, utc(now), utc(now));
+
+        Map<String, Long> lastUses = index.lastUses(userId.value());
+        if (!lastUses.isEmpty()) {
+            jdbc.batchUpdate("UPDATE user_sessions SET last_used_at = ? WHERE id = ? AND last_used_at < ?",
+                    lastUses.entrySet().stream().map(e -> {
+                        OffsetDateTime used = utc(Instant.ofEpochMilli(e.getValue()));
+                        return new Object[]{used, e.getKey(), used};
+                    }).toList());
+        }
+
+        List<String> evicted = jdbc.queryForList("""
+                SELECT id FROM user_sessions
+                 WHERE user_id = ? AND id <> ?
+                 ORDER BY last_used_at DESC, id
+                OFFSET ? ROWS
+                """, String.class, userId.value(), sessionId, Math.max(0, maxPerUser - 1));
+        if (!evicted.isEmpty()) {
+            jdbc.batchUpdate("DELETE FROM user_sessions WHERE id = ?",
+                    evicted.stream().map(id -> new Object[]{id}).toList());
+        }
+
+        afterCommit(() -> {
+            evicted.forEach(index::drop);
+            index.add(sessionId, userId.value(), jti, now.toEpochMilli());
+        });
+        invalidations.publish(InvalidationBus.SESSIONS, userId.value());
+        return evicted;
+    }
+
+    @Override
+    public boolean isActive(UserId userId, String jti) {
+        return index.isActive(userId.value(), jti);
+    }
+
+    @Override
+    public boolean rotate(String sessionId, String nextJti, Instant now) {
+        boolean updated = jdbc.update("UPDATE user_sessions SET jti = ?, last_used_at = ? WHERE id = ?",
+                nextJti, utc(now), sessionId) == 1;
+        if (updated) {
+            afterCommit(() -> index.moveTo(sessionId, nextJti, now.toEpochMilli()));
+            changed(userOf(sessionId));
+        }
+        return updated;
+    }
+
+    @Override
+    public boolean revoke(String sessionId) {
+        Long userId = userOf(sessionId);
+        boolean deleted = jdbc.update("DELETE FROM user_sessions WHERE id = ?", sessionId) == 1;
+        afterCommit(() -> index.drop(sessionId));
+        if (deleted) changed(userId);
+        return deleted;
+    }
+
+    @Override
+    public boolean revokeByJti(UserId userId, String jti) {
+        boolean deleted = jdbc.update("DELETE FROM user_sessions WHERE user_id = ? AND jti = ?",
+                userId.value(), jti) == 1;
+        String sessionId = index.sessionOf(userId.value(), jti);
+        if (sessionId != null) afterCommit(() -> index.drop(sessionId));
+        if (deleted) changed(userId.value());
+        return deleted;
+    }
+
+    @Override
+    public int revokeAll(UserId userId) {
+        // exactly what this DELETE removes: a login committing meanwhile keeps its session
+        List<String> ids = index.sessionIds(userId.value());
+        int deleted = jdbc.update("DELETE FROM user_sessions WHERE user_id = ?", userId.value());
+        afterCommit(() -> ids.forEach(index::drop));
+        if (deleted > 0) changed(userId.value());
+        return deleted;
+    }
+
+    /** Another node changed the user's sessions: re-read them (SessionIndex.reload). */
+    private void reload(long userId) {
+        index.reload(userId, () -> jdbc.query("SELECT id, jti, last_used_at FROM user_sessions WHERE user_id = ?",
+                (rs, n) -> new SessionIndex.Stored(rs.getString("id"), rs.getString("jti"),
+                        rs.getObject("last_used_at", OffsetDateTime.class).toInstant().toEpochMilli()), userId));
+    }
+
+    /** From the index; a session opened on another node may not have reached it yet. */
+    private Long userOf(String sessionId) {
+        Long known = index.userOf(sessionId);
+        if (known != null || !invalidations.isEnabled()) return known;
+        return jdbc.query("SELECT user_id FROM user_sessions WHERE id = ?", (rs, n) -> rs.getLong(1), sessionId)
+                .stream().findFirst().orElse(null);
+    }
+
+    private void changed(Long userId) {
+        if (userId != null) invalidations.publish(InvalidationBus.SESSIONS, userId);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static OffsetDateTime utc(Instant instant) {
+        return instant.atOffset(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,132 @@
+package com.cinema.infrastructure.repository;
+
+import com.cinema.domain.entity.ImportJob;
+import com.cinema.domain.entity.ImportRowError;
+import com.cinema.domain.entity.value.ProgramId;
+import com.cinema.domain.entity.value.UserId;
+import com.cinema.domain.port.ImportJobRepository;
+import com.cinema.infrastructure.persistence.entity.ImportJobEntity;
+import com.cinema.infrastructure.persistence.spring.SpringDataImportJobJpa;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public class JpaImportJobRepository implements ImportJobRepository {
+
+    private static final int MAX_FIELD = 50;
+    private static final int MAX_MESSAGE = 1000;
+
+    private final SpringDataImportJobJpa jpa;
+    private final JdbcTemplate jdbc;
+
+    public JpaImportJobRepository(SpringDataImportJobJpa jpa, JdbcTemplate jdbc) {
+        this.jpa = jpa;
+        this.jdbc = jdbc;
+    }
+
+    @Override
+    public ImportJob save(ImportJob job) {
+        ImportJobEntity e = new ImportJobEntity();
+        e.setId(job.id());
+        e.setProgramId(job.programId().value());
+        e.setSubmitterId(job.submitterId().value());
+        e.setFormat(job.format());
+        e.setAutoSubmit(job.autoSubmit());
+        e.setJobState(job.state());
+        e.setRowsRead(job.rowsRead());
+        e.setRowsImported(job.rowsImported());
+        e.setRowsSubmitted(job.rowsSubmitted());
+        e.setRowsFailed(job.rowsFailed());
+        e.setMessage(job.message());
+        e.setRunToken(job.runToken());
+        e.setCreatedTime(job.createdTime());
+        e.setUpdatedTime(job.updatedTime());
+        return toDomain(jpa.save(e));
+    }
+
+    @Override
+    public Optional<ImportJob> findById(Long id) {
+        if (id == null) return Optional.empty();
+        return jpa.findById(id).map(this::toDomain);
+    }
+
+    // conditional UPDATEs: the token comparison and the write are one statement, so two resumes cannot both win
+
+    @Override
+    public boolean claim(Long jobId, String previousRunToken, long rowsRead, String runToken) {
+        if (jobId == null || runToken == null) return false;
+        String sql = "UPDATE screening_import_jobs SET run_token = ? "
+                + "WHERE id = ? AND rows_read = ? AND job_state <> 'COMPLETED' AND "
+                + (previousRunToken == null ? "run_token IS NULL" : "run_token = ?");
+        return previousRunToken == null
+                ? jdbc.update(sql, runToken, jobId, rowsRead) == 1
+                : jdbc.update(sql, runToken, jobId, rowsRead, previousRunToken) == 1;
+    }
+
+    @Override
+    public boolean lockRun(Long jobId, String runToken) {
+        if (jobId == null || runToken == null) return false;
+        return jdbc.update("UPDATE screening_import_jobs SET run_token = run_token "
+                + "WHERE id = ? AND run_token = ? AND job_state = 'RUNNING'", jobId, runToken) == 1;
+    }
+
+    /**
+     * One JDBC batch per call: error rows have no identity to hand back, so they skip the
+     * persistence context (IDENTITY keys would otherwise force one INSERT round trip per row).
+     */
+    @Override
+    public void saveErrors(Long jobId, List<ImportRowError> errors) {
+        if (jobId == null || errors == null || errors.isEmpty()) return;
+
+        jdbc.batchUpdate(
+                "INSERT INTO screening_import_errors (job_id, row_no, field, message) VALUES (?, ?, ?, ?)",
+                errors,
+                errors.size(),
+                (ps, err) -> {
+                    ps.setLong(1, jobId);
+                    ps.setLong(2, err.rowNumber());
+                    ps.setString(3, truncate(err.field(), MAX_FIELD));
+                    ps.setString(4, truncate(err.message(), MAX_MESSAGE));
+                });
+    }
+
+    @Override
+    public List<ImportRowError> findErrors(Long jobId, int offset, int limit) {
+        if (jobId == null) return List.of();
+
+        int safeLimit = (limit <= 0) ? 100 : Math.min(limit, 1000);
+        int safeOffset = Math.max(offset, 0);
+
+        return jdbc.query(
+                "SELECT row_no, field, message FROM screening_import_errors WHERE job_id = ? "
+                        + "ORDER BY row_no, id OFFSET ? ROWS FETCH NEXT ? ROWS ONLY",
+                (rs, i) -> new ImportRowError(rs.getLong("row_no"), rs.getString("field"), rs.getString("message")),
+                jobId, safeOffset, safeLimit);
+    }
+
+    private ImportJob toDomain(ImportJobEntity e) {
+        return ImportJob.rehydrate(
+                e.getId(),
+                new ProgramId(e.getProgramId()),
+                new UserId(e.getSubmitterId()),
+                e.getFormat(),
+                e.isAutoSubmit(),
+                e.getJobState(),
+                e.getRowsRead(),
+                e.getRowsImported(),
+                e.getRowsSubmitted(),
+                e.getRowsFailed(),
+                e.getMessage(),
+                e.getRunToken(),
+                e.getCreatedTime(),
+                e.getUpdatedTime()
+        );
+    }
+
+    private static String truncate(String s, int max) {
+        return s == null || s.length() <= max ? s : s.substring(0, max);
+    }
+}
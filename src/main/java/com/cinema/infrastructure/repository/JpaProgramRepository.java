@@ -4,7 +4,9 @@ import com.cinema.domain.entity.Program;
 import com.cinema.domain.entity.value.ProgramId;
 import com.cinema.domain.entity.value.UserId;
 import com.cinema.domain.enums.ProgramState;
+import com.cinema.domain.port.DomainEventPublisher;
 import com.cinema.domain.port.ProgramRepository;
+import com.cinema.infrastructure.invalidation.InvalidationBus;
 import com.cinema.infrastructure.persistence.entity.ProgramEntity;
 import com.cinema.infrastructure.persistence.mapper.ProgramPersistenceMapper;
 import com.cinema.infrastructure.persistence.spring.SpringDataProgramJpa;
@@ -20,16 +22,41 @@ public class JpaProgramRepository implements ProgramRepository {
 
     private final SpringDataProgramJpa jpa;
     private final ProgramPersistenceMapper mapper;
+    private final DomainEventPublisher events;
+    private final ProgramCache cache;
+    private final VersionedSearchCache searchCache;
+    private final InvalidationBus invalidations;
 
-    public JpaProgramRepository(SpringDataProgramJpa jpa, ProgramPersistenceMapper mapper) {
+    public JpaProgramRepository(SpringDataProgramJpa jpa, ProgramPersistenceMapper mapper, DomainEventPublisher events,
+                                ProgramCache cache, VersionedSearchCache searchCache, InvalidationBus invalidations) {
         this.jpa = jpa;
         this.mapper = mapper;
+        this.events = events;
+        this.cache = cache;
+        this.searchCache = searchCache;
+        this.invalidations = invalidations;
+
+        // written on another node
+        invalidations.subscribe(InvalidationBus.PROGRAM, id -> {
+            cache.evict(id);
+            searchCache.programChanged(id);
+        });
     }
 
+    /**
+     * Read-through ProgramCache: a hit costs no query (entity + two membership collections otherwise).
+     */
     @Override
     public Optional<Program> findById(ProgramId id) {
         if (id == null || id.value() == null) return Optional.empty();
-        return jpa.findById(id.value()).map(mapper::toDomain);
+
+        Program cached = cache.get(id.value());
+        if (cached != null) return Optional.of(cached);
+
+        long stamp = cache.stamp();
+        Optional<Program> loaded = jpa.findById(id.value()).map(mapper::toDomain);
+        loaded.ifPresent(p -> cache.put(p, stamp));
+        return loaded;
     }
 
     @Override
@@ -71,8 +98,8 @@ public class JpaProgramRepository implements ProgramRepository {
         if (programId == null || programId.value() == null) return false;
         if (userId == null || userId.value() == null) return false;
 
-        return jpa.findById(programId.value())
-                .map(e -> e.getProgrammers().contains(userId.value()))
+        return findById(programId)
+                .map(p -> p.isProgrammer(userId))
                 .orElse(false);
     }
 
@@ -81,8 +108,8 @@ public class JpaProgramRepository implements ProgramRepository {
         if (programId == null || programId.value() == null) return false;
         if (userId == null || userId.value() == null) return false;
 
-        return jpa.findById(programId.value())
-                .map(e -> e.getStaff().contains(userId.value()))
+        return findById(programId)
+                .map(p -> p.isStaff(userId))
                 .orElse(false);
     }
 
@@ -95,7 +122,11 @@ public class JpaProgramRepository implements ProgramRepository {
     @Override
     @Transactional
     public Program save(Program program) {
+        var pending = program.pullEvents();
+        if (program.id() != null) cache.evict(program.id().value());
         ProgramEntity saved = jpa.save(mapper.toEntity(program));
+        changed(saved.getId());
+        if (!pending.isEmpty()) events.publish(pending);
         return mapper.toDomain(saved);
     }
 
@@ -109,6 +140,7 @@ public class JpaProgramRepository implements ProgramRepository {
         if (programId == null || programId.value() == null) return;
         if (userId == null || userId.value() == null) return;
 
+        cache.evict(programId.value());
         ProgramEntity e = jpa.findById(programId.value()).orElse(null);
         if (e == null) return;
 
@@ -122,6 +154,7 @@ public class JpaProgramRepository implements ProgramRepository {
         e.getProgrammers().add(e.getCreatorUserId());
 
         jpa.save(e);
+        changed(programId.value());
     }
 
     @Override
@@ -130,6 +163,7 @@ public class JpaProgramRepository implements ProgramRepository {
         if (programId == null || programId.value() == null) return;
         if (userId == null || userId.value() == null) return;
 
+        cache.evict(programId.value());
         ProgramEntity e = jpa.findById(programId.value()).orElse(null);
         if (e == null) return;
 
@@ -140,11 +174,20 @@ public class JpaProgramRepository implements ProgramRepository {
 
         e.getStaff().add(userId.value());
         jpa.save(e);
+        changed(programId.value());
     }
 
     @Override
     public void deleteById(ProgramId id) {
         if (id == null || id.value() == null) return;
+        cache.evict(id.value());
         jpa.deleteById(id.value());
+        changed(id.value());
+    }
+
+    /** Search results now, other nodes' caches after commit (ProgramCache is evicted by the callers). */
+    private void changed(long id) {
+        searchCache.programChanged(id);
+        invalidations.publish(InvalidationBus.PROGRAM, id);
     }
 }
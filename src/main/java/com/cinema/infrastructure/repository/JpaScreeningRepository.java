@@ -5,25 +5,71 @@ import com.cinema.domain.entity.value.ProgramId;
 import com.cinema.domain.entity.value.ScreeningId;
 import com.cinema.domain.entity.value.UserId;
 import com.cinema.domain.enums.ScreeningState;
+import com.cinema.domain.event.ScreeningStateChanged;
+import com.cinema.domain.port.DomainEventPublisher;
 import com.cinema.domain.port.ScreeningRepository;
+import com.cinema.infrastructure.invalidation.InvalidationBus;
 import com.cinema.infrastructure.persistence.mapper.ScreeningPersistenceMapper;
 import com.cinema.infrastructure.persistence.spring.SpringDataScreeningJpa;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.stereotype.Repository;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Repository
 public class JpaScreeningRepository implements ScreeningRepository {
 
+    // rows pulled from the driver per round trip while streaming an export
+    private static final int EXPORT_FETCH_SIZE = 500;
+
+    private static final String EXPORT_SQL = """
+            SELECT id, program_id, submitter_id, title, genres, description, cast_names, auditorium_name,
+                   start_time, end_time, duration_minutes, screening_state, staff_member_id,
+                   created_time, submitted_time, reviewed_time, final_submitted_time,
+                   review_score, review_comments, rejection_reason
+              FROM screenings
+             WHERE program_id = ?
+            """;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO screenings (program_id, submitter_id, title, genres, cast_names, duration_minutes,
+                                    description, screening_state, created_time, submitted_time, final_locked)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, FALSE)
+            """;
+
     private final SpringDataScreeningJpa jpa;
     private final ScreeningPersistenceMapper mapper;
-
-    public JpaScreeningRepository(SpringDataScreeningJpa jpa, ScreeningPersistenceMapper mapper) {
+    private final JdbcTemplate jdbc;
+    private final DomainEventPublisher events;
+    private final VersionedSearchCache searchCache;
+    private final InvalidationBus invalidations;
+
+    public JpaScreeningRepository(SpringDataScreeningJpa jpa, ScreeningPersistenceMapper mapper, JdbcTemplate jdbc,
+                                  DomainEventPublisher events, VersionedSearchCache searchCache,
+                                  InvalidationBus invalidations) {
         this.jpa = jpa;
         this.mapper = mapper;
+        this.jdbc = jdbc;
+        this.events = events;
+        this.searchCache = searchCache;
+        this.invalidations = invalidations;
+
+        invalidations.subscribe(InvalidationBus.SCREENINGS, searchCache::screeningsChanged); // written on another node
     }
 
     @Override
@@ -32,6 +78,24 @@ public class JpaScreeningRepository implements ScreeningRepository {
         return jpa.findById(id.value()).map(mapper::toDomain);
     }
 
+    @Override
+    public List<Screening> findByIds(Collection<ScreeningId> ids) {
+        if (ids == null || ids.isEmpty()) return List.of();
+
+        var rawIds = ids.stream()
+                .filter(Objects::nonNull)
+                .map(ScreeningId::value)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        if (rawIds.isEmpty()) return List.of();
+
+        return jpa.findAllById(rawIds)
+                .stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
     // -------------------------
     // Program (all states)
     // -------------------------
@@ -90,6 +154,49 @@ public class JpaScreeningRepository implements ScreeningRepository {
                 .toList();
     }
 
+    /**
+     * Spec:
+     * - Plain JDBC, forward-only / read-only result set with a fetch size: nothing is materialized,
+     *   no entities enter a persistence context, memory does not grow with the program size
+     * - Each row is mapped and handed to the action before the next one is read
+     * - Returns the number of rows visited
+     */
+    @Override
+    public long forEachInProgram(ProgramId programId, ScreeningState state, Consumer<Screening> action) {
+        if (programId == null || programId.value() == null) return 0;
+        Objects.requireNonNull(action);
+
+        String sql = EXPORT_SQL + (state != null ? " AND screening_state = ?" : "") + " ORDER BY id";
+        long[] visited = {0};
+
+        jdbc.query(con -> {
+            var ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(EXPORT_FETCH_SIZE);
+            ps.setLong(1, programId.value());
+            if (state != null) ps.setString(2, state.name());
+            return ps;
+        }, rs -> {
+            action.accept(mapper.toDomain(rs));
+            visited[0]++;
+        });
+        return visited[0];
+    }
+
+    @Override
+    public void onChangedElsewhere(Consumer<ProgramId> listener) {
+        invalidations.subscribe(InvalidationBus.SCREENINGS, id -> listener.accept(new ProgramId(id)));
+    }
+
+    @Override
+    public List<Screening> findByState(ScreeningState state) {
+        if (state == null) return List.of();
+
+        return jpa.findByScreeningState(state)
+                .stream()
+                .map(mapper::toDomain)
+                .toList();
+    }
+
     // -------------------------
     // Submitter (all states)
     // -------------------------
@@ -174,15 +281,121 @@ public class JpaScreeningRepository implements ScreeningRepository {
         return jpa.countByProgramIdAndScreeningState(programId.value(), state);
     }
 
+    @Override
+    public Map<UserId, Long> countAssignedByStaff(ProgramId programId) {
+        if (programId == null || programId.value() == null) return Map.of();
+
+        Map<UserId, Long> counts = new HashMap<>();
+        for (Object[] row : jpa.countAssignedByStaff(programId.value())) {
+            counts.put(new UserId((Long) row[0]), (Long) row[1]);
+        }
+        return counts;
+    }
+
     @Override
     public Screening save(Screening screening) {
-        var saved = jpa.save(mapper.toEntity(screening));
-        return mapper.toDomain(saved);
+        var pending = screening.pullEvents();
+        var saved = mapper.toDomain(jpa.save(mapper.toEntity(screening)));
+        changed(saved.programId().value());
+        events.publish(stamp(saved.id(), pending, new ArrayList<>()));
+        return saved;
+    }
+
+    /**
+     * Writes all screenings in one flush. When the entities were loaded in the same
+     * transaction (findByIds), merge hits the persistence context instead of re-selecting,
+     * and the UPDATEs go out as JDBC batches (hibernate.jdbc.batch_size).
+     */
+    @Override
+    public List<Screening> saveAll(List<Screening> screenings) {
+        if (screenings == null || screenings.isEmpty()) return List.of();
+
+        var pending = screenings.stream().map(Screening::pullEvents).toList();
+        var entities = screenings.stream().map(mapper::toEntity).toList();
+        var saved = jpa.saveAll(entities)
+                .stream()
+                .map(mapper::toDomain)
+                .toList();
+        changed(saved);
+
+        // saveAll keeps the input order
+        List<ScreeningStateChanged> out = new ArrayList<>();
+        for (int i = 0; i < saved.size(); i++) stamp(saved.get(i).id(), pending.get(i), out);
+        events.publish(out);
+        return saved;
+    }
+
+    /**
+     * Plain JDBC batch insert for new drafts (bulk import).
+     * IDENTITY keys keep Hibernate from batching INSERTs, so saveAll would cost one round trip per row.
+     * Runs in the caller's transaction (JdbcTemplate joins the JPA transaction's connection);
+     * generated ids are only read back to stamp the recorded events.
+     */
+    @Override
+    public int insertAll(List<Screening> screenings) {
+        if (screenings == null || screenings.isEmpty()) return 0;
+
+        var keys = new GeneratedKeyHolder();
+        jdbc.batchUpdate(con -> con.prepareStatement(INSERT_SQL, new String[]{"id"}), new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Screening s = screenings.get(i);
+                if (s.id() != null) throw new IllegalArgumentException("insertAll expects new screenings");
+                ps.setLong(1, s.programId().value());
+                ps.setLong(2, s.submitterId().value());
+                ps.setString(3, s.title());
+                ps.setString(4, s.genre());
+                ps.setString(5, s.castNames());
+                ps.setObject(6, s.durationMinutes());
+                ps.setString(7, s.description());
+                ps.setString(8, s.state().name());
+                ps.setObject(9, s.createdTime() != null ? s.createdTime().atStartOfDay() : LocalDateTime.now());
+                ps.setObject(10, s.submittedTime() != null ? s.submittedTime().atStartOfDay() : null);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return screenings.size();
+            }
+        }, keys);
+        changed(screenings);
+
+        var generated = keys.getKeyList();
+        List<ScreeningStateChanged> out = new ArrayList<>();
+        for (int i = 0; i < screenings.size(); i++) {
+            var pending = screenings.get(i).pullEvents();
+            if (pending.isEmpty() || i >= generated.size()) continue;
+            Number id = (Number) generated.get(i).values().iterator().next();
+            stamp(new ScreeningId(id.longValue()), pending, out);
+        }
+        events.publish(out); // one outbox batch for the whole chunk
+        return screenings.size();
+    }
+
+    /** Search results of the touched programs are stale from now on (VersionedSearchCache, other nodes). */
+    private void changed(List<Screening> screenings) {
+        screenings.stream()
+                .map(s -> s.programId().value())
+                .distinct()
+                .forEach(this::changed);
+    }
+
+    private void changed(long programId) {
+        searchCache.screeningsChanged(programId);
+        invalidations.publish(InvalidationBus.SCREENINGS, programId);
+    }
+
+    private static List<ScreeningStateChanged> stamp(ScreeningId id, List<ScreeningStateChanged> pending,
+                                                     List<ScreeningStateChanged> out) {
+        for (var e : pending) out.add(e.screeningId() != null ? e : e.withScreeningId(id));
+        return out;
     }
 
     @Override
     public void deleteById(ScreeningId id) {
         if (id == null || id.value() == null) return;
+        Optional<Long> programId = jpa.findProgramIdById(id.value());
         jpa.deleteById(id.value());
+        programId.ifPresent(this::changed);
     }
 }
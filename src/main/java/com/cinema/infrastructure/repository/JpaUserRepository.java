@@ -4,21 +4,63 @@ import com.cinema.domain.entity.User;
 import com.cinema.domain.entity.value.UserId;
 import com.cinema.domain.entity.value.Username;
 import com.cinema.domain.enums.BaseRole;
+import com.cinema.domain.port.SessionRepository;
 import com.cinema.domain.port.UserRepository;
+import com.cinema.infrastructure.invalidation.InvalidationBus;
 import com.cinema.infrastructure.persistence.entity.UserEntity;
 import com.cinema.infrastructure.persistence.mapper.UserPersistenceMapper;
 import com.cinema.infrastructure.persistence.spring.SpringDataUserJpa;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 
 @Repository
-public class JpaUserRepository implements UserRepository {
+public class JpaUserRepository implements UserRepository, SmartInitializingSingleton {
     private final SpringDataUserJpa jpa;
+    private final JdbcTemplate jdbc;
+    private final UserLookupIndex lookupIndex;
+    private final SessionRepository sessions;
+    private final InvalidationBus invalidations;
     private final UserPersistenceMapper mapper = new UserPersistenceMapper();
 
-    public JpaUserRepository(SpringDataUserJpa jpa){ this.jpa = jpa; }
+    private static final int LOOKUP_LOAD_FETCH_SIZE = 1000;
+
+    private static final String PAGE_SQL = """
+            SELECT id, username, password_hash, full_name, base_role, active,
+                   failed_attempts, last_login_at, locked_until
+            FROM users
+            """;
+
+    public JpaUserRepository(SpringDataUserJpa jpa, JdbcTemplate jdbc, UserLookupIndex lookupIndex,
+                             SessionRepository sessions, InvalidationBus invalidations) {
+        this.jpa = jpa;
+        this.jdbc = jdbc;
+        this.lookupIndex = lookupIndex;
+        this.sessions = sessions;
+        this.invalidations = invalidations;
+
+        invalidations.subscribe(InvalidationBus.USER, this::reloadLookup); // written on another node
+    }
+
+    /** Fills the lookup index once the schema is migrated, before the web server takes requests. */
+    @Override
+    public void afterSingletonsInstantiated() {
+        lookupIndex.clear();
+        jdbc.query(con -> {
+            var ps = con.prepareStatement("SELECT id, username, full_name FROM users WHERE active = TRUE");
+            ps.setFetchSize(LOOKUP_LOAD_FETCH_SIZE);
+            return ps;
+        }, rs -> {
+            lookupIndex.put(rs.getLong("id"), rs.getString("username"), rs.getString("full_name"), true);
+        });
+    }
 
     @Override
     public Optional<User> findById(UserId id) {
@@ -50,9 +92,13 @@ public class JpaUserRepository implements UserRepository {
         return jpa.countByBaseRole(role);
     }
 
+    /** User.invalidateSession() (deactivation, password/username change, logout) ends all sessions here. */
     @Override
     public User Save(User user) {
         UserEntity saved = jpa.save(mapper.toEntity(user));
+        if (user.sessionsRevoked() && saved.getId() != null) sessions.revokeAll(new UserId(saved.getId()));
+        afterCommit(() -> lookupIndex.put(saved.getId(), saved.getUsername(), saved.getFullName(), saved.isActive()));
+        invalidations.publish(InvalidationBus.USER, saved.getId());
         return mapper.toDomain(saved);
     }
 
@@ -60,5 +106,92 @@ public class JpaUserRepository implements UserRepository {
     @Override
     public void deleteById(UserId id) {
         jpa.deleteById(id.value());
+        afterCommit(() -> lookupIndex.remove(id.value()));
+        invalidations.publish(InvalidationBus.USER, id.value());
+    }
+
+    private void reloadLookup(long id) {
+        lookupIndex.reload(id, () -> jdbc.query("SELECT username, full_name, active FROM users WHERE id = ?",
+                (rs, n) -> new UserLookupIndex.Stored(rs.getString("username"), rs.getString("full_name"),
+                        rs.getBoolean("active")), id).stream().findFirst());
+    }
+
+    // the lookup index only ever shows committed users
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // -------------------------
+    // Admin directory
+    // -------------------------
+
+    /**
+     * Spec:
+     * - Plain JDBC: only the requested page is read (id DESC with id < beforeId, FETCH FIRST n),
+     *   no count, no OFFSET scan, no entities in the persistence context
+     * - Filters hit idx_users_active_role / idx_users_username_lc / idx_users_last_login (V4)
+     */
+    @Override
+    public List<User> findPage(DirectoryFilter filter, Long beforeId, int limit) {
+        if (limit <= 0) return List.of();
+
+        List<Object> args = new ArrayList<>();
+        String where = where(filter, args);
+        if (beforeId != null) {
+            where += (where.isEmpty() ? " WHERE " : " AND ") + "id < ?";
+            args.add(beforeId);
+        }
+        args.add(limit);
+
+        return jdbc.query(PAGE_SQL + where + " ORDER BY id DESC FETCH FIRST ? ROWS ONLY",
+                (rs, i) -> mapper.toDomain(rs), args.toArray());
+    }
+
+    @Override
+    public long count(DirectoryFilter filter) {
+        List<Object> args = new ArrayList<>();
+        Long n = jdbc.queryForObject("SELECT COUNT(*) FROM users" + where(filter, args), Long.class, args.toArray());
+        return n != null ? n : 0;
+    }
+
+    private static String where(DirectoryFilter filter, List<Object> args) {
+        List<String> conditions = new ArrayList<>();
+        if (filter != null) {
+            if (filter.active() != null) {
+                conditions.add("active = ?");
+                args.add(filter.active());
+            }
+            if (filter.role() != null) {
+                conditions.add("base_role = ?");
+                args.add(filter.role().name());
+            }
+            if (filter.usernamePrefix() != null && !filter.usernamePrefix().isBlank()) {
+                conditions.add("username_lc LIKE ? ESCAPE '\\'");
+                args.add(likePrefix(filter.usernamePrefix().trim().toLowerCase(Locale.ROOT)));
+            }
+            if (filter.lastLoginFrom() != null) {
+                conditions.add("last_login_at >= ?");
+                args.add(filter.lastLoginFrom());
+            }
+            if (filter.lastLoginTo() != null) {
+                conditions.add("last_login_at < ?");
+                args.add(filter.lastLoginTo());
+            }
+        }
+        return conditions.isEmpty() ? "" : " WHERE " + String.join(" AND ", conditions);
+    }
+
+    // "_" is legal in usernames, so LIKE wildcards in the prefix are matched literally
+    private static String likePrefix(String prefix) {
+        return prefix.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
     }
 }
@@ -0,0 +1,131 @@
+package com.cinema.infrastructure.repository;
+
+import com.cinema.domain.entity.Program;
+import com.cinema.domain.enums.ProgramState;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Read-through cache of Program aggregates (with programmers/staff) for JpaProgramRepository.
+ *
+ * Spec:
+ * - Holds private snapshots; every hit returns a fresh copy, so callers may mutate what they get
+ * - Bounded LRU (programs.cache.max-size, 0 = off); ANNOUNCED programs are pinned outside the LRU (final state)
+ * - Every write evicts the program right away and again when the surrounding transaction ends,
+ *   so neither uncommitted nor rolled-back state survives in the cache
+ * - A load that overlapped any eviction is not cached (it may have read the old row)
+ * - Nor is a load inside a read-write transaction: it may see that transaction's own uncommitted writes
+ *   (a lock or flush of a not yet saved change evicts nothing)
+ */
+@Component
+public class ProgramCache {
+
+    private final int maxSize;
+
+    // guarded by "this"
+    private final LinkedHashMap<Long, Program> lru;
+    private final Map<Long, Program> pinned = new ConcurrentHashMap<>();
+    private long writes;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    public ProgramCache(@Value("${programs.cache.max-size:1000}") int maxSize, MeterRegistry registry) {
+        if (maxSize < 0) throw new IllegalArgumentException("maxSize must be >= 0");
+        this.maxSize = maxSize;
+        this.lru = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Program> eldest) {
+                return size() > ProgramCache.this.maxSize;
+            }
+        };
+
+        Gauge.builder("cinema.cache.programs.size", this, ProgramCache::size).register(registry);
+        this.hits = Counter.builder("cinema.cache.programs").tag("result", "hit").register(registry);
+        this.misses = Counter.builder("cinema.cache.programs").tag("result", "miss").register(registry);
+    }
+
+    /** Copy of the cached program, or null (miss or cache off). */
+    public Program get(long id) {
+        if (maxSize == 0) return null;
+
+        Program p = pinned.get(id);
+        if (p == null) {
+            synchronized (this) {
+                p = lru.get(id);
+            }
+        }
+        if (p == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return copy(p);
+    }
+
+    /** Token to take before loading from the database; pass it to put(). */
+    public synchronized long stamp() {
+        return writes;
+    }
+
+    public void put(Program program, long stamp) {
+        if (maxSize == 0 || program == null || program.id() == null || !storable()) return;
+        Program snapshot = copy(program);
+        long id = snapshot.id().value();
+
+        synchronized (this) {
+            if (writes != stamp) return;
+            if (snapshot.state() == ProgramState.ANNOUNCED) {
+                lru.remove(id);
+                pinned.put(id, snapshot);
+            } else {
+                lru.put(id, snapshot);
+            }
+        }
+    }
+
+    public void evict(long id) {
+        evictNow(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evictNow(id);
+                }
+            });
+        }
+    }
+
+    public synchronized int size() {
+        return lru.size() + pinned.size();
+    }
+
+    // -------------------------
+    // internals
+    // -------------------------
+
+    private synchronized void evictNow(long id) {
+        writes++;
+        lru.remove(id);
+        pinned.remove(id);
+    }
+
+    static Program copy(Program p) {
+        return Program.rehydrate(p.id(), p.createdAt(), p.name(), p.description(), p.startDate(), p.endDate(),
+                p.creatorUserId(), p.state(), p.programmerIds(), p.staffIds());
+    }
+
+    private static boolean storable() {
+        return !TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+}
@@ -0,0 +1,156 @@
+package com.cinema.infrastructure.repository;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * In-memory copy of user_sessions, kept by JdbcSessionRepository (loaded at startup, updated on commit);
+ * JwtAuthenticationFilter asks it whether a token's jti is still a live session on every request.
+ *
+ * Spec:
+ * - jti -> session (ConcurrentHashMap): isActive is one hash lookup, lock-free
+ * - user -> sessions for LRU eviction and revoke-all; writers serialize on the index
+ * - The last use is tracked here only (at most once per TOUCH_RESOLUTION_MILLIS per session)
+ */
+@Component
+public class SessionIndex {
+
+    /** isActive refreshes the last use at most this often (fewer writes to a shared cache line) */
+    private static final long TOUCH_RESOLUTION_MILLIS = 1000;
+
+    private final Map<String, Session> byJti = new ConcurrentHashMap<>();
+    private final Map<String, Session> byId = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Session>> byUser = new ConcurrentHashMap<>();
+
+    private static final class Session {
+        final String id;
+        final long userId;
+        volatile String jti;
+        volatile long lastUsedMillis;
+
+        Session(String id, long userId, String jti, long lastUsedMillis) {
+            this.id = id;
+            this.userId = userId;
+            this.jti = jti;
+            this.lastUsedMillis = lastUsedMillis;
+        }
+    }
+
+    private record Use(String id, long lastUsedMillis) {}
+
+    /** A user_sessions row (reload). */
+    public record Stored(String id, String jti, long lastUsedMillis) {}
+
+    public boolean isActive(long userId, String jti) {
+        if (jti == null) return false;
+        Session s = byJti.get(jti);
+        if (s == null || s.userId != userId) return false;
+
+        long now = System.currentTimeMillis();
+        if (now - s.lastUsedMillis > TOUCH_RESOLUTION_MILLIS) s.lastUsedMillis = now;
+        return true;
+    }
+
+    public synchronized void add(String sessionId, long userId, String jti, long lastUsedMillis) {
+        drop(sessionId);
+        Session s = new Session(sessionId, userId, jti, lastUsedMillis);
+        byId.put(sessionId, s);
+        byJti.put(jti, s);
+        byUser.computeIfAbsent(userId, k -> ConcurrentHashMap.newKeySet()).add(s);
+    }
+
+    /** The session's access token was rotated (refresh). */
+    public synchronized void moveTo(String sessionId, String nextJti, long usedAtMillis) {
+        Session s = byId.get(sessionId);
+        if (s == null) return;
+        byJti.remove(s.jti, s);
+        s.jti = nextJti;
+        s.lastUsedMillis = Math.max(s.lastUsedMillis, usedAtMillis);
+        byJti.put(nextJti, s);
+    }
+
+    public synchronized void drop(String sessionId) {
+        Session s = byId.remove(sessionId);
+        if (s == null) return;
+        byJti.remove(s.jti, s);
+        Set<Session> sessions = byUser.get(s.userId);
+        if (sessions != null) {
+            sessions.remove(s);
+            if (sessions.isEmpty()) byUser.remove(s.userId);
+        }
+    }
+
+    /**
+     * Replaces the user's sessions with what the loader reads from user_sessions (changed on another node).
+     * The loader runs under the index lock, so a local login or revoke committing meanwhile is applied after it.
+     * Local last uses newer than the stored ones are kept.
+     */
+    public synchronized void reload(long userId, Supplier<List<Stored>> loader) {
+        List<Stored> stored = loader.get();
+
+        Map<String, Long> lastUses = new HashMap<>();
+        for (Session s : byUser.getOrDefault(userId, Set.of())) lastUses.put(s.id, s.lastUsedMillis);
+        for (String id : lastUses.keySet()) drop(id);
+
+        for (Stored s : stored) {
+            add(s.id(), userId, s.jti(), Math.max(s.lastUsedMillis(), lastUses.getOrDefault(s.id(), 0L)));
+        }
+    }
+
+    public synchronized void clear() {
+        byJti.clear();
+        byId.clear();
+        byUser.clear();
+    }
+
+    /** id of the session whose current token is jti, if it belongs to the user */
+    public String sessionOf(long userId, String jti) {
+        Session s = jti != null ? byJti.get(jti) : null;
+        return s != null && s.userId == userId ? s.id : null;
+    }
+
+    /** user of the session, null when unknown here */
+    public Long userOf(String sessionId) {
+        Session s = byId.get(sessionId);
+        return s != null ? s.userId : null;
+    }
+
+    public List<String> sessionIds(long userId) {
+        Set<Session> sessions = byUser.get(userId);
+        if (sessions == null) return List.of();
+        List<String> ids = new ArrayList<>();
+        for (Session s : sessions) ids.add(s.id);
+        return ids;
+    }
+
+    /** session id -> last use, for the user's sessions known here */
+    public Map<String, Long> lastUses(long userId) {
+        Map<String, Long> uses = new HashMap<>();
+        for (Session s : byUser.getOrDefault(userId, Set.of())) uses.put(s.id, s.lastUsedMillis);
+        return uses;
+    }
+
+    /** ids of the user's sessions beyond the keep most recently used, oldest first */
+    public List<String> leastRecentlyUsed(long userId, int keep) {
+        Set<Session> sessions = byUser.get(userId);
+        if (sessions == null || sessions.size() <= keep) return List.of();
+
+        // snapshot the last uses: requests keep touching them while we sort
+        List<Use> oldestFirst = new ArrayList<>();
+        for (Session s : sessions) oldestFirst.add(new Use(s.id, s.lastUsedMillis));
+        oldestFirst.sort(Comparator.comparingLong(Use::lastUsedMillis));
+        return oldestFirst.subList(0, Math.max(0, oldestFirst.size() - keep)).stream().map(Use::id).toList();
+    }
+
+    public int size() {
+        return byId.size();
+    }
+}
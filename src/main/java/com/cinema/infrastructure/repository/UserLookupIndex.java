@@ -0,0 +1,202 @@
+package com.cinema.infrastructure.repository;
+
+import com.cinema.domain.entity.value.UserId;
+import com.cinema.domain.port.UserLookup;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory type-ahead index of ACTIVE users, kept by JpaUserRepository (loaded at startup, updated on commit).
+ *
+ * Spec:
+ * - One sorted key per token: the username and every word of the full name, normalized
+ *   (lower case, accents stripped, final sigma folded) => a prefix query is one ordered range scan, O(log n + limit)
+ * - Fuzzy: when prefixes do not fill the limit (query >= 3 chars), every single-edit variant of the query
+ *   (transposition, deletion, substitution, insertion) is looked up the same way; one probe per variant
+ * - Lock-free reads (ConcurrentSkipListMap); writers serialize on the index. A reader racing a rename may see
+ *   old and new keys for a moment; a hit only counts when its entry is still the user's current one
+ */
+@Component
+public class UserLookupIndex implements UserLookup {
+
+    public static final int MAX_QUERY_LENGTH = 64;
+
+    private static final int FUZZY_MIN_LENGTH = 3;
+    private static final int FUZZY_MAX_LENGTH = 24;
+
+    private static final char SEP = '\u0000';
+    private static final char END = '\uffff';
+
+    private static final String LATIN = "abcdefghijklmnopqrstuvwxyz0123456789_";
+    private static final String GREEK = "αβγδεζηθικλμνξοπρστυφχψω";
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern WORDS = Pattern.compile("[\\s\\-.,'’]+");
+
+    /** token + SEP + id -> entry */
+    private final ConcurrentSkipListMap<String, Entry> keys = new ConcurrentSkipListMap<>();
+    private final Map<Long, Entry> byId = new ConcurrentHashMap<>();
+
+    private record Entry(long id, String username, String fullName, String[] tokens) {}
+
+    /** A users row (reload). */
+    public record Stored(String username, String fullName, boolean active) {}
+
+    /** Adds or replaces the user; inactive users are removed instead. */
+    public synchronized void put(long id, String username, String fullName, boolean active) {
+        if (!active || username == null) {
+            remove(id);
+            return;
+        }
+
+        Entry old = byId.get(id);
+        // logins and counters save the user too; nothing to re-key then
+        if (old != null && old.username().equals(username) && Objects.equals(old.fullName(), fullName)) return;
+
+        Entry entry = new Entry(id, username, fullName, tokens(username, fullName));
+        byId.put(id, entry);
+        if (old != null) removeKeys(old);
+        for (String t : entry.tokens()) keys.put(key(t, id), entry);
+    }
+
+    /**
+     * Re-reads one user changed on another node; empty = deleted. The loader runs under the index lock,
+     * so a local save committing meanwhile is applied after it.
+     */
+    public synchronized void reload(long id, Supplier<Optional<Stored>> loader) {
+        Optional<Stored> stored = loader.get();
+        if (stored.isEmpty()) remove(id);
+        else put(id, stored.get().username(), stored.get().fullName(), stored.get().active());
+    }
+
+    public synchronized void remove(long id) {
+        Entry old = byId.remove(id);
+        if (old != null) removeKeys(old);
+    }
+
+    public synchronized void clear() {
+        byId.clear();
+        keys.clear();
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    @Override
+    public List<Match> lookup(String query, int limit) {
+        String q = normalize(query);
+        if (q.isEmpty() || limit <= 0) return List.of();
+        if (q.length() > MAX_QUERY_LENGTH) q = q.substring(0, MAX_QUERY_LENGTH);
+
+        Map<Long, Match> out = new LinkedHashMap<>();
+        collect(q, out, limit);
+
+        if (out.size() < limit && q.length() >= FUZZY_MIN_LENGTH && q.length() <= FUZZY_MAX_LENGTH) {
+            fuzzy(q, out, limit);
+        }
+        return new ArrayList<>(out.values());
+    }
+
+    // -------------------------
+    // internals
+    // -------------------------
+
+    private void collect(String prefix, Map<Long, Match> out, int limit) {
+        if (prefix.isEmpty()) return;
+        for (Entry e : keys.subMap(prefix, true, prefix + END, false).values()) {
+            if (byId.get(e.id()) != e) continue; // replaced or removed meanwhile
+            out.putIfAbsent(e.id(), new Match(new UserId(e.id()), e.username(), e.fullName()));
+            if (out.size() >= limit) return;
+        }
+    }
+
+    /**
+     * Scans every string one edit away from q. Most variants match nothing, so each is first probed with a single
+     * ceilingKey (one skip-list descent) before a range is opened; duplicates are harmless (out is keyed by id).
+     */
+    private void fuzzy(String q, Map<Long, Match> out, int limit) {
+        String alphabet = q.chars().allMatch(c -> c < 128) ? LATIN : LATIN + GREEK;
+        int n = q.length();
+        char[] buf = new char[n + 1];
+
+        // adjacent transposition
+        for (int i = 0; i + 1 < n; i++) {
+            if (q.charAt(i) == q.charAt(i + 1)) continue;
+            q.getChars(0, n, buf, 0);
+            buf[i] = q.charAt(i + 1);
+            buf[i + 1] = q.charAt(i);
+            if (probe(new String(buf, 0, n), out, limit)) return;
+        }
+        // deletion
+        for (int i = 0; i < n; i++) {
+            if (probe(q.substring(0, i) + q.substring(i + 1), out, limit)) return;
+        }
+        // substitution
+        for (int i = 0; i < n; i++) {
+            q.getChars(0, n, buf, 0);
+            for (int a = 0; a < alphabet.length(); a++) {
+                char c = alphabet.charAt(a);
+                if (c == q.charAt(i)) continue;
+                buf[i] = c;
+                if (probe(new String(buf, 0, n), out, limit)) return;
+            }
+        }
+        // insertion (after the last char it is a plain prefix match, already scanned)
+        for (int i = 0; i < n; i++) {
+            q.getChars(0, i, buf, 0);
+            q.getChars(i, n, buf, i + 1);
+            for (int a = 0; a < alphabet.length(); a++) {
+                buf[i] = alphabet.charAt(a);
+                if (probe(new String(buf, 0, n + 1), out, limit)) return;
+            }
+        }
+    }
+
+    /** true when out is full */
+    private boolean probe(String prefix, Map<Long, Match> out, int limit) {
+        String first = keys.ceilingKey(prefix);
+        if (first != null && first.startsWith(prefix)) collect(prefix, out, limit);
+        return out.size() >= limit;
+    }
+
+    private void removeKeys(Entry e) {
+        for (String t : e.tokens()) keys.remove(key(t, e.id()), e);
+    }
+
+    private static String key(String token, long id) {
+        return token + SEP + id;
+    }
+
+    private static String[] tokens(String username, String fullName) {
+        Set<String> tokens = new LinkedHashSet<>();
+        tokens.add(normalize(username));
+        if (fullName != null) {
+            for (String w : WORDS.split(normalize(fullName))) {
+                if (!w.isEmpty()) tokens.add(w);
+            }
+        }
+        tokens.remove("");
+        return tokens.toArray(String[]::new);
+    }
+
+    static String normalize(String s) {
+        if (s == null) return "";
+        String t = MARKS.matcher(Normalizer.normalize(s.strip(), Normalizer.Form.NFD)).replaceAll("");
+        return t.toLowerCase(Locale.ROOT).replace('ς', 'σ');
+    }
+}
@@ -0,0 +1,216 @@
+package com.cinema.infrastructure.repository;
+
+import com.cinema.domain.entity.Program;
+import com.cinema.domain.entity.Screening;
+import com.cinema.domain.entity.value.ProgramId;
+import com.cinema.domain.port.SearchResultCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.ToLongFunction;
+
+/**
+ * Search result cache with version-based invalidation (SearchResultCache), kept by the JPA repositories.
+ *
+ * Spec:
+ * - Versions come from one clock: a program's version moves on any write of the program or of one of its
+ *   screenings (JpaScreeningRepository, JpaProgramRepository), the catalog version on any program write
+ * - A write moves the version right away and again when the surrounding transaction ends, so a result loaded
+ *   before the commit never stays valid after it; results loaded inside a read-write transaction are not stored
+ * - An entry only hits while its version is current; stale entries are dropped when met or by the LRU
+ * - Bounded by estimated bytes (search.cache.max-bytes, 0 = off), least recently used out first;
+ *   a single result above a quarter of the budget is not stored
+ * - Metrics: cinema.cache.search{kind, result=hit|miss}, cinema.cache.search.size, cinema.cache.search.bytes
+ */
+@Component
+public class VersionedSearchCache implements SearchResultCache {
+
+    /** Version scope of program searches (program ids are positive). */
+    private static final long CATALOG = -1;
+
+    // rough heap cost of an entry, a list slot, a screening / program without its strings
+    private static final long ENTRY_BYTES = 128;
+    private static final long SLOT_BYTES = 8;
+    private static final long SCREENING_BYTES = 320;
+    private static final long PROGRAM_BYTES = 200;
+
+    private final long maxBytes;
+
+    // guarded by "this"
+    private final LinkedHashMap<String, Entry> lru = new LinkedHashMap<>(64, 0.75f, true);
+    private final Map<Long, Long> versions = new HashMap<>();
+    private long clock;
+    private long bytes;
+
+    private final Counter screeningHits;
+    private final Counter screeningMisses;
+    private final Counter programHits;
+    private final Counter programMisses;
+
+    private record Entry(long version, List<?> items, long bytes) {}
+
+    public VersionedSearchCache(@Value("${search.cache.max-bytes:16777216}") long maxBytes, MeterRegistry registry) {
+        if (maxBytes < 0) throw new IllegalArgumentException("maxBytes must be >= 0");
+        this.maxBytes = maxBytes;
+
+        this.screeningHits = Counter.builder("cinema.cache.search").tag("kind", "screenings").tag("result", "hit").register(registry);
+        this.screeningMisses = Counter.builder("cinema.cache.search").tag("kind", "screenings").tag("result", "miss").register(registry);
+        this.programHits = Counter.builder("cinema.cache.search").tag("kind", "programs").tag("result", "hit").register(registry);
+        this.programMisses = Counter.builder("cinema.cache.search").tag("kind", "programs").tag("result", "miss").register(registry);
+        Gauge.builder("cinema.cache.search.size", this, VersionedSearchCache::size).register(registry);
+        Gauge.builder("cinema.cache.search.bytes", this, VersionedSearchCache::bytes).register(registry);
+    }
+
+    @Override
+    public synchronized long stamp(ProgramId programId) {
+        return versions.getOrDefault(programId.value(), 0L);
+    }
+
+    @Override
+    public synchronized long catalogStamp() {
+        return versions.getOrDefault(CATALOG, 0L);
+    }
+
+    @Override
+    public Optional<List<Screening>> screenings(ProgramId programId, String key) {
+        List<?> items = get(programId.value(), "S" + programId.value() + " " + key);
+        (items == null ? screeningMisses : screeningHits).increment();
+        if (items == null) return Optional.empty();
+        return Optional.of(items.stream().map(s -> copy((Screening) s)).toList());
+    }
+
+    @Override
+    public void putScreenings(ProgramId programId, String key, List<Screening> result, long stamp) {
+        if (!storable()) return;
+        List<Screening> snapshot = result.stream().map(VersionedSearchCache::copy).toList();
+        put(programId.value(), "S" + programId.value() + " " + key, snapshot, stamp, VersionedSearchCache::weigh);
+    }
+
+    @Override
+    public Optional<List<Program>> programs(String key) {
+        List<?> items = get(CATALOG, "P " + key);
+        (items == null ? programMisses : programHits).increment();
+        if (items == null) return Optional.empty();
+        return Optional.of(items.stream().map(p -> ProgramCache.copy((Program) p)).toList());
+    }
+
+    @Override
+    public void putPrograms(String key, List<Program> result, long stamp) {
+        if (!storable()) return;
+        List<Program> snapshot = result.stream().map(ProgramCache::copy).toList();
+        put(CATALOG, "P " + key, snapshot, stamp, VersionedSearchCache::weigh);
+    }
+
+    /** A screening of the program was written (saved, inserted, deleted). */
+    public void screeningsChanged(long programId) {
+        changed(programId, false);
+    }
+
+    /** The program itself was written: its screening searches and every program search. */
+    public void programChanged(long programId) {
+        changed(programId, true);
+    }
+
+    public synchronized int size() {
+        return lru.size();
+    }
+
+    public synchronized long bytes() {
+        return bytes;
+    }
+
+    // -------------------------
+    // internals
+    // -------------------------
+
+    private synchronized List<?> get(long scope, String key) {
+        if (maxBytes == 0) return null;
+        Entry e = lru.get(key);
+        if (e == null) return null;
+        if (e.version() != versions.getOrDefault(scope, 0L)) {
+            remove(key);
+            return null;
+        }
+        return e.items();
+    }
+
+    private <T> void put(long scope, String key, List<T> items, long stamp, ToLongFunction<T> weigher) {
+        long size = ENTRY_BYTES + 2L * key.length();
+        for (T item : items) size += SLOT_BYTES + weigher.applyAsLong(item);
+        if (size > maxBytes / 4) return;
+
+        synchronized (this) {
+            if (versions.getOrDefault(scope, 0L) != stamp) return;
+            remove(key);
+            lru.put(key, new Entry(stamp, items, size));
+            bytes += size;
+
+            Iterator<Entry> eldest = lru.values().iterator();
+            while (bytes > maxBytes && eldest.hasNext()) {
+                bytes -= eldest.next().bytes();
+                eldest.remove();
+            }
+        }
+    }
+
+    private void remove(String key) {
+        Entry old = lru.remove(key);
+        if (old != null) bytes -= old.bytes();
+    }
+
+    private void changed(long programId, boolean catalog) {
+        bump(programId, catalog);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    bump(programId, catalog);
+                }
+            });
+        }
+    }
+
+    private synchronized void bump(long programId, boolean catalog) {
+        versions.put(programId, ++clock);
+        if (catalog) versions.put(CATALOG, ++clock);
+    }
+
+    private boolean storable() {
+        if (maxBytes == 0) return false;
+        // uncommitted writes of this transaction may be in the result
+        return !TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private static long weigh(Screening s) {
+        return SCREENING_BYTES + 2L * (length(s.title()) + length(s.genre()) + length(s.description())
+                + length(s.castNames()) + length(s.room()) + length(s.reviewComments()) + length(s.rejectionReason()));
+    }
+
+    private static long weigh(Program p) {
+        return PROGRAM_BYTES + 2L * (length(p.name()) + length(p.description()))
+                + 8L * (p.programmerIds().length + p.staffIds().length);
+    }
+
+    private static int length(String s) {
+        return s == null ? 0 : s.length();
+    }
+
+    private static Screening copy(Screening s) {
+        return Screening.rehydrate(s.id(), s.programId(), s.submitterId(), s.title(), s.genre(), s.description(),
+                s.castNames(), s.room(), s.scheduledTime(), s.state(), s.staffMemberId(), s.reviewScore(),
+                s.reviewComments(), s.rejectionReason(), s.createdTime(), s.submittedTime(), s.reviewedTime(),
+                s.finalSubmittedTime(), s.startTime(), s.durationMinutes());
+    }
+}
@@ -0,0 +1,132 @@
+package com.cinema.infrastructure.security;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit that follows observed latency (gradient), with priority classes (LoadSheddingFilter).
+ *
+ * Spec:
+ * - Completions are averaged per window (at least windowSamples requests and MIN_WINDOW); the window average
+ *   (short RTT) is compared with a slow moving average of past windows (long RTT)
+ * - gradient = clamp(tolerance * long / short, 0.5, 1): while latency stays within tolerance the limit grows by
+ *   sqrt(limit) per window, once requests start queueing it shrinks in proportion (smoothed, within [min, max])
+ * - The limit only grows while it is actually used (in-flight reached half of it during the window)
+ * - A class is admitted while in-flight < limit * share: PUBLIC is shed first, WRITE last
+ * - Averages (not a fixed baseline): the mix of cheap reads and BCrypt logins moves both RTTs alike
+ */
+public final class AdaptiveConcurrencyLimiter {
+
+    public enum Priority {
+        /** authenticated non-GET requests */
+        WRITE(1.0),
+        /** authenticated GETs, login / refresh / register */
+        READ(0.9),
+        /** anonymous catalog reads */
+        PUBLIC(0.75);
+
+        final double share;
+
+        Priority(double share) {
+            this.share = share;
+        }
+    }
+
+    private static final long MIN_WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final double LONG_WINDOWS = 100;  // long RTT ~ average of the last 100 windows
+    private static final double SMOOTHING = 0.2;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final int windowSamples;
+
+    private volatile double limit;
+    private final AtomicInteger inflight = new AtomicInteger();
+
+    // current window, guarded by "this"
+    private long windowStart = System.nanoTime();
+    private int windowCount;
+    private long windowSumNanos;
+    private int windowMaxInflight;
+    private double longRttNanos;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double tolerance, int windowSamples) {
+        if (minLimit <= 0 || maxLimit < minLimit) throw new IllegalArgumentException("0 < minLimit <= maxLimit required");
+        if (tolerance < 1) throw new IllegalArgumentException("tolerance must be >= 1");
+        if (windowSamples <= 0) throw new IllegalArgumentException("windowSamples must be > 0");
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.windowSamples = windowSamples;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /** true => admitted, release(...) must follow exactly once. */
+    public boolean tryAcquire(Priority priority) {
+        int cap = Math.max(1, (int) (limit * priority.share));
+        for (;;) {
+            int n = inflight.get();
+            if (n >= cap) return false;
+            if (inflight.compareAndSet(n, n + 1)) {
+                if (n + 1 > windowMaxInflight) noteInflight(n + 1);
+                return true;
+            }
+        }
+    }
+
+    public void release(long latencyNanos) {
+        inflight.decrementAndGet();
+        sample(latencyNanos);
+    }
+
+    public int limit() {
+        return (int) limit;
+    }
+
+    public int inflight() {
+        return inflight.get();
+    }
+
+    // -------------------------
+    // internals
+    // -------------------------
+
+    private synchronized void noteInflight(int n) {
+        if (n > windowMaxInflight) windowMaxInflight = n;
+    }
+
+    private synchronized void sample(long latencyNanos) {
+        windowCount++;
+        windowSumNanos += latencyNanos;
+
+        long now = System.nanoTime();
+        if (windowCount < windowSamples || now - windowStart < MIN_WINDOW_NANOS) return;
+
+        update((double) windowSumNanos / windowCount);
+
+        windowStart = now;
+        windowCount = 0;
+        windowSumNanos = 0;
+        windowMaxInflight = inflight.get();
+    }
+
+    private void update(double shortRtt) {
+        if (longRttNanos == 0) {
+            longRttNanos = shortRtt;
+        } else {
+            longRttNanos += (shortRtt - longRttNanos) / LONG_WINDOWS;
+            // load went away: forget the congested past faster
+            if (longRttNanos / shortRtt > 2) longRttNanos *= 0.95;
+        }
+
+        double current = limit;
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRttNanos / shortRtt));
+        // application-limited: no evidence the limit is too low
+        if (gradient == 1.0 && windowMaxInflight < current / 2) return;
+
+        double next = current * gradient + Math.sqrt(current);
+        next = current * (1 - SMOOTHING) + next * SMOOTHING;
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+}
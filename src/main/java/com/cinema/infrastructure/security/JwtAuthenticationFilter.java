@@ -3,7 +3,10 @@ package com.cinema.infrastructure.security;
 import com.cinema.domain.entity.User;
 import com.cinema.domain.entity.value.UserId;
 import com.cinema.domain.enums.BaseRole;
+import com.cinema.domain.port.SessionRepository;
 import com.cinema.domain.port.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -21,16 +24,45 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final TokenValidator tokenValidator;
     private final UserRepository userRepository;
+    private final SessionRepository sessions;
 
-    public JwtAuthenticationFilter(TokenValidator tokenValidator, UserRepository userRepository) {
+    // time spent in this filter only (downstream chain excluded)
+    private final Timer anonymousTimer;
+    private final Timer authenticatedTimer;
+    private final Timer rejectedTimer;
+
+    public JwtAuthenticationFilter(TokenValidator tokenValidator, UserRepository userRepository,
+                                   SessionRepository sessions, MeterRegistry registry) {
         this.tokenValidator = Objects.requireNonNull(tokenValidator);
         this.userRepository = Objects.requireNonNull(userRepository);
+        this.sessions = Objects.requireNonNull(sessions);
+        this.anonymousTimer = filterTimer(registry, "anonymous");
+        this.authenticatedTimer = filterTimer(registry, "authenticated");
+        this.rejectedTimer = filterTimer(registry, "rejected");
+    }
+
+    private static Timer filterTimer(MeterRegistry registry, String outcome) {
+        return Timer.builder("cinema.filter")
+                .tag("filter", "jwt")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    private static void record(Timer timer, long startNanos) {
+        timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /** The refresh token is the credential there; an expired access token sent along must not turn it into a 401. */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return "POST".equals(request.getMethod()) && "/api/auth/refresh".equals(request.getServletPath());
     }
 
     @Override
@@ -40,10 +72,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             FilterChain filterChain
     ) throws ServletException, IOException {
 
+        long start = System.nanoTime();
         String header = request.getHeader("Authorization");
 
         // No token => continue as VISITOR (anonymous)
         if (header == null || header.isBlank()) {
+            record(anonymousTimer, start);
             filterChain.doFilter(request, response);
             return;
         }
@@ -53,6 +87,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // If header exists but is not Bearer => client attempted auth incorrectly => 401 TOKEN_INVALID
         if (!h.regionMatches(true, 0, "Bearer ", 0, 7)) {
             SecurityContextHolder.clearContext();
+            record(rejectedTimer, start);
             writeUnauthorized(response, "TOKEN_INVALID", "Missing or invalid Authorization header");
             return;
         }
@@ -60,10 +95,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String token = h.substring(7).trim();
         if (token.isEmpty()) {
             SecurityContextHolder.clearContext();
+            record(rejectedTimer, start);
             writeUnauthorized(response, "TOKEN_INVALID", "Missing token");
             return;
         }
 
+        boolean recorded = false;
         try {
             TokenValidator.TokenData data = tokenValidator.validate(token);
 
@@ -76,14 +113,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             // inactive blocks all authenticated usage
             if (!user.isActive()) {
                 SecurityContextHolder.clearContext();
+                record(rejectedTimer, start);
                 writeUnauthorized(response, "ACCOUNT_INACTIVE", "Account is inactive");
                 return;
             }
 
-            // single-active-token rule (invalidate previous token)
-            String currentJti = user.currentJti();
-            if (currentJti == null || !currentJti.equals(jti)) {
+            // jti must be the current token of one of the user's sessions (in-memory index, O(1))
+            if (!sessions.isActive(userId, jti)) {
                 SecurityContextHolder.clearContext();
+                record(rejectedTimer, start);
                 writeUnauthorized(response, "TOKEN_REVOKED", "Token is not current");
                 return;
             }
@@ -94,7 +132,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
             Authentication auth = new UsernamePasswordAuthenticationToken(
                     userId.value(),  // principal: Long
-                    null,
+                    jti,             // credentials: session token (logout ends this session only)
                     List.of(authority)
             );
             ((UsernamePasswordAuthenticationToken) auth)
@@ -102,16 +140,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
             SecurityContextHolder.getContext().setAuthentication(auth);
 
+            record(authenticatedTimer, start);
+            recorded = true;
             filterChain.doFilter(request, response);
 
         } catch (TokenValidator.ExpiredTokenException ex) {
             SecurityContextHolder.clearContext();
+            if (!recorded) record(rejectedTimer, start);
             writeUnauthorized(response, "TOKEN_EXPIRED", "Token expired");
         } catch (TokenValidator.InvalidTokenException ex) {
             SecurityContextHolder.clearContext();
+            if (!recorded) record(rejectedTimer, start);
             writeUnauthorized(response, "TOKEN_INVALID", "Token invalid");
         } catch (Exception ex) {
             SecurityContextHolder.clearContext();
+            if (!recorded) record(rejectedTimer, start);
             writeUnauthorized(response, "TOKEN_INVALID", "Token invalid");
         }
     }
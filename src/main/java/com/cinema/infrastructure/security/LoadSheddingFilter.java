@@ -0,0 +1,117 @@
+package com.cinema.infrastructure.security;
+
+import com.cinema.infrastructure.security.AdaptiveConcurrencyLimiter.Priority;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Load shedding in the security chain, right before JwtAuthenticationFilter (OverloadConfig / SecurityConfig).
+ *
+ * Spec:
+ * - Every /api request takes a slot of the AdaptiveConcurrencyLimiter; without one it is answered
+ *   503 + Retry-After at once instead of queueing in Tomcat
+ * - Priority from the request alone (a shed request costs no token check / user read):
+ *   Bearer token + non-GET => WRITE, Bearer token GET or /api/auth/** => READ, anything else => PUBLIC.
+ *   A forged token only buys a fast 401 from the JWT filter
+ * - Not limited: CORS preflight, the SSE stream (long-lived), actuator
+ * - Async requests give their slot back when the async processing completes
+ */
+public class LoadSheddingFilter extends OncePerRequestFilter {
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final String retryAfterSeconds;
+
+    private final Map<Priority, Counter> admitted = new EnumMap<>(Priority.class);
+    private final Map<Priority, Counter> shed = new EnumMap<>(Priority.class);
+
+    public LoadSheddingFilter(AdaptiveConcurrencyLimiter limiter, int retryAfterSeconds, MeterRegistry registry) {
+        this.limiter = Objects.requireNonNull(limiter);
+        this.retryAfterSeconds = Integer.toString(retryAfterSeconds);
+
+        Gauge.builder("cinema.overload.limit", limiter, AdaptiveConcurrencyLimiter::limit).register(registry);
+        Gauge.builder("cinema.overload.inflight", limiter, AdaptiveConcurrencyLimiter::inflight).register(registry);
+        for (Priority p : Priority.values()) {
+            String priority = p.name().toLowerCase(Locale.ROOT);
+            admitted.put(p, Counter.builder("cinema.overload.requests")
+                    .tag("priority", priority).tag("outcome", "admitted").register(registry));
+            shed.put(p, Counter.builder("cinema.overload.requests")
+                    .tag("priority", priority).tag("outcome", "shed").register(registry));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getServletPath();
+        return "OPTIONS".equals(request.getMethod())
+                || !path.startsWith("/api/")
+                || path.equals("/api/events/stream");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        Priority priority = classify(request);
+        if (!limiter.tryAcquire(priority)) {
+            shed.get(priority).increment();
+            writeOverloaded(response);
+            return;
+        }
+        admitted.get(priority).increment();
+
+        long start = System.nanoTime();
+        AtomicBoolean released = new AtomicBoolean();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override public void onComplete(AsyncEvent event) { release(released, start); }
+                    @Override public void onTimeout(AsyncEvent event) { release(released, start); }
+                    @Override public void onError(AsyncEvent event) { release(released, start); }
+                    @Override public void onStartAsync(AsyncEvent event) { }
+                });
+            } else {
+                release(released, start);
+            }
+        }
+    }
+
+    static Priority classify(HttpServletRequest request) {
+        String header = request.getHeader("Authorization");
+        boolean bearer = header != null && header.regionMatches(true, 0, "Bearer ", 0, 7);
+        boolean read = "GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod());
+
+        if (bearer) return read ? Priority.READ : Priority.WRITE;
+        if (request.getServletPath().startsWith("/api/auth/")) return Priority.READ;
+        return Priority.PUBLIC;
+    }
+
+    private void release(AtomicBoolean released, long start) {
+        if (released.compareAndSet(false, true)) limiter.release(System.nanoTime() - start);
+    }
+
+    private void writeOverloaded(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        response.setHeader("Retry-After", retryAfterSeconds);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setContentType("application/json");
+        response.getWriter().write("{\"code\":\"OVERLOADED\",\"message\":\"Server busy, retry later\"}");
+    }
+}
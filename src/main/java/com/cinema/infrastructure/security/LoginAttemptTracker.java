@@ -0,0 +1,129 @@
+package com.cinema.infrastructure.security;
+
+import com.cinema.domain.policy.RateLimitPolicy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Consecutive failed logins per username, in memory (AuthenticateUserUseCase).
+ *
+ * Spec:
+ * - RateLimitPolicy.maxFailedLoginAttempts consecutive failures lock the username for lockoutDuration;
+ *   the lock ends by itself (no admin action), failures older than lockoutDuration are forgotten
+ * - Unknown usernames are tracked like real ones: lockouts do not reveal which accounts exist
+ * - Bounded (auth.lockout.max-tracked): a full tracker first drops expired entries, then an arbitrary
+ *   tenth of the rest. Locks are also persisted by the caller (users.locked_until), so dropping one
+ *   only costs the next attempt a database read
+ */
+@Component
+public class LoginAttemptTracker {
+
+    private final RateLimitPolicy policy;
+    private final Clock clock;
+    private final int maxTracked;
+    private final long lockoutMillis;
+
+    private final Map<String, Attempts> attempts = new ConcurrentHashMap<>();
+
+    private final Counter lockouts;
+    private final Counter rejected;
+
+    /** lockedUntilMillis = 0: not locked */
+    private record Attempts(int failures, long lastFailureMillis, long lockedUntilMillis) {}
+
+    public LoginAttemptTracker(
+            RateLimitPolicy policy,
+            Clock clock,
+            @Value("${auth.lockout.max-tracked:100000}") int maxTracked,
+            MeterRegistry registry
+    ) {
+        if (maxTracked <= 0) throw new IllegalArgumentException("maxTracked must be > 0");
+        this.policy = Objects.requireNonNull(policy);
+        this.clock = Objects.requireNonNull(clock);
+        this.maxTracked = maxTracked;
+        this.lockoutMillis = policy.lockoutDuration().toMillis();
+
+        Gauge.builder("cinema.auth.lockout.tracked", attempts, Map::size).register(registry);
+        this.lockouts = Counter.builder("cinema.auth.lockout").tag("event", "locked").register(registry);
+        this.rejected = Counter.builder("cinema.auth.lockout").tag("event", "rejected").register(registry);
+    }
+
+    /** End of the username's lock, or null when it may try a password. */
+    public Instant lockedUntil(String username) {
+        Attempts a = attempts.get(username);
+        if (a == null || a.lockedUntilMillis() <= clock.millis()) return null;
+
+        rejected.increment();
+        return Instant.ofEpochMilli(a.lockedUntilMillis());
+    }
+
+    /**
+     * Counts one failed password. Returns the end of the lock when THIS failure locked the username
+     * (the only transition the caller persists), null otherwise.
+     */
+    public Instant recordFailure(String username) {
+        long now = clock.millis();
+        if (!attempts.containsKey(username) && attempts.size() >= maxTracked) shrink(now);
+
+        boolean[] locked = {false};
+        Attempts after = attempts.compute(username, (k, a) -> {
+            // an expired lock or a stale streak starts over
+            if (a == null || isExpired(a, now)) a = new Attempts(0, now, 0);
+            if (a.lockedUntilMillis() != 0) return new Attempts(a.failures() + 1, now, a.lockedUntilMillis());
+
+            int failures = a.failures() + 1;
+            locked[0] = policy.shouldLock(failures);
+            return new Attempts(failures, now, locked[0] ? now + lockoutMillis : 0);
+        });
+
+        if (!locked[0]) return null;
+        lockouts.increment();
+        return Instant.ofEpochMilli(after.lockedUntilMillis());
+    }
+
+    /** A lock found in the database (restart, other node, entry dropped) becomes known here. */
+    public void lock(String username, Instant until) {
+        long now = clock.millis();
+        if (until.toEpochMilli() <= now) return;
+        if (!attempts.containsKey(username) && attempts.size() >= maxTracked) shrink(now);
+
+        attempts.put(username, new Attempts(policy.maxFailedLoginAttempts(), now, until.toEpochMilli()));
+    }
+
+    /** Successful login, or admin activation (lifts a lock right away). */
+    public void reset(String username) {
+        attempts.remove(username);
+    }
+
+    public int size() {
+        return attempts.size();
+    }
+
+    private void shrink(long now) {
+        attempts.entrySet().removeIf(e -> isExpired(e.getValue(), now));
+        if (attempts.size() < maxTracked) return;
+
+        int drop = Math.max(1, maxTracked / 10);
+        Iterator<String> it = attempts.keySet().iterator();
+        while (drop-- > 0 && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    private boolean isExpired(Attempts a, long now) {
+        return a.lockedUntilMillis() != 0
+                ? a.lockedUntilMillis() <= now
+                : now - a.lastFailureMillis() > lockoutMillis;
+    }
+}
@@ -1,5 +1,8 @@
 package com.cinema.infrastructure.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -9,6 +12,7 @@ import java.io.IOException;
 import java.time.Instant;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 public class RateLimitFilter implements Filter {
 
@@ -16,15 +20,26 @@ public class RateLimitFilter implements Filter {
     private final long windowSeconds;
     private final Map<String, Counter> counters = new ConcurrentHashMap<>();
 
+    // time spent deciding (downstream chain excluded)
+    private final Timer allowedTimer;
+    private final Timer limitedTimer;
+
     public RateLimitFilter(int maxRequests, long windowSeconds) {
+        this(maxRequests, windowSeconds, Metrics.globalRegistry);
+    }
+
+    public RateLimitFilter(int maxRequests, long windowSeconds, MeterRegistry registry) {
         this.maxRequests = maxRequests;
         this.windowSeconds = windowSeconds;
+        this.allowedTimer = Timer.builder("cinema.filter").tag("filter", "rate-limit").tag("outcome", "allowed").register(registry);
+        this.limitedTimer = Timer.builder("cinema.filter").tag("filter", "rate-limit").tag("outcome", "limited").register(registry);
     }
 
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
             throws IOException, ServletException {
 
+        long startNanos = System.nanoTime();
         HttpServletRequest http = (HttpServletRequest) request;
         String ip = http.getRemoteAddr();
         long now = Instant.now().getEpochSecond();
@@ -38,11 +53,14 @@ public class RateLimitFilter implements Filter {
         });
 
         if (c.count > maxRequests) {
+            limitedTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
             ((HttpServletResponse) response).setStatus(429);
             response.getWriter().write("Too many requests");
             return;
         }
 
+        allowedTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+
         // ✅ ΠΑΝΤΑ προχώρα
         chain.doFilter(request, response);
     }
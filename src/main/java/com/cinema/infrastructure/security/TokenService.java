@@ -9,8 +9,13 @@ import org.springframework.stereotype.Service;
 
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
 import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
+import java.util.HexFormat;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -18,8 +23,11 @@ import java.util.concurrent.ConcurrentHashMap;
 @Service
 public class TokenService {
 
+    private static final int REFRESH_SECRET_BYTES = 32;
+
     private final Key key;
     private final long expirationSeconds;
+    private final SecureRandom random = new SecureRandom();
 
     private final Set<String> blacklistedTokens = ConcurrentHashMap.newKeySet();
 
@@ -31,7 +39,7 @@ public class TokenService {
         this.expirationSeconds = expirationSeconds;
     }
 
-    /** Επιστρέφει και το jti για να το γράψεις στο users.current_jti */
+    /** Επιστρέφει και το jti για να το γράψεις στο user_sessions.jti */
     public IssuedToken generateToken(User user) {
         Instant now = Instant.now();
         String jti = UUID.randomUUID().toString();
@@ -49,6 +57,37 @@ public class TokenService {
         return new IssuedToken(token, jti);
     }
 
+    public long expirationSeconds() {
+        return expirationSeconds;
+    }
+
+    /**
+     * Opaque refresh token "familyId.secret" (secret = 256 random bits, base64url).
+     * Only refreshTokenHash() of it is stored; the family id lets the server find the row without a scan.
+     */
+    public String newRefreshToken(String familyId) {
+        byte[] secret = new byte[REFRESH_SECRET_BYTES];
+        random.nextBytes(secret);
+        return familyId + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(secret);
+    }
+
+    /** Family id of a refresh token, or null when it is not one of ours. */
+    public static String refreshTokenFamily(String refreshToken) {
+        if (refreshToken == null) return null;
+        int dot = refreshToken.indexOf('.');
+        return (dot > 0 && dot < refreshToken.length() - 1) ? refreshToken.substring(0, dot) : null;
+    }
+
+    /** SHA-256 (hex): a fast digest is enough, the secret is random, not a password. */
+    public static String refreshTokenHash(String refreshToken) {
+        try {
+            MessageDigest sha = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha.digest(refreshToken.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
     public void invalidate(String token) {
         if (token != null && !token.isBlank()) {
             blacklistedTokens.add(token);
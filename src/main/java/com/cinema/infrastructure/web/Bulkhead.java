@@ -0,0 +1,85 @@
+package com.cinema.infrastructure.web;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded executor of one route group (Bulkheads): its own threads and queue, so a flood on one group
+ * (a login storm hashing BCrypt) cannot take the threads the other groups need.
+ *
+ * Spec:
+ * - Fixed number of threads, bounded queue (0 => no queue); a full bulkhead rejects at once
+ *   (RejectedExecutionException, answered 503 by RestExceptionHandler)
+ * - Metrics tagged bulkhead=name: cinema.bulkhead.active, cinema.bulkhead.queued,
+ *   cinema.bulkhead.utilization (busy threads / threads), cinema.bulkhead.rejected,
+ *   cinema.bulkhead.wait (time a task spent queued)
+ */
+public final class Bulkhead implements AutoCloseable {
+
+    private final String name;
+    private final ThreadPoolExecutor pool;
+    private final TaskExecutorAdapter executor;
+
+    public Bulkhead(String name, int threads, int queueCapacity, MeterRegistry registry) {
+        if (threads <= 0 || queueCapacity < 0) {
+            throw new IllegalArgumentException("Bulkhead " + name + ": threads must be > 0 and queue >= 0");
+        }
+        this.name = Objects.requireNonNull(name);
+
+        Counter rejected = Counter.builder("cinema.bulkhead.rejected").tag("bulkhead", name).register(registry);
+        Timer wait = Timer.builder("cinema.bulkhead.wait").tag("bulkhead", name).register(registry);
+
+        AtomicInteger n = new AtomicInteger();
+        BlockingQueue<Runnable> queue = queueCapacity == 0 ? new SynchronousQueue<>() : new ArrayBlockingQueue<>(queueCapacity);
+        this.pool = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, queue, r -> {
+            Thread t = new Thread(r, "bulkhead-" + name + "-" + n.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        }, (task, executor) -> {
+            rejected.increment();
+            throw new RejectedExecutionException("Bulkhead " + name + " is full");
+        });
+
+        this.executor = new TaskExecutorAdapter(pool);
+        executor.setTaskDecorator(task -> {
+            long queuedAt = System.nanoTime();
+            return () -> {
+                wait.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+                task.run();
+            };
+        });
+
+        Gauge.builder("cinema.bulkhead.active", pool, ThreadPoolExecutor::getActiveCount)
+                .tag("bulkhead", name).register(registry);
+        Gauge.builder("cinema.bulkhead.queued", pool, p -> p.getQueue().size())
+                .tag("bulkhead", name).register(registry);
+        Gauge.builder("cinema.bulkhead.utilization", pool, p -> (double) p.getActiveCount() / p.getMaximumPoolSize())
+                .tag("bulkhead", name).register(registry);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public AsyncTaskExecutor executor() {
+        return executor;
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+}
@@ -0,0 +1,122 @@
+package com.cinema.infrastructure.web;
+
+import com.cinema.infrastructure.diagnostics.DiagnosticsHandoff;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpEntity;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.ServletInvocableHandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runs controller methods on the bulkhead of their route group (Bulkheads) instead of the servlet thread,
+ * through Spring MVC's async request processing (BulkheadConfig installs it as the handler adapter).
+ *
+ * Spec:
+ * - Arguments (JSON body, path variables, Authentication) are resolved on the servlet thread; the method itself
+ *   runs on the bulkhead as a WebAsyncTask, and its result is written by the async dispatch like any Callable
+ *   result - a request that timed out never gets a second response
+ * - The security context and the open-in-view EntityManager follow the task through Spring's async
+ *   interceptors; the request diagnostics (SQL count, slow-request trace) through DiagnosticsHandoff
+ * - Not offloaded: methods writing the response themselves (HttpServletResponse / OutputStream / Writer
+ *   parameters, void), methods reading the request body themselves (HttpServletRequest / InputStream / Reader
+ *   parameters, e.g. screening imports: a long upload must not run into the bulkhead timeout, and the stream
+ *   belongs to the servlet thread), methods that are asynchronous already (SSE, Callable, DeferredResult, ...)
+ * - Full bulkhead => RejectedExecutionException, timeout => AsyncRequestTimeoutException (both 503)
+ */
+public class BulkheadHandlerAdapter extends RequestMappingHandlerAdapter {
+
+    private static final List<Class<?>> ASYNC_RESULTS = List.of(Callable.class, WebAsyncTask.class,
+            DeferredResult.class, CompletionStage.class, ResponseBodyEmitter.class, StreamingResponseBody.class);
+
+    private final Bulkheads bulkheads;
+    private final long timeoutMillis;
+    private final Map<Method, Boolean> offloadable = new ConcurrentHashMap<>();
+
+    public BulkheadHandlerAdapter(Bulkheads bulkheads, long timeoutMillis) {
+        if (timeoutMillis <= 0) throw new IllegalArgumentException("timeoutMillis must be > 0");
+        this.bulkheads = Objects.requireNonNull(bulkheads);
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @Override
+    protected ServletInvocableHandlerMethod createInvocableHandlerMethod(HandlerMethod handlerMethod) {
+        boolean offload = offloadable.computeIfAbsent(handlerMethod.getMethod(), m -> isOffloadable(handlerMethod));
+        return offload ? new BulkheadHandlerMethod(handlerMethod) : super.createInvocableHandlerMethod(handlerMethod);
+    }
+
+    private final class BulkheadHandlerMethod extends ServletInvocableHandlerMethod {
+
+        BulkheadHandlerMethod(HandlerMethod handlerMethod) {
+            super(handlerMethod);
+        }
+
+        @Override
+        protected Object doInvoke(Object... args) throws Exception {
+            Bulkhead bulkhead = bulkheadOf(RequestContextHolder.getRequestAttributes());
+            if (bulkhead == null) return super.doInvoke(args);
+
+            DiagnosticsHandoff diagnostics = DiagnosticsHandoff.capture();
+            return new WebAsyncTask<>(timeoutMillis, bulkhead.executor(), () -> {
+                DiagnosticsHandoff.Attachment attachment = diagnostics.attach();
+                try {
+                    return super.doInvoke(args);
+                } finally {
+                    attachment.close();
+                }
+            });
+        }
+    }
+
+    private Bulkhead bulkheadOf(RequestAttributes attributes) {
+        if (!(attributes instanceof ServletRequestAttributes servlet)) return null;
+        HttpServletRequest request = servlet.getRequest();
+        return request.getDispatcherType() == DispatcherType.REQUEST ? bulkheads.route(request) : null;
+    }
+
+    private static boolean isOffloadable(HandlerMethod handler) {
+        for (MethodParameter p : handler.getMethodParameters()) {
+            Class<?> type = p.getParameterType();
+            if (ServletResponse.class.isAssignableFrom(type)
+                    || OutputStream.class.isAssignableFrom(type)
+                    || Writer.class.isAssignableFrom(type)
+                    || ServletRequest.class.isAssignableFrom(type)
+                    || InputStream.class.isAssignableFrom(type)
+                    || Reader.class.isAssignableFrom(type)) {
+                return false;
+            }
+        }
+
+        ResolvableType returned = ResolvableType.forMethodReturnType(handler.getMethod());
+        Class<?> type = returned.toClass();
+        if (type == void.class) return false;
+        if (HttpEntity.class.isAssignableFrom(type)) type = returned.as(HttpEntity.class).getGeneric().toClass();
+        for (Class<?> async : ASYNC_RESULTS) {
+            if (async.isAssignableFrom(type)) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,47 @@
+package com.cinema.infrastructure.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.Objects;
+
+/**
+ * Route groups and their bulkheads (BulkheadHandlerAdapter).
+ *
+ * Spec:
+ * - /api/auth/** => auth (login / register / refresh: BCrypt), /api/admin/** => admin,
+ *   other /api GET/HEAD => read (anonymous catalog reads included), other /api methods => write
+ * - Everything else (actuator, swagger, the SSE stream) stays on the servlet thread
+ */
+public final class Bulkheads implements AutoCloseable {
+
+    private final Bulkhead auth;
+    private final Bulkhead admin;
+    private final Bulkhead write;
+    private final Bulkhead read;
+
+    public Bulkheads(Bulkhead auth, Bulkhead admin, Bulkhead write, Bulkhead read) {
+        this.auth = Objects.requireNonNull(auth);
+        this.admin = Objects.requireNonNull(admin);
+        this.write = Objects.requireNonNull(write);
+        this.read = Objects.requireNonNull(read);
+    }
+
+    /** Bulkhead of the request's route group, or null when the request is not offloaded. */
+    public Bulkhead route(HttpServletRequest request) {
+        String path = request.getServletPath();
+        if (!path.startsWith("/api/") || path.equals("/api/events/stream")) return null;
+        if (path.startsWith("/api/auth/")) return auth;
+        if (path.startsWith("/api/admin/")) return admin;
+
+        String method = request.getMethod();
+        return "GET".equals(method) || "HEAD".equals(method) ? read : write;
+    }
+
+    @Override
+    public void close() {
+        auth.close();
+        admin.close();
+        write.close();
+        read.close();
+    }
+}
@@ -0,0 +1,278 @@
+package com.cinema.infrastructure.web;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Single-flight for identical anonymous reads (CoalescingConfig): the first request (leader) runs, identical
+ * requests arriving meanwhile (followers) wait for it and get a copy of its response bytes.
+ *
+ * Spec:
+ * - Only GETs without an Authorization header on the configured routes (by default the public timetable
+ *   /api/screenings/by-program and /api/programs/{id}); key = role class + path + sorted query parameters.
+ *   Authenticated views depend on the user's program roles, so they are never shared
+ * - Followers do not hold a servlet thread while waiting (async); they are released through an async dispatch,
+ *   so the diagnostics filters see them finish like any other request. A leader that fails or takes longer
+ *   than maxWaitMillis lets its followers run the request themselves
+ * - Shared: status, headers (security headers included) and body, whatever the status
+ * - Optional TTL (ttlMillis > 0): a 200 response is also served from memory for that long, at most maxEntries
+ *   responses of at most maxBodyBytes. Off by default: a program state change shows up at once
+ * - Metrics: cinema.coalescing.requests{outcome=leader|follower|cached}, cinema.coalescing.ratio
+ *   (share of eligible requests that did not run), cinema.coalescing.inflight
+ */
+public class RequestCoalescingFilter extends OncePerRequestFilter {
+
+    /** Anonymous requests only, for now; the key carries it so other classes can be added safely. */
+    private static final String ROLE_CLASS = "VISITOR";
+
+    private static final String LEADER_ATTRIBUTE = RequestCoalescingFilter.class.getName() + ".leader";
+    private static final String SHARED_ATTRIBUTE = RequestCoalescingFilter.class.getName() + ".shared";
+
+    private final List<String> routes;
+    private final long ttlMillis;
+    private final int maxEntries;
+    private final int maxBodyBytes;
+    private final long maxWaitMillis;
+    private final AntPathMatcher matcher = new AntPathMatcher();
+
+    private final Map<String, Flight> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Shared> recent = new ConcurrentHashMap<>();
+
+    private final Counter leaders;
+    private final Counter followers;
+    private final Counter cached;
+
+    /** Captured response of a leader. */
+    private record Shared(int status, List<Header> headers, byte[] body, long expiresAtMillis) {}
+
+    private record Header(String name, String value) {}
+
+    /** One running leader; followers attach to its future (null result => run yourself). */
+    private static final class Flight {
+        final CompletableFuture<Shared> result = new CompletableFuture<>();
+    }
+
+    private record Leading(String key, Flight flight, ContentCachingResponseWrapper buffer) {}
+
+    /** Follower released without a result: it runs the request itself. */
+    private static final Object RUN_YOURSELF = new Object();
+
+    public RequestCoalescingFilter(List<String> routes, long ttlMillis, int maxEntries, int maxBodyBytes,
+                                   long maxWaitMillis, MeterRegistry registry) {
+        if (ttlMillis < 0 || maxEntries <= 0 || maxBodyBytes <= 0 || maxWaitMillis <= 0) {
+            throw new IllegalArgumentException("ttlMillis >= 0, maxEntries, maxBodyBytes and maxWaitMillis > 0 required");
+        }
+        this.routes = List.copyOf(routes);
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+        this.maxBodyBytes = maxBodyBytes;
+        this.maxWaitMillis = maxWaitMillis;
+
+        this.leaders = Counter.builder("cinema.coalescing.requests").tag("outcome", "leader").register(registry);
+        this.followers = Counter.builder("cinema.coalescing.requests").tag("outcome", "follower").register(registry);
+        this.cached = Counter.builder("cinema.coalescing.requests").tag("outcome", "cached").register(registry);
+        Gauge.builder("cinema.coalescing.ratio", this, RequestCoalescingFilter::ratio).register(registry);
+        Gauge.builder("cinema.coalescing.inflight", inFlight, Map::size).register(registry);
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        if (isAsyncDispatch(request)) {
+            resume(request, response, chain);
+            return;
+        }
+        if (!"GET".equals(request.getMethod()) || request.getHeader(HttpHeaders.AUTHORIZATION) != null
+                || !matches(request.getServletPath())) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        String key = keyOf(request);
+        Shared hit = ttlMillis > 0 ? recent.get(key) : null;
+        if (hit != null && hit.expiresAtMillis() > System.currentTimeMillis()) {
+            cached.increment();
+            write(hit, response);
+            return;
+        }
+
+        Flight flight = new Flight();
+        Flight running = inFlight.putIfAbsent(key, flight);
+        if (running != null) {
+            followers.increment();
+            follow(request, running);
+            return;
+        }
+
+        leaders.increment();
+        Leading leading = new Leading(key, flight, new ContentCachingResponseWrapper(response));
+        lead(request, leading.buffer(), chain, leading);
+    }
+
+    // -------------------------
+    // leader
+    // -------------------------
+
+    private void lead(HttpServletRequest request, HttpServletResponse response, FilterChain chain, Leading leading)
+            throws ServletException, IOException {
+        boolean done = false;
+        try {
+            chain.doFilter(request, response);
+            done = true;
+        } finally {
+            if (!done) abandon(leading);
+            else if (isAsyncStarted(request)) request.setAttribute(LEADER_ATTRIBUTE, leading);  // bulkhead
+            else finish(leading);
+        }
+    }
+
+    private void finish(Leading leading) throws IOException {
+        ContentCachingResponseWrapper buffer = leading.buffer();
+        List<Header> headers = new ArrayList<>();
+        for (String name : buffer.getHeaderNames()) {
+            if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) continue;
+            for (String value : buffer.getHeaders(name)) headers.add(new Header(name, value));
+        }
+        if (buffer.getContentType() != null && buffer.getHeader(HttpHeaders.CONTENT_TYPE) == null) {
+            headers.add(new Header(HttpHeaders.CONTENT_TYPE, buffer.getContentType()));
+        }
+        byte[] body = buffer.getContentAsByteArray();
+        Shared shared = new Shared(buffer.getStatus(), List.copyOf(headers), body, System.currentTimeMillis() + ttlMillis);
+
+        if (ttlMillis > 0 && shared.status() == HttpServletResponse.SC_OK && body.length <= maxBodyBytes) remember(leading.key(), shared);
+        inFlight.remove(leading.key(), leading.flight());
+        leading.flight().result.complete(shared);
+
+        buffer.copyBodyToResponse();
+    }
+
+    private void abandon(Leading leading) {
+        inFlight.remove(leading.key(), leading.flight());
+        leading.flight().result.complete(null);
+    }
+
+    private void remember(String key, Shared shared) {
+        if (recent.size() >= maxEntries) {
+            long now = System.currentTimeMillis();
+            recent.values().removeIf(s -> s.expiresAtMillis() <= now);
+            if (recent.size() >= maxEntries) return;
+        }
+        recent.put(key, shared);
+    }
+
+    // -------------------------
+    // followers
+    // -------------------------
+
+    private void follow(HttpServletRequest request, Flight flight) {
+        AsyncContext async = request.startAsync();
+        async.setTimeout(maxWaitMillis);
+        AtomicBoolean released = new AtomicBoolean();
+
+        async.addListener(new AsyncListener() {
+            @Override public void onTimeout(AsyncEvent event) { release(request, async, released, RUN_YOURSELF); }
+            @Override public void onComplete(AsyncEvent event) { }
+            @Override public void onError(AsyncEvent event) { }
+            @Override public void onStartAsync(AsyncEvent event) { }
+        });
+        flight.result.whenComplete((shared, ex) ->
+                release(request, async, released, shared != null ? shared : RUN_YOURSELF));
+    }
+
+    private static void release(HttpServletRequest request, AsyncContext async, AtomicBoolean released, Object outcome) {
+        if (!released.compareAndSet(false, true)) return;
+        request.setAttribute(SHARED_ATTRIBUTE, outcome);
+        async.dispatch();
+    }
+
+    /** Async dispatch: a leader's result being written (after a bulkhead), or a released follower. */
+    private void resume(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        Object shared = request.getAttribute(SHARED_ATTRIBUTE);
+        if (shared instanceof Shared s) {
+            request.removeAttribute(SHARED_ATTRIBUTE);
+            write(s, response);
+            return;
+        }
+        if (shared == RUN_YOURSELF) request.removeAttribute(SHARED_ATTRIBUTE);
+
+        Leading leading = (Leading) request.getAttribute(LEADER_ATTRIBUTE);
+        if (leading == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        request.removeAttribute(LEADER_ATTRIBUTE);
+        lead(request, response, chain, leading);  // response: the async wrapper around leading.buffer()
+    }
+
+    // -------------------------
+    // helpers
+    // -------------------------
+
+    private static void write(Shared shared, HttpServletResponse response) throws IOException {
+        response.setStatus(shared.status());
+        for (Header h : shared.headers()) response.addHeader(h.name(), h.value());
+        response.setContentLength(shared.body().length);
+        response.getOutputStream().write(shared.body());
+    }
+
+    private boolean matches(String path) {
+        for (String route : routes) {
+            if (matcher.match(route, path)) return true;
+        }
+        return false;
+    }
+
+    /** ROLE_CLASS GET path?a=1&b=2&b=3 (parameters sorted by name, values in request order) */
+    static String keyOf(HttpServletRequest request) {
+        StringBuilder key = new StringBuilder(ROLE_CLASS).append(" GET ").append(request.getServletPath());
+        char sep = '?';
+        for (Map.Entry<String, String[]> p : new TreeMap<>(request.getParameterMap()).entrySet()) {
+            for (String value : p.getValue()) {
+                key.append(sep).append(encode(p.getKey())).append('=').append(encode(value));
+                sep = '&';
+            }
+        }
+        return key.toString();
+    }
+
+    private static String encode(String s) {
+        return URLEncoder.encode(s, StandardCharsets.UTF_8);
+    }
+
+    private double ratio() {
+        double shared = followers.count() + cached.count();
+        double total = shared + leaders.count();
+        return total == 0 ? 0 : shared / total;
+    }
+}
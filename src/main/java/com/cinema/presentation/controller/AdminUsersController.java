@@ -3,45 +3,86 @@ package com.cinema.presentation.controller;
 import com.cinema.application.users.ActivateUserUseCase;
 import com.cinema.application.users.DeactivateUserUseCase;
 import com.cinema.application.users.DeleteUserUseCase;
+import com.cinema.application.users.ListUsersUseCase;
 import com.cinema.application.users.LogoutUseCase;
+import com.cinema.domain.Exceptions.ValidationException;
 import com.cinema.domain.entity.value.UserId;
-import com.cinema.domain.port.UserRepository;
-import com.cinema.presentation.dto.responses.UserResponse;
+import com.cinema.domain.enums.BaseRole;
+import com.cinema.domain.port.UserRepository.DirectoryFilter;
+import com.cinema.presentation.dto.responses.UserCountResponse;
+import com.cinema.presentation.dto.responses.UserPageResponse;
 import com.cinema.presentation.mapper.UserMapper;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Locale;
 
 @RestController
 @RequestMapping("/api/admin/users")
 public class AdminUsersController {
 
-    private final UserRepository userRepository;
+    private final ListUsersUseCase listUsers;
     private final ActivateUserUseCase activateUser;
     private final DeactivateUserUseCase deactivateUser;
     private final DeleteUserUseCase deleteUser;
     private final LogoutUseCase logoutUseCase;
 
-    public AdminUsersController(UserRepository userRepository,
+    public AdminUsersController(ListUsersUseCase listUsers,
                                 ActivateUserUseCase activateUser,
                                 DeactivateUserUseCase deactivateUser,
                                 DeleteUserUseCase deleteUser,
                                 LogoutUseCase logoutUseCase) {
-        this.userRepository = userRepository;
+        this.listUsers = listUsers;
         this.activateUser = activateUser;
         this.deactivateUser = deactivateUser;
         this.deleteUser = deleteUser;
         this.logoutUseCase = logoutUseCase;
     }
 
+    /**
+     * Spec:
+     * - Keyset-paged directory, newest first: pass nextCursor back as ?cursor= for the next page
+     * - Filters (all optional): role, active, usernamePrefix (case-insensitive),
+     *   lastLoginFrom (inclusive) / lastLoginTo (exclusive) as ISO-8601 instants
+     */
     @GetMapping
-    public ResponseEntity<List<UserResponse>> list() {
-        var dto = userRepository.findAll().stream()
+    public ResponseEntity<UserPageResponse> list(
+            Authentication authentication,
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) Boolean active,
+            @RequestParam(required = false) String usernamePrefix,
+            @RequestParam(required = false) String lastLoginFrom,
+            @RequestParam(required = false) String lastLoginTo,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer limit
+    ) {
+        Long adminId = (Long) authentication.getPrincipal();
+        var filter = filter(role, active, usernamePrefix, lastLoginFrom, lastLoginTo);
+
+        var page = listUsers.page(new UserId(adminId), filter, cursor, limit);
+        var items = page.users().stream()
                 .map(UserMapper::toAdminResponse)
                 .toList();
-        return ResponseEntity.ok(dto);
+        return ResponseEntity.ok(new UserPageResponse(items, page.nextCursor()));
+    }
+
+    /** Same filters as list(); for totals shown next to the directory. */
+    @GetMapping("/count")
+    public ResponseEntity<UserCountResponse> count(
+            Authentication authentication,
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) Boolean active,
+            @RequestParam(required = false) String usernamePrefix,
+            @RequestParam(required = false) String lastLoginFrom,
+            @RequestParam(required = false) String lastLoginTo
+    ) {
+        Long adminId = (Long) authentication.getPrincipal();
+        var filter = filter(role, active, usernamePrefix, lastLoginFrom, lastLoginTo);
+
+        return ResponseEntity.ok(new UserCountResponse(listUsers.count(new UserId(adminId), filter)));
     }
 
     @PutMapping("/{id}/activate")
@@ -71,4 +112,32 @@ public class AdminUsersController {
         logoutUseCase.forceLogout(new UserId(adminId), new UserId(id));
         return ResponseEntity.noContent().build();
     }
+
+    private static DirectoryFilter filter(String role, Boolean active, String usernamePrefix,
+                                          String lastLoginFrom, String lastLoginTo) {
+        return new DirectoryFilter(
+                parseRole(role),
+                active,
+                usernamePrefix != null && !usernamePrefix.isBlank() ? usernamePrefix.trim() : null,
+                parseInstant("lastLoginFrom", lastLoginFrom),
+                parseInstant("lastLoginTo", lastLoginTo));
+    }
+
+    private static BaseRole parseRole(String role) {
+        if (role == null || role.isBlank()) return null;
+        try {
+            return BaseRole.valueOf(role.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new ValidationException("role", "Invalid role");
+        }
+    }
+
+    private static Instant parseInstant(String field, String value) {
+        if (value == null || value.isBlank()) return null;
+        try {
+            return Instant.parse(value.trim());
+        } catch (DateTimeParseException ex) {
+            throw new ValidationException(field, field + " must be an ISO-8601 instant");
+        }
+    }
 }
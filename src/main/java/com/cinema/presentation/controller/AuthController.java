@@ -1,15 +1,16 @@
 package com.cinema.presentation.controller;
 
+import com.cinema.application.users.AuthTokens;
 import com.cinema.application.users.AuthenticateUserUseCase;
 import com.cinema.application.users.LogoutUseCase;
+import com.cinema.application.users.RefreshTokenUseCase;
 import com.cinema.application.users.RegisterUserUseCase;
 import com.cinema.application.users.ValidateTokenUseCase;
 import com.cinema.application.users.ValidateTokenUseCase.TokenData;
 import com.cinema.domain.entity.User;
 import com.cinema.domain.entity.value.UserId;
-import com.cinema.domain.entity.value.Username;
-import com.cinema.domain.port.UserRepository;
 import com.cinema.presentation.dto.requests.LoginRequest;
+import com.cinema.presentation.dto.requests.RefreshTokenRequest;
 import com.cinema.presentation.dto.requests.RegisterRequest;
 import com.cinema.presentation.dto.responses.AuthResponse;
 import com.cinema.presentation.dto.responses.TokenInfoResponse;
@@ -27,21 +28,21 @@ public class AuthController {
     private final AuthenticateUserUseCase authenticateUser;
     private final LogoutUseCase logoutUseCase;
     private final ValidateTokenUseCase validateTokenUseCase;
-    private final UserRepository userRepository;
     private final RegisterUserUseCase registerUserUseCase;
+    private final RefreshTokenUseCase refreshTokenUseCase;
 
     public AuthController(
             AuthenticateUserUseCase authenticateUser,
             LogoutUseCase logoutUseCase,
             ValidateTokenUseCase validateTokenUseCase,
-            UserRepository userRepository,
-            RegisterUserUseCase registerUserUseCase
+            RegisterUserUseCase registerUserUseCase,
+            RefreshTokenUseCase refreshTokenUseCase
     ) {
         this.authenticateUser = authenticateUser;
         this.logoutUseCase = logoutUseCase;
         this.validateTokenUseCase = validateTokenUseCase;
-        this.userRepository = userRepository;
         this.registerUserUseCase = registerUserUseCase;
+        this.refreshTokenUseCase = refreshTokenUseCase;
     }
 
     private UserId actor(Authentication auth) {
@@ -52,6 +53,11 @@ public class AuthController {
         return new UserId(Long.parseLong(String.valueOf(p)));
     }
 
+    /** jti of the calling access token (JwtAuthenticationFilter keeps it as the credentials) */
+    private static String sessionJti(Authentication auth) {
+        return auth != null && auth.getCredentials() instanceof String jti ? jti : null;
+    }
+
     @PostMapping("/register")
     public ResponseEntity<UserResponse> register(@RequestBody RegisterRequest req) {
         User user = registerUserUseCase.register(req.username(), req.password(), req.fullName());
@@ -60,17 +66,15 @@ public class AuthController {
 
     @PostMapping("/login")
     public ResponseEntity<AuthResponse> login(@RequestBody LoginRequest request) {
-        String token = authenticateUser.authenticate(request.username(), request.password());
-
-        // NOTE: we re-fetch to include updated fields (e.g., active/currentJti/lastLoginAt),
-        // but we rely on Username validation already done in AuthenticateUserUseCase.
-        User user = userRepository.findByUserName(Username.of(request.username().trim()))
-                .orElseThrow(() -> new ResponseStatusException(
-                        HttpStatus.INTERNAL_SERVER_ERROR,
-                        "User not found after successful authentication"
-                ));
+        AuthTokens tokens = authenticateUser.authenticate(request.username(), request.password());
+        return ResponseEntity.ok(toAuthResponse(tokens));
+    }
 
-        return ResponseEntity.ok(new AuthResponse(token, toUserResponse(user)));
+    /** New access token + next refresh token for a live session; no Authorization header needed. */
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refresh(@RequestBody(required = false) RefreshTokenRequest request) {
+        AuthTokens tokens = refreshTokenUseCase.refresh(request != null ? request.refreshToken() : null);
+        return ResponseEntity.ok(toAuthResponse(tokens));
     }
 
     @PostMapping("/logout")
@@ -78,7 +82,7 @@ public class AuthController {
         UserId me = actor(authentication);
         if (me == null) throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Unauthorized");
 
-        logoutUseCase.logoutSelf(me);
+        logoutUseCase.logoutSelf(me, sessionJti(authentication));
         return ResponseEntity.noContent().build();
     }
 
@@ -101,13 +105,19 @@ public class AuthController {
         return ResponseEntity.ok(new TokenInfoResponse(data.userId(), data.role()));
     }
 
+    private AuthResponse toAuthResponse(AuthTokens tokens) {
+        return new AuthResponse(tokens.accessToken(), tokens.refreshToken(), tokens.expiresInSeconds(),
+                toUserResponse(tokens.user()));
+    }
+
     private UserResponse toUserResponse(User user) {
         return new UserResponse(
                 user.id().value(),
                 user.username().value(),
                 user.fullName(),
                 user.baseRole().name(),
-                user.isActive()
+                user.isActive(),
+                user.lastLoginAt()
         );
     }
 
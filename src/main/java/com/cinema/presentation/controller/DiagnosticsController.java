@@ -0,0 +1,73 @@
+package com.cinema.presentation.controller;
+
+import com.cinema.infrastructure.diagnostics.SlowRequestRecorder;
+import com.cinema.presentation.dto.responses.SlowRequestResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * ADMIN diagnostics (path is under /api/admin/**, secured in SecurityConfig).
+ */
+@RestController
+@RequestMapping("/api/admin/diagnostics")
+public class DiagnosticsController {
+
+    private final Optional<SlowRequestRecorder> recorder;
+
+    public DiagnosticsController(Optional<SlowRequestRecorder> recorder) {
+        this.recorder = recorder;
+    }
+
+    /**
+     * Spec: dump the slow-request ring buffer, newest first (optionally only requests >= minMillis).
+     */
+    @GetMapping("/slow-requests")
+    public ResponseEntity<List<SlowRequestResponse>> slowRequests(
+            @RequestParam(required = false) Long minMillis,
+            @RequestParam(defaultValue = "100") int limit
+    ) {
+        long minMicros = minMillis == null ? 0 : minMillis * 1_000;
+        var dto = requireRecorder().snapshot().stream()
+                .filter(t -> t.totalMicros() >= minMicros)
+                .limit(Math.max(1, limit))
+                .map(DiagnosticsController::toDto)
+                .toList();
+        return ResponseEntity.ok(dto);
+    }
+
+    @DeleteMapping("/slow-requests")
+    public ResponseEntity<Void> clear() {
+        requireRecorder().clear();
+        return ResponseEntity.noContent().build();
+    }
+
+    private SlowRequestRecorder requireRecorder() {
+        return recorder.orElseThrow(() ->
+                new ResponseStatusException(HttpStatus.NOT_FOUND, "Slow-request recorder is disabled"));
+    }
+
+    private static SlowRequestResponse toDto(SlowRequestRecorder.Trace t) {
+        return new SlowRequestResponse(
+                t.startedAt(),
+                t.method(),
+                t.uri(),
+                t.route(),
+                t.status(),
+                t.totalMicros(),
+                t.filterMicros(),
+                t.sqlCount(),
+                t.sqlMicros(),
+                t.bcryptCount(),
+                t.bcryptMicros(),
+                t.spans().stream()
+                        .map(s -> new SlowRequestResponse.Span(s.kind().name(), s.name(), s.startMicros(), s.durationMicros()))
+                        .toList(),
+                t.droppedSpans()
+        );
+    }
+}
@@ -0,0 +1,57 @@
+package com.cinema.presentation.controller;
+
+import com.cinema.domain.entity.value.ProgramId;
+import com.cinema.domain.entity.value.UserId;
+import com.cinema.infrastructure.events.EventStreamHub;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Objects;
+
+/**
+ * Server-Sent Events feed of screening/program state changes (replaces polling the list endpoints).
+ *
+ * Spec:
+ * - VISITOR allowed (receives program announcements only); logged-in users receive what they may read
+ * - programId (optional) limits the stream to one program
+ * - Events: "program.state", "screening.state", "resync" (events were dropped => refetch), comments as heartbeat
+ * - 503 when the server is at its connection limit
+ */
+@RestController
+@RequestMapping("/api/events")
+public class EventStreamController {
+
+    private final EventStreamHub hub;
+
+    public EventStreamController(EventStreamHub hub) {
+        this.hub = Objects.requireNonNull(hub);
+    }
+
+    private UserId actorOrNull(Authentication auth) {
+        if (auth == null || auth.getPrincipal() == null) return null; // VISITOR
+        Object p = auth.getPrincipal();
+        if (p instanceof Long l) return new UserId(l);
+        try {
+            return new UserId(Long.parseLong(String.valueOf(p)));
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> stream(
+            Authentication auth,
+            @RequestParam(required = false) Long programId
+    ) {
+        SseEmitter emitter = hub.subscribe(actorOrNull(auth), programId != null ? new ProgramId(programId) : null);
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header("Retry-After", "5").build();
+        }
+        // tell nginx-style proxies not to buffer the stream
+        return ResponseEntity.ok().header("X-Accel-Buffering", "no").body(emitter);
+    }
+}
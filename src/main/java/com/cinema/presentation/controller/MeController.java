@@ -91,7 +91,7 @@ public class MeController {
         UserId me = currentUserId(authentication);
 
         deactivateUser.deactivate(me, me);
-        logout.logoutSelf(me);
+        logout.logoutSelf(me, null);
 
         return ResponseEntity.noContent().build();
     }
@@ -107,10 +107,15 @@ public class MeController {
     @PostMapping("/logout")
     public ResponseEntity<Void> logout(Authentication authentication) {
         UserId me = currentUserId(authentication);
-        logout.logoutSelf(me);
+        logout.logoutSelf(me, sessionJti(authentication));
         return ResponseEntity.noContent().build();
     }
 
+    // jti του τρέχοντος access token (credentials από το JwtAuthenticationFilter)
+    private static String sessionJti(Authentication authentication) {
+        return authentication != null && authentication.getCredentials() instanceof String jti ? jti : null;
+    }
+
     // ✅ renamed helper (ΔΕΝ συγκρούεται πια)
     private UserId currentUserId(Authentication authentication) {
         if (authentication == null || authentication.getPrincipal() == null) {
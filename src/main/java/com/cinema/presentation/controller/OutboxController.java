@@ -0,0 +1,94 @@
+package com.cinema.presentation.controller;
+
+import com.cinema.domain.Exceptions.ValidationException;
+import com.cinema.domain.event.ProgramStateChanged;
+import com.cinema.domain.event.ScreeningStateChanged;
+import com.cinema.infrastructure.events.OutboxEvent;
+import com.cinema.infrastructure.events.OutboxRelay;
+import com.cinema.infrastructure.events.OutboxStore;
+import com.cinema.presentation.dto.responses.OutboxEventResponse;
+import com.cinema.presentation.dto.responses.OutboxReplayResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * ADMIN access to the domain event outbox (path is under /api/admin/**, secured in SecurityConfig).
+ * Offsets are outbox row ids; "after" is exclusive, so the last offset of a page is the next cursor.
+ */
+@RestController
+@RequestMapping("/api/admin/events")
+public class OutboxController {
+
+    private static final int MAX_LIMIT = 1000;
+
+    private final OutboxStore store;
+    private final OutboxRelay relay;
+
+    public OutboxController(OutboxStore store, OutboxRelay relay) {
+        this.store = Objects.requireNonNull(store);
+        this.relay = Objects.requireNonNull(relay);
+    }
+
+    /**
+     * Spec: stored events with offset > after, oldest first (delivered and pending alike).
+     */
+    @GetMapping
+    public ResponseEntity<List<OutboxEventResponse>> read(
+            @RequestParam(defaultValue = "0") long after,
+            @RequestParam(defaultValue = "100") int limit
+    ) {
+        var dto = store.read(Math.max(after, 0), clamp(limit)).stream()
+                .map(OutboxController::toDto)
+                .toList();
+        return ResponseEntity.ok(dto);
+    }
+
+    /**
+     * Spec: re-delivers up to limit events with offset > after to one subscriber (e.g. "sse").
+     * Delivery state is not changed; call again with lastOffset to continue.
+     */
+    @PostMapping("/replay")
+    public ResponseEntity<OutboxReplayResponse> replay(
+            @RequestParam String subscriber,
+            @RequestParam(defaultValue = "0") long after,
+            @RequestParam(defaultValue = "100") int limit
+    ) {
+        if (!relay.subscriberNames().contains(subscriber)) {
+            throw new ValidationException("subscriber", "subscriber must be one of " + relay.subscriberNames());
+        }
+        long last = relay.replay(subscriber, Math.max(after, 0), clamp(limit));
+        return ResponseEntity.ok(new OutboxReplayResponse(subscriber, after, last));
+    }
+
+    private static int clamp(int limit) {
+        return limit <= 0 ? 100 : Math.min(limit, MAX_LIMIT);
+    }
+
+    private static OutboxEventResponse toDto(OutboxEvent e) {
+        String from;
+        String to;
+        if (e.event() instanceof ScreeningStateChanged s) {
+            from = s.from().name();
+            to = s.to().name();
+        } else {
+            ProgramStateChanged p = (ProgramStateChanged) e.event();
+            from = p.from().name();
+            to = p.to().name();
+        }
+        return new OutboxEventResponse(
+                e.offset(),
+                e.event().getClass().getSimpleName(),
+                e.aggregateType(),
+                e.aggregateId(),
+                e.event().programId().value(),
+                from,
+                to,
+                e.event().occurredAt(),
+                e.attempts(),
+                e.publishedAt()
+        );
+    }
+}
@@ -5,15 +5,22 @@ import com.cinema.domain.Exceptions.DuplicateException;
 import com.cinema.domain.Exceptions.NotFoundException;
 import com.cinema.domain.Exceptions.StateTransitionForbidden;
 import com.cinema.domain.Exceptions.ValidationException;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.async.AsyncRequestNotUsableException;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
+import org.springframework.web.util.DisconnectedClientHelper;
 
 import java.time.Instant;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestControllerAdvice
 public class RestExceptionHandler {
@@ -94,17 +101,45 @@ public class RestExceptionHandler {
                 .body(ApiError.of("VALIDATION_ERROR", "Request validation failed", details));
     }
 
+    // -----------------------
+    // Overload: full bulkhead / handler too slow (BulkheadHandlerAdapter)
+    // -----------------------
+    @ExceptionHandler({RejectedExecutionException.class, AsyncRequestTimeoutException.class})
+    public ResponseEntity<ApiError> handleOverloaded(Exception ex, HttpServletResponse response) {
+        if (unwritable(response)) return null;
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ApiError.of("OVERLOADED", "Server busy, retry later", null));
+    }
+
+    // -----------------------
+    // Client went away (closed event stream, aborted download): there is nobody to answer
+    // -----------------------
+    @ExceptionHandler(AsyncRequestNotUsableException.class)
+    public void handleClientGone(AsyncRequestNotUsableException ex, HttpServletResponse response) {
+        // the response argument marks the request as handled: nothing is rendered or written
+    }
+
     // -----------------------
     // Fallback: never leak internals
     // -----------------------
     @ExceptionHandler(Exception.class)
-    public ResponseEntity<ApiError> handleUnexpected(Exception ex) {
+    public ResponseEntity<ApiError> handleUnexpected(Exception ex, HttpServletResponse response) {
+        if (DisconnectedClientHelper.isClientDisconnectedException(ex) || unwritable(response)) return null;
         // You can log ex here if you want (logger.error)
         return ResponseEntity
                 .status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(ApiError.of("INTERNAL_ERROR", "An unexpected error occurred", null));
     }
 
+    // a JSON error cannot follow what was already sent, nor go into an event stream
+    private static boolean unwritable(HttpServletResponse response) {
+        String contentType = response.getContentType();
+        return response.isCommitted()
+                || (contentType != null && contentType.startsWith(MediaType.TEXT_EVENT_STREAM_VALUE));
+    }
+
     public record ApiError(String code, String message, Object details, Instant timestamp) {
         public static ApiError of(String code, String message, Object details) {
             return new ApiError(code, message, details, Instant.now());
@@ -2,6 +2,7 @@ package com.cinema.presentation.controller;
 
 import com.cinema.application.screenings.*;
 import com.cinema.domain.Exceptions.AuthorizationException;
+import com.cinema.domain.Exceptions.ValidationException;
 import com.cinema.domain.entity.Program;
 import com.cinema.domain.entity.Screening;
 import com.cinema.domain.entity.value.ProgramId;
@@ -9,19 +10,31 @@ import com.cinema.domain.entity.value.ScreeningId;
 import com.cinema.domain.entity.value.UserId;
 import com.cinema.domain.enums.ScreeningState;
 import com.cinema.domain.port.ProgramRepository;
+import com.cinema.presentation.dto.requests.BulkAssignHandlersRequest;
+import com.cinema.presentation.dto.requests.BulkReviewRequest;
+import com.cinema.presentation.dto.requests.BulkScheduleRequest;
 import com.cinema.presentation.dto.requests.CreateScreeningRequest;
 import com.cinema.presentation.dto.requests.UpdateScreeningRequest;
+import com.cinema.presentation.dto.responses.BulkItemResponse;
+import com.cinema.presentation.dto.responses.BulkOperationResponse;
+import com.cinema.presentation.dto.responses.FreeSlotResponse;
 import com.cinema.presentation.dto.responses.ScreeningPublicResponse;
 import com.cinema.presentation.dto.responses.ScreeningResponse;
 import com.cinema.presentation.dto.responses.ScreeningViewResponse;
+import com.cinema.presentation.mapper.ScreeningExportWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.io.IOException;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
 
@@ -34,13 +47,21 @@ public class ScreeningController {
     private final SubmitScreeningUseCase submit;
     private final WithdrawScreeningUseCase withdraw;
     private final AssignHandlerUseCase assignHandler;
+    private final BulkAssignHandlersUseCase bulkAssignHandlers;
     private final ReviewScreeningUseCase review;
+    private final BulkReviewScreeningsUseCase bulkReview;
     private final ApproveScreeningUseCase approve;
     private final FinalSubmitScreeningUseCase finalSubmit;
     private final RejectScreeningUseCase reject;
     private final ScheduleScreeningUseCase schedule;
+    private final BulkScheduleScreeningsUseCase bulkSchedule;
+    private final ScheduleScreeningSlotUseCase scheduleSlot;
+    private final UnscheduleScreeningUseCase unschedule;
+    private final FindFreeSlotUseCase freeSlots;
     private final ViewScreeningUseCase view;
     private final SearchScreeningsUseCase search;
+    private final ExportScreeningsUseCase export;
+    private final ObjectMapper objectMapper;
 
     // for /by-program role-aware mapping without N+1
     private final ProgramRepository programRepository;
@@ -51,13 +72,21 @@ public class ScreeningController {
             SubmitScreeningUseCase submit,
             WithdrawScreeningUseCase withdraw,
             AssignHandlerUseCase assignHandler,
+            BulkAssignHandlersUseCase bulkAssignHandlers,
             ReviewScreeningUseCase review,
+            BulkReviewScreeningsUseCase bulkReview,
             ApproveScreeningUseCase approve,
             FinalSubmitScreeningUseCase finalSubmit,
             RejectScreeningUseCase reject,
             ScheduleScreeningUseCase schedule,
+            BulkScheduleScreeningsUseCase bulkSchedule,
+            ScheduleScreeningSlotUseCase scheduleSlot,
+            UnscheduleScreeningUseCase unschedule,
+            FindFreeSlotUseCase freeSlots,
             ViewScreeningUseCase view,
             SearchScreeningsUseCase search,
+            ExportScreeningsUseCase export,
+            ObjectMapper objectMapper,
             ProgramRepository programRepository
     ) {
         this.create = Objects.requireNonNull(create);
@@ -65,13 +94,21 @@ public class ScreeningController {
         this.submit = Objects.requireNonNull(submit);
         this.withdraw = Objects.requireNonNull(withdraw);
         this.assignHandler = Objects.requireNonNull(assignHandler);
+        this.bulkAssignHandlers = Objects.requireNonNull(bulkAssignHandlers);
         this.review = Objects.requireNonNull(review);
+        this.bulkReview = Objects.requireNonNull(bulkReview);
         this.approve = Objects.requireNonNull(approve);
         this.finalSubmit = Objects.requireNonNull(finalSubmit);
         this.reject = Objects.requireNonNull(reject);
         this.schedule = Objects.requireNonNull(schedule);
+        this.bulkSchedule = Objects.requireNonNull(bulkSchedule);
+        this.scheduleSlot = Objects.requireNonNull(scheduleSlot);
+        this.unschedule = Objects.requireNonNull(unschedule);
+        this.freeSlots = Objects.requireNonNull(freeSlots);
         this.view = Objects.requireNonNull(view);
         this.search = Objects.requireNonNull(search);
+        this.export = Objects.requireNonNull(export);
+        this.objectMapper = Objects.requireNonNull(objectMapper);
         this.programRepository = Objects.requireNonNull(programRepository);
     }
 
@@ -121,7 +158,9 @@ public class ScreeningController {
                 s.title(),
                 s.genre(),
                 s.scheduledTime(),
-                s.room()
+                s.room(),
+                s.startTime(),
+                s.endTime()
         );
     }
 
@@ -138,7 +177,10 @@ public class ScreeningController {
                 s.state().name(),
                 s.staffMemberId() != null ? s.staffMemberId().value() : null,
                 s.submittedTime(),
-                s.reviewedTime()
+                s.reviewedTime(),
+                s.startTime(),
+                s.endTime(),
+                s.durationMinutes()
         );
     }
 
@@ -146,6 +188,22 @@ public class ScreeningController {
         return full ? toFullDto(s) : toPublicDto(s);
     }
 
+    private BulkOperationResponse toBulkDto(List<BulkItemResult> results) {
+        var items = results.stream()
+                .map(r -> new BulkItemResponse(
+                        r.screeningId() != null ? r.screeningId().value() : null,
+                        r.succeeded(),
+                        r.succeeded() ? r.screening().state().name() : null,
+                        r.succeeded() && r.screening().staffMemberId() != null
+                                ? r.screening().staffMemberId().value() : null,
+                        r.field(),
+                        r.message()
+                ))
+                .toList();
+        int ok = (int) items.stream().filter(BulkItemResponse::success).count();
+        return new BulkOperationResponse(items.size(), ok, items.size() - ok, items);
+    }
+
     // =========================
     // Commands
     // =========================
@@ -221,6 +279,34 @@ public class ScreeningController {
         return ResponseEntity.ok().build();
     }
 
+    /**
+     * Bulk handler assignment for one program (ASSIGNMENT phase).
+     * balance=true: items without staffId are spread over the program's STAFF by current load.
+     */
+    @PutMapping("/handlers")
+    public ResponseEntity<BulkOperationResponse> assignHandlers(
+            Authentication auth,
+            @RequestParam Long programId,
+            @RequestParam(defaultValue = "false") boolean balance,
+            @RequestBody BulkAssignHandlersRequest request
+    ) {
+        var items = request.items() == null ? List.<BulkAssignHandlersUseCase.Assignment>of()
+                : request.items().stream()
+                .map(i -> new BulkAssignHandlersUseCase.Assignment(
+                        i.screeningId() != null ? new ScreeningId(i.screeningId()) : null,
+                        i.staffId() != null ? new UserId(i.staffId()) : null
+                ))
+                .toList();
+
+        var results = bulkAssignHandlers.assignHandlers(
+                requireActor(auth),
+                new ProgramId(programId),
+                items,
+                balance
+        );
+        return ResponseEntity.ok(toBulkDto(results));
+    }
+
     @PutMapping("/{id}/review")
     public ResponseEntity<Void> review(
             Authentication auth,
@@ -232,6 +318,28 @@ public class ScreeningController {
         return ResponseEntity.ok().build();
     }
 
+    /**
+     * Bulk review by the assigned STAFF member (REVIEW phase).
+     */
+    @PutMapping("/reviews")
+    public ResponseEntity<BulkOperationResponse> reviewAll(
+            Authentication auth,
+            @RequestParam Long programId,
+            @RequestBody BulkReviewRequest request
+    ) {
+        var items = request.items() == null ? List.<BulkReviewScreeningsUseCase.ReviewItem>of()
+                : request.items().stream()
+                .map(i -> new BulkReviewScreeningsUseCase.ReviewItem(
+                        i.screeningId() != null ? new ScreeningId(i.screeningId()) : null,
+                        i.score(),
+                        i.comments()
+                ))
+                .toList();
+
+        var results = bulkReview.review(requireActor(auth), new ProgramId(programId), items);
+        return ResponseEntity.ok(toBulkDto(results));
+    }
+
     @PutMapping("/{id}/approve")
     public ResponseEntity<Void> approve(Authentication auth, @PathVariable Long id) {
         approve.approve(requireActor(auth), new ScreeningId(id));
@@ -265,6 +373,49 @@ public class ScreeningController {
         return ResponseEntity.ok().build();
     }
 
+    /**
+     * Time-slot scheduling: room must be free for [start, start + duration).
+     */
+    @PutMapping("/{id}/slot")
+    public ResponseEntity<ScreeningResponse> scheduleSlot(
+            Authentication auth,
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime start,
+            @RequestParam(required = false) Integer durationMinutes,
+            @RequestParam String room
+    ) {
+        Screening s = scheduleSlot.scheduleSlot(requireActor(auth), new ScreeningId(id), start, durationMinutes, room);
+        return ResponseEntity.ok(toFullDto(s));
+    }
+
+    @DeleteMapping("/{id}/slot")
+    public ResponseEntity<Void> unschedule(Authentication auth, @PathVariable Long id) {
+        unschedule.unschedule(requireActor(auth), new ScreeningId(id));
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Bulk scheduling by a PROGRAMMER (DECISION phase).
+     */
+    @PutMapping("/schedule")
+    public ResponseEntity<BulkOperationResponse> scheduleAll(
+            Authentication auth,
+            @RequestParam Long programId,
+            @RequestBody BulkScheduleRequest request
+    ) {
+        var items = request.items() == null ? List.<BulkScheduleScreeningsUseCase.ScheduleItem>of()
+                : request.items().stream()
+                .map(i -> new BulkScheduleScreeningsUseCase.ScheduleItem(
+                        i.screeningId() != null ? new ScreeningId(i.screeningId()) : null,
+                        i.date(),
+                        i.room()
+                ))
+                .toList();
+
+        var results = bulkSchedule.schedule(requireActor(auth), new ProgramId(programId), items);
+        return ResponseEntity.ok(toBulkDto(results));
+    }
+
     // =========================
     // Queries
     // =========================
@@ -276,6 +427,22 @@ public class ScreeningController {
         return ResponseEntity.ok(toRoleAwareDto(result.screening(), result.full()));
     }
 
+    /**
+     * Earliest free slot of N minutes in a room (204 when nothing fits before "until").
+     */
+    @GetMapping("/rooms/next-free")
+    public ResponseEntity<FreeSlotResponse> nextFreeSlot(
+            Authentication auth,
+            @RequestParam String room,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam int minutes,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime until
+    ) {
+        return freeSlots.nextFreeSlot(requireActor(auth), room, from, minutes, until)
+                .map(start -> ResponseEntity.ok(new FreeSlotResponse(room.trim(), start, start.plusMinutes(minutes))))
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
     @GetMapping("/by-program")
     public ResponseEntity<List<ScreeningViewResponse>> byProgram(
             Authentication auth,
@@ -318,6 +485,35 @@ public class ScreeningController {
         return ResponseEntity.ok(dtoList);
     }
 
+    /**
+     * Full program export, streamed (no MAX_LIMIT, no paging).
+     * format=ndjson (default) | csv; rows ordered by id; role-aware DTO per row like /by-program.
+     * Access is resolved before the first byte, so errors still come back as normal JSON errors.
+     */
+    @GetMapping("/export")
+    public void exportProgram(
+            Authentication auth,
+            @RequestParam Long programId,
+            @RequestParam(required = false) String state,
+            @RequestParam(required = false) String format,
+            HttpServletResponse response
+    ) throws IOException {
+        var fmt = ScreeningExportWriter.Format.parse(format);
+        if (fmt == null) throw new ValidationException("format", "format must be ndjson or csv");
+
+        var prepared = export.prepare(actorOrNull(auth), new ProgramId(programId), parseStateOrNull(state));
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(fmt.contentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"program-" + programId + "-screenings." + fmt.extension() + "\"");
+
+        try (var writer = ScreeningExportWriter.open(fmt, response.getOutputStream(), objectMapper)) {
+            export.stream(prepared, row -> writer.write(toRoleAwareDto(row.screening(), row.full())));
+        }
+    }
+
     @GetMapping("/by-submitter")
     public ResponseEntity<List<ScreeningResponse>> bySubmitter(
             Authentication auth,
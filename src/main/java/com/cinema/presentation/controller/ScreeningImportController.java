@@ -0,0 +1,135 @@
+package com.cinema.presentation.controller;
+
+import com.cinema.application.screenings.ImportScreeningsUseCase;
+import com.cinema.domain.Exceptions.ValidationException;
+import com.cinema.domain.entity.ImportJob;
+import com.cinema.domain.entity.value.ProgramId;
+import com.cinema.domain.entity.value.UserId;
+import com.cinema.presentation.dto.responses.ImportJobResponse;
+import com.cinema.presentation.dto.responses.ImportRowErrorResponse;
+import com.cinema.presentation.mapper.ScreeningImportReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Bulk screening import (SUBMITTER side).
+ * The request body is the raw upload (text/csv or application/x-ndjson), parsed while it arrives.
+ */
+@RestController
+@RequestMapping("/api/screenings/imports")
+public class ScreeningImportController {
+
+    private final ImportScreeningsUseCase imports;
+    private final ObjectMapper objectMapper;
+
+    public ScreeningImportController(ImportScreeningsUseCase imports, ObjectMapper objectMapper) {
+        this.imports = Objects.requireNonNull(imports);
+        this.objectMapper = Objects.requireNonNull(objectMapper);
+    }
+
+    private UserId requireActor(Authentication auth) {
+        if (auth == null || auth.getPrincipal() == null) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Unauthorized");
+        }
+        Object p = auth.getPrincipal();
+        if (p instanceof Long l) return new UserId(l);
+        try {
+            return new UserId(Long.parseLong(String.valueOf(p)));
+        } catch (NumberFormatException ex) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Unauthorized");
+        }
+    }
+
+    private ScreeningImportReader.Format requireFormat(String format, HttpServletRequest request) {
+        var fmt = ScreeningImportReader.Format.resolve(format, request.getContentType());
+        if (fmt == null) {
+            throw new ValidationException("format", "format must be csv or ndjson (or send text/csv / application/x-ndjson)");
+        }
+        return fmt;
+    }
+
+    /**
+     * Spec: starts a job and imports the uploaded rows in this request.
+     * 201 with the final job state (COMPLETED, or INTERRUPTED with the resume point when the stream broke off).
+     */
+    @PostMapping
+    public ResponseEntity<ImportJobResponse> start(
+            Authentication auth,
+            @RequestParam Long programId,
+            @RequestParam(required = false) String format,
+            @RequestParam(defaultValue = "false") boolean autoSubmit,
+            HttpServletRequest request
+    ) throws IOException {
+        UserId actor = requireActor(auth);
+        var fmt = requireFormat(format, request);
+
+        // header problems (CSV) fail before a job row exists
+        var rows = ScreeningImportReader.open(fmt, request.getInputStream(), objectMapper);
+        ImportJob job = imports.start(actor, new ProgramId(programId), fmt.name(), autoSubmit);
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(toDto(imports.run(job, rows)));
+    }
+
+    /**
+     * Spec: re-upload the same file for an INTERRUPTED job; rows up to rowsRead are skipped.
+     */
+    @PostMapping("/{jobId}/resume")
+    public ResponseEntity<ImportJobResponse> resume(
+            Authentication auth,
+            @PathVariable Long jobId,
+            HttpServletRequest request
+    ) throws IOException {
+        UserId actor = requireActor(auth);
+        ImportJob job = imports.job(actor, jobId);
+        var fmt = ScreeningImportReader.Format.valueOf(job.format());
+
+        var rows = ScreeningImportReader.open(fmt, request.getInputStream(), objectMapper);
+        ImportJob resumed = imports.resume(actor, jobId);
+
+        return ResponseEntity.ok(toDto(imports.run(resumed, rows)));
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ImportJobResponse> job(Authentication auth, @PathVariable Long jobId) {
+        return ResponseEntity.ok(toDto(imports.job(requireActor(auth), jobId)));
+    }
+
+    @GetMapping("/{jobId}/errors")
+    public ResponseEntity<List<ImportRowErrorResponse>> errors(
+            Authentication auth,
+            @PathVariable Long jobId,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "100") int limit
+    ) {
+        var dto = imports.errors(requireActor(auth), jobId, offset, limit).stream()
+                .map(e -> new ImportRowErrorResponse(e.rowNumber(), e.field(), e.message()))
+                .toList();
+        return ResponseEntity.ok(dto);
+    }
+
+    private static ImportJobResponse toDto(ImportJob job) {
+        return new ImportJobResponse(
+                job.id(),
+                job.programId().value(),
+                job.format(),
+                job.autoSubmit(),
+                job.state().name(),
+                job.rowsRead(),
+                job.rowsImported(),
+                job.rowsSubmitted(),
+                job.rowsFailed(),
+                job.message(),
+                job.createdTime(),
+                job.updatedTime()
+        );
+    }
+}
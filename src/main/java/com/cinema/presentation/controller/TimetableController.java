@@ -0,0 +1,102 @@
+package com.cinema.presentation.controller;
+
+import com.cinema.application.screenings.CommitTimetableUseCase;
+import com.cinema.application.screenings.PreviewTimetableUseCase;
+import com.cinema.domain.entity.value.ProgramId;
+import com.cinema.domain.entity.value.ScreeningId;
+import com.cinema.domain.entity.value.UserId;
+import com.cinema.presentation.dto.requests.TimetablePreviewRequest;
+import com.cinema.presentation.dto.responses.ScreeningResponse;
+import com.cinema.presentation.dto.responses.TimetablePreviewResponse;
+import com.cinema.presentation.dto.responses.TimetableSlotResponse;
+import com.cinema.presentation.mapper.ScreeningMapper;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Objects;
+
+@RestController
+@RequestMapping("/api/programs/{programId}/timetable")
+public class TimetableController {
+
+    private static final LocalTime DEFAULT_DAY_START = LocalTime.of(10, 0);
+    private static final LocalTime DEFAULT_DAY_END = LocalTime.MIDNIGHT;
+    private static final int DEFAULT_TURNOVER_MINUTES = 15;
+    private static final int DEFAULT_DURATION_MINUTES = 120;
+    private static final long DEFAULT_BUDGET_MILLIS = 1500;
+
+    private final PreviewTimetableUseCase preview;
+    private final CommitTimetableUseCase commit;
+
+    public TimetableController(PreviewTimetableUseCase preview, CommitTimetableUseCase commit) {
+        this.preview = Objects.requireNonNull(preview);
+        this.commit = Objects.requireNonNull(commit);
+    }
+
+    private UserId requireActor(Authentication auth) {
+        if (auth == null || auth.getPrincipal() == null) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Unauthorized");
+        }
+        Object p = auth.getPrincipal();
+        if (p instanceof Long l) return new UserId(l);
+        if (p instanceof Integer i) return new UserId(i.longValue());
+        try {
+            return new UserId(Long.parseLong(String.valueOf(p)));
+        } catch (NumberFormatException ex) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Unauthorized");
+        }
+    }
+
+    /**
+     * Solves a timetable for all FINAL_SUBMITTED screenings; nothing is written.
+     */
+    @PostMapping("/preview")
+    public ResponseEntity<TimetablePreviewResponse> preview(
+            Authentication auth,
+            @PathVariable Long programId,
+            @RequestBody TimetablePreviewRequest request
+    ) {
+        var options = new PreviewTimetableUseCase.Options(
+                request.rooms(),
+                request.dayStart() != null ? request.dayStart() : DEFAULT_DAY_START,
+                request.dayEnd() != null ? request.dayEnd() : DEFAULT_DAY_END,
+                request.turnoverMinutes() != null ? request.turnoverMinutes() : DEFAULT_TURNOVER_MINUTES,
+                request.defaultDurationMinutes() != null ? request.defaultDurationMinutes() : DEFAULT_DURATION_MINUTES,
+                request.budgetMillis() != null ? request.budgetMillis() : DEFAULT_BUDGET_MILLIS
+        );
+
+        var p = preview.preview(requireActor(auth), new ProgramId(programId), options);
+
+        var slots = p.placements().stream()
+                .map(s -> new TimetableSlotResponse(s.screeningId().value(), s.room(), s.start(), s.end()))
+                .toList();
+
+        return ResponseEntity.ok(new TimetablePreviewResponse(
+                p.id(),
+                p.programId().value(),
+                slots.size(),
+                p.unplaced().stream().map(ScreeningId::value).toList(),
+                p.penalty(),
+                p.restarts(),
+                slots
+        ));
+    }
+
+    /**
+     * Schedules every screening of the preview in one transaction (all or nothing).
+     */
+    @PostMapping("/{previewId}/commit")
+    public ResponseEntity<List<ScreeningResponse>> commit(
+            Authentication auth,
+            @PathVariable Long programId,
+            @PathVariable String previewId
+    ) {
+        var scheduled = commit.commit(requireActor(auth), new ProgramId(programId), previewId);
+        return ResponseEntity.ok(scheduled.stream().map(ScreeningMapper::toResponse).toList());
+    }
+}
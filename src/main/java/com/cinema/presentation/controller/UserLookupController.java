@@ -0,0 +1,40 @@
+package com.cinema.presentation.controller;
+
+import com.cinema.application.users.LookupUsersUseCase;
+import com.cinema.domain.entity.value.UserId;
+import com.cinema.presentation.dto.responses.UserLookupResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/users")
+public class UserLookupController {
+
+    private final LookupUsersUseCase lookupUsers;
+
+    public UserLookupController(LookupUsersUseCase lookupUsers) {
+        this.lookupUsers = lookupUsers;
+    }
+
+    /** Type-ahead for staff/programmer assignment: GET /api/users/lookup?q=mar&limit=10 */
+    @GetMapping("/lookup")
+    public ResponseEntity<List<UserLookupResponse>> lookup(
+            Authentication authentication,
+            @RequestParam(name = "q", required = false) String query,
+            @RequestParam(required = false) Integer limit
+    ) {
+        UserId actorId = authentication != null && authentication.getPrincipal() instanceof Long id
+                ? new UserId(id) : null;
+
+        var dto = lookupUsers.lookup(actorId, query, limit).stream()
+                .map(m -> new UserLookupResponse(m.id().value(), m.username(), m.fullName()))
+                .toList();
+        return ResponseEntity.ok(dto);
+    }
+}
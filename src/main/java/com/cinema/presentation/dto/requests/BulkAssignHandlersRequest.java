@@ -0,0 +1,9 @@
+package com.cinema.presentation.dto.requests;
+
+import java.util.List;
+
+public record BulkAssignHandlersRequest(List<Item> items) {
+
+    // staffId may be null when balance=true
+    public record Item(Long screeningId, Long staffId) {}
+}
@@ -0,0 +1,8 @@
+package com.cinema.presentation.dto.requests;
+
+import java.util.List;
+
+public record BulkReviewRequest(List<Item> items) {
+
+    public record Item(Long screeningId, Integer score, String comments) {}
+}
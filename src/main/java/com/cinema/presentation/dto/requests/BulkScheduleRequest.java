@@ -0,0 +1,9 @@
+package com.cinema.presentation.dto.requests;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record BulkScheduleRequest(List<Item> items) {
+
+    public record Item(Long screeningId, LocalDate date, String room) {}
+}
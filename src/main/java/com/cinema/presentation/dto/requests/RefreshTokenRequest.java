@@ -0,0 +1,3 @@
+package com.cinema.presentation.dto.requests;
+
+public record RefreshTokenRequest(String refreshToken) {}
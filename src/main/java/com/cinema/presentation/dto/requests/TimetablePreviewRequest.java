@@ -0,0 +1,14 @@
+package com.cinema.presentation.dto.requests;
+
+import java.time.LocalTime;
+import java.util.List;
+
+// all but rooms optional (see TimetableController defaults)
+public record TimetablePreviewRequest(
+        List<String> rooms,
+        LocalTime dayStart,
+        LocalTime dayEnd,
+        Integer turnoverMinutes,
+        Integer defaultDurationMinutes,
+        Long budgetMillis
+) {}
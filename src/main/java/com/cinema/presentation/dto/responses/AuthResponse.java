@@ -1,4 +1,8 @@
 package com.cinema.presentation.dto.responses;
 
-public record AuthResponse(String token, UserResponse user) {
+/**
+ * token: access token (JWT, Authorization: Bearer), valid for expiresIn seconds.
+ * refreshToken: single-use; exchange it at POST /api/auth/refresh for the next pair.
+ */
+public record AuthResponse(String token, String refreshToken, long expiresIn, UserResponse user) {
 }
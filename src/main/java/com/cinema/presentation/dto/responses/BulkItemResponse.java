@@ -0,0 +1,10 @@
+package com.cinema.presentation.dto.responses;
+
+public record BulkItemResponse(
+        Long screeningId,
+        boolean success,
+        String state,
+        Long staffMemberId,
+        String field,
+        String message
+) {}
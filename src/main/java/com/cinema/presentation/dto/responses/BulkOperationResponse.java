@@ -0,0 +1,10 @@
+package com.cinema.presentation.dto.responses;
+
+import java.util.List;
+
+public record BulkOperationResponse(
+        int requested,
+        int succeeded,
+        int failed,
+        List<BulkItemResponse> items
+) {}
@@ -0,0 +1,5 @@
+package com.cinema.presentation.dto.responses;
+
+import java.time.LocalDateTime;
+
+public record FreeSlotResponse(String room, LocalDateTime start, LocalDateTime end) {}
@@ -0,0 +1,18 @@
+package com.cinema.presentation.dto.responses;
+
+import java.time.LocalDateTime;
+
+public record ImportJobResponse(
+        Long id,
+        Long programId,
+        String format,
+        boolean autoSubmit,
+        String state,
+        long rowsRead,
+        long rowsImported,
+        long rowsSubmitted,
+        long rowsFailed,
+        String message,
+        LocalDateTime createdTime,
+        LocalDateTime updatedTime
+) {}
@@ -0,0 +1,7 @@
+package com.cinema.presentation.dto.responses;
+
+public record ImportRowErrorResponse(
+        long row,
+        String field,
+        String message
+) {}
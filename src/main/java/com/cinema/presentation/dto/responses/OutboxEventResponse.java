@@ -0,0 +1,16 @@
+package com.cinema.presentation.dto.responses;
+
+import java.time.Instant;
+
+public record OutboxEventResponse(
+        long offset,
+        String type,
+        String aggregateType,
+        long aggregateId,
+        Long programId,
+        String from,
+        String to,
+        Instant occurredAt,
+        int attempts,
+        Instant publishedAt
+) {}
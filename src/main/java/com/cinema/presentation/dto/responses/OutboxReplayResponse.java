@@ -0,0 +1,7 @@
+package com.cinema.presentation.dto.responses;
+
+public record OutboxReplayResponse(
+        String subscriber,
+        long after,
+        long lastOffset
+) {}
@@ -1,6 +1,7 @@
 package com.cinema.presentation.dto.responses;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 public record ScreeningPublicResponse(
         Long id,
@@ -8,5 +9,7 @@ public record ScreeningPublicResponse(
         String title,
         String genre,
         LocalDate scheduledTime,
-        String room
+        String room,
+        LocalDateTime startTime,
+        LocalDateTime endTime
 ) implements ScreeningViewResponse {}
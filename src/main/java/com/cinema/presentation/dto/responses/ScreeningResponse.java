@@ -1,6 +1,7 @@
 package com.cinema.presentation.dto.responses;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 public record ScreeningResponse(
         Long id,
@@ -14,5 +15,8 @@ public record ScreeningResponse(
         String state,
         Long staffMemberId,
         LocalDate submittedTime,
-        LocalDate reviewedTime
+        LocalDate reviewedTime,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        Integer durationMinutes
 ) implements ScreeningViewResponse {}
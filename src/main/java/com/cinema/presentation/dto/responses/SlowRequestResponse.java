@@ -0,0 +1,22 @@
+package com.cinema.presentation.dto.responses;
+
+import java.time.Instant;
+import java.util.List;
+
+public record SlowRequestResponse(
+        Instant startedAt,
+        String method,
+        String uri,
+        String route,
+        int status,
+        long totalMicros,
+        long filterMicros,
+        int sqlCount,
+        long sqlMicros,
+        int bcryptCount,
+        long bcryptMicros,
+        List<Span> spans,
+        int droppedSpans
+) {
+    public record Span(String kind, String name, long startMicros, long durationMicros) {}
+}
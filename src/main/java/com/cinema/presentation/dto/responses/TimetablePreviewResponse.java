@@ -0,0 +1,13 @@
+package com.cinema.presentation.dto.responses;
+
+import java.util.List;
+
+public record TimetablePreviewResponse(
+        String previewId,
+        Long programId,
+        int placed,
+        List<Long> unplaced,
+        double penalty,
+        int restarts,
+        List<TimetableSlotResponse> slots
+) {}
@@ -0,0 +1,5 @@
+package com.cinema.presentation.dto.responses;
+
+import java.time.LocalDateTime;
+
+public record TimetableSlotResponse(Long screeningId, String room, LocalDateTime start, LocalDateTime end) {}
@@ -0,0 +1,4 @@
+package com.cinema.presentation.dto.responses;
+
+public record UserCountResponse(long count) {
+}
@@ -0,0 +1,6 @@
+package com.cinema.presentation.dto.responses;
+
+public record UserLookupResponse(Long id,
+                                 String userName,
+                                 String fullName) {
+}
@@ -0,0 +1,8 @@
+package com.cinema.presentation.dto.responses;
+
+import java.util.List;
+
+/** Admin user directory page; pass nextCursor back as ?cursor= (null = no more pages). */
+public record UserPageResponse(List<UserResponse> items,
+                               Long nextCursor) {
+}
@@ -1,10 +1,11 @@
 package com.cinema.presentation.dto.responses;
 
-import java.time.LocalDate;
+import java.time.Instant;
 
 public record UserResponse(Long id,
                            String userName,
                            String fullName,
                            String role,
-                           boolean active) {
+                           boolean active,
+                           Instant lastLoginAt) {
 }
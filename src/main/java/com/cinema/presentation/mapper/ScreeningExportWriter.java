@@ -0,0 +1,174 @@
+package com.cinema.presentation.mapper;
+
+import com.cinema.presentation.dto.responses.ScreeningPublicResponse;
+import com.cinema.presentation.dto.responses.ScreeningResponse;
+import com.cinema.presentation.dto.responses.ScreeningViewResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+/**
+ * Writes screening DTOs to a response stream one at a time (export endpoint).
+ *
+ * Spec:
+ * - NDJSON: one JSON object per line, same shape as the JSON API (full or public DTO per row)
+ * - CSV (RFC 4180): one fixed header with the full column set; public rows leave restricted columns empty,
+ *   dates/times in the same ISO form as the JSON
+ * - Nothing is kept per row; output is flushed by the underlying buffer, close() flushes the tail
+ */
+public abstract class ScreeningExportWriter implements Closeable {
+
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+
+        /** null/blank => NDJSON; unknown => null */
+        public static Format parse(String raw) {
+            if (raw == null || raw.isBlank()) return NDJSON;
+            try {
+                return valueOf(raw.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException ex) {
+                return null;
+            }
+        }
+    }
+
+    public static ScreeningExportWriter open(Format format, OutputStream out, ObjectMapper objectMapper)
+            throws IOException {
+        return switch (format) {
+            case NDJSON -> new Ndjson(out, objectMapper);
+            case CSV -> new Csv(out);
+        };
+    }
+
+    /** Unchecked so it can be called from the streaming callback. */
+    public abstract void write(ScreeningViewResponse row);
+
+    // -------------------------
+    // NDJSON
+    // -------------------------
+
+    private static final class Ndjson extends ScreeningExportWriter {
+
+        private final JsonGenerator gen;
+        private final ObjectWriter writer;
+
+        private Ndjson(OutputStream out, ObjectMapper objectMapper) throws IOException {
+            this.gen = objectMapper.getFactory().createGenerator(out);
+            this.gen.setRootValueSeparator(null);
+            // per-row flush would turn every line into a socket write
+            this.writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        }
+
+        @Override
+        public void write(ScreeningViewResponse row) {
+            try {
+                writer.writeValue(gen, row);
+                gen.writeRaw('\n');
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            gen.close();
+        }
+    }
+
+    // -------------------------
+    // CSV
+    // -------------------------
+
+    private static final class Csv extends ScreeningExportWriter {
+
+        private static final String HEADER = "id,programId,submitterId,title,genre,description,room,scheduledTime,"
+                + "state,staffMemberId,submittedTime,reviewedTime,startTime,endTime,durationMinutes";
+
+        private final Writer out;
+
+        private Csv(OutputStream out) throws IOException {
+            this.out = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            this.out.write(HEADER);
+            this.out.write("\r\n");
+        }
+
+        @Override
+        public void write(ScreeningViewResponse row) {
+            try {
+                if (row instanceof ScreeningResponse r) {
+                    line(r.id(), r.programId(), r.submitterId(), r.title(), r.genre(), r.description(), r.room(),
+                            r.scheduledTime(), r.state(), r.staffMemberId(), r.submittedTime(), r.reviewedTime(),
+                            r.startTime(), r.endTime(), r.durationMinutes());
+                } else if (row instanceof ScreeningPublicResponse r) {
+                    line(r.id(), r.programId(), null, r.title(), r.genre(), null, r.room(),
+                            r.scheduledTime(), null, null, null, null,
+                            r.startTime(), r.endTime(), null);
+                } else {
+                    throw new IllegalArgumentException("Unsupported row type: " + row);
+                }
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        private void line(Object... cells) throws IOException {
+            for (int i = 0; i < cells.length; i++) {
+                if (i > 0) out.write(',');
+                Object v = cells[i];
+                if (v instanceof LocalDateTime t) cell(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(t));
+                else if (v != null) cell(v.toString());
+            }
+            out.write("\r\n");
+        }
+
+        private void cell(String v) throws IOException {
+            boolean quote = false;
+            for (int i = 0; i < v.length() && !quote; i++) {
+                char c = v.charAt(i);
+                quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+            if (!quote) {
+                out.write(v);
+                return;
+            }
+            out.write('"');
+            out.write(v.replace("\"", "\"\""));
+            out.write('"');
+        }
+
+        @Override
+        public void close() throws IOException {
+            out.close();
+        }
+    }
+}
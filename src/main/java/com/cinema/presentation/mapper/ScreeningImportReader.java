@@ -0,0 +1,277 @@
+package com.cinema.presentation.mapper;
+
+import com.cinema.application.screenings.ImportScreeningsUseCase.Draft;
+import com.cinema.domain.Exceptions.ValidationException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+/**
+ * Streaming parser for screening import uploads (counterpart of ScreeningExportWriter).
+ *
+ * Spec:
+ * - Reads the request body incrementally; one Draft per data row, never the whole upload in memory
+ * - CSV (RFC 4180, quoted fields may span lines): header row required, columns matched by name
+ *   (title, genres|genre, cast|castNames, durationMinutes|duration, description), unknown columns ignored
+ * - NDJSON: one JSON object per non-blank line, same field names; cast may also be an array of names
+ * - A broken row becomes Draft.invalid(...) and parsing continues; IO failures surface as UncheckedIOException
+ */
+public abstract class ScreeningImportReader implements Iterator<Draft> {
+
+    public enum Format {
+        CSV, NDJSON;
+
+        /** explicit format wins; otherwise guessed from the content type; unknown => null */
+        public static Format resolve(String format, String contentType) {
+            if (format != null && !format.isBlank()) {
+                try {
+                    return valueOf(format.trim().toUpperCase(Locale.ROOT));
+                } catch (IllegalArgumentException ex) {
+                    return null;
+                }
+            }
+            if (contentType == null) return null;
+            String ct = contentType.toLowerCase(Locale.ROOT);
+            if (ct.startsWith("text/csv")) return CSV;
+            if (ct.startsWith("application/x-ndjson") || ct.startsWith("application/jsonl")) return NDJSON;
+            return null;
+        }
+    }
+
+    public static ScreeningImportReader open(Format format, InputStream in, ObjectMapper objectMapper) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        return switch (format) {
+            case CSV -> new Csv(reader);
+            case NDJSON -> new Ndjson(reader, objectMapper);
+        };
+    }
+
+    protected final BufferedReader in;
+    private Draft next;
+    private boolean done;
+
+    protected ScreeningImportReader(BufferedReader in) {
+        this.in = in;
+    }
+
+    /** Next row or null at end of input. */
+    protected abstract Draft read() throws IOException;
+
+    @Override
+    public boolean hasNext() {
+        if (next != null) return true;
+        if (done) return false;
+        try {
+            next = read();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        if (next == null) done = true;
+        return next != null;
+    }
+
+    @Override
+    public Draft next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        Draft d = next;
+        next = null;
+        return d;
+    }
+
+    private static String column(String name) {
+        return switch (name.trim().toLowerCase(Locale.ROOT)) {
+            case "title" -> "title";
+            case "genres", "genre" -> "genres";
+            case "cast", "castnames", "cast_names" -> "cast";
+            case "durationminutes", "duration", "duration_minutes" -> "duration";
+            case "description" -> "description";
+            default -> null;
+        };
+    }
+
+    private static Draft draft(long row, String title, String genres, String cast, String duration, String description) {
+        Integer minutes = null;
+        if (duration != null && !duration.isBlank()) {
+            try {
+                minutes = Integer.valueOf(duration.trim());
+            } catch (NumberFormatException ex) {
+                return Draft.invalid(row, "durationMinutes", "durationMinutes must be a whole number of minutes");
+            }
+        }
+        return new Draft(row, title, genres, cast, minutes, description, null, null);
+    }
+
+    // -------------------------
+    // CSV
+    // -------------------------
+
+    private static final class Csv extends ScreeningImportReader {
+
+        private final String[] columns; // per header position: canonical name or null (ignored)
+        private long row;
+
+        private Csv(BufferedReader in) {
+            super(in);
+            try {
+                List<String> header = record();
+                if (header == null) throw new ValidationException("file", "CSV header row is required");
+                columns = new String[header.size()];
+                boolean hasTitle = false;
+                for (int i = 0; i < header.size(); i++) {
+                    columns[i] = column(stripBom(header.get(i)));
+                    hasTitle |= "title".equals(columns[i]);
+                }
+                if (!hasTitle) throw new ValidationException("file", "CSV header must contain a title column");
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        @Override
+        protected Draft read() throws IOException {
+            List<String> cells;
+            do {
+                cells = record();
+                if (cells == null) return null;
+            } while (cells.size() == 1 && cells.get(0).isEmpty()); // blank line
+
+            row++;
+            if (cells.size() != columns.length) {
+                return Draft.invalid(row, "row", "Expected " + columns.length + " columns, found " + cells.size());
+            }
+
+            String title = null, genres = null, cast = null, duration = null, description = null;
+            for (int i = 0; i < columns.length; i++) {
+                if (columns[i] == null) continue;
+                String v = cells.get(i);
+                switch (columns[i]) {
+                    case "title" -> title = v;
+                    case "genres" -> genres = v;
+                    case "cast" -> cast = v;
+                    case "duration" -> duration = v;
+                    case "description" -> description = v;
+                    default -> { }
+                }
+            }
+            return draft(row, title, genres, cast, duration, description);
+        }
+
+        /** One CSV record (may span physical lines inside quotes); null at end of input. */
+        private List<String> record() throws IOException {
+            int c = in.read();
+            if (c == -1) return null;
+
+            List<String> cells = new ArrayList<>();
+            StringBuilder cell = new StringBuilder();
+            boolean quoted = false;
+
+            while (true) {
+                if (quoted) {
+                    if (c == -1) throw new IOException("Unterminated quoted field in row " + (row + 1));
+                    if (c == '"') {
+                        in.mark(1);
+                        int peek = in.read();
+                        if (peek == '"') {
+                            cell.append('"');
+                        } else {
+                            quoted = false;
+                            if (peek != -1) in.reset();
+                        }
+                    } else {
+                        cell.append((char) c);
+                    }
+                } else if (c == -1 || c == '\n') {
+                    cells.add(cell.toString());
+                    return cells;
+                } else if (c == '\r') {
+                    // CRLF or lone CR ends the record
+                    in.mark(1);
+                    if (in.read() != '\n') in.reset();
+                    cells.add(cell.toString());
+                    return cells;
+                } else if (c == ',') {
+                    cells.add(cell.toString());
+                    cell.setLength(0);
+                } else if (c == '"' && cell.isEmpty()) {
+                    quoted = true;
+                } else {
+                    cell.append((char) c);
+                }
+                c = in.read();
+            }
+        }
+
+        private static String stripBom(String s) {
+            return !s.isEmpty() && s.charAt(0) == '\uFEFF' ? s.substring(1) : s;
+        }
+    }
+
+    // -------------------------
+    // NDJSON
+    // -------------------------
+
+    private static final class Ndjson extends ScreeningImportReader {
+
+        private final ObjectMapper objectMapper;
+        private long row;
+
+        private Ndjson(BufferedReader in, ObjectMapper objectMapper) {
+            super(in);
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        protected Draft read() throws IOException {
+            String line;
+            do {
+                line = in.readLine();
+                if (line == null) return null;
+            } while (line.isBlank());
+
+            row++;
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(line);
+            } catch (JsonProcessingException ex) {
+                return Draft.invalid(row, "row", "Malformed JSON");
+            }
+            if (node == null || !node.isObject()) return Draft.invalid(row, "row", "Expected a JSON object");
+
+            String title = null, genres = null, cast = null, duration = null, description = null;
+            var fields = node.fields();
+            while (fields.hasNext()) {
+                var f = fields.next();
+                String name = column(f.getKey());
+                if (name == null || f.getValue().isNull()) continue;
+                switch (name) {
+                    case "title" -> title = f.getValue().asText();
+                    case "genres" -> genres = joined(f.getValue());
+                    case "cast" -> cast = joined(f.getValue());
+                    case "duration" -> duration = f.getValue().asText();
+                    case "description" -> description = f.getValue().asText();
+                    default -> { }
+                }
+            }
+            return draft(row, title, genres, cast, duration, description);
+        }
+
+        private static String joined(JsonNode v) {
+            if (!v.isArray()) return v.asText();
+            List<String> parts = new ArrayList<>(v.size());
+            v.forEach(e -> parts.add(e.asText()));
+            return String.join(", ", parts);
+        }
+    }
+}
@@ -23,7 +23,10 @@ public class ScreeningMapper {
                 screening.state() != null ? screening.state().name() : null,
                 screening.staffMemberId() != null ? screening.staffMemberId().value() : null,
                 screening.submittedTime(),
-                screening.reviewedTime()
+                screening.reviewedTime(),
+                screening.startTime(),
+                screening.endTime(),
+                screening.durationMinutes()
         );
     }
 
@@ -25,7 +25,8 @@ public class UserMapper {
                 user.username() != null ? user.username().value() : null,
                 user.fullName(),
                 user.baseRole() != null ? user.baseRole().name() : null,
-                user.isActive()
+                user.isActive(),
+                user.lastLoginAt()
         );
     }
 }
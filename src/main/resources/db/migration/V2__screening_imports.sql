@@ -0,0 +1,49 @@
+-- =========================
+-- SCREENING IMPORT JOBS
+-- =========================
+CREATE TABLE screening_import_jobs (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+
+    program_id     BIGINT      NOT NULL,
+    submitter_id   BIGINT      NOT NULL,
+
+    format         VARCHAR(10) NOT NULL,
+    auto_submit    BOOLEAN     NOT NULL,
+    job_state      VARCHAR(20) NOT NULL,
+
+    -- resume cursor: data rows up to this number are committed (imported or reported)
+    rows_read      BIGINT      NOT NULL DEFAULT 0,
+    rows_imported  BIGINT      NOT NULL DEFAULT 0,
+    rows_submitted BIGINT      NOT NULL DEFAULT 0,
+    rows_failed    BIGINT      NOT NULL DEFAULT 0,
+
+    message        VARCHAR(2000),
+
+    created_time   TIMESTAMP   NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_time   TIMESTAMP   NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT fk_import_program
+        FOREIGN KEY (program_id) REFERENCES programs(id),
+    CONSTRAINT fk_import_submitter
+        FOREIGN KEY (submitter_id) REFERENCES users(id)
+);
+
+CREATE INDEX idx_import_submitter ON screening_import_jobs(submitter_id);
+
+
+-- =========================
+-- SCREENING IMPORT ERRORS (per row)
+-- =========================
+CREATE TABLE screening_import_errors (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+
+    job_id   BIGINT        NOT NULL,
+    row_no   BIGINT        NOT NULL,
+    field    VARCHAR(50),
+    message  VARCHAR(1000) NOT NULL,
+
+    CONSTRAINT fk_import_error_job
+        FOREIGN KEY (job_id) REFERENCES screening_import_jobs(id)
+);
+
+CREATE INDEX idx_import_error_job ON screening_import_errors(job_id, row_no);
@@ -0,0 +1,27 @@
+-- =========================
+-- OUTBOX (domain events, written in the aggregate's transaction)
+-- =========================
+-- id is the stream offset: replay reads "id > offset" in id order
+CREATE TABLE outbox_events (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+
+    event_type      VARCHAR(40)  NOT NULL,
+    aggregate_type  VARCHAR(20)  NOT NULL,
+    aggregate_id    BIGINT       NOT NULL,
+
+    program_id      BIGINT       NOT NULL,
+    submitter_id    BIGINT,
+    staff_member_id BIGINT,
+    from_state      VARCHAR(30)  NOT NULL,
+    to_state        VARCHAR(30)  NOT NULL,
+    occurred_at     TIMESTAMP WITH TIME ZONE NOT NULL,
+
+    -- relay bookkeeping: NULL published_at => not yet delivered
+    published_at    TIMESTAMP WITH TIME ZONE,
+    attempts        INT          NOT NULL DEFAULT 0,
+    last_error      VARCHAR(1000)
+);
+
+-- relay poll (unpublished rows in offset order) and per-aggregate ordering check
+CREATE INDEX idx_outbox_unpublished ON outbox_events(published_at, id);
+CREATE INDEX idx_outbox_aggregate ON outbox_events(aggregate_type, aggregate_id, id);
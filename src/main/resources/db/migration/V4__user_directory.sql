@@ -0,0 +1,12 @@
+-- =========================
+-- ADMIN USER DIRECTORY (keyset paging + filters)
+-- =========================
+-- username prefix search is case-insensitive; H2 has no expression indexes, so the lowered
+-- username is a generated column with its own index
+ALTER TABLE users ADD COLUMN username_lc VARCHAR(64) GENERATED ALWAYS AS (LOWER(username));
+CREATE INDEX idx_users_username_lc ON users(username_lc);
+
+-- role/active filters walk this index newest first (id is the keyset cursor)
+CREATE INDEX idx_users_active_role ON users(active, base_role, id);
+
+CREATE INDEX idx_users_last_login ON users(last_login_at);
@@ -0,0 +1,22 @@
+-- =========================
+-- REFRESH TOKENS (one row per rotation family)
+-- =========================
+-- A family starts at login; every /api/auth/refresh replaces token_hash with the hash of the next token.
+-- Presenting any other token of the family (an already-rotated one) is reuse => the family is revoked.
+-- Only a SHA-256 digest of the token is stored (the token is 256 random bits: no slow hash needed).
+CREATE TABLE refresh_tokens (
+    family_id   VARCHAR(36) PRIMARY KEY,
+    user_id     BIGINT      NOT NULL,
+
+    token_hash  VARCHAR(64) NOT NULL,
+    rotations   INT         NOT NULL DEFAULT 0,
+
+    issued_at   TIMESTAMP WITH TIME ZONE NOT NULL,
+    rotated_at  TIMESTAMP WITH TIME ZONE,
+    expires_at  TIMESTAMP WITH TIME ZONE NOT NULL,
+    revoked_at  TIMESTAMP WITH TIME ZONE,
+
+    CONSTRAINT fk_refresh_tokens_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+CREATE INDEX idx_refresh_tokens_user ON refresh_tokens(user_id);
@@ -0,0 +1,39 @@
+-- =========================
+-- USER SESSIONS (several devices per user)
+-- =========================
+-- One row per logged-in device; replaces users.current_jti (exactly one token per user).
+-- id is the session's refresh token family id; jti is its current access token (rotated on refresh).
+-- At most TokenPolicy.maxActiveSessionsPerUser rows per user: a new login evicts the least recently used.
+CREATE TABLE user_sessions (
+    id           VARCHAR(36) PRIMARY KEY,
+    user_id      BIGINT      NOT NULL,
+    jti          VARCHAR(36) NOT NULL,
+
+    created_at   TIMESTAMP WITH TIME ZONE NOT NULL,
+    last_used_at TIMESTAMP WITH TIME ZONE NOT NULL,
+
+    CONSTRAINT fk_user_sessions_user FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+);
+
+-- logout of one device, revoke-all (one DELETE per user)
+CREATE UNIQUE INDEX uk_user_sessions_user_jti ON user_sessions(user_id, jti);
+
+-- existing sessions: the current refresh family keeps its id, logins from before refresh tokens get a new one
+INSERT INTO user_sessions (id, user_id, jti, created_at, last_used_at)
+SELECT r.family_id, u.id, u.current_jti, r.issued_at, COALESCE(r.rotated_at, r.issued_at)
+FROM users u
+JOIN refresh_tokens r ON r.user_id = u.id AND r.revoked_at IS NULL
+WHERE u.current_jti IS NOT NULL;
+
+INSERT INTO user_sessions (id, user_id, jti, created_at, last_used_at)
+SELECT CAST(RANDOM_UUID() AS VARCHAR(36)), u.id, u.current_jti, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+FROM users u
+WHERE u.current_jti IS NOT NULL
+  AND NOT EXISTS (SELECT 1 FROM user_sessions s WHERE s.user_id = u.id);
+
+-- a refresh family lives exactly as long as its session (eviction / logout delete both)
+DELETE FROM refresh_tokens r WHERE NOT EXISTS (SELECT 1 FROM user_sessions s WHERE s.id = r.family_id);
+ALTER TABLE refresh_tokens ADD CONSTRAINT fk_refresh_tokens_session
+    FOREIGN KEY (family_id) REFERENCES user_sessions(id) ON DELETE CASCADE;
+
+ALTER TABLE users DROP COLUMN current_jti;
@@ -0,0 +1,7 @@
+-- =========================
+-- LOGIN LOCKOUT (time-based)
+-- =========================
+-- Consecutive failures are counted in memory (LoginAttemptTracker); only the lockout itself is written:
+-- locked_until (+ failed_attempts at that moment). The lock ends by itself; a successful login or an
+-- admin activation clears it.
+ALTER TABLE users ADD COLUMN locked_until TIMESTAMP WITH TIME ZONE;
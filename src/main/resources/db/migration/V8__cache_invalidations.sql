@@ -0,0 +1,17 @@
+-- =========================
+-- CACHE INVALIDATION LOG (InvalidationBus, transport "changelog")
+-- =========================
+-- Every node appends its invalidations after commit (one JDBC batch per bus batch) and polls the other
+-- nodes' rows by created_at, re-reading a short overlap so rows committed late are not missed.
+-- created_at is the database clock on purpose: node clocks may disagree. Rows live for minutes, not days.
+CREATE TABLE cache_invalidations (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    origin      VARCHAR(36)  NOT NULL,
+    region      VARCHAR(20)  NOT NULL,
+    entity_key  BIGINT       NOT NULL,
+    version     BIGINT       NOT NULL,
+    created_at  TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP NOT NULL
+);
+
+-- poll window and purge
+CREATE INDEX idx_cache_invalidations_created ON cache_invalidations(created_at, id);
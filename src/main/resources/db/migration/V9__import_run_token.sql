@@ -0,0 +1,7 @@
+-- =========================
+-- SCREENING IMPORT JOBS: run ownership
+-- =========================
+-- One runner per job: start/resume hand out a new run token (resume claims it with a conditional UPDATE
+-- on the previous token), and every batch first re-checks it under the row lock of its own transaction.
+-- Jobs created before this column have no token and are claimed by their first resume.
+ALTER TABLE screening_import_jobs ADD COLUMN run_token VARCHAR(36);
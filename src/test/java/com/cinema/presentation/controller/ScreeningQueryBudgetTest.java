@@ -0,0 +1,108 @@
+package com.cinema.presentation.controller;
+
+import com.cinema.application.screenings.SearchScreeningsUseCase;
+import com.cinema.domain.entity.value.ProgramId;
+import com.cinema.infrastructure.diagnostics.QueryCountFilter;
+import com.cinema.infrastructure.diagnostics.QueryCounter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Statement budget of GET /api/screenings/by-program, read from the X-Query-Count header
+ * (QueryCountFilter, fed by CountingDataSource) and from a QueryCounter scope around the use case.
+ *
+ * Spec:
+ * - Visitor view of an ANNOUNCED program: the program, its programmers, its staff and one screening page
+ *   (the controller's second program lookup hits the persistence context)
+ * - The count does not grow with the page size (no statement per screening)
+ * - Each request reads its own program, so no cached result hides the statements
+ */
+@SpringBootTest(properties = {
+        "diagnostics.query-count.header=true",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureMockMvc
+class ScreeningQueryBudgetTest {
+
+    private static final int BUDGET = 4;
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private SearchScreeningsUseCase search;
+
+    @Test
+    void byProgramStaysWithinBudgetWhateverThePageSize() throws Exception {
+        long owner = user("budget-owner");
+
+        int few = queries(announcedProgram("Budget few", owner, 3));
+        int many = queries(announcedProgram("Budget many", owner, 40));
+
+        assertTrue(few <= BUDGET, "3 screenings took " + few + " statements, budget " + BUDGET);
+        assertEquals(few, many, "statements grew with the number of screenings (N+1)");
+    }
+
+    @Test
+    void searchInProgramStaysWithinBudget() {
+        long programId = announcedProgram("Budget scope", user("budget-scope"), 25);
+
+        try (QueryCounter.Scope scope = QueryCounter.open()) {
+            var page = search.searchInProgram(null, new ProgramId(programId), null, null, null, null, null,
+                    0, 50, false);
+            assertEquals(25, page.size());
+            scope.assertAtMost(BUDGET);
+        }
+    }
+
+    private int queries(long programId) throws Exception {
+        MvcResult started = mvc.perform(get("/api/screenings/by-program").param("programId", String.valueOf(programId)))
+                .andReturn();
+        MvcResult done = started.getRequest().isAsyncStarted()
+                ? mvc.perform(asyncDispatch(started)).andExpect(status().isOk()).andReturn() // bulkhead-run handler
+                : started;
+        assertEquals(200, done.getResponse().getStatus());
+
+        String header = done.getResponse().getHeader(QueryCountFilter.HEADER);
+        assertTrue(header != null, "no " + QueryCountFilter.HEADER + " header");
+        return Integer.parseInt(header);
+    }
+
+    private long user(String username) {
+        jdbc.update("INSERT INTO users (username, password_hash, full_name, base_role, active, failed_attempts) "
+                + "VALUES (?, 'x', 'Budget Owner', 'USER', TRUE, 0)", username);
+        return jdbc.queryForObject("SELECT id FROM users WHERE username = ?", Long.class, username);
+    }
+
+    private long announcedProgram(String name, long creator, int screenings) {
+        LocalDate day = LocalDate.of(2027, 5, 1);
+        jdbc.update("INSERT INTO programs (name, description, start_date, end_date, state, creator_user_id) "
+                + "VALUES (?, 'd', ?, ?, 'ANNOUNCED', ?)", name, day, day.plusDays(9), creator);
+        long programId = jdbc.queryForObject("SELECT id FROM programs WHERE name = ?", Long.class, name);
+
+        for (int i = 0; i < screenings; i++) {
+            jdbc.update("INSERT INTO screenings (program_id, submitter_id, title, genres, duration_minutes, "
+                            + "auditorium_name, start_time, end_time, screening_state) "
+                            + "VALUES (?, ?, ?, 'drama', 90, 'A', ?, ?, 'SCHEDULED')",
+                    programId, creator, name + " " + i,
+                    day.atTime(10, 0).plusHours(i), day.atTime(11, 30).plusHours(i));
+        }
+        return programId;
+    }
+}